@@ -0,0 +1,78 @@
+package com.dutyout.schedule.engine;
+
+/**
+ * 활동 코드
+ *
+ * 엔진은 enum 대신 int 코드로 활동을 구분합니다.
+ * 애플리케이션의 ActivityType과는 이름으로 매핑됩니다. (NAMES 배열의 인덱스 = 코드)
+ */
+public final class ActivityCode {
+
+    public static final int WAKE_UP = 0;
+    public static final int NAP = 1;
+    public static final int NAP1 = 2;
+    public static final int NAP2 = 3;
+    public static final int NAP3 = 4;
+    public static final int NAP4 = 5;
+    public static final int FEEDING = 6;
+    public static final int BEDTIME = 7;
+    public static final int PLAY = 8;
+    public static final int BATH = 9;
+    public static final int OTHER = 10;
+
+    private static final String[] NAMES = {
+            "WAKE_UP", "NAP", "NAP1", "NAP2", "NAP3", "NAP4",
+            "FEEDING", "BEDTIME", "PLAY", "BATH", "OTHER"
+    };
+
+    private ActivityCode() {
+    }
+
+    /**
+     * 코드 → 이름
+     */
+    public static String name(int code) {
+        return NAMES[code];
+    }
+
+    /**
+     * 이름 → 코드
+     *
+     * @throws IllegalArgumentException 정의되지 않은 이름인 경우
+     */
+    public static int of(String name) {
+        for (int code = 0; code < NAMES.length; code++) {
+            if (NAMES[code].equals(name)) {
+                return code;
+            }
+        }
+        throw new IllegalArgumentException("정의되지 않은 활동입니다: " + name);
+    }
+
+    /**
+     * 정의된 코드 수
+     */
+    public static int count() {
+        return NAMES.length;
+    }
+
+    /**
+     * n번째 낮잠 코드 (0부터 시작, 5번째 이후는 NAP1)
+     */
+    public static int napAt(int napIndex) {
+        return switch (napIndex) {
+            case 0 -> NAP1;
+            case 1 -> NAP2;
+            case 2 -> NAP3;
+            case 3 -> NAP4;
+            default -> NAP1;
+        };
+    }
+
+    /**
+     * 낮잠 여부 (NAP, NAP1~NAP4)
+     */
+    public static boolean isNap(int code) {
+        return code >= NAP && code <= NAP4;
+    }
+}
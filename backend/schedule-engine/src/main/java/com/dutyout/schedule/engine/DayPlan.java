@@ -0,0 +1,134 @@
+package com.dutyout.schedule.engine;
+
+import java.util.Arrays;
+
+/**
+ * 하루 스케줄 (원시 배열 표현)
+ *
+ * 각 아이템은 같은 인덱스의 세 배열 값으로 표현됩니다.
+ * - start: 시작 시각 (자정 기준 분, 0~1439)
+ * - duration: 소요 시간 (분, 없으면 {@link #NO_DURATION})
+ * - activity: 활동 코드 ({@link ActivityCode})
+ *
+ * 배열은 생성 시 한 번만 할당되며 clear() 후 재사용할 수 있습니다.
+ * 스레드 안전하지 않으므로 스레드마다 별도 인스턴스를 사용해야 합니다.
+ */
+public final class DayPlan {
+
+    public static final int MINUTES_PER_DAY = 24 * 60;
+
+    /**
+     * 소요 시간 없음 (null)
+     */
+    public static final int NO_DURATION = -1;
+
+    private final int[] start;
+    private final int[] duration;
+    private final int[] activity;
+    private int size;
+
+    public DayPlan(int capacity) {
+        this.start = new int[capacity];
+        this.duration = new int[capacity];
+        this.activity = new int[capacity];
+    }
+
+    /**
+     * 아이템 추가
+     *
+     * @param startMinute 시작 시각 (분, 하루 범위를 벗어나면 자정 기준으로 순환)
+     * @param durationMinutes 소요 시간 (분, 없으면 NO_DURATION)
+     * @param activityCode 활동 코드
+     * @return 추가된 아이템 인덱스
+     * @throws IllegalStateException 용량을 초과한 경우
+     */
+    public int add(int startMinute, int durationMinutes, int activityCode) {
+        if (size == start.length) {
+            throw new IllegalStateException("DayPlan 용량(" + start.length + ")을 초과했습니다.");
+        }
+        start[size] = normalize(startMinute);
+        duration[size] = durationMinutes;
+        activity[size] = activityCode;
+        return size++;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return start.length;
+    }
+
+    public int start(int index) {
+        return start[checkIndex(index)];
+    }
+
+    public int duration(int index) {
+        return duration[checkIndex(index)];
+    }
+
+    public int activity(int index) {
+        return activity[checkIndex(index)];
+    }
+
+    public boolean hasDuration(int index) {
+        return duration[checkIndex(index)] != NO_DURATION;
+    }
+
+    /**
+     * 종료 시각 (소요 시간이 없으면 시작 시각, 자정을 넘으면 1440 이상)
+     */
+    public int end(int index) {
+        checkIndex(index);
+        return duration[index] != NO_DURATION ? start[index] + duration[index] : start[index];
+    }
+
+    public void setStart(int index, int startMinute) {
+        start[checkIndex(index)] = normalize(startMinute);
+    }
+
+    public void setDuration(int index, int durationMinutes) {
+        duration[checkIndex(index)] = durationMinutes;
+    }
+
+    /**
+     * 다른 DayPlan의 내용을 그대로 복사
+     */
+    public void copyFrom(DayPlan source) {
+        if (source.size > start.length) {
+            throw new IllegalStateException("DayPlan 용량(" + start.length + ")을 초과했습니다.");
+        }
+        System.arraycopy(source.start, 0, start, 0, source.size);
+        System.arraycopy(source.duration, 0, duration, 0, source.size);
+        System.arraycopy(source.activity, 0, activity, 0, source.size);
+        size = source.size;
+    }
+
+    /**
+     * 분 → 하루 범위(0~1439)로 순환 (LocalTime.plusMinutes와 동일)
+     */
+    public static int normalize(int minute) {
+        return Math.floorMod(minute, MINUTES_PER_DAY);
+    }
+
+    private int checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("index: " + index + ", size: " + size);
+        }
+        return index;
+    }
+
+    @Override
+    public String toString() {
+        return "DayPlan{size=" + size
+                + ", start=" + Arrays.toString(Arrays.copyOf(start, size))
+                + ", duration=" + Arrays.toString(Arrays.copyOf(duration, size))
+                + ", activity=" + Arrays.toString(Arrays.copyOf(activity, size))
+                + '}';
+    }
+}
@@ -0,0 +1,159 @@
+package com.dutyout.schedule.engine;
+
+/**
+ * 스케줄 계산 커널
+ *
+ * 하루 스케줄을 {@link DayPlan}(원시 배열)로 다루며, 결과는 호출자가 넘긴 DayPlan에 기록합니다.
+ * 출력 버퍼 외에는 객체를 할당하지 않으므로 배치 작업에서 DayPlan을 재사용할 수 있습니다.
+ *
+ * 모든 시각은 자정 기준 분(minute-of-day)이며, 하루를 넘으면 LocalTime처럼 순환합니다.
+ */
+public final class ScheduleEngine {
+
+    /**
+     * 템플릿에 깨시 정보가 없을 때 기본 깨시 (2시간)
+     */
+    public static final int DEFAULT_WAKE_WINDOW_MINUTES = 120;
+
+    /**
+     * 템플릿에 낮잠 정보가 없을 때 기본 낮잠 시간 (1.5시간)
+     */
+    public static final int DEFAULT_NAP_DURATION_MINUTES = 90;
+
+    /**
+     * 템플릿에 마지막 깨시 정보가 없을 때 기본값 (3시간)
+     */
+    public static final int DEFAULT_LAST_WAKE_WINDOW_MINUTES = 180;
+
+    static final int PRE_NAP_FEEDING_OFFSET_MINUTES = 30;
+    static final int PRE_NAP_FEEDING_DURATION_MINUTES = 20;
+    static final int DINNER_OFFSET_MINUTES = 60;
+    static final int DINNER_DURATION_MINUTES = 30;
+    static final int BATH_OFFSET_MINUTES = 30;
+    static final int BATH_DURATION_MINUTES = 20;
+
+    private ScheduleEngine() {
+    }
+
+    /**
+     * 템플릿 기반 스케줄 생성에 필요한 아이템 수
+     */
+    public static int requiredCapacity(int napCount) {
+        // 기상 + (수유 + 낮잠) * 낮잠 횟수 + 저녁 수유 + 목욕 + 취침
+        return 1 + napCount * 2 + 3;
+    }
+
+    /**
+     * Wake Window 기반 스케줄 생성
+     *
+     * 기상 → (깨시1) → 낮잠1 → (낮잠1 소요시간) → (깨시2) → 낮잠2 → ... → (마지막 깨시) → 취침
+     * - 각 낮잠 30분 전 수유 (20분)
+     * - 취침 1시간 전 저녁 수유 (30분), 30분 전 목욕 (20분)
+     *
+     * @param wakeMinute 기상 시각 (분)
+     * @param napCount 낮잠 횟수
+     * @param wakeWindows 깨시 목록 (n번째 낮잠 전 깨시, 마지막은 취침 전 깨시)
+     * @param napDurations 낮잠 시간 목록
+     * @param out 결과를 기록할 DayPlan (기존 내용은 지워짐)
+     */
+    public static void generate(int wakeMinute, int napCount, int[] wakeWindows, int[] napDurations, DayPlan out) {
+        out.clear();
+        int current = wakeMinute;
+
+        // 1. 기상
+        out.add(current, DayPlan.NO_DURATION, ActivityCode.WAKE_UP);
+
+        // 2. 낮잠 (낮잠 30분 전 수유)
+        for (int i = 0; i < napCount; i++) {
+            current += valueAt(wakeWindows, i, DEFAULT_WAKE_WINDOW_MINUTES);
+            out.add(current - PRE_NAP_FEEDING_OFFSET_MINUTES, PRE_NAP_FEEDING_DURATION_MINUTES, ActivityCode.FEEDING);
+
+            int napDuration = valueAt(napDurations, i, DEFAULT_NAP_DURATION_MINUTES);
+            out.add(current, napDuration, ActivityCode.napAt(i));
+            current += napDuration;
+        }
+
+        // 3. 마지막 깨시 후 저녁 수유 → 목욕 → 취침
+        int bedtime = current + valueAt(wakeWindows, napCount, DEFAULT_LAST_WAKE_WINDOW_MINUTES);
+        out.add(bedtime - DINNER_OFFSET_MINUTES, DINNER_DURATION_MINUTES, ActivityCode.FEEDING);
+        out.add(bedtime - BATH_OFFSET_MINUTES, BATH_DURATION_MINUTES, ActivityCode.BATH);
+        out.add(bedtime, DayPlan.NO_DURATION, ActivityCode.BEDTIME);
+    }
+
+    /**
+     * 전체 스케줄 이동 (기상 시간 변경 등)
+     *
+     * @param source 원본
+     * @param deltaMinutes 이동할 시간 (분, 음수 가능)
+     * @param out 결과를 기록할 DayPlan (source와 같은 인스턴스 가능)
+     */
+    public static void shift(DayPlan source, int deltaMinutes, DayPlan out) {
+        if (out != source) {
+            out.copyFrom(source);
+        }
+        shiftFrom(out, 0, deltaMinutes);
+    }
+
+    /**
+     * fromIndex 이후 아이템을 같은 시간만큼 이동 (아이템 간 간격 유지)
+     */
+    public static void shiftFrom(DayPlan plan, int fromIndex, int deltaMinutes) {
+        if (deltaMinutes == 0) {
+            return;
+        }
+        for (int i = fromIndex; i < plan.size(); i++) {
+            plan.setStart(i, plan.start(i) + deltaMinutes);
+        }
+    }
+
+    /**
+     * 실제 종료 시각 기준 조정
+     *
+     * index 아이템이 예정과 다른 시각에 끝났을 때, 이후 아이템을 원래 간격을 유지한 채 이동합니다.
+     * 예: 13:00 낮잠(60분 예정) → 40분만 잠 → 이후 아이템 20분씩 앞당김
+     *
+     * @param plan 스케줄 (제자리에서 수정)
+     * @param index 변경된 아이템
+     * @param actualEndMinute 실제 종료 시각 (분)
+     * @return 이동된 시간 (분)
+     */
+    public static int adjustEnd(DayPlan plan, int index, int actualEndMinute) {
+        int delta = actualEndMinute - DayPlan.normalize(plan.end(index));
+        shiftFrom(plan, index + 1, delta);
+        return delta;
+    }
+
+    /**
+     * 시작 시각 변경 기준 조정
+     *
+     * index 아이템의 시작 시각을 바꾸고, 소요 시간은 유지한 채 이후 아이템을 같은 시간만큼 이동합니다.
+     *
+     * @param plan 스케줄 (제자리에서 수정)
+     * @param index 변경된 아이템
+     * @param newStartMinute 새 시작 시각 (분)
+     * @return 이동된 시간 (분)
+     */
+    public static int adjustStart(DayPlan plan, int index, int newStartMinute) {
+        int delta = newStartMinute - plan.start(index);
+        plan.setStart(index, newStartMinute);
+        shiftFrom(plan, index + 1, delta);
+        return delta;
+    }
+
+    /**
+     * 소요 시간 합계 (취침 제외)
+     */
+    public static int totalDurationExcludingBedtime(DayPlan plan) {
+        int total = 0;
+        for (int i = 0; i < plan.size(); i++) {
+            if (plan.hasDuration(i) && plan.activity(i) != ActivityCode.BEDTIME) {
+                total += plan.duration(i);
+            }
+        }
+        return total;
+    }
+
+    private static int valueAt(int[] values, int index, int defaultValue) {
+        return values != null && index < values.length ? values[index] : defaultValue;
+    }
+}
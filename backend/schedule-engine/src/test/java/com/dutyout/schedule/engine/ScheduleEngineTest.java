@@ -0,0 +1,139 @@
+package com.dutyout.schedule.engine;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ScheduleEngine 단위 테스트
+ *
+ * Testing Strategy:
+ * - 순수 Java (Spring/Mock 없음)
+ * - 템플릿 기반 생성, 전체 이동, 실제 시간 기준 조정 검증
+ */
+@DisplayName("ScheduleEngine 단위 테스트")
+class ScheduleEngineTest {
+
+    private static final int WAKE_07_00 = 7 * 60;
+
+    @Test
+    @DisplayName("템플릿 기반 생성 - 깨시/낮잠 시간대로 배치")
+    void generate_FollowsWakeWindows() {
+        // given
+        int[] wakeWindows = {90, 120, 150};
+        int[] napDurations = {60, 90};
+        DayPlan plan = new DayPlan(ScheduleEngine.requiredCapacity(2));
+
+        // when
+        ScheduleEngine.generate(WAKE_07_00, 2, wakeWindows, napDurations, plan);
+
+        // then
+        // 기상, (수유, 낮잠1), (수유, 낮잠2), 저녁 수유, 목욕, 취침
+        assertThat(plan.size()).isEqualTo(8);
+        assertThat(plan.activity(0)).isEqualTo(ActivityCode.WAKE_UP);
+        assertThat(plan.duration(0)).isEqualTo(DayPlan.NO_DURATION);
+
+        assertThat(plan.activity(1)).isEqualTo(ActivityCode.FEEDING);
+        assertThat(plan.start(1)).isEqualTo(8 * 60); // 낮잠 30분 전
+        assertThat(plan.activity(2)).isEqualTo(ActivityCode.NAP1);
+        assertThat(plan.start(2)).isEqualTo(8 * 60 + 30);
+        assertThat(plan.duration(2)).isEqualTo(60);
+
+        assertThat(plan.activity(4)).isEqualTo(ActivityCode.NAP2);
+        assertThat(plan.start(4)).isEqualTo(11 * 60 + 30); // 09:30 기상 + 120분
+
+        // 13:00 기상 + 150분 = 15:30 취침
+        assertThat(plan.activity(7)).isEqualTo(ActivityCode.BEDTIME);
+        assertThat(plan.start(7)).isEqualTo(15 * 60 + 30);
+        assertThat(plan.activity(6)).isEqualTo(ActivityCode.BATH);
+        assertThat(plan.start(6)).isEqualTo(15 * 60);
+    }
+
+    @Test
+    @DisplayName("템플릿 기반 생성 - 정보가 없으면 기본값 사용")
+    void generate_UsesDefaults() {
+        // given
+        DayPlan plan = new DayPlan(ScheduleEngine.requiredCapacity(1));
+
+        // when
+        ScheduleEngine.generate(WAKE_07_00, 1, new int[0], new int[0], plan);
+
+        // then
+        assertThat(plan.start(2)).isEqualTo(WAKE_07_00 + ScheduleEngine.DEFAULT_WAKE_WINDOW_MINUTES);
+        assertThat(plan.duration(2)).isEqualTo(ScheduleEngine.DEFAULT_NAP_DURATION_MINUTES);
+        assertThat(plan.start(plan.size() - 1)).isEqualTo(WAKE_07_00
+                + ScheduleEngine.DEFAULT_WAKE_WINDOW_MINUTES
+                + ScheduleEngine.DEFAULT_NAP_DURATION_MINUTES
+                + ScheduleEngine.DEFAULT_LAST_WAKE_WINDOW_MINUTES);
+    }
+
+    @Test
+    @DisplayName("전체 이동 - 자정을 넘으면 순환")
+    void shift_WrapsAroundMidnight() {
+        // given
+        DayPlan source = new DayPlan(2);
+        source.add(23 * 60, 30, ActivityCode.FEEDING);
+        source.add(23 * 60 + 30, DayPlan.NO_DURATION, ActivityCode.BEDTIME);
+        DayPlan out = new DayPlan(2);
+
+        // when
+        ScheduleEngine.shift(source, 60, out);
+
+        // then
+        assertThat(out.start(0)).isEqualTo(0);
+        assertThat(out.start(1)).isEqualTo(30);
+        assertThat(source.start(0)).isEqualTo(23 * 60); // 원본 유지
+    }
+
+    @Test
+    @DisplayName("실제 종료 시각 기준 조정 - 이후 아이템 모두 같은 시간만큼 이동")
+    void adjustEnd_ShiftsAllFollowingItems() {
+        // given: 13:00 낮잠 60분 예정 → 40분만 잠
+        DayPlan plan = new DayPlan(4);
+        plan.add(13 * 60, 60, ActivityCode.NAP2);
+        plan.add(14 * 60 + 15, 20, ActivityCode.FEEDING);
+        plan.add(15 * 60, 45, ActivityCode.NAP3);
+        plan.add(19 * 60, DayPlan.NO_DURATION, ActivityCode.BEDTIME);
+
+        // when
+        int delta = ScheduleEngine.adjustEnd(plan, 0, 13 * 60 + 40);
+
+        // then
+        assertThat(delta).isEqualTo(-20);
+        assertThat(plan.start(0)).isEqualTo(13 * 60);
+        assertThat(plan.start(1)).isEqualTo(13 * 60 + 55);
+        assertThat(plan.start(2)).isEqualTo(14 * 60 + 40);
+        assertThat(plan.start(3)).isEqualTo(18 * 60 + 40);
+    }
+
+    @Test
+    @DisplayName("시작 시각 변경 조정 - 변경 아이템과 이후 아이템 이동")
+    void adjustStart_ShiftsChangedAndFollowingItems() {
+        // given
+        DayPlan plan = new DayPlan(3);
+        plan.add(WAKE_07_00, 0, ActivityCode.WAKE_UP);
+        plan.add(8 * 60 + 30, 60, ActivityCode.NAP1);
+        plan.add(10 * 60 + 15, 20, ActivityCode.FEEDING);
+
+        // when
+        int delta = ScheduleEngine.adjustStart(plan, 1, 9 * 60);
+
+        // then
+        assertThat(delta).isEqualTo(30);
+        assertThat(plan.start(0)).isEqualTo(WAKE_07_00);
+        assertThat(plan.start(1)).isEqualTo(9 * 60);
+        assertThat(plan.duration(1)).isEqualTo(60);
+        assertThat(plan.start(2)).isEqualTo(10 * 60 + 45);
+    }
+
+    @Test
+    @DisplayName("용량 초과 시 예외")
+    void add_ThrowsWhenCapacityExceeded() {
+        DayPlan plan = new DayPlan(1);
+        plan.add(WAKE_07_00, 0, ActivityCode.WAKE_UP);
+
+        assertThatThrownBy(() -> plan.add(WAKE_07_00, 0, ActivityCode.WAKE_UP))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,125 @@
+package com.dutyout.benchmark;
+
+import jakarta.persistence.*;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 엔티티 INSERT 소요 시간 벤치마크 (ID 생성 전략 비교)
+ *
+ * H2 메모리 DB에 schedule_items와 같은 구조의 행을 한 트랜잭션에서 rows건 저장합니다.
+ * - IDENTITY: 행마다 즉시 INSERT 후 생성된 키를 읽어야 하므로 JDBC 배치가 비활성화됨 (변경 전)
+ * - SEQUENCE: pooled-lo 옵티마이저로 50개 단위 ID 할당, INSERT는 batch_size 단위로 묶임 (변경 후)
+ *
+ * rows=15는 스케줄 생성 1회, rows=300은 목/시드 데이터 적재 규모입니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class EntityInsertBenchmark {
+
+    @Param({"IDENTITY", "SEQUENCE"})
+    private String idStrategy;
+
+    @Param({"15", "300"})
+    private int rows;
+
+    private SessionFactory sessionFactory;
+
+    @Setup
+    public void setUp() {
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(IdentityItem.class)
+                .addAnnotatedClass(SequenceItem.class)
+                .setProperty(AvailableSettings.JAKARTA_JDBC_URL, "jdbc:h2:mem:insert-benchmark;DB_CLOSE_DELAY=-1")
+                .setProperty(AvailableSettings.JAKARTA_JDBC_USER, "sa")
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .setProperty(AvailableSettings.STATEMENT_BATCH_SIZE, "50")
+                .setProperty(AvailableSettings.ORDER_INSERTS, "true")
+                .setProperty(AvailableSettings.PREFERRED_POOLED_OPTIMIZER, "pooled-lo")
+                .buildSessionFactory();
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @TearDown(Level.Iteration)
+    public void truncate() {
+        sessionFactory.inTransaction(session -> {
+            session.createMutationQuery("DELETE FROM IdentityItem").executeUpdate();
+            session.createMutationQuery("DELETE FROM SequenceItem").executeUpdate();
+        });
+    }
+
+    @Benchmark
+    public int insertRows() {
+        boolean sequence = "SEQUENCE".equals(idStrategy);
+        try (Session session = sessionFactory.openSession()) {
+            session.beginTransaction();
+            LocalTime time = LocalTime.of(7, 0);
+            for (int i = 0; i < rows; i++) {
+                time = time.plusMinutes(30);
+                session.persist(sequence ? new SequenceItem(time) : new IdentityItem(time));
+            }
+            session.getTransaction().commit();
+        }
+        return rows;
+    }
+
+    @Entity(name = "IdentityItem")
+    @Table(name = "identity_items")
+    public static class IdentityItem {
+
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        private Long id;
+
+        @Column(nullable = false, length = 20)
+        private String activityType = "FEEDING";
+
+        @Column(nullable = false)
+        private LocalTime scheduledTime;
+
+        private Integer durationMinutes = 20;
+
+        protected IdentityItem() {
+        }
+
+        IdentityItem(LocalTime scheduledTime) {
+            this.scheduledTime = scheduledTime;
+        }
+    }
+
+    @Entity(name = "SequenceItem")
+    @Table(name = "sequence_items")
+    public static class SequenceItem {
+
+        @Id
+        @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sequence_items_seq")
+        @SequenceGenerator(name = "sequence_items_seq", sequenceName = "sequence_items_seq", allocationSize = 50)
+        private Long id;
+
+        @Column(nullable = false, length = 20)
+        private String activityType = "FEEDING";
+
+        @Column(nullable = false)
+        private LocalTime scheduledTime;
+
+        private Integer durationMinutes = 20;
+
+        protected SequenceItem() {
+        }
+
+        SequenceItem(LocalTime scheduledTime) {
+            this.scheduledTime = scheduledTime;
+        }
+    }
+}
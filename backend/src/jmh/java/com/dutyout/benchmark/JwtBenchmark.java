@@ -0,0 +1,35 @@
+package com.dutyout.benchmark;
+
+import com.dutyout.infrastructure.security.JwtUtil;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 검증 + 사용자 ID 추출 벤치마크 (요청마다 JwtAuthenticationFilter가 수행)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class JwtBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-minimum-32-characters-long";
+
+    private JwtUtil jwtUtil;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        // 측정 중 만료되지 않도록 유효 시간을 길게 설정
+        jwtUtil = new JwtUtil(SECRET, TimeUnit.HOURS.toMillis(1), TimeUnit.DAYS.toMillis(30));
+        accessToken = jwtUtil.generateAccessToken(42L);
+    }
+
+    @Benchmark
+    public void validateAndGetUserId(Blackhole blackhole) {
+        if (jwtUtil.validateToken(accessToken)) {
+            blackhole.consume(jwtUtil.getUserIdFromToken(accessToken));
+        }
+    }
+}
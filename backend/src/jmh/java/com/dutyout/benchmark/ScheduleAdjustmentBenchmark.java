@@ -0,0 +1,155 @@
+package com.dutyout.benchmark;
+
+import com.dutyout.application.dto.request.AdjustScheduleRequest;
+import com.dutyout.application.dto.response.AutoScheduleResponse;
+import com.dutyout.application.service.AutoScheduleService;
+import com.dutyout.domain.baby.entity.Baby;
+import com.dutyout.domain.baby.entity.Gender;
+import com.dutyout.domain.baby.repository.BabyRepository;
+import com.dutyout.domain.schedule.entity.AgeBasedSleepGuideline;
+import com.dutyout.domain.schedule.entity.DailySchedule;
+import com.dutyout.domain.schedule.entity.ScheduleItem;
+import com.dutyout.domain.schedule.repository.AgeBasedSleepGuidelineRepository;
+import com.dutyout.domain.schedule.repository.DailyScheduleRepository;
+import com.dutyout.domain.schedule.repository.ScheduleItemRepository;
+import com.dutyout.domain.schedule.repository.ScheduleTemplateRepository;
+import com.dutyout.domain.schedule.service.ReferenceDataCatalog;
+import com.dutyout.domain.schedule.service.ScheduleGenerationService;
+import com.dutyout.domain.schedule.service.StandardScheduleService;
+import com.dutyout.domain.schedule.service.StandardScheduleService.StandardScheduleItem;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 스케줄 동적 조정 벤치마크 (AutoScheduleService.adjustSchedule)
+ *
+ * 3개월 표준 스케줄(15개 아이템)에서 첫 낮잠의 실제 수면 시간을 입력했을 때
+ * 이후 아이템을 재계산하는 비용을 측정합니다. (리포지토리는 메모리 스텁, DB 왕복 비용 제외)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class ScheduleAdjustmentBenchmark {
+
+    private static final Long BABY_ID = 1L;
+
+    private AutoScheduleService autoScheduleService;
+    private StandardScheduleService standardScheduleService;
+    private Baby baby;
+    private DailySchedule dailySchedule;
+    private AdjustScheduleRequest request;
+
+    @Setup
+    public void setUp() {
+        baby = Baby.builder()
+                .userId(1L)
+                .name("벤치마크")
+                .birthDate(LocalDate.now().minusMonths(3))
+                .gestationalWeeks(39)
+                .gender(Gender.MALE)
+                .build();
+        Stubs.setId(baby, BABY_ID);
+
+        BabyRepository babyRepository = Stubs.stub(BabyRepository.class, Map.of(
+                "findById", args -> Optional.of(baby)));
+        DailyScheduleRepository dailyScheduleRepository = Stubs.stub(DailyScheduleRepository.class, Map.of(
+                "findByScheduleItemIdWithItems", args -> Optional.of(dailySchedule)));
+        ScheduleItemRepository scheduleItemRepository = Stubs.stub(ScheduleItemRepository.class, Map.of(
+                "shiftScheduledTimes", args -> ((Collection<?>) args[0]).size()));
+        AgeBasedSleepGuidelineRepository guidelineRepository = Stubs.stub(AgeBasedSleepGuidelineRepository.class, Map.of(
+                "findAll", args -> List.of(guideline())));
+        ScheduleTemplateRepository templateRepository = Stubs.stub(ScheduleTemplateRepository.class, Map.of(
+                "findAll", args -> List.of()));
+        PlatformTransactionManager transactionManager = Stubs.stub(PlatformTransactionManager.class, Map.of(
+                "getTransaction", args -> null,
+                "commit", args -> null,
+                "rollback", args -> null));
+
+        standardScheduleService = new StandardScheduleService(
+                new ObjectMapper(), new ClassPathResource("schedule/standard-schedules.json"));
+        ReferenceDataCatalog referenceDataCatalog =
+                new ReferenceDataCatalog(guidelineRepository, templateRepository, transactionManager);
+        referenceDataCatalog.refresh();
+
+        // 조정 경로는 스케줄 생성기와 리듬 추정값을 쓰지 않음
+        ScheduleGenerationService scheduleGenerationService = new ScheduleGenerationService(
+                babyRepository, referenceDataCatalog, dailyScheduleRepository, null);
+        autoScheduleService = new AutoScheduleService(
+                babyRepository, referenceDataCatalog, dailyScheduleRepository, scheduleItemRepository,
+                scheduleGenerationService, null);
+    }
+
+    /**
+     * 조정 결과가 누적되지 않도록 iteration마다 스케줄을 새로 만듦
+     */
+    @Setup(Level.Iteration)
+    public void resetSchedule() {
+        dailySchedule = DailySchedule.builder()
+                .babyId(BABY_ID)
+                .scheduleDate(LocalDate.now())
+                .wakeUpTime(LocalTime.of(7, 0))
+                .ageInMonths(3)
+                .build();
+
+        List<ScheduleItem> items = new ArrayList<>();
+        long id = 1;
+        for (StandardScheduleItem standard : standardScheduleService.getStandardSchedule(3)) {
+            ScheduleItem item = ScheduleItem.builder()
+                    .activityType(standard.getActivityType())
+                    .scheduledTime(standard.getTime())
+                    .durationMinutes(standard.getDurationMinutes())
+                    .note(standard.getNote())
+                    .build();
+            Stubs.setId(item, id++);
+            items.add(item);
+        }
+        dailySchedule.addScheduleItems(items);
+
+        // 첫 낮잠(3번째 아이템, 60분 예정)을 40분만 잔 경우
+        request = AdjustScheduleRequest.builder()
+                .scheduleItemId(3L)
+                .actualDurationMinutes(40)
+                .build();
+    }
+
+    @Benchmark
+    public AutoScheduleResponse adjustSchedule() {
+        return autoScheduleService.adjustSchedule(BABY_ID, request);
+    }
+
+    private static AgeBasedSleepGuideline guideline() {
+        return AgeBasedSleepGuideline.builder()
+                .ageInMonths(3)
+                .wakeWindowMinMinutes(90)
+                .wakeWindowMaxMinutes(120)
+                .napCount(4)
+                .maxTotalNapMinutes(240)
+                .nightSleepMinMinutes(600)
+                .nightSleepMaxMinutes(720)
+                .recommendedBedtimeHour(19)
+                .recommendedBedtimeMinute(30)
+                .firstWakeWindowMinutes(90)
+                .middleWakeWindowMinutes(105)
+                .lastWakeWindowMinutes(120)
+                .feedingAmountMinMl(120)
+                .feedingAmountMaxMl(180)
+                .breastfeedingCountMin(7)
+                .breastfeedingCountMax(9)
+                .formulaFeedingCountMin(5)
+                .formulaFeedingCountMax(6)
+                .feedingIntervalMinutes(180)
+                .description("벤치마크 가이드라인")
+                .build();
+    }
+}
@@ -0,0 +1,72 @@
+package com.dutyout.benchmark;
+
+import com.dutyout.application.dto.response.WeeklyStatisticsResponse;
+import com.dutyout.domain.feeding.repository.FeedingRecordRepository;
+import com.dutyout.domain.schedule.repository.ScheduleItemRepository;
+import com.dutyout.domain.sleep.repository.SleepRecordRepository;
+import com.dutyout.domain.sleep.service.SleepStatisticsService;
+import com.dutyout.domain.statistics.entity.BabyDailyStats;
+import com.dutyout.domain.statistics.repository.BabyDailyStatsRepository;
+import com.dutyout.domain.statistics.service.DailyStatsService;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 수면/수유 통계 집계 벤치마크 (SleepStatisticsService)
+ *
+ * 일일 통계 롤업(최근 DAYS일, 하루 1행)을 메모리 스텁으로 제공하고,
+ * 주간/월간 응답 조립 비용을 측정합니다. (기록 수와 관계없이 날짜 수에만 비례)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class SleepStatisticsBenchmark {
+
+    private static final Long BABY_ID = 1L;
+    private static final int DAYS = 31;
+
+    private SleepStatisticsService sleepStatisticsService;
+
+    @Setup
+    public void setUp() {
+        LocalDate firstDay = LocalDate.now().minusDays(DAYS - 1);
+        List<BabyDailyStats> rollups = new ArrayList<>(DAYS);
+        for (int d = 0; d < DAYS; d++) {
+            LocalDate date = firstDay.plusDays(d);
+            BabyDailyStats stats = BabyDailyStats.builder().babyId(BABY_ID).statDate(date).build();
+            stats.update(840, 3, 600, 720, 6, date.atTime(19, 30));
+            rollups.add(stats);
+        }
+
+        // 조회 경로는 롤업 범위 조회만 사용 (원본 기록 리포지토리는 호출되면 예외)
+        BabyDailyStatsRepository babyDailyStatsRepository = Stubs.stub(BabyDailyStatsRepository.class, Map.of(
+                "findByBabyIdAndStatDateBetweenOrderByStatDate", args -> {
+                    LocalDate from = (LocalDate) args[1];
+                    LocalDate to = (LocalDate) args[2];
+                    return rollups.stream()
+                            .filter(s -> !s.getStatDate().isBefore(from) && !s.getStatDate().isAfter(to))
+                            .toList();
+                }));
+        DailyStatsService dailyStatsService = new DailyStatsService(babyDailyStatsRepository,
+                Stubs.stub(SleepRecordRepository.class, Map.of()),
+                Stubs.stub(FeedingRecordRepository.class, Map.of()),
+                Stubs.stub(ScheduleItemRepository.class, Map.of()));
+
+        sleepStatisticsService = new SleepStatisticsService(dailyStatsService);
+    }
+
+    @Benchmark
+    public WeeklyStatisticsResponse weeklyStatistics() {
+        return sleepStatisticsService.getWeeklyStatistics(BABY_ID);
+    }
+
+    @Benchmark
+    public WeeklyStatisticsResponse monthlyStatistics() {
+        return sleepStatisticsService.getMonthlyStatistics(BABY_ID);
+    }
+}
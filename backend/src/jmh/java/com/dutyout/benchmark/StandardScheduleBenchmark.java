@@ -0,0 +1,50 @@
+package com.dutyout.benchmark;
+
+import com.dutyout.domain.schedule.service.StandardScheduleService;
+import com.dutyout.domain.schedule.service.StandardScheduleService.StandardScheduleItem;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.io.ClassPathResource;
+
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 표준 스케줄 조회 + 기상 시간 조정 벤치마크
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class StandardScheduleBenchmark {
+
+    @Param({"3", "7", "12"})
+    private int ageInMonths;
+
+    private StandardScheduleService standardScheduleService;
+    private LocalTime wakeTime;
+
+    @Setup
+    public void setUp() {
+        standardScheduleService = new StandardScheduleService(
+                new ObjectMapper(), new ClassPathResource("schedule/standard-schedules.json"));
+        wakeTime = LocalTime.of(6, 30);
+    }
+
+    /**
+     * 조회 후 기상 시간에 맞게 조정 (매번 새 리스트 생성)
+     */
+    @Benchmark
+    public List<StandardScheduleItem> getStandardScheduleAndAdjust() {
+        List<StandardScheduleItem> standard = standardScheduleService.getStandardSchedule(ageInMonths);
+        return standardScheduleService.adjustScheduleToWakeTime(standard, wakeTime);
+    }
+
+    /**
+     * 카탈로그에 캐시된 조정 스케줄 조회 (AutoScheduleService.generateAutoSchedule 경로)
+     */
+    @Benchmark
+    public List<StandardScheduleItem> getCachedAdjustedSchedule() {
+        return standardScheduleService.getStandardSchedule(ageInMonths, wakeTime);
+    }
+}
@@ -0,0 +1,50 @@
+package com.dutyout.benchmark;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 벤치마크용 스텁 생성 헬퍼
+ *
+ * DB 없이 서비스 계층만 측정하기 위해 리포지토리 인터페이스를 JDK Proxy로 대체합니다.
+ * 등록하지 않은 메서드를 호출하면 UnsupportedOperationException이 발생합니다.
+ */
+final class Stubs {
+
+    private Stubs() {
+    }
+
+    /**
+     * 메서드 이름 → 응답 함수로 인터페이스 스텁 생성
+     */
+    @SuppressWarnings("unchecked")
+    static <T> T stub(Class<T> type, Map<String, Function<Object[], Object>> answers) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            Function<Object[], Object> answer = answers.get(method.getName());
+            if (answer != null) {
+                return answer.apply(args);
+            }
+            return switch (method.getName()) {
+                case "toString" -> type.getSimpleName() + "Stub";
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "equals" -> proxy == args[0];
+                default -> throw new UnsupportedOperationException(type.getSimpleName() + "." + method.getName());
+            };
+        });
+    }
+
+    /**
+     * 엔티티 ID 지정 (DB 없이 생성한 엔티티용)
+     */
+    static void setId(Object entity, Long id) {
+        try {
+            Field field = entity.getClass().getDeclaredField("id");
+            field.setAccessible(true);
+            field.set(entity, id);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.dutyout.application.dto.request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class GenerateScheduleRangeRequest {
+
+    @NotNull(message = "시작 날짜는 필수입니다.")
+    private LocalDate startDate;
+
+    @NotNull(message = "일수는 필수입니다.")
+    @Min(value = 1, message = "일수는 1일 이상이어야 합니다.")
+    @Max(value = 31, message = "일수는 31일 이하여야 합니다.")
+    private Integer days;
+
+    @NotNull(message = "기상 시간은 필수입니다.")
+    private LocalTime wakeUpTime;
+}
@@ -0,0 +1,88 @@
+package com.dutyout.application.dto.request;
+
+import com.dutyout.common.exception.BusinessException;
+import com.dutyout.common.exception.ErrorCode;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 기상 시간별 스케줄 시뮬레이션 요청 DTO
+ *
+ * Clean Architecture - Application Layer
+ *
+ * 기상 시간 목록(wakeUpTimes) 또는 범위(from ~ to, stepMinutes 간격) 중 하나를 지정합니다.
+ * 예: from 06:00, to 08:00, step 30 → 06:00, 06:30, 07:00, 07:30, 08:00
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SimulateScheduleRequest {
+
+    /**
+     * 한 번에 시뮬레이션할 수 있는 최대 기상 시간 수 (15분 간격 하루치)
+     */
+    public static final int MAX_VARIANTS = 96;
+
+    private static final int DEFAULT_STEP_MINUTES = 15;
+
+    /**
+     * 기상 시간 후보 목록
+     */
+    private List<LocalTime> wakeUpTimes;
+
+    /**
+     * 범위 시작 기상 시간 (포함)
+     */
+    private LocalTime from;
+
+    /**
+     * 범위 끝 기상 시간 (포함)
+     */
+    private LocalTime to;
+
+    /**
+     * 범위 간격 (분, 기본 15분)
+     */
+    @Min(value = 5, message = "간격은 5분 이상이어야 합니다.")
+    @Max(value = 240, message = "간격은 240분 이하여야 합니다.")
+    private Integer stepMinutes;
+
+    /**
+     * 시뮬레이션할 기상 시간 목록
+     *
+     * @throws BusinessException 목록과 범위가 모두 없거나, 범위가 잘못되었거나, 최대 개수를 넘는 경우
+     */
+    public List<LocalTime> resolveWakeUpTimes() {
+        if (wakeUpTimes != null && !wakeUpTimes.isEmpty()) {
+            if (wakeUpTimes.size() > MAX_VARIANTS || wakeUpTimes.contains(null)) {
+                throw new BusinessException(ErrorCode.INVALID_SIMULATION_RANGE);
+            }
+            return List.copyOf(wakeUpTimes);
+        }
+
+        if (from == null || to == null || to.isBefore(from)) {
+            throw new BusinessException(ErrorCode.INVALID_SIMULATION_RANGE);
+        }
+        int step = stepMinutes != null ? stepMinutes : DEFAULT_STEP_MINUTES;
+        int fromMinute = from.toSecondOfDay() / 60;
+        int toMinute = to.toSecondOfDay() / 60;
+        if ((toMinute - fromMinute) / step + 1 > MAX_VARIANTS) {
+            throw new BusinessException(ErrorCode.INVALID_SIMULATION_RANGE);
+        }
+
+        List<LocalTime> result = new ArrayList<>();
+        for (int minute = fromMinute; minute <= toMinute; minute += step) {
+            result.add(LocalTime.of(minute / 60, minute % 60));
+        }
+        return result;
+    }
+}
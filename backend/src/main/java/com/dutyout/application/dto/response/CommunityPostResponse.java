@@ -25,6 +25,7 @@ public class CommunityPostResponse {
     private String anonymousAuthor;
     private Integer likeCount;
     private Integer commentCount;
+    private Boolean liked; // 요청한 사용자의 좋아요 여부 (비로그인 조회면 null)
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
@@ -32,13 +33,24 @@ public class CommunityPostResponse {
      * Entity to DTO 변환
      */
     public static CommunityPostResponse from(CommunityPost post) {
+        return from(post, 0, null);
+    }
+
+    /**
+     * Entity to DTO 변환 (아직 DB에 반영되지 않은 좋아요 수 포함)
+     *
+     * @param pendingLikes LikeCountBuffer에 쌓인 좋아요 수 (취소가 많으면 음수)
+     * @param liked 요청한 사용자의 좋아요 여부 (비로그인이면 null)
+     */
+    public static CommunityPostResponse from(CommunityPost post, long pendingLikes, Boolean liked) {
         return CommunityPostResponse.builder()
                 .id(post.getId())
                 .title(post.getTitle())
                 .content(post.getContent())
                 .anonymousAuthor(post.getAnonymousAuthor())
-                .likeCount(post.getLikeCount())
+                .likeCount(Math.toIntExact(Math.max(0, post.getLikeCount() + pendingLikes)))
                 .commentCount(post.getCommentCount())
+                .liked(liked)
                 .createdAt(post.getCreatedAt())
                 .updatedAt(post.getModifiedAt())
                 .build();
@@ -18,6 +18,7 @@ public class DailyScheduleResponse {
     private LocalDate scheduleDate;
     private LocalTime wakeUpTime;
     private Integer ageInMonths;
+    private Long version;
     private List<ScheduleItemResponse> scheduleItems;
 
     public static DailyScheduleResponse from(DailySchedule schedule) {
@@ -27,6 +28,7 @@ public class DailyScheduleResponse {
                 .scheduleDate(schedule.getScheduleDate())
                 .wakeUpTime(schedule.getWakeUpTime())
                 .ageInMonths(schedule.getAgeInMonths())
+                .version(schedule.getVersion())
                 .scheduleItems(schedule.getScheduleItems().stream()
                         .map(ScheduleItemResponse::from)
                         .collect(Collectors.toList()))
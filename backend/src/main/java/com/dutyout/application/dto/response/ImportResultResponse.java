@@ -0,0 +1,34 @@
+package com.dutyout.application.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * CSV 기록 가져오기 결과 응답
+ *
+ * 검증에 실패한 행은 건너뛰고 나머지는 저장합니다.
+ * errors에는 앞에서부터 최대 100건까지만 담기며, 전체 실패 수는 failedRows로 확인합니다.
+ */
+@Getter
+@Builder
+public class ImportResultResponse {
+
+    private String dataset;
+    private int totalRows;    // 헤더를 제외한 데이터 행 수
+    private int importedRows;
+    private int failedRows;
+    private LocalDate statsRebuiltFrom; // 일일 통계를 다시 계산한 기간 (저장된 행이 없으면 null)
+    private LocalDate statsRebuiltTo;
+    private List<RowError> errors;
+
+    @Getter
+    @Builder
+    public static class RowError {
+
+        private long line; // CSV 파일 기준 줄 번호 (헤더가 1번째 줄)
+        private String message;
+    }
+}
@@ -0,0 +1,60 @@
+package com.dutyout.application.dto.response;
+
+import com.dutyout.domain.sleep.entity.SleepType;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 다음 수면/수유 예측 응답 (홈 화면용)
+ *
+ * 자는 중이면 nextSleep 대신 예상 기상 시각(낮잠만)을 담습니다.
+ * 최근 기록이 없으면 해당 예측은 null입니다.
+ */
+@Getter
+@Builder
+public class NextPredictionResponse {
+
+    private Long babyId;
+    private LocalDateTime asOf; // 예측 기준 시각
+    private boolean asleep;
+    private LocalDateTime predictedWakeTime; // 진행 중인 낮잠의 예상 기상 시각
+    private SleepPrediction nextSleep;
+    private FeedingPrediction nextFeeding;
+
+    /**
+     * 예측 근거
+     */
+    public enum Basis {
+        PERSONAL,   // 아기 기록으로 학습한 값
+        GUIDELINE   // 기록이 부족해 월령 가이드라인 값 사용
+    }
+
+    /**
+     * 다음 수면 예측
+     */
+    @Getter
+    @Builder
+    public static class SleepPrediction {
+        private SleepType type;
+        private LocalDateTime predictedStartTime;
+        private Integer wakeWindowMinutes;
+        private Integer expectedDurationMinutes; // 낮잠만
+        private Basis basis;
+        private Integer sampleCount; // 깨시 추정에 반영된 기록 수
+    }
+
+    /**
+     * 다음 수유 예측
+     */
+    @Getter
+    @Builder
+    public static class FeedingPrediction {
+        private LocalDateTime lastFeedingTime;
+        private LocalDateTime predictedTime;
+        private Integer intervalMinutes;
+        private Basis basis;
+        private Integer sampleCount;
+    }
+}
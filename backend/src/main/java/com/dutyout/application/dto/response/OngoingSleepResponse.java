@@ -0,0 +1,38 @@
+package com.dutyout.application.dto.response;
+
+import com.dutyout.domain.sleep.entity.OngoingSleep;
+import com.dutyout.domain.sleep.entity.SleepType;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 진행 중인 수면 응답 (홈 화면 폴링용)
+ *
+ * 자는 중이 아니면 asleep=false이고 나머지 필드는 null입니다.
+ */
+@Getter
+@Builder
+public class OngoingSleepResponse {
+
+    private boolean asleep;
+    private Long sleepRecordId;
+    private SleepType type;
+    private LocalDateTime startTime;
+    private Long elapsedMinutes; // 시작 후 경과 시간 (응답 시점 기준)
+
+    public static OngoingSleepResponse from(OngoingSleep ongoing, LocalDateTime now) {
+        if (ongoing == null) {
+            return OngoingSleepResponse.builder().asleep(false).build();
+        }
+        return OngoingSleepResponse.builder()
+                .asleep(true)
+                .sleepRecordId(ongoing.getSleepRecordId())
+                .type(ongoing.getType())
+                .startTime(ongoing.getStartTime())
+                .elapsedMinutes(Math.max(0, Duration.between(ongoing.getStartTime(), now).toMinutes()))
+                .build();
+    }
+}
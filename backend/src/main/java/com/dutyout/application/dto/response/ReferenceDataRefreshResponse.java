@@ -0,0 +1,16 @@
+package com.dutyout.application.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 기준 데이터 재로드 결과 응답
+ */
+@Getter
+@Builder
+public class ReferenceDataRefreshResponse {
+
+    private int guidelineCount;
+    private int templateCount;
+    private String standardScheduleVersion;
+}
@@ -0,0 +1,90 @@
+package com.dutyout.application.dto.response;
+
+import com.dutyout.domain.schedule.entity.ActivityType;
+import com.dutyout.domain.schedule.entity.DailySchedule;
+import com.dutyout.domain.schedule.entity.ScheduleItem;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+/**
+ * 캘린더(주간/월간) 스케줄 요약 응답
+ *
+ * 날짜별로 아이템 전체 대신 요약 값만 내려줍니다. (상세는 GET /schedules?date= 로 조회)
+ * 스케줄이 없는 날짜는 days에 포함되지 않습니다.
+ */
+@Getter
+@Builder
+public class ScheduleCalendarResponse {
+
+    private Long babyId;
+    private LocalDate from;
+    private LocalDate to;
+    private List<Day> days;
+
+    public static ScheduleCalendarResponse of(Long babyId, LocalDate from, LocalDate to, List<DailySchedule> schedules) {
+        return ScheduleCalendarResponse.builder()
+                .babyId(babyId)
+                .from(from)
+                .to(to)
+                .days(schedules.stream().map(Day::from).toList())
+                .build();
+    }
+
+    @Getter
+    @Builder
+    public static class Day {
+
+        private Long scheduleId;
+        private LocalDate date;
+        private Integer ageInMonths;
+        private LocalTime wakeUpTime;
+        private LocalTime bedtime;
+        private int napCount;
+        private int totalNapMinutes;
+        private int feedingCount;
+        private int itemCount;
+        private int recordedItemCount; // 수유량/실제 수면 시간이 기록된 아이템 수
+
+        static Day from(DailySchedule schedule) {
+            LocalTime bedtime = null;
+            int napCount = 0;
+            int totalNapMinutes = 0;
+            int feedingCount = 0;
+            int recordedItemCount = 0;
+
+            for (ScheduleItem item : schedule.getScheduleItems()) {
+                ActivityType type = item.getActivityType();
+                if (type.name().startsWith("NAP")) {
+                    napCount++;
+                    if (item.getDurationMinutes() != null) {
+                        totalNapMinutes += item.getDurationMinutes();
+                    }
+                } else if (type == ActivityType.FEEDING) {
+                    feedingCount++;
+                } else if (type == ActivityType.BEDTIME) {
+                    bedtime = item.getScheduledTime();
+                }
+                if (item.getFeedingAmount() != null || item.getActualSleepDuration() != null) {
+                    recordedItemCount++;
+                }
+            }
+
+            return Day.builder()
+                    .scheduleId(schedule.getId())
+                    .date(schedule.getScheduleDate())
+                    .ageInMonths(schedule.getAgeInMonths())
+                    .wakeUpTime(schedule.getWakeUpTime())
+                    .bedtime(bedtime)
+                    .napCount(napCount)
+                    .totalNapMinutes(totalNapMinutes)
+                    .feedingCount(feedingCount)
+                    .itemCount(schedule.getScheduleItems().size())
+                    .recordedItemCount(recordedItemCount)
+                    .build();
+        }
+    }
+}
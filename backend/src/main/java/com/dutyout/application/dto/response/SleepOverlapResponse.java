@@ -0,0 +1,58 @@
+package com.dutyout.application.dto.response;
+
+import com.dutyout.domain.sleep.entity.SleepType;
+import com.dutyout.domain.sleep.repository.SleepRecordRepository.SleepInterval;
+import com.dutyout.domain.sleep.service.SleepRecordService.SleepOverlap;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 겹치는 수면 기록 쌍 응답
+ *
+ * 한쪽을 수정하거나 삭제해 정리할 수 있도록 두 기록과 겹친 시간을 함께 내려줍니다.
+ * 진행 중인 기록은 endTime이 null이고, 겹친 시간은 응답 시점까지로 계산합니다.
+ */
+@Getter
+@Builder
+public class SleepOverlapResponse {
+
+    private Interval first;  // 먼저 시작한 기록
+    private Interval second;
+    private long overlapMinutes;
+
+    public static SleepOverlapResponse from(SleepOverlap overlap, LocalDateTime now) {
+        SleepInterval first = overlap.first();
+        SleepInterval second = overlap.second();
+        LocalDateTime firstEnd = first.getEndTime() != null ? first.getEndTime() : now;
+        LocalDateTime secondEnd = second.getEndTime() != null ? second.getEndTime() : now;
+        LocalDateTime overlapEnd = firstEnd.isBefore(secondEnd) ? firstEnd : secondEnd;
+
+        return SleepOverlapResponse.builder()
+                .first(Interval.from(first))
+                .second(Interval.from(second))
+                .overlapMinutes(Math.max(0, Duration.between(second.getStartTime(), overlapEnd).toMinutes()))
+                .build();
+    }
+
+    @Getter
+    @Builder
+    public static class Interval {
+
+        private Long id;
+        private SleepType type;
+        private LocalDateTime startTime;
+        private LocalDateTime endTime;
+
+        static Interval from(SleepInterval interval) {
+            return Interval.builder()
+                    .id(interval.getId())
+                    .type(interval.getType())
+                    .startTime(interval.getStartTime())
+                    .endTime(interval.getEndTime())
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.dutyout.application.dto.response;
+
+import com.dutyout.domain.statistics.entity.BabyDailyStats;
+import com.dutyout.domain.statistics.entity.StatisticsBucket;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.IntSummaryStatistics;
+import java.util.List;
+
+/**
+ * 기간 통계 시계열 응답 (일/주/월 묶음)
+ *
+ * 일일 롤업 행을 묶음 단위로 합쳐 지표별 합계/최소/최대/평균을 내려줍니다.
+ * 최소/최대/평균은 기록이 있는 날짜(recordedDays) 기준이며, 기록이 없는 묶음은 null입니다.
+ * 첫/마지막 묶음은 조회 기간에 맞춰 잘립니다. (예: 수요일부터 조회하면 첫 주는 수~일)
+ */
+@Getter
+@Builder
+public class StatisticsSeriesResponse {
+
+    private Long babyId;
+    private LocalDate from;
+    private LocalDate to;
+    private StatisticsBucket bucket;
+    private List<Bucket> buckets;
+
+    /**
+     * @param dailyStats 기간 내 롤업 행 (날짜순)
+     */
+    public static StatisticsSeriesResponse of(Long babyId, LocalDate from, LocalDate to,
+                                              StatisticsBucket bucket, List<BabyDailyStats> dailyStats) {
+        List<Bucket> buckets = new ArrayList<>();
+        int index = 0;
+
+        for (LocalDate start = bucket.startOf(from); !start.isAfter(to); start = bucket.nextStart(start)) {
+            LocalDate bucketStart = start.isBefore(from) ? from : start;
+            LocalDate nextStart = bucket.nextStart(start);
+            LocalDate bucketEnd = nextStart.isAfter(to) ? to : nextStart.minusDays(1);
+
+            IntSummaryStatistics sleep = new IntSummaryStatistics();
+            IntSummaryStatistics naps = new IntSummaryStatistics();
+            IntSummaryStatistics nightSleep = new IntSummaryStatistics();
+            IntSummaryStatistics feeding = new IntSummaryStatistics();
+            while (index < dailyStats.size() && !dailyStats.get(index).getStatDate().isAfter(bucketEnd)) {
+                BabyDailyStats stats = dailyStats.get(index++);
+                sleep.accept(stats.getTotalSleepMinutes());
+                naps.accept(stats.getNapCount());
+                nightSleep.accept(stats.getNightSleepMinutes());
+                feeding.accept(stats.getFeedingTotalMl());
+            }
+
+            buckets.add(Bucket.builder()
+                    .start(bucketStart)
+                    .end(bucketEnd)
+                    .days((int) ChronoUnit.DAYS.between(bucketStart, bucketEnd) + 1)
+                    .recordedDays((int) sleep.getCount())
+                    .sleepMinutes(Metric.from(sleep))
+                    .napCount(Metric.from(naps))
+                    .nightSleepMinutes(Metric.from(nightSleep))
+                    .feedingMl(Metric.from(feeding))
+                    .build());
+        }
+
+        return StatisticsSeriesResponse.builder()
+                .babyId(babyId)
+                .from(from)
+                .to(to)
+                .bucket(bucket)
+                .buckets(buckets)
+                .build();
+    }
+
+    @Getter
+    @Builder
+    public static class Bucket {
+
+        private LocalDate start;
+        private LocalDate end;
+        private int days;         // 묶음에 포함된 날짜 수
+        private int recordedDays; // 그중 기록이 있는 날짜 수
+        private Metric sleepMinutes;
+        private Metric napCount;
+        private Metric nightSleepMinutes;
+        private Metric feedingMl;
+    }
+
+    /**
+     * 지표 요약 (하루 값 기준)
+     */
+    @Getter
+    @Builder
+    public static class Metric {
+
+        private long total;
+        private Integer min;
+        private Integer max;
+        private Double average;
+
+        static Metric from(IntSummaryStatistics statistics) {
+            if (statistics.getCount() == 0) {
+                return Metric.builder().total(0).build();
+            }
+            return Metric.builder()
+                    .total(statistics.getSum())
+                    .min(statistics.getMin())
+                    .max(statistics.getMax())
+                    .average(statistics.getAverage())
+                    .build();
+        }
+    }
+}
@@ -7,15 +7,23 @@ import com.dutyout.common.exception.BusinessException;
 import com.dutyout.common.exception.ErrorCode;
 import com.dutyout.domain.baby.entity.Baby;
 import com.dutyout.domain.baby.repository.BabyRepository;
+import com.dutyout.domain.prediction.service.RhythmPredictionService;
+import com.dutyout.domain.prediction.service.RhythmProfile;
 import com.dutyout.domain.schedule.entity.ActivityType;
 import com.dutyout.domain.schedule.entity.AgeBasedSleepGuideline;
 import com.dutyout.domain.schedule.entity.DailySchedule;
 import com.dutyout.domain.schedule.entity.ScheduleItem;
-import com.dutyout.domain.schedule.repository.AgeBasedSleepGuidelineRepository;
 import com.dutyout.domain.schedule.repository.DailyScheduleRepository;
+import com.dutyout.domain.schedule.repository.ScheduleItemRepository;
+import com.dutyout.domain.schedule.service.DayPlanMapper;
+import com.dutyout.domain.schedule.service.ReferenceDataCatalog;
+import com.dutyout.domain.schedule.service.ScheduleGenerationService;
+import com.dutyout.schedule.engine.DayPlan;
+import com.dutyout.schedule.engine.ScheduleEngine;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
@@ -37,6 +45,7 @@ import java.util.List;
  * - 깨시(깨어있는 시간) 기반 낮잠 시간 계산
  * - 수유 간격 기반 수유 시간 계산
  * - 실시간 스케줄 조정 (과피로 방지)
+ * - 기상 시간별 스케줄 미리보기 (저장 없음)
  *
  * 비즈니스 규칙:
  * - 첫 번째 낮잠까지의 깨시가 가장 짧음
@@ -51,12 +60,17 @@ import java.util.List;
 public class AutoScheduleService {
 
     private final BabyRepository babyRepository;
-    private final AgeBasedSleepGuidelineRepository guidelineRepository;
+    private final ReferenceDataCatalog referenceDataCatalog;
     private final DailyScheduleRepository dailyScheduleRepository;
-    private final com.dutyout.domain.schedule.service.StandardScheduleService standardScheduleService;
+    private final ScheduleItemRepository scheduleItemRepository;
+    private final ScheduleGenerationService scheduleGenerationService;
+    private final RhythmPredictionService rhythmPredictionService;
 
     /**
-     * 자동 스케줄 생성 (표준 스케줄 기반)
+     * 자동 스케줄 생성 (월령 템플릿 + 개인 리듬 기반)
+     *
+     * 야간 배치(SchedulePregenerationService)와 같은 생성기(ScheduleGenerationService)와 리듬 추정값을 쓰므로,
+     * 미리 생성된 오늘 스케줄은 아이템 구성이 같고 기상 시간에 따라 시간만 바뀝니다. (기존 행 UPDATE만 발생)
      *
      * @param babyId 아기 ID
      * @param request 생성 요청 (기상 시간 포함)
@@ -70,11 +84,12 @@ public class AutoScheduleService {
         Baby baby = babyRepository.findById(babyId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.BABY_NOT_FOUND));
 
-        int ageInMonths = baby.calculateAgeInMonths();
+        // 야간 배치(SchedulePregenerationService)와 같은 기준(교정월령)으로 계산
+        int ageInMonths = baby.calculateCorrectedAgeInMonths();
         log.info("아기 개월 수: {}개월", ageInMonths);
 
         // 2. 개월수별 가이드라인 조회
-        AgeBasedSleepGuideline guideline = guidelineRepository.findClosestGuidelineByAge(ageInMonths)
+        AgeBasedSleepGuideline guideline = referenceDataCatalog.findClosestGuideline(ageInMonths)
                 .orElseThrow(() -> new BusinessException(ErrorCode.TEMPLATE_NOT_FOUND));
 
         log.info("가이드라인 조회 완료 - 낮잠 횟수: {}회, 권장 취침: {}:{}",
@@ -82,158 +97,88 @@ public class AutoScheduleService {
                 guideline.getRecommendedBedtimeHour(),
                 guideline.getRecommendedBedtimeMinute());
 
-        // 3. 기존 스케줄 확인 및 삭제 (오늘 날짜)
-        // unique 제약 위반 방지를 위해 기존 스케줄을 먼저 삭제
-        LocalDate today = LocalDate.now();
-        dailyScheduleRepository.findByBabyIdAndScheduleDate(babyId, today)
-                .ifPresent(existingSchedule -> {
-                    dailyScheduleRepository.delete(existingSchedule);
-                    dailyScheduleRepository.flush(); // 즉시 DB에 반영
-                    log.info("기존 스케줄 삭제 완료 - Schedule ID: {}", existingSchedule.getId());
-                });
-
-        // 4. 표준 스케줄 조회 및 기상 시간에 맞게 조정
-        List<com.dutyout.domain.schedule.service.StandardScheduleService.StandardScheduleItem> standardItems =
-                standardScheduleService.getStandardSchedule(ageInMonths);
-        List<com.dutyout.domain.schedule.service.StandardScheduleService.StandardScheduleItem> adjustedItems =
-                standardScheduleService.adjustScheduleToWakeTime(standardItems, request.getWakeUpTime());
-
-        // 5. 스케줄 아이템 생성
-        List<ScheduleItem> scheduleItems = new ArrayList<>();
-        for (com.dutyout.domain.schedule.service.StandardScheduleService.StandardScheduleItem item : adjustedItems) {
-            scheduleItems.add(ScheduleItem.builder()
-                    .activityType(item.getActivityType())
-                    .scheduledTime(item.getTime())
-                    .durationMinutes(item.getDurationMinutes())
-                    .note(item.getNote())
-                    .build());
-        }
+        // 3. 야간 배치와 같은 생성기로 아이템 생성 (월령 템플릿 + 개인 리듬, 카탈로그 캐시 사용)
+        List<ScheduleItem> scheduleItems = scheduleGenerationService.createScheduleItems(
+                ageInMonths, request.getWakeUpTime(), rhythmPredictionService.getScheduleProfile(babyId));
 
-        // 6. DailySchedule 생성 및 저장
-        DailySchedule dailySchedule = DailySchedule.builder()
-                .babyId(babyId)
-                .scheduleDate(today)
-                .wakeUpTime(request.getWakeUpTime())
-                .ageInMonths(ageInMonths)
-                .build();
+        // 4. 오늘 스케줄이 있으면 (야간 배치로 미리 생성된 경우 포함) 기존 행을 재사용해 바뀐 항목만 반영
+        //    같은 월령이면 낮잠 수가 같아 아이템 개수가 같으므로 시간만 UPDATE
+        //    (밤사이 월령이 바뀐 경우에만 개수 차이만큼 INSERT/DELETE)
+        LocalDate today = LocalDate.now();
+        DailySchedule dailySchedule = dailyScheduleRepository.findByBabyIdAndScheduleDateWithItems(babyId, today)
+                .orElse(null);
 
-        dailySchedule.addScheduleItems(scheduleItems);
-        dailySchedule = dailyScheduleRepository.save(dailySchedule);
+        if (dailySchedule != null) {
+            dailySchedule.replaceScheduleItems(request.getWakeUpTime(), ageInMonths, scheduleItems);
+            dailyScheduleRepository.flush(); // 추가된 아이템 ID 확정 (응답에 포함)
+            dailyScheduleRepository.incrementVersions(List.of(dailySchedule.getId()));
+            log.info("기존 스케줄 재생성 - Schedule ID: {}", dailySchedule.getId());
+        } else {
+            dailySchedule = DailySchedule.builder()
+                    .babyId(babyId)
+                    .scheduleDate(today)
+                    .wakeUpTime(request.getWakeUpTime())
+                    .ageInMonths(ageInMonths)
+                    .build();
+
+            dailySchedule.addScheduleItems(scheduleItems);
+            dailySchedule = dailyScheduleRepository.save(dailySchedule);
+        }
 
         log.info("자동 스케줄 생성 완료 - Schedule ID: {}, 총 {}개 아이템",
                 dailySchedule.getId(), scheduleItems.size());
 
-        // 7. Response 생성
+        // 5. Response 생성
         return buildAutoScheduleResponse(dailySchedule, guideline);
     }
 
     /**
-     * 스케줄 아이템 생성
+     * 스케줄 시뮬레이션 기준 조회 (교정월령 + 리듬 추정값)
+     *
+     * 아기와 리듬 추정값 조회는 시뮬레이션 요청당 한 번만 하고, 기상 시간별 계산은 simulateSchedule로 메모리에서 수행합니다.
      *
-     * 비즈니스 로직:
-     * - 기상 -> 첫 낮잠 -> 수유 -> 두번째 낮잠 -> 수유 -> ... -> 취침
-     * - 낮잠 지속 시간 = 총 낮잠 시간 / 낮잠 횟수
-     * - 수유는 깨시 고려하여 배치
+     * @param babyId 아기 ID
+     * @return 시뮬레이션 기준
      */
-    private List<ScheduleItem> buildScheduleItems(
-            AgeBasedSleepGuideline guideline,
-            GenerateAutoScheduleRequest request,
-            Baby baby) {
-
-        List<ScheduleItem> items = new ArrayList<>();
-        LocalTime currentTime = request.getWakeUpTime();
-        int sequence = 0;
-
-        // 1. 기상
-        items.add(ScheduleItem.builder()
-                .activityType(ActivityType.WAKE_UP)
-                .scheduledTime(currentTime)
-                .durationMinutes(0)
-                .note("기상 및 수유")
-                .build());
-
-        // 2. 낮잠 평균 지속 시간 계산
-        int napDurationMinutes = guideline.getMaxTotalNapMinutes() / guideline.getNapCount();
-
-        // 3. 낮잠 및 수유 스케줄 생성
-        for (int napIndex = 0; napIndex < guideline.getNapCount(); napIndex++) {
-            // 깨시 계산 (낮잠 순서에 따라 다름)
-            int wakeWindow = guideline.getWakeWindowForNap(napIndex);
-
-            // 수유 시간 (낮잠 전)
-            LocalTime feedingTime = currentTime.plusMinutes(wakeWindow - 30); // 낮잠 30분 전 수유
-            if (napIndex > 0) { // 첫 번째는 기상 시 수유했으므로 제외
-                items.add(ScheduleItem.builder()
-                        .activityType(ActivityType.FEEDING)
-                        .scheduledTime(feedingTime)
-                        .durationMinutes(30)
-                        .note(buildFeedingNote(guideline, baby))
-                        .build());
-            }
-
-            // 낮잠 시작 시간
-            LocalTime napStartTime = currentTime.plusMinutes(wakeWindow);
-
-            ActivityType napType = switch (napIndex + 1) {
-                case 1 -> ActivityType.NAP1;
-                case 2 -> ActivityType.NAP2;
-                case 3 -> ActivityType.NAP3;
-                case 4 -> ActivityType.NAP4;
-                default -> ActivityType.NAP;
-            };
-
-            items.add(ScheduleItem.builder()
-                    .activityType(napType)
-                    .scheduledTime(napStartTime)
-                    .durationMinutes(napDurationMinutes)
-                    .note(String.format("낮잠 %d (약 %d분)", napIndex + 1, napDurationMinutes))
-                    .build());
-
-            // 다음 활동 시작 시간 = 낮잠 종료 시간
-            currentTime = napStartTime.plusMinutes(napDurationMinutes);
-        }
+    public SimulationBasis getSimulationBasis(Long babyId) {
+        Baby baby = babyRepository.findById(babyId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.BABY_NOT_FOUND));
 
-        // 4. 마지막 수유 (취침 전)
-        LocalTime lastFeedingTime = currentTime.plusMinutes(
-                guideline.getLastWakeWindowMinutes() != null
-                        ? guideline.getLastWakeWindowMinutes() - 30
-                        : guideline.getAverageWakeWindowMinutes() - 30
-        );
-
-        items.add(ScheduleItem.builder()
-                .activityType(ActivityType.FEEDING)
-                .scheduledTime(lastFeedingTime)
-                .durationMinutes(30)
-                .note("마지막 수유")
-                .build());
-
-        // 5. 취침
-        int lastWakeWindow = guideline.getLastWakeWindowMinutes() != null
-                ? guideline.getLastWakeWindowMinutes()
-                : guideline.getAverageWakeWindowMinutes();
-
-        LocalTime bedtime = currentTime.plusMinutes(lastWakeWindow);
-
-        items.add(ScheduleItem.builder()
-                .activityType(ActivityType.BEDTIME)
-                .scheduledTime(bedtime)
-                .durationMinutes(guideline.getNightSleepMinMinutes())
-                .note(String.format("권장 취침 시간: %02d:%02d",
-                        guideline.getRecommendedBedtimeHour(),
-                        guideline.getRecommendedBedtimeMinute()))
-                .build());
-
-        return items;
+        int ageInMonths = baby.calculateCorrectedAgeInMonths();
+        referenceDataCatalog.findClosestGuideline(ageInMonths)
+                .orElseThrow(() -> new BusinessException(ErrorCode.TEMPLATE_NOT_FOUND));
+        referenceDataCatalog.findClosestTemplate(ageInMonths)
+                .orElseThrow(() -> new BusinessException(ErrorCode.TEMPLATE_NOT_FOUND));
+        return new SimulationBasis(ageInMonths, rhythmPredictionService.getScheduleProfile(babyId));
     }
 
     /**
-     * 수유 노트 생성
+     * 기상 시간별 스케줄 미리보기 (저장 없음)
+     *
+     * 캐시된 가이드라인/템플릿 카탈로그와 미리 읽은 리듬 추정값으로만 계산하므로 DB 연결을 사용하지 않습니다.
+     * 실제 생성(generateAutoSchedule)과 같은 생성기를 써서 미리보기와 생성 결과가 같습니다.
+     * 응답의 scheduleId와 아이템 id는 null입니다.
+     *
+     * @param babyId 아기 ID
+     * @param basis 시뮬레이션 기준 (getSimulationBasis 결과)
+     * @param wakeUpTime 기상 시간 후보
+     * @return 미리보기 스케줄
      */
-    private String buildFeedingNote(AgeBasedSleepGuideline guideline, Baby baby) {
-        return String.format("수유 (%d~%dml, 간격: %d분)",
-                guideline.getFeedingAmountMinMl(),
-                guideline.getFeedingAmountMaxMl(),
-                guideline.getFeedingIntervalMinutes());
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public AutoScheduleResponse simulateSchedule(Long babyId, SimulationBasis basis, LocalTime wakeUpTime) {
+        AgeBasedSleepGuideline guideline = referenceDataCatalog.findClosestGuideline(basis.ageInMonths())
+                .orElseThrow(() -> new BusinessException(ErrorCode.TEMPLATE_NOT_FOUND));
+
+        DailySchedule preview = DailySchedule.builder()
+                .babyId(babyId)
+                .scheduleDate(LocalDate.now())
+                .wakeUpTime(wakeUpTime)
+                .ageInMonths(basis.ageInMonths())
+                .build();
+        preview.addScheduleItems(scheduleGenerationService.createScheduleItems(
+                basis.ageInMonths(), wakeUpTime, basis.profile()));
+
+        return buildAutoScheduleResponse(preview, guideline);
     }
 
     /**
@@ -298,33 +243,59 @@ public class AutoScheduleService {
         log.info("스케줄 동적 조정 시작 - Baby ID: {}, Item ID: {}",
                 babyId, request.getScheduleItemId());
 
-        // 1. 아기 정보 조회
-        Baby baby = babyRepository.findById(babyId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.BABY_NOT_FOUND));
-
-        // 2. 오늘의 일일 스케줄 조회
-        LocalDate today = LocalDate.now();
-        DailySchedule dailySchedule = dailyScheduleRepository.findByBabyIdAndScheduleDate(babyId, today)
+        // 1. 변경된 아이템이 속한 일일 스케줄 + 전체 아이템 조회 (fetch join, 1회)
+        DailySchedule dailySchedule = dailyScheduleRepository.findByScheduleItemIdWithItems(request.getScheduleItemId())
+                .filter(schedule -> schedule.getBabyId().equals(babyId))
                 .orElseThrow(() -> new BusinessException(ErrorCode.SCHEDULE_NOT_FOUND));
 
-        // 3. 변경된 아이템 찾기
-        ScheduleItem changedItem = null;
-        int changedItemIndex = -1;
-        for (int i = 0; i < dailySchedule.getScheduleItems().size(); i++) {
-            ScheduleItem item = dailySchedule.getScheduleItems().get(i);
-            if (item.getId().equals(request.getScheduleItemId())) {
-                changedItem = item;
-                changedItemIndex = i;
-                break;
+        // 2. 이후 아이템 재계산 및 일괄 반영
+        ScheduleItem changedItem = adjustFollowingItems(dailySchedule, request);
+
+        // 3. 과피로 방지 경고 (스케줄 생성 시점의 월령 기준)
+        AgeBasedSleepGuideline guideline = referenceDataCatalog.findClosestGuideline(dailySchedule.getAgeInMonths())
+                .orElse(null);
+        if (guideline != null && changedItem.getDurationMinutes() != null) {
+            int totalWakeTime = calculateTotalWakeTime(dailySchedule, guideline);
+            if (totalWakeTime > guideline.getWakeWindowMaxMinutes() * guideline.getNapCount()) {
+                log.warn("경고: 아기의 깨시가 권장치를 초과했습니다. 총 깨시: {} 분", totalWakeTime);
             }
         }
 
-        if (changedItem == null) {
+        log.info("스케줄 동적 조정 완료 - 조정된 아이템: {}", changedItem.getActivityType());
+
+        // 4. Response 생성
+        return buildAutoScheduleResponse(dailySchedule, guideline);
+    }
+
+    /**
+     * 변경된 아이템 이후의 스케줄 재계산 및 저장
+     *
+     * 이후 아이템은 모두 같은 시간만큼 이동하므로, 아이템마다 UPDATE하지 않고
+     * 단일 UPDATE(scheduled_time + n분)로 반영합니다.
+     *
+     * 주의: 일괄 UPDATE 후 영속성 컨텍스트가 비워지므로 dailySchedule과 아이템은 준영속 상태가 됩니다.
+     * (반환된 객체의 시간은 DB와 같게 맞춰져 있으며, 응답 생성에만 사용해야 합니다.)
+     *
+     * @param dailySchedule 전체 아이템이 로드된 일일 스케줄
+     * @param request 조정 요청
+     * @return 변경된 아이템
+     */
+    @Transactional(noRollbackFor = BusinessException.class) // 호출자가 재계산 실패를 무시할 수 있도록
+    public ScheduleItem adjustFollowingItems(DailySchedule dailySchedule, AdjustScheduleRequest request) {
+        List<ScheduleItem> items = dailySchedule.getScheduleItems();
+        int changedItemIndex = dailySchedule.indexOfScheduleItem(request.getScheduleItemId());
+        if (changedItemIndex < 0) {
             throw new BusinessException(ErrorCode.SCHEDULE_NOT_FOUND);
         }
+        ScheduleItem changedItem = items.get(changedItemIndex);
+        dailySchedule.markModified();
+        dailyScheduleRepository.incrementVersions(List.of(dailySchedule.getId()));
+
+        // 1. 엔진 입력 생성 (변경 전 스케줄 기준)
+        DayPlan plan = DayPlanMapper.fromScheduleItems(items);
 
-        // 4. 실제 수면 시간 처리
-        LocalTime actualEndTime;
+        // 2. 실제 수면 시간 처리 → 이후 아이템을 원래 간격 그대로 이동
+        int shiftMinutes;
 
         if (request.getActualDurationMinutes() != null) {
             // 실제 수면 시간(분)을 입력한 경우
@@ -337,107 +308,63 @@ public class AutoScheduleService {
             // actualSleepDuration은 ScheduleService에서 이미 저장됨
 
             // 종료 시간 계산 (실제 수면 시간 기준)
-            actualEndTime = changedItem.getScheduledTime().plusMinutes(request.getActualDurationMinutes());
+            LocalTime actualEndTime = changedItem.getScheduledTime().plusMinutes(request.getActualDurationMinutes());
+            shiftMinutes = ScheduleEngine.adjustEnd(plan, changedItemIndex, DayPlanMapper.toMinute(actualEndTime));
 
         } else if (request.getActualEndTime() != null) {
             // 종료 시간을 직접 입력한 경우
-            actualEndTime = request.getActualEndTime();
+            LocalTime actualEndTime = request.getActualEndTime();
 
             // 실제 수면 시간 계산
             long actualDuration = java.time.temporal.ChronoUnit.MINUTES.between(
                     changedItem.getScheduledTime(), actualEndTime);
             changedItem.updateDuration((int) actualDuration);
+            shiftMinutes = ScheduleEngine.adjustEnd(plan, changedItemIndex, DayPlanMapper.toMinute(actualEndTime));
 
         } else if (request.getActualStartTime() != null) {
-            // 시작 시간을 변경한 경우
-            LocalTime originalStart = changedItem.getScheduledTime();
+            // 시작 시간을 변경한 경우 (기존 duration 유지)
             changedItem.updateScheduledTime(request.getActualStartTime());
-
-            // 종료 시간 계산 (기존 duration 사용)
-            if (changedItem.getDurationMinutes() != null) {
-                actualEndTime = request.getActualStartTime().plusMinutes(changedItem.getDurationMinutes());
-            } else {
-                actualEndTime = request.getActualStartTime();
-            }
+            shiftMinutes = ScheduleEngine.adjustStart(
+                    plan, changedItemIndex, DayPlanMapper.toMinute(request.getActualStartTime()));
 
         } else {
             throw new BusinessException(ErrorCode.INVALID_INPUT);
         }
 
-        log.info("활동 종료 시간: {}", actualEndTime);
-
-        // 5. 다음 활동부터 시간 재계산 (실제 종료 시간 기준)
-        LocalTime currentTime = actualEndTime;
-
-        // 6. 가이드라인 조회 (깨시 적용을 위해)
-        int ageInMonths = baby.calculateAgeInMonths();
-        AgeBasedSleepGuideline guideline = guidelineRepository.findClosestGuidelineByAge(ageInMonths)
-                .orElse(null);
-
-        // 7. 표준 스케줄 조회 (깨시 정보 확인용)
-        List<com.dutyout.domain.schedule.service.StandardScheduleService.StandardScheduleItem> standardItems =
-                standardScheduleService.getStandardSchedule(ageInMonths);
-
-        // 8. 이후 모든 아이템의 시간 재계산
-        // 원래 스케줄의 간격을 유지하면서 시간만 shift
-        LocalTime previousEndTime = actualEndTime;
-
-        for (int i = changedItemIndex + 1; i < dailySchedule.getScheduleItems().size(); i++) {
-            ScheduleItem currentItem = dailySchedule.getScheduleItems().get(i);
-            ScheduleItem previousItemInList = dailySchedule.getScheduleItems().get(i - 1);
-
-            // 원래 스케줄에서 이전 아이템 종료 시간과 현재 아이템 시작 시간의 간격 계산
-            LocalTime originalPreviousEnd = previousItemInList.getScheduledTime();
-            if (previousItemInList.getDurationMinutes() != null) {
-                originalPreviousEnd = originalPreviousEnd.plusMinutes(previousItemInList.getDurationMinutes());
-            }
+        log.info("이후 아이템 이동: {}분", shiftMinutes);
 
-            long originalGap = java.time.temporal.ChronoUnit.MINUTES.between(
-                    originalPreviousEnd, currentItem.getScheduledTime());
-
-            // 새로운 시간 = 실제 이전 종료 시간 + 원래 간격
-            LocalTime newTime = previousEndTime.plusMinutes(originalGap);
-            LocalTime oldTime = currentItem.getScheduledTime();
-            currentItem.updateScheduledTime(newTime);
-
-            log.info("아이템 {}: {} → {} (간격 유지: {}분)",
-                    currentItem.getActivityType(), oldTime, newTime, originalGap);
-
-            // 다음 반복을 위한 종료 시간 계산
-            if (currentItem.getDurationMinutes() != null) {
-                previousEndTime = newTime.plusMinutes(currentItem.getDurationMinutes());
-            } else {
-                previousEndTime = newTime;
-            }
+        // 3. 이후 아이템 일괄 이동 (단일 UPDATE, 변경된 아이템은 먼저 flush됨)
+        int followingCount = items.size() - changedItemIndex - 1;
+        if (shiftMinutes == 0 || followingCount == 0) {
+            return changedItem;
         }
 
-        // 9. 과피로 방지 경고
-        if (guideline != null && changedItem.getDurationMinutes() != null) {
-            int totalWakeTime = calculateTotalWakeTime(dailySchedule, guideline);
-            if (totalWakeTime > guideline.getWakeWindowMaxMinutes() * guideline.getNapCount()) {
-                log.warn("경고: 아기의 깨시가 권장치를 초과했습니다. 총 깨시: {} 분", totalWakeTime);
-            }
+        List<Long> followingIds = new ArrayList<>(followingCount);
+        for (int i = changedItemIndex + 1; i < items.size(); i++) {
+            followingIds.add(items.get(i).getId());
         }
+        int updated = scheduleItemRepository.shiftScheduledTimes(followingIds, shiftMinutes);
+        log.info("이후 아이템 {}개 이동 완료", updated);
 
-        // 10. 저장
-        dailySchedule = dailyScheduleRepository.save(dailySchedule);
-
-        log.info("스케줄 동적 조정 완료 - 조정된 아이템: {}", changedItem.getActivityType());
+        // 4. 응답용 객체에 계산 결과 반영 (준영속 상태이므로 추가 UPDATE 없음)
+        for (int i = changedItemIndex + 1; i < items.size(); i++) {
+            items.get(i).updateScheduledTime(DayPlanMapper.toTime(plan.start(i)));
+        }
 
-        // 11. Response 생성
-        return buildAutoScheduleResponse(dailySchedule, guideline);
+        return changedItem;
     }
 
     /**
      * 총 깨시 계산
      */
     private int calculateTotalWakeTime(DailySchedule dailySchedule, AgeBasedSleepGuideline guideline) {
-        int totalWakeTime = 0;
-        for (ScheduleItem item : dailySchedule.getScheduleItems()) {
-            if (item.getDurationMinutes() != null && !item.getActivityType().equals(ActivityType.BEDTIME)) {
-                totalWakeTime += item.getDurationMinutes();
-            }
-        }
-        return totalWakeTime;
+        return ScheduleEngine.totalDurationExcludingBedtime(
+                DayPlanMapper.fromScheduleItems(dailySchedule.getScheduleItems()));
+    }
+
+    /**
+     * 스케줄 시뮬레이션 기준 (요청당 한 번 조회)
+     */
+    public record SimulationBasis(int ageInMonths, RhythmProfile profile) {
     }
 }
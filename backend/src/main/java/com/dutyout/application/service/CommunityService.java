@@ -6,10 +6,14 @@ import com.dutyout.application.dto.response.CommentResponse;
 import com.dutyout.application.dto.response.CommunityPostResponse;
 import com.dutyout.common.exception.BusinessException;
 import com.dutyout.common.exception.ErrorCode;
+import com.dutyout.common.response.CursorPageResponse;
 import com.dutyout.domain.community.entity.Comment;
 import com.dutyout.domain.community.entity.CommunityPost;
 import com.dutyout.domain.community.repository.CommentRepository;
 import com.dutyout.domain.community.repository.CommunityPostRepository;
+import com.dutyout.domain.community.service.LikeCountBuffer;
+import com.dutyout.domain.community.service.PostLikeService;
+import com.dutyout.domain.community.service.PostSearchService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -19,6 +23,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Random;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -37,6 +42,9 @@ public class CommunityService {
 
     private final CommunityPostRepository communityPostRepository;
     private final CommentRepository commentRepository;
+    private final PostSearchService postSearchService;
+    private final LikeCountBuffer likeCountBuffer;
+    private final PostLikeService postLikeService;
     private final Random random = new Random();
 
     // ========== 게시글 관련 ==========
@@ -59,38 +67,47 @@ public class CommunityService {
                 .build();
 
         post = communityPostRepository.save(post);
+        postSearchService.index(post);
         log.info("게시글 생성 완료 - Post ID: {}", post.getId());
 
-        return CommunityPostResponse.from(post);
+        return CommunityPostResponse.from(post, 0, false);
     }
 
     /**
      * 게시글 단건 조회
+     *
+     * @param userId 조회한 사용자 ID (비로그인이면 null, 좋아요 여부 생략)
      */
-    public CommunityPostResponse getPost(Long postId) {
+    public CommunityPostResponse getPost(Long postId, Long userId) {
         CommunityPost post = communityPostRepository.findById(postId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.POST_NOT_FOUND));
 
-        return CommunityPostResponse.from(post);
+        return toResponse(post, userId == null ? null : postLikeService.isLiked(postId, userId));
     }
 
     /**
      * 게시글 목록 조회 (페이징)
+     *
+     * @param userId 조회한 사용자 ID (비로그인이면 null, 좋아요 여부 생략)
      */
-    public Page<CommunityPostResponse> getPosts(Pageable pageable) {
+    public Page<CommunityPostResponse> getPosts(Long userId, Pageable pageable) {
         Page<CommunityPost> posts = communityPostRepository.findAllByOrderByCreatedAtDesc(pageable);
-        return posts.map(CommunityPostResponse::from);
+        Set<Long> likedPostIds = findLikedPostIds(userId, posts.getContent());
+        return posts.map(post -> toResponse(post, likedPostIds));
     }
 
     /**
-     * 게시글 검색
+     * 게시글 검색 (관련도순 커서 페이지)
+     *
+     * 바이그램 색인(PostSearchService)에서 검색하므로 게시글 본문 전체를 LIKE로 훑지 않습니다.
+     *
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param userId 조회한 사용자 ID (비로그인이면 null, 좋아요 여부 생략)
      */
-    public Page<CommunityPostResponse> searchPosts(String keyword, Pageable pageable) {
-        Page<CommunityPost> posts = communityPostRepository
-                .findByTitleContainingOrContentContainingOrderByCreatedAtDesc(
-                        keyword, keyword, pageable);
-
-        return posts.map(CommunityPostResponse::from);
+    public CursorPageResponse<CommunityPostResponse> searchPosts(String keyword, String cursor, int size, Long userId) {
+        CursorPageResponse<CommunityPost> posts = postSearchService.search(keyword, cursor, size);
+        Set<Long> likedPostIds = findLikedPostIds(userId, posts.getItems());
+        return posts.map(post -> toResponse(post, likedPostIds));
     }
 
     /**
@@ -109,9 +126,10 @@ public class CommunityService {
         }
 
         post.update(request.getTitle(), request.getContent());
+        postSearchService.reindex(post);
         log.info("게시글 수정 완료 - Post ID: {}", postId);
 
-        return CommunityPostResponse.from(post);
+        return toResponse(post, postLikeService.isLiked(postId, userId));
     }
 
     /**
@@ -133,23 +151,71 @@ public class CommunityService {
         commentRepository.deleteByPostId(postId);
 
         communityPostRepository.delete(post);
+        postSearchService.remove(postId);
+        postLikeService.removeAll(postId);
+        likeCountBuffer.discard(postId);
         log.info("게시글 삭제 완료 - Post ID: {}", postId);
     }
 
     /**
-     * 게시글 좋아요
+     * 게시글 좋아요 (사용자당 한 번, 이미 눌렀으면 현재 상태 반환)
+     *
+     * 게시글 행을 고쳐 쓰지 않고 좋아요 행 추가 후 LikeCountBuffer에 더하기만 하므로 동시에 눌러도 유실되지 않습니다.
+     * (DB의 like_count는 주기적으로 한 문장 UPDATE로 반영)
+     */
+    @Transactional
+    public CommunityPostResponse likePost(Long userId, Long postId) {
+        log.info("게시글 좋아요 - Post ID: {}, User ID: {}", postId, userId);
+
+        CommunityPost post = communityPostRepository.findById(postId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.POST_NOT_FOUND));
+
+        boolean added = postLikeService.like(postId, userId);
+        // 좋아요 수는 커밋 후 버퍼에 더해지므로 이번 변경을 응답에 미리 반영
+        CommunityPostResponse response =
+                CommunityPostResponse.from(post, likeCountBuffer.pending(postId) + (added ? 1 : 0), true);
+        log.info("게시글 좋아요 완료 - Post ID: {}, Added: {}, Like Count: {}", postId, added, response.getLikeCount());
+
+        return response;
+    }
+
+    /**
+     * 게시글 좋아요 취소 (누르지 않았으면 현재 상태 반환)
      */
     @Transactional
-    public CommunityPostResponse likePost(Long postId) {
-        log.info("게시글 좋아요 - Post ID: {}", postId);
+    public CommunityPostResponse unlikePost(Long userId, Long postId) {
+        log.info("게시글 좋아요 취소 - Post ID: {}, User ID: {}", postId, userId);
 
         CommunityPost post = communityPostRepository.findById(postId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.POST_NOT_FOUND));
 
-        post.increaseLikeCount();
-        log.info("게시글 좋아요 완료 - Post ID: {}, Like Count: {}", postId, post.getLikeCount());
+        boolean removed = postLikeService.unlike(postId, userId);
+        CommunityPostResponse response =
+                CommunityPostResponse.from(post, likeCountBuffer.pending(postId) - (removed ? 1 : 0), false);
+        log.info("게시글 좋아요 취소 완료 - Post ID: {}, Removed: {}, Like Count: {}", postId, removed, response.getLikeCount());
 
-        return CommunityPostResponse.from(post);
+        return response;
+    }
+
+    /**
+     * 응답 변환 (DB 좋아요 수 + 아직 반영되지 않은 좋아요 수)
+     */
+    private CommunityPostResponse toResponse(CommunityPost post, Boolean liked) {
+        return CommunityPostResponse.from(post, likeCountBuffer.pending(post.getId()), liked);
+    }
+
+    private CommunityPostResponse toResponse(CommunityPost post, Set<Long> likedPostIds) {
+        return toResponse(post, likedPostIds == null ? null : likedPostIds.contains(post.getId()));
+    }
+
+    /**
+     * 목록 중 사용자가 좋아요를 누른 게시글 ID (비로그인이면 null)
+     */
+    private Set<Long> findLikedPostIds(Long userId, List<CommunityPost> posts) {
+        if (userId == null) {
+            return null;
+        }
+        return postLikeService.findLikedPostIds(userId, posts.stream().map(CommunityPost::getId).toList());
     }
 
     // ========== 댓글 관련 ==========
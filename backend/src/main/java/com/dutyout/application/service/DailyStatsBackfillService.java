@@ -0,0 +1,92 @@
+package com.dutyout.application.service;
+
+import com.dutyout.domain.baby.entity.Baby;
+import com.dutyout.domain.baby.repository.BabyRepository;
+import com.dutyout.domain.statistics.service.DailyStatsService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 일일 통계 롤업 백필
+ *
+ * 롤업 테이블 도입 전에 쌓인 기록이나, 어긋난 롤업을 원본 기록에서 다시 만듭니다.
+ * statistics.rollup.backfill-on-startup=true로 기동하면 애플리케이션 준비 후 한 번 실행합니다.
+ *
+ * 처리 흐름:
+ * - Baby ID를 키셋(id 오름차순) 청크로 읽음
+ * - 아기마다 별도 트랜잭션에서 출생일 ~ 오늘 범위를 재구축 (DailyStatsService.rebuild)
+ * - 한 아기가 실패해도 나머지는 계속 진행
+ */
+@Slf4j
+@Service
+public class DailyStatsBackfillService {
+
+    private final BabyRepository babyRepository;
+    private final DailyStatsService dailyStatsService;
+    private final boolean backfillOnStartup;
+    private final int chunkSize;
+
+    public DailyStatsBackfillService(
+            BabyRepository babyRepository,
+            DailyStatsService dailyStatsService,
+            @Value("${statistics.rollup.backfill-on-startup:false}") boolean backfillOnStartup,
+            @Value("${statistics.rollup.chunk-size:500}") int chunkSize) {
+        this.babyRepository = babyRepository;
+        this.dailyStatsService = dailyStatsService;
+        this.backfillOnStartup = backfillOnStartup;
+        this.chunkSize = chunkSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        if (backfillOnStartup) {
+            backfillAll(LocalDate.now());
+        }
+    }
+
+    /**
+     * 전체 아기 롤업 재구축
+     *
+     * @param endDate 재구축 마지막 날짜 (보통 오늘)
+     */
+    public BackfillResult backfillAll(LocalDate endDate) {
+        long startedAt = System.currentTimeMillis();
+        int babies = 0;
+        int rows = 0;
+        int failed = 0;
+
+        long lastId = 0L;
+        List<Long> ids;
+        while (!(ids = babyRepository.findIdsAfter(lastId, Limit.of(chunkSize))).isEmpty()) {
+            lastId = ids.get(ids.size() - 1);
+
+            for (Baby baby : babyRepository.findAllById(ids)) {
+                try {
+                    rows += dailyStatsService.rebuild(baby.getId(), baby.getBirthDate(), endDate);
+                    babies++;
+                } catch (RuntimeException e) {
+                    failed++;
+                    log.error("일일 통계 백필 실패: babyId={}", baby.getId(), e);
+                }
+            }
+        }
+
+        BackfillResult result = new BackfillResult(babies, rows, failed, System.currentTimeMillis() - startedAt);
+        log.info("일일 통계 백필 완료: babies={}, rows={}, failed={}, {}ms",
+                result.babies(), result.rows(), result.failed(), result.elapsedMillis());
+        return result;
+    }
+
+    /**
+     * 백필 결과
+     */
+    public record BackfillResult(int babies, int rows, int failed, long elapsedMillis) {
+    }
+}
@@ -0,0 +1,268 @@
+package com.dutyout.application.service;
+
+import com.dutyout.domain.feeding.entity.FeedingRecord;
+import com.dutyout.domain.feeding.repository.FeedingRecordRepository;
+import com.dutyout.domain.schedule.entity.ScheduleItem;
+import com.dutyout.domain.schedule.repository.ScheduleItemRepository;
+import com.dutyout.domain.sleep.entity.SleepRecord;
+import com.dutyout.domain.sleep.repository.SleepRecordRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * 기록 내보내기 서비스
+ *
+ * 아기의 전체 수면/수유/스케줄 기록을 CSV 또는 NDJSON으로 스트리밍합니다.
+ *
+ * 메모리 사용을 기록 양과 무관하게 유지하기 위해:
+ * - 리포지토리 Stream 쿼리 (fetch size 500, 읽기 전용 힌트)로 커서를 따라 읽음
+ * - 한 행씩 바로 출력 스트림에 씀 (List로 모으지 않음)
+ * - fetch size마다 영속성 컨텍스트를 비워 읽은 엔티티가 쌓이지 않게 함
+ *
+ * StreamingResponseBody 안(요청 스레드 밖)에서 호출되므로 트랜잭션도 이 메서드가 엽니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DataExportService {
+
+    private static final int CLEAR_INTERVAL = 500; // 리포지토리 fetch size와 동일
+    private static final char UTF8_BOM = '\uFEFF'; // 엑셀에서 한글 CSV가 깨지지 않도록
+
+    private final SleepRecordRepository sleepRecordRepository;
+    private final FeedingRecordRepository feedingRecordRepository;
+    private final ScheduleItemRepository scheduleItemRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 내보낼 데이터 종류
+     */
+    public enum Dataset {
+        SLEEP("sleep-records"),
+        FEEDING("feeding-records"),
+        SCHEDULE("schedules");
+
+        private final String fileName;
+
+        Dataset(String fileName) {
+            this.fileName = fileName;
+        }
+
+        public String getFileName() {
+            return fileName;
+        }
+    }
+
+    /**
+     * 출력 형식
+     */
+    public enum Format {
+        CSV("csv"),
+        NDJSON("ndjson");
+
+        private final String extension;
+
+        Format(String extension) {
+            this.extension = extension;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+    }
+
+    /**
+     * 기록 내보내기
+     *
+     * @param out 출력 스트림 (닫지 않음, 마지막에 flush)
+     * @return 내보낸 행 수
+     */
+    @Transactional(readOnly = true)
+    public long export(Long babyId, Dataset dataset, Format format, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        RowWriter rowWriter = format == Format.CSV ? new CsvRowWriter(writer) : new NdjsonRowWriter(writer);
+
+        long rows;
+        try {
+            rows = switch (dataset) {
+                case SLEEP -> write(sleepRecordRepository.streamByBabyId(babyId), SLEEP_COLUMNS, rowWriter);
+                case FEEDING -> write(feedingRecordRepository.streamByBabyId(babyId), FEEDING_COLUMNS, rowWriter);
+                case SCHEDULE -> write(scheduleItemRepository.streamByBabyId(babyId), SCHEDULE_COLUMNS, rowWriter);
+            };
+        } catch (UncheckedIOException e) {
+            throw e.getCause(); // 클라이언트 연결 끊김 등
+        }
+        writer.flush();
+
+        log.info("기록 내보내기 완료: babyId={}, dataset={}, format={}, rows={}", babyId, dataset, format, rows);
+        return rows;
+    }
+
+    private <T> long write(Stream<T> stream, Map<String, Function<T, Object>> columns, RowWriter rowWriter)
+            throws IOException {
+        List<String> header = List.copyOf(columns.keySet());
+        rowWriter.writeHeader(header);
+
+        long count = 0;
+        try (stream) {
+            for (T entity : (Iterable<T>) stream::iterator) {
+                Object[] values = columns.values().stream().map(column -> column.apply(entity)).toArray();
+                rowWriter.writeRow(header, values);
+                if (++count % CLEAR_INTERVAL == 0) {
+                    entityManager.clear();
+                }
+            }
+        }
+        return count;
+    }
+
+    // 컬럼 정의 (헤더명 → 값)
+
+    private static final Map<String, Function<SleepRecord, Object>> SLEEP_COLUMNS = columns(
+            Map.entry("id", SleepRecord::getId),
+            Map.entry("type", SleepRecord::getType),
+            Map.entry("startTime", SleepRecord::getStartTime),
+            Map.entry("endTime", SleepRecord::getEndTime),
+            Map.entry("durationMinutes", record -> record.isOngoing() ? null : record.calculateDurationInMinutes()),
+            Map.entry("quality", SleepRecord::getQuality),
+            Map.entry("wakeCount", SleepRecord::getWakeCount),
+            Map.entry("memo", SleepRecord::getMemo));
+
+    private static final Map<String, Function<FeedingRecord, Object>> FEEDING_COLUMNS = columns(
+            Map.entry("id", FeedingRecord::getId),
+            Map.entry("feedingTime", FeedingRecord::getFeedingTime),
+            Map.entry("type", FeedingRecord::getType),
+            Map.entry("amountMl", FeedingRecord::getAmountMl),
+            Map.entry("note", FeedingRecord::getNote));
+
+    private static final Map<String, Function<ScheduleItem, Object>> SCHEDULE_COLUMNS = columns(
+            Map.entry("scheduleDate", item -> item.getDailySchedule().getScheduleDate()),
+            Map.entry("wakeUpTime", item -> item.getDailySchedule().getWakeUpTime()),
+            Map.entry("ageInMonths", item -> item.getDailySchedule().getAgeInMonths()),
+            Map.entry("itemId", ScheduleItem::getId),
+            Map.entry("activityType", ScheduleItem::getActivityType),
+            Map.entry("scheduledTime", ScheduleItem::getScheduledTime),
+            Map.entry("durationMinutes", ScheduleItem::getDurationMinutes),
+            Map.entry("feedingAmount", ScheduleItem::getFeedingAmount),
+            Map.entry("actualSleepDuration", ScheduleItem::getActualSleepDuration),
+            Map.entry("note", ScheduleItem::getNote));
+
+    @SafeVarargs
+    private static <T> Map<String, Function<T, Object>> columns(Map.Entry<String, Function<T, Object>>... entries) {
+        Map<String, Function<T, Object>> columns = new LinkedHashMap<>();
+        for (Map.Entry<String, Function<T, Object>> entry : entries) {
+            columns.put(entry.getKey(), entry.getValue());
+        }
+        return columns;
+    }
+
+    // 행 출력
+
+    private interface RowWriter {
+        void writeHeader(List<String> header) throws IOException;
+
+        void writeRow(List<String> header, Object[] values);
+    }
+
+    /**
+     * CSV (RFC 4180): 첫 줄 헤더, 쉼표/따옴표/줄바꿈이 있는 값은 따옴표로 감쌈
+     */
+    private static final class CsvRowWriter implements RowWriter {
+
+        private final Writer writer;
+
+        private CsvRowWriter(Writer writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public void writeHeader(List<String> header) throws IOException {
+            writer.write(UTF8_BOM);
+            writeLine(header.toArray());
+        }
+
+        @Override
+        public void writeRow(List<String> header, Object[] values) {
+            try {
+                writeLine(values);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private void writeLine(Object[] values) throws IOException {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writer.write(escape(values[i]));
+            }
+            writer.write("\r\n");
+        }
+
+        private static String escape(Object value) {
+            if (value == null) {
+                return "";
+            }
+            String text = value.toString();
+            if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+                return text;
+            }
+            return '"' + text.replace("\"", "\"\"") + '"';
+        }
+    }
+
+    /**
+     * NDJSON: 한 줄에 JSON 객체 하나 (헤더 없음)
+     */
+    private final class NdjsonRowWriter implements RowWriter {
+
+        private final Writer writer;
+        private final ObjectWriter jsonWriter = objectMapper.writer()
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE); // 버퍼링은 BufferedWriter에 맡김
+
+        private NdjsonRowWriter(Writer writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public void writeHeader(List<String> header) {
+        }
+
+        @Override
+        public void writeRow(List<String> header, Object[] values) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            for (int i = 0; i < values.length; i++) {
+                row.put(header.get(i), values[i]);
+            }
+            try {
+                jsonWriter.writeValue(writer, row);
+                writer.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,360 @@
+package com.dutyout.application.service;
+
+import com.dutyout.application.dto.response.ImportResultResponse;
+import com.dutyout.application.dto.response.ImportResultResponse.RowError;
+import com.dutyout.common.exception.BusinessException;
+import com.dutyout.common.exception.ErrorCode;
+import com.dutyout.domain.feeding.entity.FeedingRecord;
+import com.dutyout.domain.feeding.entity.FeedingType;
+import com.dutyout.domain.feeding.repository.FeedingRecordRepository;
+import com.dutyout.domain.sleep.entity.SleepQuality;
+import com.dutyout.domain.sleep.entity.SleepRecord;
+import com.dutyout.domain.sleep.entity.SleepType;
+import com.dutyout.domain.sleep.repository.SleepRecordRepository;
+import com.dutyout.domain.sleep.service.SleepIntervalIndex;
+import com.dutyout.domain.statistics.service.DailyStatsService;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * CSV 기록 가져오기 서비스
+ *
+ * 다른 앱에서 옮겨 온 과거 수면/수유 기록을 한 번에 저장합니다.
+ * 파일 형식은 내보내기(DataExportService) CSV와 같으며, 헤더 이름으로 컬럼을 찾습니다. (id 등 나머지 컬럼은 무시)
+ * - 수면: type, startTime, endTime (필수) / quality, wakeCount, memo
+ * - 수유: feedingTime, type (필수) / amountMl, note
+ *
+ * 처리 흐름:
+ * - 업로드 스트림을 한 행씩 파싱 (파일 전체를 메모리에 올리지 않음)
+ * - 엔티티 빌더로 생성해 같은 검증 규칙 적용, 실패한 행은 줄 번호와 함께 기록하고 건너뜀
+ * - 수면은 기존 기록/앞선 행과 겹치면 실패 처리 (SleepIntervalIndex)
+ * - batch-size 행마다 saveAll → flush (JDBC 배치 INSERT) → 영속성 컨텍스트 비움
+ * - 마지막에 저장된 기간의 일일 통계 롤업을 한 번만 재구축
+ *
+ * 과거 기록이므로 종료 시간을 필수로 받고, 진행 중 수면(ongoing_sleeps)과는 관계없이 저장합니다.
+ */
+@Slf4j
+@Service
+public class DataImportService {
+
+    static final int MAX_REPORTED_ERRORS = 100;
+    private static final char UTF8_BOM = '\uFEFF'; // 내보내기 CSV (엑셀 호환) 첫 글자
+
+    private final SleepRecordRepository sleepRecordRepository;
+    private final FeedingRecordRepository feedingRecordRepository;
+    private final DailyStatsService dailyStatsService;
+    private final EntityManager entityManager;
+    private final int batchSize;
+
+    public DataImportService(
+            SleepRecordRepository sleepRecordRepository,
+            FeedingRecordRepository feedingRecordRepository,
+            DailyStatsService dailyStatsService,
+            EntityManager entityManager,
+            @Value("${data-import.batch-size:500}") int batchSize) {
+        this.sleepRecordRepository = sleepRecordRepository;
+        this.feedingRecordRepository = feedingRecordRepository;
+        this.dailyStatsService = dailyStatsService;
+        this.entityManager = entityManager;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 가져올 데이터 종류
+     */
+    public enum Dataset {
+        SLEEP,
+        FEEDING
+    }
+
+    /**
+     * CSV 기록 가져오기
+     *
+     * @param in 업로드된 CSV (UTF-8, BOM 허용)
+     */
+    @Transactional
+    public ImportResultResponse importCsv(Long babyId, Dataset dataset, InputStream in) throws IOException {
+        try (CsvReader reader = new CsvReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            Map<String, Integer> columns = readHeader(reader, dataset);
+
+            ImportState state = new ImportState();
+            if (dataset == Dataset.SLEEP) {
+                state.sleepIndex = new SleepIntervalIndex(babyId, sleepRecordRepository);
+            }
+            List<String> record;
+            while ((record = reader.readRecord()) != null) {
+                if (record.size() == 1 && record.get(0).isBlank()) {
+                    continue; // 빈 줄
+                }
+                state.totalRows++;
+                try {
+                    state.batch.add(dataset == Dataset.SLEEP
+                            ? toSleepRecord(babyId, new Row(record, columns), state)
+                            : toFeedingRecord(babyId, new Row(record, columns), state));
+                } catch (IllegalArgumentException | DateTimeParseException e) {
+                    state.addError(reader.getRecordLine(), e.getMessage());
+                }
+                if (state.batch.size() >= batchSize) {
+                    saveBatch(dataset, state);
+                }
+            }
+            saveBatch(dataset, state);
+
+            // 파생 집계는 행마다가 아니라 끝에서 한 번만
+            if (state.minDate != null) {
+                dailyStatsService.rebuild(babyId, state.minDate, state.maxDate);
+            }
+
+            log.info("CSV 가져오기 완료: babyId={}, dataset={}, total={}, imported={}, failed={}",
+                    babyId, dataset, state.totalRows, state.importedRows, state.failedRows);
+
+            return ImportResultResponse.builder()
+                    .dataset(dataset.name())
+                    .totalRows(state.totalRows)
+                    .importedRows(state.importedRows)
+                    .failedRows(state.failedRows)
+                    .statsRebuiltFrom(state.minDate)
+                    .statsRebuiltTo(state.maxDate)
+                    .errors(state.errors)
+                    .build();
+        }
+    }
+
+    private Map<String, Integer> readHeader(CsvReader reader, Dataset dataset) throws IOException {
+        List<String> header = reader.readRecord();
+        if (header == null) {
+            throw new BusinessException(ErrorCode.INVALID_IMPORT_FILE);
+        }
+
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            String name = header.get(i).strip();
+            if (i == 0 && !name.isEmpty() && name.charAt(0) == UTF8_BOM) {
+                name = name.substring(1);
+            }
+            columns.put(name, i);
+        }
+
+        List<String> required = dataset == Dataset.SLEEP
+                ? List.of("type", "startTime", "endTime")
+                : List.of("feedingTime", "type");
+        if (!columns.keySet().containsAll(required)) {
+            throw new BusinessException(ErrorCode.INVALID_IMPORT_FILE.getCode(),
+                    "CSV 헤더에 필수 컬럼이 없습니다: " + required);
+        }
+        return columns;
+    }
+
+    private SleepRecord toSleepRecord(Long babyId, Row row, ImportState state) {
+        LocalDateTime startTime = row.dateTime("startTime");
+        LocalDateTime endTime = row.dateTime("endTime");
+        if (endTime == null) {
+            throw new IllegalArgumentException("종료 시간은 필수입니다.");
+        }
+
+        SleepRecord record = SleepRecord.builder()
+                .babyId(babyId)
+                .type(row.enumValue("type", SleepType.class))
+                .startTime(startTime)
+                .endTime(endTime)
+                .quality(row.enumValue("quality", SleepQuality.class))
+                .wakeCount(row.integer("wakeCount"))
+                .memo(row.text("memo"))
+                .build();
+
+        // 기존 기록 및 앞선 행과 겹치는지 확인 (시간순 파일이면 한 달에 범위 쿼리 한 번)
+        state.sleepIndex.findOverlap(startTime, endTime, null).ifPresent(overlap -> {
+            throw new IllegalArgumentException(overlap.id() > 0
+                    ? "기존 수면 기록과 시간이 겹칩니다. (기록 ID: " + overlap.id() + ")"
+                    : "파일의 앞선 행과 시간이 겹칩니다. (시작: " + overlap.start() + ")");
+        });
+        state.sleepIndex.add(null, startTime, endTime);
+        state.coverDates(startTime.toLocalDate(), endTime.toLocalDate());
+        return record;
+    }
+
+    private FeedingRecord toFeedingRecord(Long babyId, Row row, ImportState state) {
+        LocalDateTime feedingTime = row.dateTime("feedingTime");
+
+        FeedingRecord record = FeedingRecord.builder()
+                .babyId(babyId)
+                .feedingTime(feedingTime)
+                .type(row.enumValue("type", FeedingType.class))
+                .amountMl(row.integer("amountMl"))
+                .note(row.text("note"))
+                .build();
+        state.coverDates(feedingTime.toLocalDate(), feedingTime.toLocalDate());
+        return record;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void saveBatch(Dataset dataset, ImportState state) {
+        if (state.batch.isEmpty()) {
+            return;
+        }
+        if (dataset == Dataset.SLEEP) {
+            sleepRecordRepository.saveAll((List<SleepRecord>) (List<?>) state.batch);
+        } else {
+            feedingRecordRepository.saveAll((List<FeedingRecord>) (List<?>) state.batch);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        state.importedRows += state.batch.size();
+        state.batch.clear();
+    }
+
+    /**
+     * 가져오기 진행 상태 (배치, 집계, 오류)
+     */
+    private static final class ImportState {
+        private final List<Object> batch = new ArrayList<>();
+        private final List<RowError> errors = new ArrayList<>();
+        private SleepIntervalIndex sleepIndex; // 수면 가져오기일 때만
+        private int totalRows;
+        private int importedRows;
+        private int failedRows;
+        private LocalDate minDate;
+        private LocalDate maxDate;
+
+        private void addError(long line, String message) {
+            failedRows++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(RowError.builder().line(line).message(message).build());
+            }
+        }
+
+        private void coverDates(LocalDate from, LocalDate to) {
+            if (minDate == null || from.isBefore(minDate)) {
+                minDate = from;
+            }
+            if (maxDate == null || to.isAfter(maxDate)) {
+                maxDate = to;
+            }
+        }
+    }
+
+    /**
+     * CSV 한 행 (헤더 이름으로 값 조회, 빈 값은 null)
+     */
+    private record Row(List<String> values, Map<String, Integer> columns) {
+
+        String text(String column) {
+            Integer index = columns.get(column);
+            if (index == null || index >= values.size() || values.get(index).isBlank()) {
+                return null;
+            }
+            return values.get(index).strip();
+        }
+
+        LocalDateTime dateTime(String column) {
+            String value = text(column);
+            return value == null ? null : LocalDateTime.parse(value);
+        }
+
+        Integer integer(String column) {
+            String value = text(column);
+            return value == null ? null : Integer.valueOf(value);
+        }
+
+        <E extends Enum<E>> E enumValue(String column, Class<E> type) {
+            String value = text(column);
+            return value == null ? null : Enum.valueOf(type, value);
+        }
+    }
+
+    /**
+     * 스트리밍 CSV 파서 (RFC 4180: 따옴표로 감싼 값 안의 쉼표, "", 줄바꿈 지원)
+     */
+    private static final class CsvReader implements Closeable {
+
+        private final Reader reader;
+        private long line = 1;
+        private long recordLine;
+
+        private CsvReader(Reader reader) {
+            this.reader = new BufferedReader(reader);
+        }
+
+        /**
+         * 다음 레코드 읽기
+         *
+         * @return 필드 목록, 파일 끝이면 null
+         */
+        private List<String> readRecord() throws IOException {
+            int c = reader.read();
+            if (c == -1) {
+                return null;
+            }
+            recordLine = line;
+
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            while (true) {
+                if (c == -1) {
+                    fields.add(field.toString());
+                    return fields;
+                }
+                if (quoted) {
+                    if (c == '"') {
+                        int next = reader.read();
+                        if (next != '"') {
+                            quoted = false;
+                            c = next;
+                            continue;
+                        }
+                        field.append('"');
+                    } else {
+                        if (c == '\n') {
+                            line++;
+                        }
+                        field.append((char) c);
+                    }
+                } else if (c == '"' && field.isEmpty()) {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '\n') {
+                    line++;
+                    fields.add(field.toString());
+                    return fields;
+                } else if (c != '\r') {
+                    field.append((char) c);
+                }
+                c = reader.read();
+            }
+        }
+
+        /**
+         * 마지막으로 읽은 레코드가 시작된 줄 번호
+         */
+        private long getRecordLine() {
+            return recordLine;
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+}
@@ -4,10 +4,16 @@ import com.dutyout.application.dto.request.FeedingRecordRequest;
 import com.dutyout.application.dto.response.FeedingRecordResponse;
 import com.dutyout.common.exception.BusinessException;
 import com.dutyout.common.exception.ErrorCode;
+import com.dutyout.common.response.CursorPageResponse;
+import com.dutyout.common.response.CursorPageResponse.Cursor;
 import com.dutyout.domain.feeding.entity.FeedingRecord;
+import com.dutyout.domain.feeding.entity.FeedingType;
 import com.dutyout.domain.feeding.repository.FeedingRecordRepository;
+import com.dutyout.domain.prediction.service.RhythmPredictionService;
+import com.dutyout.domain.statistics.service.DailyStatsService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -32,6 +38,8 @@ import java.util.stream.Collectors;
 public class FeedingRecordService {
 
     private final FeedingRecordRepository feedingRecordRepository;
+    private final DailyStatsService dailyStatsService;
+    private final RhythmPredictionService rhythmPredictionService;
 
     /**
      * 수유 기록 생성
@@ -49,6 +57,8 @@ public class FeedingRecordService {
                 .build();
 
         record = feedingRecordRepository.save(record);
+        dailyStatsService.refresh(babyId, record.getFeedingTime().toLocalDate());
+        rhythmPredictionService.recordFeeding(record);
         log.info("수유 기록 생성 완료 - Record ID: {}", record.getId());
 
         return FeedingRecordResponse.from(record);
@@ -70,13 +80,30 @@ public class FeedingRecordService {
     }
 
     /**
-     * 특정 아기의 모든 수유 기록 조회
+     * 수유 기록 커서 페이지 조회 (최신순)
+     *
+     * @param type 수유 유형 필터 (null이면 전체)
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
      */
-    public List<FeedingRecordResponse> getFeedingRecords(Long babyId) {
-        List<FeedingRecord> records = feedingRecordRepository.findByBabyIdOrderByFeedingTimeDesc(babyId);
-        return records.stream()
-                .map(FeedingRecordResponse::from)
-                .collect(Collectors.toList());
+    public CursorPageResponse<FeedingRecordResponse> getFeedingRecordPage(Long babyId, FeedingType type,
+                                                                          String cursor, int size) {
+        int pageSize = CursorPageResponse.normalizeSize(size);
+        Cursor after = Cursor.decode(cursor);
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<FeedingRecord> rows;
+        if (type == null) {
+            rows = after == null
+                    ? feedingRecordRepository.findByBabyIdOrderByFeedingTimeDescIdDesc(babyId, limit)
+                    : feedingRecordRepository.findPageBefore(babyId, after.time(), after.id(), limit);
+        } else {
+            rows = after == null
+                    ? feedingRecordRepository.findByBabyIdAndTypeOrderByFeedingTimeDescIdDesc(babyId, type, limit)
+                    : feedingRecordRepository.findPageBeforeByType(babyId, type, after.time(), after.id(), limit);
+        }
+
+        return CursorPageResponse.of(rows, pageSize, record -> new Cursor(record.getFeedingTime(), record.getId()))
+                .map(FeedingRecordResponse::from);
     }
 
     /**
@@ -130,9 +157,17 @@ public class FeedingRecordService {
             throw new BusinessException(ErrorCode.FORBIDDEN);
         }
 
+        LocalDate previousDate = record.getFeedingTime().toLocalDate();
         record.update(request.getFeedingTime(), request.getType(),
                 request.getAmountMl(), request.getNote());
 
+        // 수유 시간이 다른 날짜로 옮겨졌으면 이전 날짜도 다시 계산
+        LocalDate feedingDate = record.getFeedingTime().toLocalDate();
+        dailyStatsService.refresh(babyId, feedingDate);
+        if (!previousDate.equals(feedingDate)) {
+            dailyStatsService.refresh(babyId, previousDate);
+        }
+
         log.info("수유 기록 수정 완료 - Record ID: {}", recordId);
 
         return FeedingRecordResponse.from(record);
@@ -154,6 +189,7 @@ public class FeedingRecordService {
         }
 
         feedingRecordRepository.delete(record);
+        dailyStatsService.refresh(babyId, record.getFeedingTime().toLocalDate());
         log.info("수유 기록 삭제 완료 - Record ID: {}", recordId);
     }
 }
@@ -0,0 +1,300 @@
+package com.dutyout.application.service;
+
+import com.dutyout.domain.baby.entity.Baby;
+import com.dutyout.domain.baby.repository.BabyRepository;
+import com.dutyout.domain.prediction.service.RhythmPredictionService;
+import com.dutyout.domain.prediction.service.RhythmProfile;
+import com.dutyout.domain.schedule.entity.DailySchedule;
+import com.dutyout.domain.schedule.repository.DailyScheduleRepository;
+import com.dutyout.domain.schedule.repository.DailyScheduleRepository.BabyWakeUpTime;
+import com.dutyout.domain.schedule.service.DayPlanMapper;
+import com.dutyout.domain.schedule.service.ScheduleGenerationService;
+import com.dutyout.domain.schedule.service.StandardScheduleService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 다음 날 스케줄 사전 생성 배치
+ *
+ * 아침마다 모든 클라이언트가 비슷한 시각에 자동 스케줄 생성을 호출하면서 쓰기가 몰리는 문제를 줄이기 위해,
+ * 전날 밤 모든 아기의 다음 날 DailySchedule을 미리 만들어 둡니다.
+ * 아침 요청은 이미 있는 스케줄의 시간만 옮기게 됩니다. (AutoScheduleService.generateAutoSchedule)
+ *
+ * 처리 흐름:
+ * - Baby ID를 키셋(id 오름차순) 청크로 읽음
+ * - 청크마다 별도 트랜잭션에서 교정월령 계산 → 최근 7일 기상 시간 중앙값으로 스케줄 생성 → saveAll (배치 INSERT)
+ *   스케줄은 ScheduleGenerationService와 같은 템플릿 경로로 만들고, 리듬 추정값은 청크당 한 번에 읽어 개인화
+ *   (prediction.personalize-schedule=false면 월령 템플릿 그대로)
+ * - 청크는 크기가 제한된 스레드 풀에서 병렬 처리 (큐가 차면 호출 스레드가 직접 처리)
+ * - 이미 스케줄이 있거나 스케줄 대상 월령(DailySchedule.MAX_AGE_IN_MONTHS)을 넘은 아기는 건너뜀
+ * - 스케줄을 만들 수 없는 아기는 그 아기만 실패로 집계하고 나머지는 저장
+ * - 확인 후 사용자가 같은 날짜 스케줄을 먼저 만들어 저장이 유니크 제약에 걸리면, 그 청크만 아기별 트랜잭션으로 다시 시도
+ *
+ * 메트릭: schedule.pregeneration.{duration, generated, skipped, failed}
+ */
+@Slf4j
+@Service
+public class SchedulePregenerationService {
+
+    static final int WAKE_UP_HISTORY_DAYS = 7;
+
+    private final BabyRepository babyRepository;
+    private final DailyScheduleRepository dailyScheduleRepository;
+    private final StandardScheduleService standardScheduleService;
+    private final ScheduleGenerationService scheduleGenerationService;
+    private final RhythmPredictionService rhythmPredictionService;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int parallelism;
+
+    private final Timer durationTimer;
+    private final Counter generatedCounter;
+    private final Counter skippedCounter;
+    private final Counter failedCounter;
+
+    public SchedulePregenerationService(
+            BabyRepository babyRepository,
+            DailyScheduleRepository dailyScheduleRepository,
+            StandardScheduleService standardScheduleService,
+            ScheduleGenerationService scheduleGenerationService,
+            RhythmPredictionService rhythmPredictionService,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${schedule.pregeneration.chunk-size:500}") int chunkSize,
+            @Value("${schedule.pregeneration.parallelism:4}") int parallelism) {
+        this.babyRepository = babyRepository;
+        this.dailyScheduleRepository = dailyScheduleRepository;
+        this.standardScheduleService = standardScheduleService;
+        this.scheduleGenerationService = scheduleGenerationService;
+        this.rhythmPredictionService = rhythmPredictionService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.parallelism = parallelism;
+
+        this.durationTimer = meterRegistry.timer("schedule.pregeneration.duration");
+        this.generatedCounter = meterRegistry.counter("schedule.pregeneration.generated");
+        this.skippedCounter = meterRegistry.counter("schedule.pregeneration.skipped");
+        this.failedCounter = meterRegistry.counter("schedule.pregeneration.failed");
+    }
+
+    /**
+     * 매일 밤 다음 날 스케줄 생성 (cron을 "-"로 설정하면 비활성화)
+     */
+    @Scheduled(cron = "${schedule.pregeneration.cron:0 0 2 * * *}")
+    public void pregenerateTomorrow() {
+        pregenerate(LocalDate.now().plusDays(1));
+    }
+
+    /**
+     * 지정한 날짜의 스케줄을 모든 아기에 대해 미리 생성
+     *
+     * @param scheduleDate 생성할 날짜
+     * @return 처리 결과 (생성/건너뜀/실패 수, 소요 시간)
+     */
+    public PregenerationResult pregenerate(LocalDate scheduleDate) {
+        log.info("스케줄 사전 생성 시작 - 날짜: {}, 청크: {}, 병렬도: {}", scheduleDate, chunkSize, parallelism);
+        long startNanos = System.nanoTime();
+
+        AtomicInteger generated = new AtomicInteger();
+        AtomicInteger skipped = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+
+        // 작업 큐를 병렬도의 2배로 제한해 키셋 조회가 처리 속도보다 앞서 나가지 않도록 함
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                parallelism, parallelism, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(parallelism * 2),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "schedule-pregeneration");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            Long lastId = 0L;
+            List<Long> babyIds;
+            while (!(babyIds = babyRepository.findIdsAfter(lastId, Limit.of(chunkSize))).isEmpty()) {
+                lastId = babyIds.get(babyIds.size() - 1);
+                List<Long> chunk = babyIds;
+                futures.add(executor.submit(() -> processChunk(chunk, scheduleDate, generated, skipped, failed)));
+            }
+            for (Future<?> future : futures) {
+                awaitChunk(future);
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        long elapsedNanos = System.nanoTime() - startNanos;
+        durationTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+        PregenerationResult result = new PregenerationResult(
+                generated.get(), skipped.get(), failed.get(), TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        log.info("스케줄 사전 생성 완료 - 생성: {}, 건너뜀: {}, 실패: {}, {}ms ({} 건/초)",
+                result.generated(), result.skipped(), result.failed(), result.elapsedMillis(),
+                String.format("%.1f", result.throughputPerSecond()));
+        return result;
+    }
+
+    /**
+     * 청크 단위 생성 (청크마다 별도 트랜잭션, 실패해도 다른 청크는 계속 진행)
+     */
+    private void processChunk(List<Long> babyIds, LocalDate scheduleDate,
+                              AtomicInteger generated, AtomicInteger skipped, AtomicInteger failed) {
+        int[] counts;
+        try {
+            counts = transactionTemplate.execute(status -> generateChunk(babyIds, scheduleDate));
+        } catch (DataIntegrityViolationException e) {
+            // 확인 후 사용자가 같은 날짜 스케줄을 먼저 만든 경우: 충돌한 아기만 건너뛰도록 아기별로 다시 시도
+            log.info("스케줄 사전 생성 청크 충돌, 아기별로 재시도 - Baby ID {} ~ {}",
+                    babyIds.get(0), babyIds.get(babyIds.size() - 1));
+            counts = generateEach(babyIds, scheduleDate);
+        } catch (RuntimeException e) {
+            log.warn("스케줄 사전 생성 청크 실패 - Baby ID {} ~ {}: {}",
+                    babyIds.get(0), babyIds.get(babyIds.size() - 1), e.getMessage());
+            counts = new int[]{0, 0, babyIds.size()};
+        }
+
+        generated.addAndGet(counts[0]);
+        skipped.addAndGet(counts[1]);
+        failed.addAndGet(counts[2]);
+        generatedCounter.increment(counts[0]);
+        skippedCounter.increment(counts[1]);
+        failedCounter.increment(counts[2]);
+    }
+
+    /**
+     * 아기별 트랜잭션으로 생성 (청크 저장이 충돌했을 때만 사용)
+     *
+     * @return {생성 수, 건너뜀 수, 실패 수}
+     */
+    private int[] generateEach(List<Long> babyIds, LocalDate scheduleDate) {
+        int[] counts = new int[3];
+        for (Long babyId : babyIds) {
+            try {
+                int[] single = transactionTemplate.execute(status -> generateChunk(List.of(babyId), scheduleDate));
+                for (int i = 0; i < counts.length; i++) {
+                    counts[i] += single[i];
+                }
+            } catch (DataIntegrityViolationException e) {
+                counts[1]++; // 그 사이 생성된 스케줄
+            } catch (RuntimeException e) {
+                log.warn("스케줄 사전 생성 실패 - Baby ID {}: {}", babyId, e.getMessage());
+                counts[2]++;
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * @return {생성 수, 건너뜀 수, 실패 수}
+     */
+    private int[] generateChunk(List<Long> babyIds, LocalDate scheduleDate) {
+        Set<Long> alreadyScheduled = new HashSet<>(dailyScheduleRepository.findBabyIdsWithSchedule(babyIds, scheduleDate));
+        Map<Long, List<LocalTime>> wakeUpHistory = new HashMap<>();
+        for (BabyWakeUpTime row : dailyScheduleRepository.findWakeUpTimes(
+                babyIds, scheduleDate.minusDays(WAKE_UP_HISTORY_DAYS), scheduleDate)) {
+            wakeUpHistory.computeIfAbsent(row.getBabyId(), id -> new ArrayList<>()).add(row.getWakeUpTime());
+        }
+        Map<Long, RhythmProfile> profiles = rhythmPredictionService.getScheduleProfiles(babyIds);
+
+        List<DailySchedule> schedules = new ArrayList<>();
+        int failed = 0;
+        for (Baby baby : babyRepository.findAllById(babyIds)) {
+            if (alreadyScheduled.contains(baby.getId())) {
+                continue;
+            }
+            int ageInMonths = baby.calculateCorrectedAgeInMonths(scheduleDate);
+            if (ageInMonths > DailySchedule.MAX_AGE_IN_MONTHS) {
+                continue;
+            }
+            LocalTime wakeUpTime = medianWakeUpTime(wakeUpHistory.get(baby.getId()));
+
+            try {
+                DailySchedule dailySchedule = DailySchedule.builder()
+                        .babyId(baby.getId())
+                        .scheduleDate(scheduleDate)
+                        .wakeUpTime(wakeUpTime)
+                        .ageInMonths(ageInMonths)
+                        .build();
+                dailySchedule.addScheduleItems(scheduleGenerationService.createScheduleItems(
+                        ageInMonths, wakeUpTime, profiles.getOrDefault(baby.getId(), RhythmProfile.EMPTY)));
+                schedules.add(dailySchedule);
+            } catch (RuntimeException e) {
+                log.warn("스케줄 사전 생성 실패 - Baby ID {}: {}", baby.getId(), e.getMessage());
+                failed++;
+            }
+        }
+
+        dailyScheduleRepository.saveAll(schedules);
+        dailyScheduleRepository.flush(); // 유니크 제약 충돌을 이 청크 안에서 확인
+        return new int[]{schedules.size(), babyIds.size() - schedules.size() - failed, failed};
+    }
+
+    /**
+     * 기상 시간 중앙값 (기록이 없으면 표준 스케줄의 기준 기상 시간)
+     *
+     * 짝수 개면 가운데 두 값의 평균(분 단위 내림)을 사용합니다.
+     */
+    LocalTime medianWakeUpTime(List<LocalTime> wakeUpTimes) {
+        if (wakeUpTimes == null || wakeUpTimes.isEmpty()) {
+            return standardScheduleService.getBaseWakeTime();
+        }
+        int[] minutes = new int[wakeUpTimes.size()];
+        for (int i = 0; i < minutes.length; i++) {
+            minutes[i] = DayPlanMapper.toMinute(wakeUpTimes.get(i));
+        }
+        Arrays.sort(minutes);
+
+        int mid = minutes.length / 2;
+        int median = minutes.length % 2 == 1 ? minutes[mid] : (minutes[mid - 1] + minutes[mid]) / 2;
+        return DayPlanMapper.toTime(median);
+    }
+
+    private void awaitChunk(Future<?> future) {
+        try {
+            future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("스케줄 사전 생성이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("스케줄 사전 생성 청크 처리 중 오류가 발생했습니다.", e.getCause());
+        }
+    }
+
+    /**
+     * 사전 생성 결과
+     */
+    public record PregenerationResult(int generated, int skipped, int failed, long elapsedMillis) {
+
+        public double throughputPerSecond() {
+            return elapsedMillis == 0 ? generated : generated * 1000.0 / elapsedMillis;
+        }
+    }
+}
@@ -19,10 +19,19 @@ public enum ErrorCode {
     SCHEDULE_NOT_FOUND("SCHEDULE_001", "스케줄을 찾을 수 없습니다."),
     INVALID_WAKE_TIME("SCHEDULE_002", "유효하지 않은 기상 시간입니다."),
     TEMPLATE_NOT_FOUND("SCHEDULE_003", "해당 월령의 스케줄 템플릿을 찾을 수 없습니다."),
+    INVALID_SIMULATION_RANGE("SCHEDULE_004", "시뮬레이션할 기상 시간 목록 또는 범위가 올바르지 않습니다."),
+    INVALID_DATE_RANGE("SCHEDULE_005", "조회 기간이 올바르지 않습니다."),
 
     // Sleep Record 관련
     SLEEP_RECORD_NOT_FOUND("SLEEP_001", "수면 기록을 찾을 수 없습니다."),
     INVALID_SLEEP_TIME("SLEEP_002", "유효하지 않은 수면 시간입니다."),
+    SLEEP_OVERLAP("SLEEP_004", "다른 수면 기록과 시간이 겹칩니다."),
+
+    // Statistics 관련
+    INVALID_STATISTICS_RANGE("STATISTICS_001", "통계 조회 기간이 올바르지 않습니다."),
+
+    // Import 관련
+    INVALID_IMPORT_FILE("IMPORT_001", "가져올 CSV 파일 형식이 올바르지 않습니다."),
 
     // User/Auth 관련
     USER_NOT_FOUND("USER_001", "사용자를 찾을 수 없습니다."),
@@ -39,10 +48,12 @@ public enum ErrorCode {
     COMMENT_NOT_FOUND("COMMUNITY_002", "댓글을 찾을 수 없습니다."),
     UNAUTHORIZED_POST_ACCESS("COMMUNITY_003", "게시글에 대한 권한이 없습니다."),
     UNAUTHORIZED_COMMENT_ACCESS("COMMUNITY_004", "댓글에 대한 권한이 없습니다."),
+    SEARCH_KEYWORD_TOO_SHORT("COMMUNITY_005", "검색어에 문자나 숫자를 한 글자 이상 입력해주세요."),
 
     // Common
     INVALID_INPUT("COMMON_001", "잘못된 입력값입니다."),
-    INTERNAL_SERVER_ERROR("COMMON_002", "서버 오류가 발생했습니다.");
+    INTERNAL_SERVER_ERROR("COMMON_002", "서버 오류가 발생했습니다."),
+    INVALID_CURSOR("COMMON_003", "페이지 커서가 올바르지 않습니다.");
 
     private final String code;
     private final String message;
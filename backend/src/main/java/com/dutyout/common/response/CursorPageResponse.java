@@ -0,0 +1,146 @@
+package com.dutyout.common.response;
+
+import com.dutyout.common.exception.BusinessException;
+import com.dutyout.common.exception.ErrorCode;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서 기반 페이지 응답 (무한 스크롤용)
+ *
+ * 기록 목록을 (시각, id) 내림차순으로, 검색 결과를 (점수, id) 내림차순으로 잘라서 내려줍니다.
+ * 다음 페이지는 nextCursor를 그대로 cursor 파라미터로 넘겨 요청합니다.
+ * OFFSET/COUNT(*) 없이 인덱스 범위 조회만 하므로 기록이 많아도 페이지마다 비용이 같습니다.
+ *
+ * @param <T> 항목 타입
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class CursorPageResponse<T> {
+
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor"; // 본문이 목록뿐인 API가 다음 커서를 알려주는 헤더
+
+    private final List<T> items;
+    private final String nextCursor; // 마지막 페이지면 null
+    private final boolean hasNext;
+
+    /**
+     * 조회 결과로 페이지 생성
+     *
+     * @param rows size + 1건까지 조회한 결과 (한 건 더 있으면 다음 페이지 존재)
+     * @param size 페이지 크기
+     * @param cursorOf 항목의 커서 값 (정렬 키)
+     */
+    public static <T> CursorPageResponse<T> of(List<T> rows, int size, Function<T, ? extends PageCursor> cursorOf) {
+        boolean hasNext = rows.size() > size;
+        List<T> items = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? cursorOf.apply(items.get(items.size() - 1)).encode() : null;
+        return new CursorPageResponse<>(items, nextCursor, hasNext);
+    }
+
+    /**
+     * 요청 페이지 크기 보정 (1 ~ MAX_SIZE)
+     */
+    public static int normalizeSize(int size) {
+        return Math.min(Math.max(size, 1), MAX_SIZE);
+    }
+
+    /**
+     * 항목 변환 (커서는 그대로 유지)
+     */
+    public <R> CursorPageResponse<R> map(Function<T, R> mapper) {
+        return new CursorPageResponse<>(items.stream().map(mapper).toList(), nextCursor, hasNext);
+    }
+
+    /**
+     * 페이지 경계 (정렬 키 + id)
+     *
+     * 문자열로는 "정렬 키|id"를 base64url로 감싼 값이며, 클라이언트는 내용을 해석하지 않습니다.
+     */
+    public interface PageCursor {
+        String encode();
+    }
+
+    /**
+     * 시각 커서 (마지막 항목의 시각과 id)
+     */
+    public record Cursor(LocalDateTime time, Long id) implements PageCursor {
+
+        @Override
+        public String encode() {
+            return encodeRaw(time + "|" + id);
+        }
+
+        /**
+         * @param value 이전 응답의 nextCursor (null이면 첫 페이지)
+         * @return 커서, 첫 페이지면 null
+         */
+        public static Cursor decode(String value) {
+            String[] parts = decodeRaw(value);
+            if (parts == null) {
+                return null;
+            }
+            try {
+                return new Cursor(LocalDateTime.parse(parts[0]), Long.valueOf(parts[1]));
+            } catch (RuntimeException e) {
+                throw new BusinessException(ErrorCode.INVALID_CURSOR);
+            }
+        }
+    }
+
+    /**
+     * 점수 커서 (검색 결과 마지막 항목의 관련도 점수와 id)
+     */
+    public record ScoreCursor(long score, Long id) implements PageCursor {
+
+        @Override
+        public String encode() {
+            return encodeRaw(score + "|" + id);
+        }
+
+        /**
+         * @param value 이전 응답의 nextCursor (null이면 첫 페이지)
+         * @return 커서, 첫 페이지면 null
+         */
+        public static ScoreCursor decode(String value) {
+            String[] parts = decodeRaw(value);
+            if (parts == null) {
+                return null;
+            }
+            try {
+                return new ScoreCursor(Long.parseLong(parts[0]), Long.valueOf(parts[1]));
+            } catch (RuntimeException e) {
+                throw new BusinessException(ErrorCode.INVALID_CURSOR);
+            }
+        }
+    }
+
+    private static String encodeRaw(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return [정렬 키, id], 값이 비어 있으면 null
+     */
+    private static String[] decodeRaw(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf('|');
+            return new String[]{raw.substring(0, separator), raw.substring(separator + 1)};
+        } catch (RuntimeException e) {
+            throw new BusinessException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+}
@@ -26,7 +26,8 @@ import java.time.temporal.ChronoUnit;
 public class Baby extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "babies_seq")
+    @SequenceGenerator(name = "babies_seq", sequenceName = "babies_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -72,7 +73,14 @@ public class Baby extends BaseTimeEntity {
      * 실제 개월수 계산
      */
     public int calculateAgeInMonths() {
-        return (int) ChronoUnit.MONTHS.between(birthDate, LocalDate.now());
+        return calculateAgeInMonths(LocalDate.now());
+    }
+
+    /**
+     * 기준일 시점의 실제 개월수 계산
+     */
+    public int calculateAgeInMonths(LocalDate referenceDate) {
+        return (int) ChronoUnit.MONTHS.between(birthDate, referenceDate);
     }
 
     /**
@@ -82,9 +90,16 @@ public class Baby extends BaseTimeEntity {
      * 예: 32주에 태어난 아기는 8주(2개월) 일찍 태어났으므로 교정이 필요
      */
     public int calculateCorrectedAgeInMonths() {
+        return calculateCorrectedAgeInMonths(LocalDate.now());
+    }
+
+    /**
+     * 기준일 시점의 교정월령 계산 (다음 날 스케줄 미리 생성 등)
+     */
+    public int calculateCorrectedAgeInMonths(LocalDate referenceDate) {
         // 만삭(37주 이상) 또는 출생주수 미입력 시 실제 월령 반환
         if (gestationalWeeks == null || gestationalWeeks >= 37) {
-            return calculateAgeInMonths();
+            return calculateAgeInMonths(referenceDate);
         }
 
         // 조산 주수 계산 (40주 기준)
@@ -94,7 +109,7 @@ public class Baby extends BaseTimeEntity {
         LocalDate correctedBirthDate = birthDate.plusWeeks(weeksPremature);
 
         // 교정 월령 계산
-        long correctedMonths = ChronoUnit.MONTHS.between(correctedBirthDate, LocalDate.now());
+        long correctedMonths = ChronoUnit.MONTHS.between(correctedBirthDate, referenceDate);
 
         // 음수가 나올 수 있으므로 0 이상으로 제한
         return (int) Math.max(0, correctedMonths);
@@ -1,7 +1,10 @@
 package com.dutyout.domain.baby.repository;
 
 import com.dutyout.domain.baby.entity.Baby;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -17,4 +20,10 @@ public interface BabyRepository extends JpaRepository<Baby, Long> {
     boolean existsByUserId(Long userId);
 
     long countByUserId(Long userId);
+
+    /**
+     * 배치용 키셋 조회 (lastId 이후 ID를 오름차순으로 limit개)
+     */
+    @Query("SELECT b.id FROM Baby b WHERE b.id > :lastId ORDER BY b.id")
+    List<Long> findIdsAfter(@Param("lastId") Long lastId, Limit limit);
 }
@@ -36,7 +36,8 @@ import lombok.NoArgsConstructor;
 public class CommunityPost extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "community_posts_seq")
+    @SequenceGenerator(name = "community_posts_seq", sequenceName = "community_posts_seq", allocationSize = 50)
     private Long id;
 
     /**
@@ -0,0 +1,85 @@
+package com.dutyout.domain.community.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.io.Serializable;
+
+/**
+ * 게시글 검색 색인 엔티티 (바이그램 → 게시글 포스팅)
+ *
+ * 게시글 제목/내용을 두 글자 단위(바이그램)로 잘라 (term, postId)마다 1행을 저장합니다.
+ * 기본 키가 (term, postId)이므로 검색어의 바이그램마다 해당 포스팅만 인덱스 범위로 읽고,
+ * 전체 게시글 본문은 읽지 않습니다.
+ *
+ * weight: 제목 등장 횟수 × 3 + 내용 등장 횟수 (MAX_WEIGHT에서 잘림), 관련도 점수 합산에 사용
+ */
+@Entity
+@Table(name = "community_post_terms", indexes = {
+        @Index(name = "idx_community_post_terms_post", columnList = "postId")
+})
+@IdClass(CommunityPostTerm.Key.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CommunityPostTerm implements Persistable<CommunityPostTerm.Key> {
+
+    public static final int TITLE_WEIGHT = 3;
+    public static final int MAX_WEIGHT = 20; // 같은 글자 반복으로 점수를 올리지 못하게 제한
+
+    @Id
+    @Column(length = 4) // 두 코드 포인트 (보조 문자면 UTF-16 4자)
+    private String term;
+
+    @Id
+    private Long postId;
+
+    @Column(nullable = false)
+    private Integer weight;
+
+    @Transient
+    private boolean isNew = true; // 색인은 항상 지우고 새로 넣으므로 save() 시 SELECT 없이 INSERT
+
+    public CommunityPostTerm(String term, Long postId, int weight) {
+        this.term = term;
+        this.postId = postId;
+        this.weight = Math.min(weight, MAX_WEIGHT);
+    }
+
+    @Override
+    public Key getId() {
+        return new Key(term, postId);
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    /**
+     * 복합 키 (term, postId)
+     */
+    @Getter
+    @EqualsAndHashCode
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    public static class Key implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private String term;
+        private Long postId;
+
+        public Key(String term, Long postId) {
+            this.term = term;
+            this.postId = postId;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.dutyout.domain.community.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 좋아요 엔티티 (사용자당 게시글 하나에 1행)
+ *
+ * 기본 키가 (postId, userId)이므로 같은 사용자의 중복 좋아요는 DB에서 막히고,
+ * 게시글의 좋아요 사용자 목록은 기본 키 범위로 읽습니다. (PostLikeService의 비트맵 로드)
+ * 행 추가는 PostLikeRepository.insertIfAbsent로만 합니다.
+ */
+@Entity
+@Table(name = "post_likes")
+@IdClass(PostLike.Key.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PostLike {
+
+    @Id
+    private Long postId;
+
+    @Id
+    private Long userId;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * 복합 키 (postId, userId)
+     */
+    @Getter
+    @EqualsAndHashCode
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    public static class Key implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private Long postId;
+        private Long userId;
+
+        public Key(Long postId, Long userId) {
+            this.postId = postId;
+            this.userId = userId;
+        }
+    }
+}
@@ -4,10 +4,12 @@ import com.dutyout.domain.community.entity.CommunityPost;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -48,17 +50,6 @@ public interface CommunityPostRepository extends JpaRepository<CommunityPost, Lo
      */
     Page<CommunityPost> findByTitleContainingOrderByCreatedAtDesc(String keyword, Pageable pageable);
 
-    /**
-     * 제목 또는 내용으로 게시글 검색 (페이징)
-     *
-     * @param titleKeyword 제목 검색 키워드
-     * @param contentKeyword 내용 검색 키워드
-     * @param pageable 페이징 정보
-     * @return 게시글 페이지
-     */
-    Page<CommunityPost> findByTitleContainingOrContentContainingOrderByCreatedAtDesc(
-            String titleKeyword, String contentKeyword, Pageable pageable);
-
     /**
      * 인기 게시글 조회 (좋아요 수 기준)
      *
@@ -78,6 +69,22 @@ public interface CommunityPostRepository extends JpaRepository<CommunityPost, Lo
     @Query("SELECT p FROM CommunityPost p ORDER BY p.likeCount DESC, p.createdAt DESC")
     List<CommunityPost> findTopPosts(Pageable pageable);
 
+    /**
+     * 좋아요 수 원자적 증감 (한 문장 UPDATE, 엔티티를 읽지 않음)
+     *
+     * 같은 증감량을 가진 게시글을 한 번에 갱신합니다. (LikeCountBuffer의 주기적 반영)
+     * decreaseLikeCount와 같이 0 아래로는 내려가지 않습니다.
+     *
+     * @param postIds 게시글 ID 목록
+     * @param delta 더할 좋아요 수
+     * @return 갱신된 게시글 수
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE CommunityPost p " +
+           "SET p.likeCount = CASE WHEN p.likeCount + :delta < 0 THEN 0 ELSE p.likeCount + :delta END " +
+           "WHERE p.id IN :postIds")
+    int addLikeCount(@Param("postIds") Collection<Long> postIds, @Param("delta") int delta);
+
     /**
      * 특정 사용자의 게시글 수 조회
      *
@@ -0,0 +1,91 @@
+package com.dutyout.domain.community.repository;
+
+import com.dutyout.domain.community.entity.CommunityPostTerm;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 게시글 검색 색인 저장소
+ *
+ * 검색은 검색어 바이그램들의 포스팅만 (term, postId) 기본 키 범위로 읽어 게시글별로 합산합니다.
+ * 모든 바이그램을 포함한 게시글만 남기고(HAVING COUNT = 바이그램 수), weight 합계로 정렬합니다.
+ */
+@Repository
+public interface CommunityPostTermRepository extends JpaRepository<CommunityPostTerm, CommunityPostTerm.Key> {
+
+    /**
+     * 검색 첫 페이지 (점수 높은 순, 같은 점수면 최신 게시글 먼저)
+     */
+    @Query("SELECT t.postId AS postId, SUM(t.weight) AS score FROM CommunityPostTerm t " +
+           "WHERE t.term IN :terms " +
+           "GROUP BY t.postId " +
+           "HAVING COUNT(t.term) = :termCount " +
+           "ORDER BY SUM(t.weight) DESC, t.postId DESC")
+    List<PostScore> search(@Param("terms") Collection<String> terms,
+                           @Param("termCount") long termCount,
+                           Limit limit);
+
+    /**
+     * 커서 이후 검색 결과 (다음 페이지)
+     */
+    @Query("SELECT t.postId AS postId, SUM(t.weight) AS score FROM CommunityPostTerm t " +
+           "WHERE t.term IN :terms " +
+           "GROUP BY t.postId " +
+           "HAVING COUNT(t.term) = :termCount " +
+           "AND (SUM(t.weight) < :cursorScore OR (SUM(t.weight) = :cursorScore AND t.postId < :cursorId)) " +
+           "ORDER BY SUM(t.weight) DESC, t.postId DESC")
+    List<PostScore> searchAfter(@Param("terms") Collection<String> terms,
+                                @Param("termCount") long termCount,
+                                @Param("cursorScore") long cursorScore,
+                                @Param("cursorId") Long cursorId,
+                                Limit limit);
+
+    /**
+     * 한 글자 검색 첫 페이지 (그 글자로 시작하는 바이그램의 weight 합계순)
+     *
+     * 한 글자짜리 검색어는 바이그램이 없으므로 접두사 일치로 대신합니다.
+     * (글자가 구간의 마지막에만 나오는 글은 찾지 못함)
+     *
+     * @param prefix 검색 글자 (문자/숫자 한 글자라 LIKE 특수문자가 없음)
+     */
+    @Query("SELECT t.postId AS postId, SUM(t.weight) AS score FROM CommunityPostTerm t " +
+           "WHERE t.term LIKE CONCAT(:prefix, '%') " +
+           "GROUP BY t.postId " +
+           "ORDER BY SUM(t.weight) DESC, t.postId DESC")
+    List<PostScore> searchByPrefix(@Param("prefix") String prefix, Limit limit);
+
+    /**
+     * 커서 이후 한 글자 검색 결과 (다음 페이지)
+     */
+    @Query("SELECT t.postId AS postId, SUM(t.weight) AS score FROM CommunityPostTerm t " +
+           "WHERE t.term LIKE CONCAT(:prefix, '%') " +
+           "GROUP BY t.postId " +
+           "HAVING SUM(t.weight) < :cursorScore OR (SUM(t.weight) = :cursorScore AND t.postId < :cursorId) " +
+           "ORDER BY SUM(t.weight) DESC, t.postId DESC")
+    List<PostScore> searchByPrefixAfter(@Param("prefix") String prefix,
+                                        @Param("cursorScore") long cursorScore,
+                                        @Param("cursorId") Long cursorId,
+                                        Limit limit);
+
+    /**
+     * 게시글 색인 삭제 (수정 시 재색인, 삭제 시 정리)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM CommunityPostTerm t WHERE t.postId = :postId")
+    int deleteByPostId(@Param("postId") Long postId);
+
+    /**
+     * 게시글별 검색 점수 프로젝션
+     */
+    interface PostScore {
+        Long getPostId();
+        Long getScore();
+    }
+}
@@ -0,0 +1,55 @@
+package com.dutyout.domain.community.repository;
+
+import com.dutyout.domain.community.entity.PostLike;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 게시글 좋아요 저장소
+ *
+ * 좋아요 여부의 원본입니다. 조회는 PostLikeService가 게시글별 비트맵으로 캐시하고,
+ * 추가/취소는 영향받은 행 수로 실제 변경 여부를 판단합니다. (동시에 눌러도 한 번만 반영)
+ */
+@Repository
+public interface PostLikeRepository extends JpaRepository<PostLike, PostLike.Key> {
+
+    /**
+     * 게시글에 좋아요를 누른 사용자 ID 목록 (기본 키 범위 조회)
+     */
+    @Query("SELECT l.userId FROM PostLike l WHERE l.postId = :postId")
+    List<Long> findUserIdsByPostId(@Param("postId") Long postId);
+
+    /**
+     * 좋아요 추가 (이미 있으면 무시)
+     *
+     * @return 추가된 행 수 (이미 좋아요 상태면 0)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO post_likes (post_id, user_id, created_at) VALUES (:postId, :userId, :createdAt) " +
+                   "ON CONFLICT DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("postId") Long postId,
+                       @Param("userId") Long userId,
+                       @Param("createdAt") LocalDateTime createdAt);
+
+    /**
+     * 좋아요 취소
+     *
+     * @return 삭제된 행 수 (좋아요 상태가 아니었으면 0)
+     */
+    @Modifying
+    @Query("DELETE FROM PostLike l WHERE l.postId = :postId AND l.userId = :userId")
+    int deleteByPostIdAndUserId(@Param("postId") Long postId, @Param("userId") Long userId);
+
+    /**
+     * 게시글 삭제 시 좋아요 정리
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM PostLike l WHERE l.postId = :postId")
+    void deleteByPostId(@Param("postId") Long postId);
+}
@@ -0,0 +1,79 @@
+package com.dutyout.domain.community.service;
+
+import java.text.Normalizer;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 검색용 바이그램 분리기
+ *
+ * 한국어는 조사/어미가 붙어 공백 단위 단어로는 "낮잠"으로 "낮잠을", "낮잠이"를 찾을 수 없으므로
+ * 글자(문자/숫자) 연속 구간을 두 글자씩 겹쳐 자릅니다. 예: "낮잠을 자요" → 낮잠, 잠을, 자요
+ *
+ * - 전각/반각, 호환 자모 차이를 없애도록 NFKC 정규화 후 소문자로 변환
+ * - 문자/숫자가 아닌 글자(공백, 문장부호, 이모지)에서 끊음
+ * - 한 글자짜리 구간은 색인하지 않음 (한 글자 검색어는 그 글자로 시작하는 바이그램으로 찾음)
+ */
+final class BigramTokenizer {
+
+    private BigramTokenizer() {
+    }
+
+    /**
+     * 본문의 바이그램별 등장 횟수 (처음 등장한 순서)
+     */
+    static Map<String, Integer> countBigrams(String text) {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        if (text == null) {
+            return counts;
+        }
+
+        String normalized = normalize(text);
+        int previous = -1; // 직전 글자 (문자/숫자가 아니면 -1)
+        for (int i = 0; i < normalized.length(); ) {
+            int current = normalized.codePointAt(i);
+            i += Character.charCount(current);
+
+            if (!Character.isLetterOrDigit(current)) {
+                previous = -1;
+                continue;
+            }
+            if (previous >= 0) {
+                String bigram = new StringBuilder(4).appendCodePoint(previous).appendCodePoint(current).toString();
+                counts.merge(bigram, 1, Integer::sum);
+            }
+            previous = current;
+        }
+        return counts;
+    }
+
+    /**
+     * 검색어의 바이그램 (중복 제거, 순서 유지)
+     */
+    static Set<String> queryTerms(String keyword) {
+        return new LinkedHashSet<>(countBigrams(keyword).keySet());
+    }
+
+    /**
+     * 검색어의 첫 글자 (바이그램이 없는 한 글자 검색어용)
+     *
+     * @return 정규화한 첫 문자/숫자, 없으면 null
+     */
+    static String firstLetter(String keyword) {
+        if (keyword == null) {
+            return null;
+        }
+        return normalize(keyword).codePoints()
+                .filter(Character::isLetterOrDigit)
+                .mapToObj(Character::toString)
+                .findFirst()
+                .orElse(null);
+    }
+
+    private static String normalize(String text) {
+        return Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    }
+}
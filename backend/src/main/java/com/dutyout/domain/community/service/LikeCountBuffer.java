@@ -0,0 +1,143 @@
+package com.dutyout.domain.community.service;
+
+import com.dutyout.domain.community.repository.CommunityPostRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 좋아요 수 버퍼
+ *
+ * 좋아요를 누를 때마다 게시글 행을 읽고 고쳐 쓰면 동시 요청끼리 갱신이 유실되고 인기 글 한 행에 락이 몰리므로,
+ * 좋아요는 게시글별 LongAdder에 더하기만 하고 주기적으로 모아서 반영합니다.
+ * - 증가/감소: 락 없이 LongAdder에 누적 (같은 글에 동시에 눌러도 경합이 셀 단위로 분산됨)
+ * - 반영: 누적분을 빼낸 뒤 증감량이 같은 글끼리 "like_count = like_count + :delta" 한 문장으로 갱신
+ * - 조회: DB 값 + 아직 반영되지 않은 누적분 (pending)
+ *
+ * 누적분은 합계를 읽은 만큼만 빼므로 반영 중에 들어온 좋아요는 다음 반영으로 넘어가고,
+ * DB 반영이 실패하면 빼낸 만큼 다시 더해 유실되지 않습니다. (반영 트랜잭션이 커밋되기 전 잠깐은 조회 값이 그만큼 작게 보일 수 있음)
+ * 좋아요가 눌린 글마다 작은 항목 하나가 남으며 (삭제된 글은 discard로 제거), 종료 시 남은 누적분을 반영합니다.
+ */
+@Slf4j
+@Component
+public class LikeCountBuffer {
+
+    /**
+     * 한 UPDATE 문의 IN 목록 최대 크기
+     */
+    static final int UPDATE_CHUNK_SIZE = 500;
+
+    private final ConcurrentHashMap<Long, LongAdder> pending = new ConcurrentHashMap<>();
+    private final CommunityPostRepository communityPostRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public LikeCountBuffer(CommunityPostRepository communityPostRepository,
+                           PlatformTransactionManager transactionManager) {
+        this.communityPostRepository = communityPostRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 좋아요 1 증가 (DB에는 다음 반영 때 기록)
+     */
+    public void increment(Long postId) {
+        pending.computeIfAbsent(postId, id -> new LongAdder()).increment();
+    }
+
+    /**
+     * 좋아요 1 감소 (좋아요 취소, DB에서 0 아래로 내려가지 않음)
+     */
+    public void decrement(Long postId) {
+        pending.computeIfAbsent(postId, id -> new LongAdder()).decrement();
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 좋아요 수 (취소가 더 많으면 음수)
+     */
+    public long pending(Long postId) {
+        LongAdder adder = pending.get(postId);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    /**
+     * 삭제된 게시글의 누적분 제거
+     */
+    public void discard(Long postId) {
+        pending.remove(postId);
+    }
+
+    /**
+     * 누적분을 DB에 반영 (주기: community.like-flush.interval-ms, 종료 시 한 번 더)
+     *
+     * 실패한 누적분은 버퍼에 남아 다음 주기에 다시 반영됩니다.
+     */
+    @Scheduled(fixedDelayString = "${community.like-flush.interval-ms:1000}",
+            initialDelayString = "${community.like-flush.interval-ms:1000}")
+    @PreDestroy
+    public void flush() {
+        try {
+            drain(this::applyDeltas);
+        } catch (RuntimeException e) {
+            log.warn("좋아요 수 반영 실패 - 다음 주기에 재시도", e);
+        }
+    }
+
+    /**
+     * 누적분을 빼내 writer에 넘김 (writer가 예외를 던지면 빼낸 만큼 되돌리고 예외를 다시 던짐)
+     *
+     * 반영 주기와 종료 시 반영이 겹치지 않도록 직렬화합니다. (증가 쪽은 락을 잡지 않음)
+     *
+     * @param writer 게시글 ID별 증감량을 기록하는 함수
+     * @return 넘긴 게시글 수
+     */
+    synchronized int drain(Consumer<Map<Long, Long>> writer) {
+        Map<Long, Long> deltas = new HashMap<>();
+        pending.forEach((postId, adder) -> {
+            long delta = adder.sum();
+            if (delta != 0) {
+                adder.add(-delta);
+                deltas.put(postId, delta);
+            }
+        });
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            writer.accept(deltas);
+        } catch (RuntimeException e) {
+            deltas.forEach((postId, delta) -> pending.computeIfAbsent(postId, id -> new LongAdder()).add(delta));
+            throw e;
+        }
+        log.debug("좋아요 수 반영 - 게시글 {}개", deltas.size());
+        return deltas.size();
+    }
+
+    /**
+     * 증감량이 같은 게시글끼리 묶어 한 트랜잭션에서 갱신
+     */
+    private void applyDeltas(Map<Long, Long> deltas) {
+        Map<Integer, List<Long>> postIdsByDelta = deltas.entrySet().stream()
+                .collect(Collectors.groupingBy(entry -> Math.toIntExact(entry.getValue()),
+                        Collectors.mapping(Map.Entry::getKey, Collectors.toList())));
+
+        transactionTemplate.executeWithoutResult(status -> postIdsByDelta.forEach((delta, postIds) -> {
+            for (int from = 0; from < postIds.size(); from += UPDATE_CHUNK_SIZE) {
+                List<Long> chunk = new ArrayList<>(postIds.subList(from, Math.min(from + UPDATE_CHUNK_SIZE, postIds.size())));
+                communityPostRepository.addLikeCount(chunk, delta);
+            }
+        }));
+    }
+}
@@ -0,0 +1,188 @@
+package com.dutyout.domain.community.service;
+
+import com.dutyout.domain.community.repository.PostLikeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 게시글 좋아요 여부 서비스 (사용자당 게시글 하나에 좋아요 1번)
+ *
+ * post_likes 테이블이 원본이고, 게시글별 좋아요 사용자 집합을 압축 비트맵(UserIdBitmap)으로 메모리에 캐시합니다.
+ * - 조회: "이 사용자가 눌렀나", "이 페이지 20개 중 어떤 글을 눌렀나"는 캐시된 비트맵만 확인 (처음 한 번만 게시글별 로드)
+ * - 좋아요/취소: 비트맵과 무관하게 항상 INSERT/DELETE를 실행하고, 영향받은 행 수로 실제 변경 여부를 판단
+ *   (동시에 눌러도, 다른 인스턴스에서 바뀌어 비트맵이 낡았어도 한 번만 반영)
+ * - 비트맵과 좋아요 수(LikeCountBuffer)는 트랜잭션 커밋 후에만 갱신 (롤백된 좋아요가 남지 않음)
+ *   비트맵은 행 수가 알려준 DB 상태로 맞추므로, 낡은 항목도 해당 사용자가 다시 누르면 바로잡힙니다.
+ *
+ * 비트맵 로드와 커밋 후 갱신은 같은 게시글 키에서 직렬화되므로, 로드 중에 커밋된 변경도 빠지지 않습니다.
+ * 캐시는 community.like-cache.max-posts개 게시글까지 유지하고, 넘치면 오래 조회되지 않은 게시글부터 비웁니다.
+ * (인스턴스 간 공유되지 않으므로 다른 인스턴스의 변경은 좋아요 여부 표시에만 늦게 반영되고, 좋아요 수에는 영향이 없습니다)
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class PostLikeService {
+
+    private final PostLikeRepository postLikeRepository;
+    private final LikeCountBuffer likeCountBuffer;
+    private final int maxCachedPosts;
+
+    private final ConcurrentHashMap<Long, CachedBitmap> bitmaps = new ConcurrentHashMap<>();
+
+    public PostLikeService(PostLikeRepository postLikeRepository,
+                           LikeCountBuffer likeCountBuffer,
+                           @Value("${community.like-cache.max-posts:10000}") int maxCachedPosts) {
+        this.postLikeRepository = postLikeRepository;
+        this.likeCountBuffer = likeCountBuffer;
+        this.maxCachedPosts = maxCachedPosts;
+    }
+
+    /**
+     * 좋아요 (이미 누른 상태면 무시)
+     *
+     * @return 좋아요가 새로 추가되었으면 true
+     */
+    @Transactional
+    public boolean like(Long postId, Long userId) {
+        boolean inserted = postLikeRepository.insertIfAbsent(postId, userId, LocalDateTime.now()) == 1;
+        // 행 수와 관계없이 커밋 후에는 좋아요 상태이므로 비트맵도 맞춤
+        afterCommit(() -> {
+            updateBitmap(postId, bitmap -> bitmap.add(userId));
+            if (inserted) {
+                likeCountBuffer.increment(postId);
+            }
+        });
+        return inserted;
+    }
+
+    /**
+     * 좋아요 취소 (누르지 않은 상태면 무시)
+     *
+     * @return 좋아요가 실제로 취소되었으면 true
+     */
+    @Transactional
+    public boolean unlike(Long postId, Long userId) {
+        boolean deleted = postLikeRepository.deleteByPostIdAndUserId(postId, userId) == 1;
+        // 행 수와 관계없이 커밋 후에는 좋아요가 없는 상태이므로 비트맵도 맞춤
+        afterCommit(() -> {
+            updateBitmap(postId, bitmap -> bitmap.remove(userId));
+            if (deleted) {
+                likeCountBuffer.decrement(postId);
+            }
+        });
+        return deleted;
+    }
+
+    /**
+     * 사용자가 게시글에 좋아요를 눌렀는지 여부 (표시용, 캐시된 비트맵 기준)
+     */
+    public boolean isLiked(Long postId, Long userId) {
+        CachedBitmap cached = load(postId);
+        synchronized (cached) {
+            return cached.bitmap.contains(userId);
+        }
+    }
+
+    /**
+     * 게시글 목록 중 사용자가 좋아요를 누른 게시글 ID
+     */
+    public Set<Long> findLikedPostIds(Long userId, Collection<Long> postIds) {
+        Set<Long> liked = new HashSet<>();
+        for (Long postId : postIds) {
+            if (isLiked(postId, userId)) {
+                liked.add(postId);
+            }
+        }
+        return liked;
+    }
+
+    /**
+     * 삭제된 게시글의 좋아요 정리
+     */
+    @Transactional
+    public void removeAll(Long postId) {
+        postLikeRepository.deleteByPostId(postId);
+        afterCommit(() -> bitmaps.remove(postId));
+    }
+
+    /**
+     * 게시글 비트맵 조회 (없으면 post_likes에서 로드)
+     */
+    private CachedBitmap load(Long postId) {
+        CachedBitmap cached = bitmaps.get(postId);
+        if (cached == null) {
+            cached = bitmaps.computeIfAbsent(postId,
+                    id -> new CachedBitmap(UserIdBitmap.of(postLikeRepository.findUserIdsByPostId(id))));
+            evictIfFull();
+        }
+        cached.lastAccessNanos = System.nanoTime();
+        return cached;
+    }
+
+    /**
+     * 캐시된 비트맵에만 변경 반영 (캐시에 없으면 다음 로드 때 DB에서 읽음)
+     */
+    private void updateBitmap(Long postId, Consumer<UserIdBitmap> change) {
+        bitmaps.computeIfPresent(postId, (id, cached) -> {
+            synchronized (cached) {
+                change.accept(cached.bitmap);
+            }
+            return cached;
+        });
+    }
+
+    /**
+     * 캐시가 가득 차면 오래 조회되지 않은 게시글부터 10%를 비움
+     */
+    private synchronized void evictIfFull() {
+        int overflow = bitmaps.size() - maxCachedPosts;
+        if (overflow <= 0) {
+            return;
+        }
+
+        int evictCount = overflow + maxCachedPosts / 10;
+        // 정렬 중에 조회 시각이 바뀌지 않도록 먼저 복사
+        bitmaps.entrySet().stream()
+                .map(entry -> Map.entry(entry.getKey(), entry.getValue().lastAccessNanos))
+                .toList().stream()
+                .sorted(Map.Entry.comparingByValue())
+                .limit(evictCount)
+                .map(Map.Entry::getKey)
+                .forEach(bitmaps::remove);
+        log.debug("좋아요 비트맵 캐시 정리 - {}개 게시글", evictCount);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static final class CachedBitmap {
+        private final UserIdBitmap bitmap;
+        private volatile long lastAccessNanos;
+
+        private CachedBitmap(UserIdBitmap bitmap) {
+            this.bitmap = bitmap;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.dutyout.domain.community.service;
+
+import com.dutyout.common.exception.BusinessException;
+import com.dutyout.common.exception.ErrorCode;
+import com.dutyout.common.response.CursorPageResponse;
+import com.dutyout.common.response.CursorPageResponse.ScoreCursor;
+import com.dutyout.domain.community.entity.CommunityPost;
+import com.dutyout.domain.community.entity.CommunityPostTerm;
+import com.dutyout.domain.community.repository.CommunityPostRepository;
+import com.dutyout.domain.community.repository.CommunityPostTermRepository;
+import com.dutyout.domain.community.repository.CommunityPostTermRepository.PostScore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 검색 서비스 (바이그램 역색인)
+ *
+ * 게시글을 쓰는 트랜잭션 안에서 색인(community_post_terms)을 함께 갱신하고,
+ * 검색은 색인에서 검색어 바이그램의 포스팅만 읽어 점수순 커서 페이지로 반환합니다.
+ * 검색 비용은 전체 게시글 수가 아니라 검색어 바이그램이 나온 게시글 수에 비례합니다.
+ *
+ * 모든 바이그램을 포함하는 게시글만 결과에 들어가므로 "낮잠 거부"는 두 단어가 모두 있는 글을 찾습니다.
+ * (바이그램이 떨어져 있어도 일치로 보므로 부분 문자열 검색보다 결과가 조금 넓을 수 있습니다)
+ * "잠", "밤" 같은 한 글자 검색어는 그 글자로 시작하는 바이그램의 포스팅을 모아 찾습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PostSearchService {
+
+    /**
+     * 검색어에서 사용할 최대 바이그램 수 (긴 문장 검색어는 앞부분만 사용)
+     */
+    public static final int MAX_QUERY_TERMS = 16;
+
+    private final CommunityPostTermRepository termRepository;
+    private final CommunityPostRepository communityPostRepository;
+
+    /**
+     * 새 게시글 색인
+     */
+    @Transactional
+    public void index(CommunityPost post) {
+        Map<String, Integer> weights = new HashMap<>();
+        BigramTokenizer.countBigrams(post.getTitle())
+                .forEach((term, count) -> weights.merge(term, count * CommunityPostTerm.TITLE_WEIGHT, Integer::sum));
+        BigramTokenizer.countBigrams(post.getContent())
+                .forEach((term, count) -> weights.merge(term, count, Integer::sum));
+
+        List<CommunityPostTerm> terms = weights.entrySet().stream()
+                .map(entry -> new CommunityPostTerm(entry.getKey(), post.getId(), entry.getValue()))
+                .toList();
+        termRepository.saveAll(terms);
+        log.debug("게시글 색인: postId={}, terms={}", post.getId(), terms.size());
+    }
+
+    /**
+     * 수정된 게시글 재색인 (기존 포스팅 삭제 후 다시 생성)
+     */
+    @Transactional
+    public void reindex(CommunityPost post) {
+        termRepository.deleteByPostId(post.getId());
+        index(post);
+    }
+
+    /**
+     * 삭제된 게시글 색인 정리
+     */
+    @Transactional
+    public void remove(Long postId) {
+        termRepository.deleteByPostId(postId);
+    }
+
+    /**
+     * 게시글 검색 (관련도 점수순, 같은 점수면 최신 게시글 먼저)
+     *
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @throws BusinessException 검색어에 문자/숫자가 하나도 없는 경우
+     */
+    public CursorPageResponse<CommunityPost> search(String keyword, String cursor, int size) {
+        Set<String> terms = BigramTokenizer.queryTerms(keyword).stream()
+                .limit(MAX_QUERY_TERMS)
+                .collect(Collectors.toSet());
+        String prefix = terms.isEmpty() ? BigramTokenizer.firstLetter(keyword) : null;
+        if (terms.isEmpty() && prefix == null) {
+            throw new BusinessException(ErrorCode.SEARCH_KEYWORD_TOO_SHORT);
+        }
+
+        int pageSize = CursorPageResponse.normalizeSize(size);
+        ScoreCursor after = ScoreCursor.decode(cursor);
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<PostScore> rows;
+        if (prefix != null) {
+            rows = after == null
+                    ? termRepository.searchByPrefix(prefix, limit)
+                    : termRepository.searchByPrefixAfter(prefix, after.score(), after.id(), limit);
+        } else {
+            rows = after == null
+                    ? termRepository.search(terms, terms.size(), limit)
+                    : termRepository.searchAfter(terms, terms.size(), after.score(), after.id(), limit);
+        }
+        CursorPageResponse<PostScore> page =
+                CursorPageResponse.of(rows, pageSize, row -> new ScoreCursor(row.getScore(), row.getPostId()));
+
+        // 페이지에 담긴 게시글만 기본 키로 로드
+        List<Long> postIds = page.getItems().stream().map(PostScore::getPostId).toList();
+        Map<Long, CommunityPost> postsById = communityPostRepository.findAllById(postIds).stream()
+                .collect(Collectors.toMap(CommunityPost::getId, Function.identity()));
+
+        return page.map(row -> postsById.get(row.getPostId()));
+    }
+}
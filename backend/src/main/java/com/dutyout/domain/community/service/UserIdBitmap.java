@@ -0,0 +1,159 @@
+package com.dutyout.domain.community.service;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 사용자 ID 압축 비트맵 (Roaring 방식)
+ *
+ * ID를 상위 비트(키)와 하위 16비트로 나눠 키마다 컨테이너 하나에 담습니다.
+ * - 원소가 ARRAY_MAX개 이하: 정렬된 char 배열 (원소당 2바이트, 이진 탐색)
+ * - ARRAY_MAX개 초과: 65536비트 비트셋 (8KB 고정, 비트 하나로 판정)
+ * 순차 발급되는 사용자 ID는 몇 개의 키에 몰리므로, 좋아요 수백 개짜리 게시글도 수백 바이트로 표현됩니다.
+ *
+ * 스레드 안전하지 않습니다. (PostLikeService가 게시글별로 동기화)
+ */
+final class UserIdBitmap {
+
+    /**
+     * 배열 컨테이너 최대 원소 수 (이 이상이면 비트셋이 더 작음: 4096 × 2바이트 = 8KB)
+     */
+    static final int ARRAY_MAX = 4096;
+
+    private final Map<Long, Container> containers = new HashMap<>();
+    private long cardinality;
+
+    static UserIdBitmap of(Collection<Long> userIds) {
+        UserIdBitmap bitmap = new UserIdBitmap();
+        userIds.forEach(bitmap::add);
+        return bitmap;
+    }
+
+    boolean contains(long userId) {
+        Container container = containers.get(userId >>> 16);
+        return container != null && container.contains((char) userId);
+    }
+
+    /**
+     * @return 새로 추가되었으면 true
+     */
+    boolean add(long userId) {
+        boolean added = containers.computeIfAbsent(userId >>> 16, key -> new Container()).add((char) userId);
+        if (added) {
+            cardinality++;
+        }
+        return added;
+    }
+
+    /**
+     * @return 있던 원소를 제거했으면 true
+     */
+    boolean remove(long userId) {
+        long key = userId >>> 16;
+        Container container = containers.get(key);
+        if (container == null || !container.remove((char) userId)) {
+            return false;
+        }
+        if (container.size == 0) {
+            containers.remove(key);
+        }
+        cardinality--;
+        return true;
+    }
+
+    long cardinality() {
+        return cardinality;
+    }
+
+    /**
+     * 하위 16비트 집합 (배열 또는 비트셋 표현)
+     */
+    private static final class Container {
+
+        private char[] values = new char[4]; // 배열 표현 (bits가 null일 때)
+        private long[] bits;                 // 비트셋 표현
+        private int size;
+
+        boolean contains(char low) {
+            if (bits != null) {
+                return (bits[low >>> 6] & (1L << low)) != 0;
+            }
+            return Arrays.binarySearch(values, 0, size, low) >= 0;
+        }
+
+        boolean add(char low) {
+            if (bits != null) {
+                long mask = 1L << low;
+                if ((bits[low >>> 6] & mask) != 0) {
+                    return false;
+                }
+                bits[low >>> 6] |= mask;
+                size++;
+                return true;
+            }
+
+            int pos = Arrays.binarySearch(values, 0, size, low);
+            if (pos >= 0) {
+                return false;
+            }
+            if (size == ARRAY_MAX) {
+                toBitset();
+                return add(low);
+            }
+            int insertAt = -pos - 1;
+            if (size == values.length) {
+                values = Arrays.copyOf(values, Math.min(ARRAY_MAX, size * 2));
+            }
+            System.arraycopy(values, insertAt, values, insertAt + 1, size - insertAt);
+            values[insertAt] = low;
+            size++;
+            return true;
+        }
+
+        boolean remove(char low) {
+            if (bits != null) {
+                long mask = 1L << low;
+                if ((bits[low >>> 6] & mask) == 0) {
+                    return false;
+                }
+                bits[low >>> 6] &= ~mask;
+                size--;
+                if (size <= ARRAY_MAX) {
+                    toArray();
+                }
+                return true;
+            }
+
+            int pos = Arrays.binarySearch(values, 0, size, low);
+            if (pos < 0) {
+                return false;
+            }
+            System.arraycopy(values, pos + 1, values, pos, size - pos - 1);
+            size--;
+            return true;
+        }
+
+        private void toBitset() {
+            bits = new long[1 << 10];
+            for (int i = 0; i < size; i++) {
+                bits[values[i] >>> 6] |= 1L << values[i];
+            }
+            values = null;
+        }
+
+        private void toArray() {
+            values = new char[size];
+            int n = 0;
+            for (int word = 0; word < bits.length; word++) {
+                long remaining = bits[word];
+                while (remaining != 0) {
+                    values[n++] = (char) ((word << 6) + Long.numberOfTrailingZeros(remaining));
+                    remaining &= remaining - 1;
+                }
+            }
+            bits = null;
+        }
+    }
+}
@@ -23,20 +23,21 @@ import java.time.LocalDateTime;
  * - 메모는 선택사항
  *
  * 데이터베이스 인덱스:
- * - baby_id: 특정 아기의 수유 기록 조회 시 성능 향상
- * - feeding_time: 시간대별 수유 기록 조회 시 성능 향상
+ * - (baby_id, feeding_time, id): 아기별 기간 조회, 최신순 커서 페이지 조회
+ * - (baby_id, type, feeding_time, id): 유형별 커서 페이지 조회
  */
 @Entity
 @Table(name = "feeding_records", indexes = {
-        @Index(name = "idx_baby_id", columnList = "babyId"),
-        @Index(name = "idx_feeding_time", columnList = "feedingTime")
+        @Index(name = "idx_feeding_records_baby_time_id", columnList = "babyId,feedingTime,id"),
+        @Index(name = "idx_feeding_records_baby_type_time_id", columnList = "babyId,type,feedingTime,id")
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class FeedingRecord extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "feeding_records_seq")
+    @SequenceGenerator(name = "feeding_records_seq", sequenceName = "feeding_records_seq", allocationSize = 50)
     private Long id;
 
     /**
@@ -2,13 +2,20 @@ package com.dutyout.domain.feeding.repository;
 
 import com.dutyout.domain.feeding.entity.FeedingRecord;
 import com.dutyout.domain.feeding.entity.FeedingType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * 수유 기록 리포지토리
@@ -22,12 +29,44 @@ import java.util.List;
 public interface FeedingRecordRepository extends JpaRepository<FeedingRecord, Long> {
 
     /**
-     * 특정 아기의 모든 수유 기록 조회
+     * 특정 아기의 최근 수유 기록 조회 (첫 페이지)
      *
      * @param babyId 아기 ID
-     * @return 수유 기록 리스트 (최신순)
+     * @param limit 최대 건수
+     * @return 수유 기록 리스트 (최신순, 같은 시각이면 id 역순)
+     */
+    List<FeedingRecord> findByBabyIdOrderByFeedingTimeDescIdDesc(Long babyId, Limit limit);
+
+    /**
+     * 특정 시각 이전의 직전 수유 기록 조회 (수유 간격 계산용)
+     *
+     * @param babyId 아기 ID
+     * @param feedingTime 기준 시각 (미포함)
+     * @return 직전 수유 기록
+     */
+    Optional<FeedingRecord> findFirstByBabyIdAndFeedingTimeBeforeOrderByFeedingTimeDescIdDesc(
+            Long babyId, LocalDateTime feedingTime);
+
+    /**
+     * 커서 이후 수유 기록 조회 (다음 페이지)
+     *
+     * (feedingTime, id)가 커서보다 작은 기록을 최신순으로 읽습니다.
+     * feedingTime 상한을 따로 두어 (babyId, feedingTime, id) 인덱스 범위 스캔으로 처리합니다.
+     *
+     * @param babyId 아기 ID
+     * @param cursorTime 이전 페이지 마지막 기록의 수유 시각
+     * @param cursorId 이전 페이지 마지막 기록의 ID
+     * @param limit 최대 건수
+     * @return 수유 기록 리스트 (최신순, 같은 시각이면 id 역순)
      */
-    List<FeedingRecord> findByBabyIdOrderByFeedingTimeDesc(Long babyId);
+    @Query("SELECT f FROM FeedingRecord f " +
+           "WHERE f.babyId = :babyId AND f.feedingTime <= :cursorTime " +
+           "AND (f.feedingTime < :cursorTime OR f.id < :cursorId) " +
+           "ORDER BY f.feedingTime DESC, f.id DESC")
+    List<FeedingRecord> findPageBefore(@Param("babyId") Long babyId,
+                                       @Param("cursorTime") LocalDateTime cursorTime,
+                                       @Param("cursorId") Long cursorId,
+                                       Limit limit);
 
     /**
      * 특정 아기의 기간별 수유 기록 조회
@@ -41,13 +80,29 @@ public interface FeedingRecordRepository extends JpaRepository<FeedingRecord, Lo
             Long babyId, LocalDateTime startDate, LocalDateTime endDate);
 
     /**
-     * 특정 아기의 특정 유형 수유 기록 조회
+     * 특정 아기의 특정 유형 최근 수유 기록 조회 (첫 페이지)
      *
      * @param babyId 아기 ID
      * @param type 수유 유형
-     * @return 수유 기록 리스트 (최신순)
+     * @param limit 최대 건수
+     * @return 수유 기록 리스트 (최신순, 같은 시각이면 id 역순)
+     */
+    List<FeedingRecord> findByBabyIdAndTypeOrderByFeedingTimeDescIdDesc(Long babyId, FeedingType type, Limit limit);
+
+    /**
+     * 커서 이후 특정 유형 수유 기록 조회 (다음 페이지)
+     *
+     * (babyId, type, feedingTime, id) 인덱스 범위 스캔으로 처리합니다.
      */
-    List<FeedingRecord> findByBabyIdAndTypeOrderByFeedingTimeDesc(Long babyId, FeedingType type);
+    @Query("SELECT f FROM FeedingRecord f " +
+           "WHERE f.babyId = :babyId AND f.type = :type AND f.feedingTime <= :cursorTime " +
+           "AND (f.feedingTime < :cursorTime OR f.id < :cursorId) " +
+           "ORDER BY f.feedingTime DESC, f.id DESC")
+    List<FeedingRecord> findPageBeforeByType(@Param("babyId") Long babyId,
+                                             @Param("type") FeedingType type,
+                                             @Param("cursorTime") LocalDateTime cursorTime,
+                                             @Param("cursorId") Long cursorId,
+                                             Limit limit);
 
     /**
      * 특정 아기의 오늘 수유 통계
@@ -67,22 +122,36 @@ public interface FeedingRecordRepository extends JpaRepository<FeedingRecord, Lo
 
     /**
      * 특정 아기의 기간별 수유 통계
-     * 날짜별 총 수유량 계산
+     * 날짜별 총 수유량, 수유 횟수, 마지막 수유 시각 계산 (GROUP BY 한 번으로 기간 전체 집계)
      *
      * @param babyId 아기 ID
      * @param startDate 시작 날짜
      * @param endDate 종료 날짜
-     * @return 날짜별 총 수유량 리스트
+     * @return 날짜별 총 수유량 리스트 (수유 기록이 있는 날짜만, 날짜순)
      */
-    @Query("SELECT DATE(f.feedingTime) as date, COALESCE(SUM(f.amountMl), 0) as totalAmount " +
+    @Query("SELECT extract(date from f.feedingTime) AS date, COALESCE(SUM(f.amountMl), 0) AS totalAmount, " +
+           "COUNT(f) AS feedingCount, MAX(f.feedingTime) AS lastRecordAt " +
            "FROM FeedingRecord f " +
            "WHERE f.babyId = :babyId " +
            "AND f.feedingTime BETWEEN :startDate AND :endDate " +
-           "GROUP BY DATE(f.feedingTime) " +
-           "ORDER BY DATE(f.feedingTime)")
-    List<Object[]> getDailyFeedingStats(@Param("babyId") Long babyId,
-                                        @Param("startDate") LocalDateTime startDate,
-                                        @Param("endDate") LocalDateTime endDate);
+           "GROUP BY extract(date from f.feedingTime) " +
+           "ORDER BY extract(date from f.feedingTime)")
+    List<DailyFeedingStat> getDailyFeedingStats(@Param("babyId") Long babyId,
+                                                @Param("startDate") LocalDateTime startDate,
+                                                @Param("endDate") LocalDateTime endDate);
+
+    /**
+     * 전체 수유 기록 스트림 (내보내기용, 수유 시각순)
+     *
+     * 커서로 fetch size만큼씩 읽으므로 기록 수와 관계없이 메모리 사용이 일정합니다.
+     * 읽기 전용 트랜잭션 안에서 사용하고, 사용 후 반드시 닫아야 합니다.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT f FROM FeedingRecord f WHERE f.babyId = :babyId ORDER BY f.feedingTime, f.id")
+    Stream<FeedingRecord> streamByBabyId(@Param("babyId") Long babyId);
 
     /**
      * 특정 아기의 수유 기록 개수 조회
@@ -101,4 +170,14 @@ public interface FeedingRecordRepository extends JpaRepository<FeedingRecord, Lo
      * @return 존재 여부
      */
     boolean existsByBabyIdAndFeedingTimeBetween(Long babyId, LocalDateTime startDate, LocalDateTime endDate);
+
+    /**
+     * 날짜별 수유량 집계 프로젝션
+     */
+    interface DailyFeedingStat {
+        LocalDate getDate();
+        Long getTotalAmount();
+        Long getFeedingCount();
+        LocalDateTime getLastRecordAt();
+    }
 }
@@ -0,0 +1,92 @@
+package com.dutyout.domain.prediction.entity;
+
+import com.dutyout.common.entity.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 아기별 생활 리듬 추정값 엔티티 (지표 × 슬롯당 1행)
+ *
+ * 기록이 들어올 때마다 지수 가중 이동 평균(EWMA)으로 갱신하므로 과거 기록을 다시 읽지 않고,
+ * 최근 기록일수록 크게 반영되어 아기가 자라며 바뀌는 리듬을 따라갑니다.
+ */
+@Entity
+@Table(name = "baby_rhythm_estimates", indexes = {
+        @Index(name = "idx_baby_rhythm_estimates_baby_metric_slot", columnList = "babyId,metric,slot", unique = true)
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BabyRhythmEstimate extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "baby_rhythm_estimates_seq")
+    @SequenceGenerator(name = "baby_rhythm_estimates_seq", sequenceName = "baby_rhythm_estimates_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long babyId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private RhythmMetric metric;
+
+    @Column(nullable = false)
+    private Integer slot;
+
+    @Column(nullable = false)
+    private Double meanMinutes = 0.0;
+
+    @Column(nullable = false)
+    private Integer sampleCount = 0;
+
+    @Column
+    private LocalDateTime lastSampleAt; // 마지막으로 반영한 기록 시각
+
+    @Builder
+    private BabyRhythmEstimate(Long babyId, RhythmMetric metric, Integer slot) {
+        validateBabyId(babyId);
+        validateSlot(metric, slot);
+
+        this.babyId = babyId;
+        this.metric = metric;
+        this.slot = slot;
+    }
+
+    /**
+     * 측정값 반영
+     *
+     * 가중치는 max(alpha, 1/(n+1))입니다. 처음 몇 개는 단순 평균과 같아 초기값에 끌려가지 않고,
+     * 표본이 쌓이면 alpha로 고정되어 최근 기록을 더 크게 반영합니다.
+     *
+     * @param minutes 측정값 (분)
+     * @param sampledAt 기록 시각
+     * @param alpha EWMA 가중치 (0 ~ 1)
+     */
+    public void addSample(double minutes, LocalDateTime sampledAt, double alpha) {
+        double weight = Math.max(alpha, 1.0 / (sampleCount + 1));
+        this.meanMinutes = meanMinutes + weight * (minutes - meanMinutes);
+        this.sampleCount = sampleCount + 1;
+        this.lastSampleAt = sampledAt;
+    }
+
+    // Validation 메서드들
+    private void validateBabyId(Long babyId) {
+        if (babyId == null || babyId <= 0) {
+            throw new IllegalArgumentException("유효하지 않은 아기 ID입니다.");
+        }
+    }
+
+    private void validateSlot(RhythmMetric metric, Integer slot) {
+        if (metric == null) {
+            throw new IllegalArgumentException("리듬 지표는 필수입니다.");
+        }
+        if (slot == null || slot < 0 || slot >= RhythmMetric.MAX_SLOTS) {
+            throw new IllegalArgumentException("유효하지 않은 슬롯입니다.");
+        }
+    }
+}
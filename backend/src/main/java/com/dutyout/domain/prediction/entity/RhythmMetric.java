@@ -0,0 +1,57 @@
+package com.dutyout.domain.prediction.entity;
+
+import com.dutyout.domain.sleep.entity.SleepType;
+
+/**
+ * 아기별 생활 리듬 지표
+ *
+ * 지표마다 슬롯으로 나눠 따로 추정합니다.
+ * - WAKE_WINDOW: 수면 직전 깨어 있던 시간 (슬롯 = 다음 수면 타입, NAP1~NAP4 → 0~3, NIGHT → 4)
+ * - NAP_LENGTH: 낮잠 길이 (슬롯 = 낮잠 순서, NAP1~NAP4 → 0~3)
+ * - FEEDING_INTERVAL: 직전 수유와의 간격 (슬롯 0 하나)
+ *
+ * 범위를 벗어난 값(기록 누락, 밤중 수유 공백 등)은 추정에 반영하지 않습니다.
+ */
+public enum RhythmMetric {
+    WAKE_WINDOW(20, 480),
+    NAP_LENGTH(10, 240),
+    FEEDING_INTERVAL(30, 480);
+
+    /**
+     * 밤잠 전 깨시 슬롯
+     */
+    public static final int NIGHT_SLOT = 4;
+
+    /**
+     * 지표별 최대 슬롯 수
+     */
+    public static final int MAX_SLOTS = 5;
+
+    private final int minMinutes;
+    private final int maxMinutes;
+
+    RhythmMetric(int minMinutes, int maxMinutes) {
+        this.minMinutes = minMinutes;
+        this.maxMinutes = maxMinutes;
+    }
+
+    /**
+     * 추정에 반영할 만한 값인지 확인
+     */
+    public boolean isPlausible(long minutes) {
+        return minutes >= minMinutes && minutes <= maxMinutes;
+    }
+
+    /**
+     * 수면 타입 → 슬롯 (깨시는 NIGHT 포함, 낮잠 길이는 NAP1~NAP4만 사용)
+     */
+    public static int slotOf(SleepType type) {
+        return switch (type) {
+            case NAP1 -> 0;
+            case NAP2 -> 1;
+            case NAP3 -> 2;
+            case NAP4 -> 3;
+            case NIGHT -> NIGHT_SLOT;
+        };
+    }
+}
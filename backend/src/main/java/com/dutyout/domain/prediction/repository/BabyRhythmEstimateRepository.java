@@ -0,0 +1,62 @@
+package com.dutyout.domain.prediction.repository;
+
+import com.dutyout.domain.prediction.entity.BabyRhythmEstimate;
+import com.dutyout.domain.prediction.entity.RhythmMetric;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 생활 리듬 추정값 저장소
+ */
+@Repository
+public interface BabyRhythmEstimateRepository extends JpaRepository<BabyRhythmEstimate, Long> {
+
+    /**
+     * 아기의 전체 추정값 조회 (지표 3개 × 최대 5슬롯)
+     */
+    List<BabyRhythmEstimate> findByBabyId(Long babyId);
+
+    /**
+     * 여러 아기의 전체 추정값 조회 (스케줄 사전 생성 청크용)
+     */
+    List<BabyRhythmEstimate> findByBabyIdIn(Collection<Long> babyIds);
+
+    /**
+     * 갱신용 추정값 조회 (행 잠금)
+     *
+     * 두 보호자가 동시에 기록해도 두 번째 트랜잭션은 첫 번째 반영이 커밋된 값 위에 이어서 반영합니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM BabyRhythmEstimate e WHERE e.babyId = :babyId AND e.metric = :metric AND e.slot = :slot")
+    Optional<BabyRhythmEstimate> findForUpdate(@Param("babyId") Long babyId,
+                                               @Param("metric") RhythmMetric metric,
+                                               @Param("slot") Integer slot);
+
+    /**
+     * 빈 추정값 행 추가 (이미 있으면 무시)
+     *
+     * 지표의 첫 측정값이 동시에 들어오면 한쪽은 다른 쪽 INSERT가 끝날 때까지 기다렸다가 아무것도 하지 않으므로,
+     * 이어서 findForUpdate로 같은 행을 잠글 수 있습니다. (유니크 인덱스 위반으로 트랜잭션이 실패하지 않음)
+     *
+     * @return 추가된 행 수 (이미 있으면 0)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO baby_rhythm_estimates (id, baby_id, metric, slot, mean_minutes, sample_count, " +
+                   "created_at, modified_at) " +
+                   "VALUES (nextval('baby_rhythm_estimates_seq'), :babyId, :metric, :slot, 0, 0, :now, :now) " +
+                   "ON CONFLICT DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("babyId") Long babyId,
+                       @Param("metric") String metric,
+                       @Param("slot") Integer slot,
+                       @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,288 @@
+package com.dutyout.domain.prediction.service;
+
+import com.dutyout.application.dto.response.NextPredictionResponse;
+import com.dutyout.application.dto.response.NextPredictionResponse.Basis;
+import com.dutyout.application.dto.response.NextPredictionResponse.FeedingPrediction;
+import com.dutyout.application.dto.response.NextPredictionResponse.SleepPrediction;
+import com.dutyout.common.exception.BusinessException;
+import com.dutyout.common.exception.ErrorCode;
+import com.dutyout.domain.baby.entity.Baby;
+import com.dutyout.domain.baby.repository.BabyRepository;
+import com.dutyout.domain.feeding.entity.FeedingRecord;
+import com.dutyout.domain.feeding.repository.FeedingRecordRepository;
+import com.dutyout.domain.prediction.entity.BabyRhythmEstimate;
+import com.dutyout.domain.prediction.entity.RhythmMetric;
+import com.dutyout.domain.prediction.repository.BabyRhythmEstimateRepository;
+import com.dutyout.domain.schedule.entity.AgeBasedSleepGuideline;
+import com.dutyout.domain.schedule.service.ReferenceDataCatalog;
+import com.dutyout.domain.schedule.service.ReferenceDataCatalog.TemplateSnapshot;
+import com.dutyout.domain.sleep.entity.OngoingSleep;
+import com.dutyout.domain.sleep.entity.SleepRecord;
+import com.dutyout.domain.sleep.entity.SleepType;
+import com.dutyout.domain.sleep.repository.OngoingSleepRepository;
+import com.dutyout.domain.sleep.repository.SleepRecordRepository;
+import com.dutyout.schedule.engine.ScheduleEngine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 생활 리듬 학습/예측 서비스
+ *
+ * 수면/수유 기록이 저장될 때 아기별 깨시(수면 타입별), 낮잠 길이(낮잠 순서별), 수유 간격을
+ * 지수 가중 이동 평균으로 갱신하고, 그 값으로 다음 수면/수유 시각을 예측합니다.
+ * - 갱신: 직전 기록 1건 인덱스 조회 + 추정값 1행 잠금 갱신 (기록 양과 무관)
+ * - 예측: 진행 중 수면 키 조회 + 최근 수면/수유 1건씩 + 추정값 최대 15행 (기록 양과 무관)
+ *
+ * 표본이 min-samples 개 미만인 슬롯은 월령 가이드라인(스케줄 템플릿) 값을 씁니다.
+ * 가져오기(DataImportService)로 넣은 과거 기록과 수정/삭제된 수유 기록은 추정에 반영하지 않습니다.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class RhythmPredictionService {
+
+    /**
+     * 마지막 기록 후 이 시간이 지나면 기록이 끊긴 것으로 보고 예측하지 않음
+     */
+    static final Duration PREDICTION_HORIZON = Duration.ofHours(12);
+
+    /**
+     * 가이드라인에 수유 간격이 없을 때 기본값 (3시간)
+     */
+    static final int DEFAULT_FEEDING_INTERVAL_MINUTES = 180;
+
+    private static final SleepType[] NAPS = {SleepType.NAP1, SleepType.NAP2, SleepType.NAP3, SleepType.NAP4};
+
+    private final BabyRhythmEstimateRepository estimateRepository;
+    private final SleepRecordRepository sleepRecordRepository;
+    private final OngoingSleepRepository ongoingSleepRepository;
+    private final FeedingRecordRepository feedingRecordRepository;
+    private final BabyRepository babyRepository;
+    private final ReferenceDataCatalog referenceDataCatalog;
+    private final double alpha;
+    private final int minSamples;
+    private final boolean personalizeSchedule;
+
+    public RhythmPredictionService(
+            BabyRhythmEstimateRepository estimateRepository,
+            SleepRecordRepository sleepRecordRepository,
+            OngoingSleepRepository ongoingSleepRepository,
+            FeedingRecordRepository feedingRecordRepository,
+            BabyRepository babyRepository,
+            ReferenceDataCatalog referenceDataCatalog,
+            @Value("${prediction.ewma-alpha:0.2}") double alpha,
+            @Value("${prediction.min-samples:3}") int minSamples,
+            @Value("${prediction.personalize-schedule:true}") boolean personalizeSchedule) {
+        this.estimateRepository = estimateRepository;
+        this.sleepRecordRepository = sleepRecordRepository;
+        this.ongoingSleepRepository = ongoingSleepRepository;
+        this.feedingRecordRepository = feedingRecordRepository;
+        this.babyRepository = babyRepository;
+        this.referenceDataCatalog = referenceDataCatalog;
+        this.alpha = alpha;
+        this.minSamples = minSamples;
+        this.personalizeSchedule = personalizeSchedule;
+    }
+
+    /**
+     * 수면 시작 반영 (직전 수면 종료 ~ 이번 수면 시작 = 깨시)
+     *
+     * 호출한 쓰기 트랜잭션에 참여합니다. 직전 수면이 진행 중이거나 겹치면 건너뜁니다.
+     */
+    @Transactional
+    public void recordSleepStart(SleepRecord record) {
+        sleepRecordRepository.findFirstByBabyIdAndStartTimeBeforeOrderByStartTimeDescIdDesc(
+                        record.getBabyId(), record.getStartTime())
+                .filter(previous -> previous.getEndTime() != null
+                        && !previous.getEndTime().isAfter(record.getStartTime()))
+                .ifPresent(previous -> addSample(record.getBabyId(), RhythmMetric.WAKE_WINDOW,
+                        RhythmMetric.slotOf(record.getType()),
+                        Duration.between(previous.getEndTime(), record.getStartTime()).toMinutes(),
+                        record.getStartTime()));
+    }
+
+    /**
+     * 수면 종료 반영 (낮잠 길이, 밤잠은 제외)
+     */
+    @Transactional
+    public void recordSleepEnd(SleepRecord record) {
+        if (record.isOngoing() || record.getType() == SleepType.NIGHT) {
+            return;
+        }
+        addSample(record.getBabyId(), RhythmMetric.NAP_LENGTH, RhythmMetric.slotOf(record.getType()),
+                record.calculateDurationInMinutes(), record.getEndTime());
+    }
+
+    /**
+     * 수유 기록 반영 (직전 수유 ~ 이번 수유 = 수유 간격)
+     */
+    @Transactional
+    public void recordFeeding(FeedingRecord record) {
+        feedingRecordRepository.findFirstByBabyIdAndFeedingTimeBeforeOrderByFeedingTimeDescIdDesc(
+                        record.getBabyId(), record.getFeedingTime())
+                .ifPresent(previous -> addSample(record.getBabyId(), RhythmMetric.FEEDING_INTERVAL, 0,
+                        Duration.between(previous.getFeedingTime(), record.getFeedingTime()).toMinutes(),
+                        record.getFeedingTime()));
+    }
+
+    /**
+     * 아기의 리듬 추정값 조회
+     */
+    public RhythmProfile getProfile(Long babyId) {
+        return new RhythmProfile(estimateRepository.findByBabyId(babyId), minSamples);
+    }
+
+    /**
+     * 스케줄 생성용 리듬 추정값 조회
+     *
+     * prediction.personalize-schedule=false면 개인 값 없이 가이드라인만 쓰도록 빈 프로필을 반환합니다.
+     */
+    public RhythmProfile getScheduleProfile(Long babyId) {
+        return personalizeSchedule ? getProfile(babyId) : RhythmProfile.EMPTY;
+    }
+
+    /**
+     * 여러 아기의 스케줄 생성용 리듬 추정값 조회 (쿼리 1회)
+     *
+     * 추정값이 없는 아기는 결과에 없으므로 RhythmProfile.EMPTY로 대신합니다.
+     * prediction.personalize-schedule=false면 조회하지 않고 빈 맵을 반환합니다.
+     */
+    public Map<Long, RhythmProfile> getScheduleProfiles(Collection<Long> babyIds) {
+        if (!personalizeSchedule || babyIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, List<BabyRhythmEstimate>> estimatesByBaby = new HashMap<>();
+        for (BabyRhythmEstimate estimate : estimateRepository.findByBabyIdIn(babyIds)) {
+            estimatesByBaby.computeIfAbsent(estimate.getBabyId(), id -> new ArrayList<>()).add(estimate);
+        }
+        Map<Long, RhythmProfile> profiles = new HashMap<>();
+        estimatesByBaby.forEach((babyId, estimates) -> profiles.put(babyId, new RhythmProfile(estimates, minSamples)));
+        return profiles;
+    }
+
+    /**
+     * 다음 수면/수유 예측
+     *
+     * @param now 예측 기준 시각
+     */
+    public NextPredictionResponse predictNext(Long babyId, LocalDateTime now) {
+        Baby baby = babyRepository.findById(babyId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.BABY_NOT_FOUND));
+        int ageInMonths = baby.calculateCorrectedAgeInMonths(now.toLocalDate());
+        TemplateSnapshot template = referenceDataCatalog.findClosestTemplate(ageInMonths)
+                .orElseThrow(() -> new BusinessException(ErrorCode.TEMPLATE_NOT_FOUND));
+        RhythmProfile profile = getProfile(babyId);
+
+        NextPredictionResponse.NextPredictionResponseBuilder response = NextPredictionResponse.builder()
+                .babyId(babyId)
+                .asOf(now);
+
+        OngoingSleep ongoing = ongoingSleepRepository.findById(babyId).orElse(null);
+        if (ongoing != null) {
+            response.asleep(true);
+            if (ongoing.getType() != SleepType.NIGHT) {
+                int slot = RhythmMetric.slotOf(ongoing.getType());
+                response.predictedWakeTime(ongoing.getStartTime().plusMinutes(napLength(profile, template, slot)));
+            }
+        } else {
+            sleepRecordRepository.findByBabyIdOrderByStartTimeDescIdDesc(babyId, Limit.of(1)).stream()
+                    .filter(last -> !last.isOngoing() && isRecent(last.getEndTime(), now))
+                    .findFirst()
+                    .ifPresent(last -> response.nextSleep(predictSleep(last, profile, template)));
+        }
+
+        feedingRecordRepository.findByBabyIdOrderByFeedingTimeDescIdDesc(babyId, Limit.of(1)).stream()
+                .filter(last -> isRecent(last.getFeedingTime(), now))
+                .findFirst()
+                .ifPresent(last -> response.nextFeeding(predictFeeding(last, profile, ageInMonths)));
+
+        return response.build();
+    }
+
+    /**
+     * 마지막 수면 다음 수면 예측
+     *
+     * 밤잠 다음은 첫 낮잠, n번째 낮잠 다음은 월령 낮잠 수를 채울 때까지 다음 낮잠, 그 뒤는 밤잠입니다.
+     */
+    private SleepPrediction predictSleep(SleepRecord last, RhythmProfile profile, TemplateSnapshot template) {
+        int napCount = Math.min(template.getNapCount(), NAPS.length);
+        int nextNapIndex = last.getType() == SleepType.NIGHT ? 0 : RhythmMetric.slotOf(last.getType()) + 1;
+        SleepType nextType = nextNapIndex < napCount ? NAPS[nextNapIndex] : SleepType.NIGHT;
+
+        int slot = RhythmMetric.slotOf(nextType);
+        int guideline = nextType == SleepType.NIGHT
+                ? template.wakeWindowAt(template.getNapCount(), ScheduleEngine.DEFAULT_LAST_WAKE_WINDOW_MINUTES)
+                : template.wakeWindowAt(slot, ScheduleEngine.DEFAULT_WAKE_WINDOW_MINUTES);
+        int wakeWindow = profile.minutesOr(RhythmMetric.WAKE_WINDOW, slot, guideline);
+
+        return SleepPrediction.builder()
+                .type(nextType)
+                .predictedStartTime(last.getEndTime().plusMinutes(wakeWindow))
+                .wakeWindowMinutes(wakeWindow)
+                .expectedDurationMinutes(nextType == SleepType.NIGHT ? null : napLength(profile, template, slot))
+                .basis(basis(profile, RhythmMetric.WAKE_WINDOW, slot))
+                .sampleCount(profile.sampleCount(RhythmMetric.WAKE_WINDOW, slot))
+                .build();
+    }
+
+    private FeedingPrediction predictFeeding(FeedingRecord last, RhythmProfile profile, int ageInMonths) {
+        int guideline = referenceDataCatalog.findClosestGuideline(ageInMonths)
+                .map(AgeBasedSleepGuideline::getFeedingIntervalMinutes)
+                .orElse(DEFAULT_FEEDING_INTERVAL_MINUTES);
+        int interval = profile.minutesOr(RhythmMetric.FEEDING_INTERVAL, 0, guideline);
+
+        return FeedingPrediction.builder()
+                .lastFeedingTime(last.getFeedingTime())
+                .predictedTime(last.getFeedingTime().plusMinutes(interval))
+                .intervalMinutes(interval)
+                .basis(basis(profile, RhythmMetric.FEEDING_INTERVAL, 0))
+                .sampleCount(profile.sampleCount(RhythmMetric.FEEDING_INTERVAL, 0))
+                .build();
+    }
+
+    private int napLength(RhythmProfile profile, TemplateSnapshot template, int slot) {
+        return profile.minutesOr(RhythmMetric.NAP_LENGTH, slot,
+                template.napDurationAt(slot, ScheduleEngine.DEFAULT_NAP_DURATION_MINUTES));
+    }
+
+    private static Basis basis(RhythmProfile profile, RhythmMetric metric, int slot) {
+        return profile.isPersonal(metric, slot) ? Basis.PERSONAL : Basis.GUIDELINE;
+    }
+
+    private static boolean isRecent(LocalDateTime time, LocalDateTime now) {
+        return time != null && !time.isBefore(now.minus(PREDICTION_HORIZON));
+    }
+
+    /**
+     * 추정값 1행에 측정값 반영
+     *
+     * 행을 잠근 뒤 갱신하므로 동시 기록도 순서대로 반영됩니다.
+     * 행이 없으면 빈 행을 먼저 추가(이미 있으면 무시)한 뒤 잠그므로 지표의 첫 측정값이 동시에 들어와도 실패하지 않습니다.
+     */
+    private void addSample(Long babyId, RhythmMetric metric, int slot, long minutes, LocalDateTime sampledAt) {
+        if (!metric.isPlausible(minutes)) {
+            log.debug("리듬 추정 제외: babyId={}, metric={}, slot={}, minutes={}", babyId, metric, slot, minutes);
+            return;
+        }
+
+        Optional<BabyRhythmEstimate> locked = estimateRepository.findForUpdate(babyId, metric, slot);
+        if (locked.isEmpty()) {
+            estimateRepository.insertIfAbsent(babyId, metric.name(), slot, LocalDateTime.now());
+            locked = estimateRepository.findForUpdate(babyId, metric, slot);
+        }
+        BabyRhythmEstimate estimate = locked.orElseThrow();
+        estimate.addSample(minutes, sampledAt, alpha);
+    }
+}
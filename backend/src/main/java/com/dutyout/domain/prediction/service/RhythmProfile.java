@@ -0,0 +1,86 @@
+package com.dutyout.domain.prediction.service;
+
+import com.dutyout.domain.prediction.entity.BabyRhythmEstimate;
+import com.dutyout.domain.prediction.entity.RhythmMetric;
+import com.dutyout.domain.schedule.service.ReferenceDataCatalog.TemplateSnapshot;
+import com.dutyout.schedule.engine.ScheduleEngine;
+
+import java.util.List;
+
+/**
+ * 아기 한 명의 생활 리듬 추정값 묶음 (읽기 전용)
+ *
+ * 표본이 최소 개수 이상 쌓인 슬롯만 개인 값으로 쓰고, 나머지는 가이드라인 값을 그대로 씁니다.
+ */
+public final class RhythmProfile {
+
+    /**
+     * 개인 값이 없는 프로필 (모든 슬롯이 가이드라인 값)
+     */
+    public static final RhythmProfile EMPTY = new RhythmProfile(List.of(), Integer.MAX_VALUE);
+
+    private final int[][] minutes = new int[RhythmMetric.values().length][RhythmMetric.MAX_SLOTS];
+    private final int[][] sampleCounts = new int[RhythmMetric.values().length][RhythmMetric.MAX_SLOTS];
+    private final int minSamples;
+
+    RhythmProfile(List<BabyRhythmEstimate> estimates, int minSamples) {
+        this.minSamples = minSamples;
+        for (BabyRhythmEstimate estimate : estimates) {
+            int metric = estimate.getMetric().ordinal();
+            minutes[metric][estimate.getSlot()] = (int) Math.round(estimate.getMeanMinutes());
+            sampleCounts[metric][estimate.getSlot()] = estimate.getSampleCount();
+        }
+    }
+
+    /**
+     * 슬롯 값 (표본이 부족하면 기본값)
+     */
+    public int minutesOr(RhythmMetric metric, int slot, int defaultMinutes) {
+        return isPersonal(metric, slot) ? minutes[metric.ordinal()][slot] : defaultMinutes;
+    }
+
+    /**
+     * 개인 값을 쓸 만큼 표본이 쌓였는지 확인
+     */
+    public boolean isPersonal(RhythmMetric metric, int slot) {
+        return slot < RhythmMetric.MAX_SLOTS && sampleCounts[metric.ordinal()][slot] >= minSamples;
+    }
+
+    public int sampleCount(RhythmMetric metric, int slot) {
+        return slot < RhythmMetric.MAX_SLOTS ? sampleCounts[metric.ordinal()][slot] : 0;
+    }
+
+    /**
+     * 템플릿의 깨시/낮잠 시간을 개인 값으로 바꾼 템플릿
+     *
+     * 낮잠 수는 월령 템플릿을 따르고, 마지막 깨시(취침 전)에는 밤잠 전 깨시 추정값을 씁니다.
+     * 바꿀 값이 없으면 받은 템플릿을 그대로 반환합니다.
+     */
+    public TemplateSnapshot personalize(TemplateSnapshot template) {
+        int napCount = template.getNapCount();
+        int[] wakeWindows = new int[napCount + 1];
+        int[] napDurations = new int[napCount];
+        boolean changed = false;
+
+        for (int i = 0; i <= napCount; i++) {
+            int slot = i < napCount ? i : RhythmMetric.NIGHT_SLOT;
+            int guideline = template.wakeWindowAt(i, i < napCount
+                    ? ScheduleEngine.DEFAULT_WAKE_WINDOW_MINUTES
+                    : ScheduleEngine.DEFAULT_LAST_WAKE_WINDOW_MINUTES);
+            boolean personal = (i == napCount || i < RhythmMetric.NIGHT_SLOT) && isPersonal(RhythmMetric.WAKE_WINDOW, slot);
+            wakeWindows[i] = personal ? minutes[RhythmMetric.WAKE_WINDOW.ordinal()][slot] : guideline;
+            changed |= personal;
+        }
+        for (int i = 0; i < napCount; i++) {
+            boolean personal = i < RhythmMetric.NIGHT_SLOT && isPersonal(RhythmMetric.NAP_LENGTH, i);
+            napDurations[i] = personal
+                    ? minutes[RhythmMetric.NAP_LENGTH.ordinal()][i]
+                    : template.napDurationAt(i, ScheduleEngine.DEFAULT_NAP_DURATION_MINUTES);
+            changed |= personal;
+        }
+
+        return changed
+                ? new TemplateSnapshot(template.getAgeMonths(), napCount, wakeWindows, napDurations)
+                : template;
+    }
+}
@@ -34,7 +34,8 @@ import lombok.NoArgsConstructor;
 public class AgeBasedSleepGuideline extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "age_based_sleep_guidelines_seq")
+    @SequenceGenerator(name = "age_based_sleep_guidelines_seq", sequenceName = "age_based_sleep_guidelines_seq", allocationSize = 50)
     private Long id;
 
     /**
@@ -6,6 +6,7 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
@@ -26,8 +27,14 @@ import java.util.List;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class DailySchedule extends BaseTimeEntity {
 
+    /**
+     * 스케줄을 만들 수 있는 최대 월령
+     */
+    public static final int MAX_AGE_IN_MONTHS = 36;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "daily_schedules_seq")
+    @SequenceGenerator(name = "daily_schedules_seq", sequenceName = "daily_schedules_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -42,8 +49,12 @@ public class DailySchedule extends BaseTimeEntity {
     @Column(nullable = false)
     private Integer ageInMonths; // 스케줄 생성 시점의 월령 (템플릿 선택용)
 
+    @Column(nullable = false, updatable = false) // 증가는 DailyScheduleRepository.incrementVersions로만 (flush가 덮어쓰지 않음)
+    private Long version = 0L; // 스케줄/아이템이 바뀔 때마다 증가 (조회 API의 ETag)
+
     @OneToMany(mappedBy = "dailySchedule", cascade = CascadeType.ALL, orphanRemoval = true)
     @OrderBy("scheduledTime ASC")
+    @BatchSize(size = 50) // fetch join 없이 여러 스케줄의 아이템을 읽을 때 IN 쿼리로 묶어서 로드
     private List<ScheduleItem> scheduleItems = new ArrayList<>();
 
     @Builder
@@ -59,6 +70,17 @@ public class DailySchedule extends BaseTimeEntity {
         this.ageInMonths = ageInMonths;
     }
 
+    /**
+     * 변경 표시 (메모리의 버전 증가)
+     *
+     * 아이템 내용이나 시간이 바뀌면 호출해야 합니다. 조회 API는 이 버전으로 ETag를 만듭니다.
+     * DB의 버전은 같은 트랜잭션에서 DailyScheduleRepository.incrementVersions로 증가시켜야 합니다.
+     * (메모리 값을 그대로 저장하면 동시에 수정한 요청끼리 증가분을 덮어쓰므로 컬럼은 UPDATE 대상에서 제외)
+     */
+    public void markModified() {
+        this.version++;
+    }
+
     /**
      * 스케줄 항목 추가
      */
@@ -74,6 +96,51 @@ public class DailySchedule extends BaseTimeEntity {
         items.forEach(this::addScheduleItem);
     }
 
+    /**
+     * 스케줄 재생성 (기존 행 재사용)
+     *
+     * 기존 항목과 새 항목을 순서대로 비교해
+     * - 겹치는 위치: 기존 항목의 계획 내용 교체 (바뀐 항목만 UPDATE)
+     * - 새 항목이 더 많으면: 추가 (INSERT)
+     * - 기존 항목이 더 많으면: 제거 (orphanRemoval로 DELETE)
+     *
+     * @param wakeUpTime 새 기상 시간
+     * @param ageInMonths 재생성 시점의 월령
+     * @param newItems 새 스케줄 항목 (아직 저장되지 않은 객체)
+     */
+    public void replaceScheduleItems(LocalTime wakeUpTime, Integer ageInMonths, List<ScheduleItem> newItems) {
+        validateWakeUpTime(wakeUpTime);
+        validateAgeInMonths(ageInMonths);
+        this.wakeUpTime = wakeUpTime;
+        this.ageInMonths = ageInMonths;
+
+        int common = Math.min(scheduleItems.size(), newItems.size());
+        for (int i = 0; i < common; i++) {
+            scheduleItems.get(i).replacePlan(newItems.get(i));
+        }
+        for (int i = common; i < newItems.size(); i++) {
+            addScheduleItem(newItems.get(i));
+        }
+        while (scheduleItems.size() > newItems.size()) {
+            scheduleItems.remove(scheduleItems.size() - 1);
+        }
+        markModified();
+    }
+
+    /**
+     * 스케줄 항목 위치 조회 (시간순)
+     *
+     * @return 항목 인덱스, 없으면 -1
+     */
+    public int indexOfScheduleItem(Long itemId) {
+        for (int i = 0; i < scheduleItems.size(); i++) {
+            if (scheduleItems.get(i).getId().equals(itemId)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
     /**
      * 기상시간 변경 (스케줄 재생성 필요)
      */
@@ -109,7 +176,7 @@ public class DailySchedule extends BaseTimeEntity {
     }
 
     private void validateAgeInMonths(Integer ageInMonths) {
-        if (ageInMonths == null || ageInMonths < 0 || ageInMonths > 36) {
+        if (ageInMonths == null || ageInMonths < 0 || ageInMonths > MAX_AGE_IN_MONTHS) {
             throw new IllegalArgumentException("유효하지 않은 월령입니다.");
         }
     }
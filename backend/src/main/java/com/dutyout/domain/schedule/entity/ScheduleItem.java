@@ -22,7 +22,8 @@ import java.time.LocalTime;
 public class ScheduleItem extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "schedule_items_seq")
+    @SequenceGenerator(name = "schedule_items_seq", sequenceName = "schedule_items_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -82,6 +83,26 @@ public class ScheduleItem extends BaseTimeEntity {
         this.scheduledTime = scheduledTime;
     }
 
+    /**
+     * 계획 내용 교체 (스케줄 재생성 시 기존 행 재사용)
+     *
+     * 새 계획의 활동/시간/소요 시간/메모로 바꾸고, 이전 계획에 대한 실제 기록은 초기화합니다.
+     * 값이 바뀌지 않은 항목은 dirty checking에서 UPDATE 대상이 되지 않습니다.
+     */
+    public void replacePlan(ScheduleItem plan) {
+        validateActivityType(plan.getActivityType());
+        validateScheduledTime(plan.getScheduledTime());
+
+        this.activityType = plan.getActivityType();
+        this.scheduledTime = plan.getScheduledTime();
+        this.durationMinutes = plan.getDurationMinutes();
+        this.note = plan.getNote();
+        this.feedingAmount = null;
+        this.actualSleepDuration = null;
+        this.actualFeedingTime = null;
+        this.actualSleepStartTime = null;
+    }
+
     /**
      * 소요 시간 변경
      */
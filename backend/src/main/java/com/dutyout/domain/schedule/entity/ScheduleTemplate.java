@@ -27,7 +27,8 @@ import java.util.List;
 public class ScheduleTemplate extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "schedule_templates_seq")
+    @SequenceGenerator(name = "schedule_templates_seq", sequenceName = "schedule_templates_seq", allocationSize = 50)
     private Long id;
 
     /**
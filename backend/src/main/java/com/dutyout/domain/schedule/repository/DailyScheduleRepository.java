@@ -8,6 +8,8 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,16 +18,81 @@ public interface DailyScheduleRepository extends JpaRepository<DailySchedule, Lo
 
     Optional<DailySchedule> findByBabyIdAndScheduleDate(Long babyId, LocalDate scheduleDate);
 
-    List<DailySchedule> findByBabyIdAndScheduleDateBetween(Long babyId, LocalDate startDate, LocalDate endDate);
+    /**
+     * 기간 내 일일 스케줄과 전체 항목을 한 번에 조회 (날짜순)
+     */
+    @Query("SELECT d FROM DailySchedule d LEFT JOIN FETCH d.scheduleItems " +
+           "WHERE d.babyId = :babyId AND d.scheduleDate BETWEEN :startDate AND :endDate ORDER BY d.scheduleDate")
+    List<DailySchedule> findByBabyIdAndScheduleDateBetween(@Param("babyId") Long babyId,
+                                                           @Param("startDate") LocalDate startDate,
+                                                           @Param("endDate") LocalDate endDate);
 
     @Query("SELECT d FROM DailySchedule d LEFT JOIN FETCH d.scheduleItems WHERE d.babyId = :babyId AND d.scheduleDate = :scheduleDate")
     Optional<DailySchedule> findByBabyIdAndScheduleDateWithItems(@Param("babyId") Long babyId,
                                                                    @Param("scheduleDate") LocalDate scheduleDate);
 
+    /**
+     * 스케줄 버전만 조회 (조건부 GET용, 아이템은 로드하지 않음)
+     */
+    @Query("SELECT d.id AS id, d.version AS version FROM DailySchedule d " +
+           "WHERE d.babyId = :babyId AND d.scheduleDate = :scheduleDate")
+    Optional<ScheduleVersion> findVersionByBabyIdAndScheduleDate(@Param("babyId") Long babyId,
+                                                                 @Param("scheduleDate") LocalDate scheduleDate);
+
+    /**
+     * 스케줄 버전 증가 (DB에서 version + 1, 동시에 수정해도 증가분이 사라지지 않음)
+     *
+     * 엔티티의 version은 UPDATE 대상이 아니므로 스케줄을 수정하는 트랜잭션에서 함께 호출해야 합니다.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE DailySchedule d SET d.version = d.version + 1 WHERE d.id IN :ids")
+    int incrementVersions(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 스케줄 항목 ID로 해당 일일 스케줄과 전체 항목을 한 번에 조회
+     */
+    @Query("SELECT d FROM DailySchedule d JOIN FETCH d.scheduleItems " +
+           "WHERE d.id = (SELECT si.dailySchedule.id FROM ScheduleItem si WHERE si.id = :itemId)")
+    Optional<DailySchedule> findByScheduleItemIdWithItems(@Param("itemId") Long itemId);
+
     boolean existsByBabyIdAndScheduleDate(Long babyId, LocalDate scheduleDate);
 
+    /**
+     * 해당 날짜 스케줄이 이미 있는 아기 ID (배치 중복 생성 방지)
+     */
+    @Query("SELECT d.babyId FROM DailySchedule d WHERE d.babyId IN :babyIds AND d.scheduleDate = :scheduleDate")
+    List<Long> findBabyIdsWithSchedule(@Param("babyIds") Collection<Long> babyIds,
+                                       @Param("scheduleDate") LocalDate scheduleDate);
+
+    /**
+     * 기간 내 아기별 기상 시간 (startDate 이상 endDate 미만)
+     */
+    @Query("SELECT d.babyId AS babyId, d.wakeUpTime AS wakeUpTime FROM DailySchedule d " +
+           "WHERE d.babyId IN :babyIds AND d.scheduleDate >= :startDate AND d.scheduleDate < :endDate")
+    List<BabyWakeUpTime> findWakeUpTimes(@Param("babyIds") Collection<Long> babyIds,
+                                         @Param("startDate") LocalDate startDate,
+                                         @Param("endDate") LocalDate endDate);
+
     // 스케줄 삭제 (기상 시간 변경 시 기존 스케줄 제거용)
     @Modifying(flushAutomatically = true, clearAutomatically = true)
     @Query("DELETE FROM DailySchedule d WHERE d.babyId = :babyId AND d.scheduleDate = :scheduleDate")
     int deleteByBabyIdAndScheduleDate(@Param("babyId") Long babyId, @Param("scheduleDate") LocalDate scheduleDate);
+
+    /**
+     * 스케줄 ID + 버전 (프로젝션)
+     */
+    interface ScheduleVersion {
+        Long getId();
+
+        Long getVersion();
+    }
+
+    /**
+     * 아기별 기상 시간 (프로젝션)
+     */
+    interface BabyWakeUpTime {
+        Long getBabyId();
+
+        LocalTime getWakeUpTime();
+    }
 }
@@ -1,12 +1,90 @@
 package com.dutyout.domain.schedule.repository;
 
 import com.dutyout.domain.schedule.entity.ScheduleItem;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
 /**
  * 스케줄 항목 저장소
  */
 @Repository
 public interface ScheduleItemRepository extends JpaRepository<ScheduleItem, Long> {
+
+    /**
+     * 스케줄 항목 시간 일괄 이동 (단일 UPDATE)
+     *
+     * 자정을 넘으면 DB의 TIME 연산 규칙에 따라 순환합니다.
+     * 호출 전 변경 내용은 flush되고, 호출 후 영속성 컨텍스트는 비워집니다.
+     *
+     * @param ids 이동할 항목 ID
+     * @param minutes 이동할 시간 (분, 음수 가능)
+     * @return 수정된 항목 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ScheduleItem i " +
+           "SET i.scheduledTime = i.scheduledTime + (:minutes) minute, i.modifiedAt = CURRENT_TIMESTAMP " +
+           "WHERE i.id IN :ids")
+    int shiftScheduledTimes(@Param("ids") Collection<Long> ids, @Param("minutes") int minutes);
+
+    /**
+     * 전체 스케줄 항목 스트림 (내보내기용, 날짜/시간순, 일일 스케줄 함께 로드)
+     *
+     * 커서로 fetch size만큼씩 읽으므로 기록 수와 관계없이 메모리 사용이 일정합니다.
+     * 읽기 전용 트랜잭션 안에서 사용하고, 사용 후 반드시 닫아야 합니다.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT i FROM ScheduleItem i JOIN FETCH i.dailySchedule d " +
+           "WHERE d.babyId = :babyId ORDER BY d.scheduleDate, i.scheduledTime, i.id")
+    Stream<ScheduleItem> streamByBabyId(@Param("babyId") Long babyId);
+
+    /**
+     * 스케줄에서 직접 기록한 실측값의 날짜별 집계 (일일 통계 롤업용)
+     *
+     * 수면: actualSleepDuration이 있는 항목 (BEDTIME은 밤잠, 나머지는 낮잠)
+     * 수유: feedingAmount가 있는 항목
+     */
+    @Query("SELECT d.scheduleDate AS date, " +
+           "COALESCE(SUM(i.actualSleepDuration), 0) AS sleepMinutes, " +
+           "COUNT(CASE WHEN i.actualSleepDuration IS NOT NULL " +
+           "AND i.activityType <> com.dutyout.domain.schedule.entity.ActivityType.BEDTIME THEN 1 END) AS napCount, " +
+           "COALESCE(SUM(CASE WHEN i.activityType = com.dutyout.domain.schedule.entity.ActivityType.BEDTIME " +
+           "THEN i.actualSleepDuration END), 0) AS nightMinutes, " +
+           "COALESCE(SUM(i.feedingAmount), 0) AS feedingTotalMl, " +
+           "COUNT(i.feedingAmount) AS feedingCount, " +
+           "MAX(COALESCE(i.actualFeedingTime, i.actualSleepStartTime)) AS lastRecordAt " +
+           "FROM ScheduleItem i JOIN i.dailySchedule d " +
+           "WHERE d.babyId = :babyId AND d.scheduleDate BETWEEN :startDate AND :endDate " +
+           "AND (i.actualSleepDuration IS NOT NULL OR i.feedingAmount IS NOT NULL) " +
+           "GROUP BY d.scheduleDate")
+    List<DailyRecordedStat> getDailyRecordedStats(@Param("babyId") Long babyId,
+                                                  @Param("startDate") LocalDate startDate,
+                                                  @Param("endDate") LocalDate endDate);
+
+    /**
+     * 날짜별 스케줄 실측값 집계 프로젝션
+     */
+    interface DailyRecordedStat {
+        LocalDate getDate();
+        Long getSleepMinutes();
+        Long getNapCount();
+        Long getNightMinutes();
+        Long getFeedingTotalMl();
+        Long getFeedingCount();
+        LocalDateTime getLastRecordAt();
+    }
 }
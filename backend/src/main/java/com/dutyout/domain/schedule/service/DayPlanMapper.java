@@ -0,0 +1,86 @@
+package com.dutyout.domain.schedule.service;
+
+import com.dutyout.domain.schedule.entity.ActivityType;
+import com.dutyout.domain.schedule.entity.ScheduleItem;
+import com.dutyout.schedule.engine.ActivityCode;
+import com.dutyout.schedule.engine.DayPlan;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 스케줄 엔진(DayPlan) ↔ 도메인 모델 변환
+ *
+ * - LocalTime ↔ 자정 기준 분
+ * - ActivityType ↔ 활동 코드 (이름 기준 매핑)
+ * - durationMinutes null ↔ DayPlan.NO_DURATION
+ */
+public final class DayPlanMapper {
+
+    private static final ActivityType[] TYPE_BY_CODE = new ActivityType[ActivityCode.count()];
+    private static final int[] CODE_BY_ORDINAL = new int[ActivityType.values().length];
+
+    static {
+        for (ActivityType type : ActivityType.values()) {
+            int code = ActivityCode.of(type.name());
+            TYPE_BY_CODE[code] = type;
+            CODE_BY_ORDINAL[type.ordinal()] = code;
+        }
+    }
+
+    private DayPlanMapper() {
+    }
+
+    public static int toMinute(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+
+    public static LocalTime toTime(int minute) {
+        return LocalTime.MIDNIGHT.plusMinutes(minute);
+    }
+
+    public static int toCode(ActivityType type) {
+        return CODE_BY_ORDINAL[type.ordinal()];
+    }
+
+    public static ActivityType toActivityType(int code) {
+        return TYPE_BY_CODE[code];
+    }
+
+    public static int toDuration(Integer durationMinutes) {
+        return durationMinutes != null ? durationMinutes : DayPlan.NO_DURATION;
+    }
+
+    public static Integer fromDuration(int durationMinutes) {
+        return durationMinutes != DayPlan.NO_DURATION ? durationMinutes : null;
+    }
+
+    /**
+     * 스케줄 아이템 목록 → DayPlan (순서 유지)
+     */
+    public static DayPlan fromScheduleItems(List<ScheduleItem> items) {
+        DayPlan plan = new DayPlan(items.size());
+        for (ScheduleItem item : items) {
+            plan.add(toMinute(item.getScheduledTime()),
+                    toDuration(item.getDurationMinutes()),
+                    toCode(item.getActivityType()));
+        }
+        return plan;
+    }
+
+    /**
+     * DayPlan → 새 스케줄 아이템 목록
+     */
+    public static List<ScheduleItem> toScheduleItems(DayPlan plan) {
+        List<ScheduleItem> items = new ArrayList<>(plan.size());
+        for (int i = 0; i < plan.size(); i++) {
+            items.add(ScheduleItem.builder()
+                    .activityType(toActivityType(plan.activity(i)))
+                    .scheduledTime(toTime(plan.start(i)))
+                    .durationMinutes(fromDuration(plan.duration(i)))
+                    .build());
+        }
+        return items;
+    }
+}
@@ -0,0 +1,192 @@
+package com.dutyout.domain.schedule.service;
+
+import com.dutyout.domain.schedule.entity.AgeBasedSleepGuideline;
+import com.dutyout.domain.schedule.entity.ScheduleTemplate;
+import com.dutyout.domain.schedule.repository.AgeBasedSleepGuidelineRepository;
+import com.dutyout.domain.schedule.repository.ScheduleTemplateRepository;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 기준 데이터 카탈로그 (수면 가이드라인 + 스케줄 템플릿)
+ *
+ * 스케줄 생성/조정 때마다 실행되던 "가장 가까운 하위 월령" 조회 쿼리를 대신합니다.
+ * - 전체 가이드라인/템플릿을 한 번에 읽어 월령 기준 NavigableMap으로 보관 (floor 조회)
+ * - 템플릿의 깨시/낮잠 시간 목록(@ElementCollection)은 int[]로 펼쳐 보관
+ *
+ * 애플리케이션 시작 완료 시 로드되며, refresh()로 재시작 없이 다시 로드할 수 있습니다.
+ * (관리자 API: POST /api/v1/admin/reference-data/refresh)
+ */
+@Slf4j
+@Component
+public class ReferenceDataCatalog {
+
+    private final AgeBasedSleepGuidelineRepository guidelineRepository;
+    private final ScheduleTemplateRepository templateRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+
+    public ReferenceDataCatalog(AgeBasedSleepGuidelineRepository guidelineRepository,
+                                ScheduleTemplateRepository templateRepository,
+                                PlatformTransactionManager transactionManager) {
+        this.guidelineRepository = guidelineRepository;
+        this.templateRepository = templateRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        // 호출한 트랜잭션의 영속성 컨텍스트에 캐시 엔티티가 섞이지 않도록 별도 트랜잭션에서 로드
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 특정 개월 수에 가장 가까운 가이드라인 조회
+     * 정확히 일치하는 데이터가 없을 경우 가장 가까운 하위 개월 수 반환
+     *
+     * 반환되는 엔티티는 영속성 컨텍스트와 분리된 읽기 전용 객체입니다.
+     */
+    public Optional<AgeBasedSleepGuideline> findClosestGuideline(int ageInMonths) {
+        return floorValue(currentSnapshot().guidelines, ageInMonths);
+    }
+
+    /**
+     * 특정 개월 수에 가장 가까운 스케줄 템플릿 조회
+     * 정확히 일치하는 데이터가 없을 경우 가장 가까운 하위 개월 수 반환
+     */
+    public Optional<TemplateSnapshot> findClosestTemplate(int ageInMonths) {
+        return floorValue(currentSnapshot().templates, ageInMonths);
+    }
+
+    /**
+     * 기준 데이터 다시 로드
+     *
+     * 새 스냅샷을 완전히 만든 뒤 한 번에 교체하므로, 로드 중인 요청은 이전 스냅샷을 그대로 사용합니다.
+     *
+     * @return 로드 결과 (가이드라인 수, 템플릿 수)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public RefreshResult refresh() {
+        Snapshot loaded = transactionTemplate.execute(status -> load());
+        snapshot.set(loaded);
+
+        log.info("기준 데이터 카탈로그 로드 완료 - 가이드라인: {}개, 템플릿: {}개",
+                loaded.guidelines.size(), loaded.templates.size());
+        return new RefreshResult(loaded.guidelines.size(), loaded.templates.size());
+    }
+
+    private Snapshot currentSnapshot() {
+        Snapshot current = snapshot.get();
+        if (current == null) {
+            // 시작 이벤트 전에 호출된 경우 (데이터 로더 등)
+            refresh();
+            current = snapshot.get();
+        }
+        return current;
+    }
+
+    private Snapshot load() {
+        NavigableMap<Integer, AgeBasedSleepGuideline> guidelines = new TreeMap<>();
+        for (AgeBasedSleepGuideline guideline : guidelineRepository.findAll()) {
+            guidelines.put(guideline.getAgeInMonths(), guideline);
+        }
+
+        NavigableMap<Integer, TemplateSnapshot> templates = new TreeMap<>();
+        for (ScheduleTemplate template : templateRepository.findAll()) {
+            templates.put(template.getAgeMonths(), TemplateSnapshot.from(template));
+        }
+
+        return new Snapshot(
+                Collections.unmodifiableNavigableMap(guidelines),
+                Collections.unmodifiableNavigableMap(templates));
+    }
+
+    private static <T> Optional<T> floorValue(NavigableMap<Integer, T> map, int ageInMonths) {
+        Map.Entry<Integer, T> entry = map.floorEntry(ageInMonths);
+        return entry != null ? Optional.of(entry.getValue()) : Optional.empty();
+    }
+
+    private record Snapshot(NavigableMap<Integer, AgeBasedSleepGuideline> guidelines,
+                            NavigableMap<Integer, TemplateSnapshot> templates) {
+    }
+
+    /**
+     * 로드 결과
+     */
+    public record RefreshResult(int guidelineCount, int templateCount) {
+    }
+
+    /**
+     * 스케줄 템플릿 스냅샷 (불변)
+     *
+     * 깨시/낮잠 시간은 순서대로 int[]에 저장됩니다. (분 단위)
+     */
+    public static final class TemplateSnapshot {
+
+        @Getter
+        private final int ageMonths;
+        @Getter
+        private final int napCount;
+        private final int[] wakeWindowsMinutes;
+        private final int[] napDurationsMinutes;
+
+        public TemplateSnapshot(int ageMonths, int napCount, int[] wakeWindowsMinutes, int[] napDurationsMinutes) {
+            this.ageMonths = ageMonths;
+            this.napCount = napCount;
+            this.wakeWindowsMinutes = wakeWindowsMinutes;
+            this.napDurationsMinutes = napDurationsMinutes;
+        }
+
+        static TemplateSnapshot from(ScheduleTemplate template) {
+            return new TemplateSnapshot(
+                    template.getAgeMonths(),
+                    template.getNapCount(),
+                    toArray(template.getWakeWindowsMinutes()),
+                    toArray(template.getNapDurationsMinutes()));
+        }
+
+        /**
+         * n번째 깨시 (없으면 기본값)
+         */
+        public int wakeWindowAt(int index, int defaultMinutes) {
+            return index < wakeWindowsMinutes.length ? wakeWindowsMinutes[index] : defaultMinutes;
+        }
+
+        /**
+         * n번째 낮잠 시간 (없으면 기본값)
+         */
+        public int napDurationAt(int index, int defaultMinutes) {
+            return index < napDurationsMinutes.length ? napDurationsMinutes[index] : defaultMinutes;
+        }
+
+        /**
+         * 깨시 목록 (스케줄 엔진 전달용, 수정 금지)
+         */
+        int[] wakeWindows() {
+            return wakeWindowsMinutes;
+        }
+
+        /**
+         * 낮잠 시간 목록 (스케줄 엔진 전달용, 수정 금지)
+         */
+        int[] napDurations() {
+            return napDurationsMinutes;
+        }
+
+        private static int[] toArray(List<Integer> values) {
+            return values.stream().mapToInt(Integer::intValue).toArray();
+        }
+    }
+}
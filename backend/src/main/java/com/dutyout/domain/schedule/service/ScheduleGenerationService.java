@@ -4,18 +4,27 @@ import com.dutyout.common.exception.BusinessException;
 import com.dutyout.common.exception.ErrorCode;
 import com.dutyout.domain.baby.entity.Baby;
 import com.dutyout.domain.baby.repository.BabyRepository;
+import com.dutyout.domain.prediction.service.RhythmPredictionService;
+import com.dutyout.domain.prediction.service.RhythmProfile;
 import com.dutyout.domain.schedule.entity.*;
 import com.dutyout.domain.schedule.repository.DailyScheduleRepository;
-import com.dutyout.domain.schedule.repository.ScheduleTemplateRepository;
+import com.dutyout.domain.schedule.repository.DailyScheduleRepository.ScheduleVersion;
+import com.dutyout.domain.schedule.service.ReferenceDataCatalog.TemplateSnapshot;
+import com.dutyout.schedule.engine.DayPlan;
+import com.dutyout.schedule.engine.ScheduleEngine;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * 스케줄 자동 생성 서비스
@@ -28,6 +37,9 @@ import java.util.List;
  * 3. Wake Window(깨어있는 시간) 기반 낮잠 시간 계산
  * 4. 낮잠 시간 + 낮잠 소요 시간 = 다음 활동 시작 시간
  * 5. 마지막 깨시 후 취침 시간 계산
+ *
+ * 아기 기록으로 학습한 깨시/낮잠 길이(RhythmPredictionService)가 충분히 쌓인 슬롯은
+ * 템플릿 값 대신 개인 값을 씁니다. (prediction.personalize-schedule)
  */
 @Service
 @RequiredArgsConstructor
@@ -35,9 +47,15 @@ import java.util.List;
 @Slf4j
 public class ScheduleGenerationService {
 
+    /**
+     * 기간 조회 최대 일수 (월간 뷰 + 앞뒤 주)
+     */
+    public static final int MAX_RANGE_DAYS = 62;
+
     private final BabyRepository babyRepository;
-    private final ScheduleTemplateRepository templateRepository;
+    private final ReferenceDataCatalog referenceDataCatalog;
     private final DailyScheduleRepository dailyScheduleRepository;
+    private final RhythmPredictionService rhythmPredictionService;
 
     /**
      * 스케줄 자동 생성 (핵심 메서드)
@@ -60,113 +78,151 @@ public class ScheduleGenerationService {
         log.debug("아기 월령: {} 개월", ageInMonths);
 
         // 3. 해당 월령의 템플릿 조회
-        ScheduleTemplate template = templateRepository.findClosestTemplateByAge(ageInMonths)
-                .orElseThrow(() -> new BusinessException(ErrorCode.TEMPLATE_NOT_FOUND));
+        TemplateSnapshot template = rhythmPredictionService.getScheduleProfile(babyId)
+                .personalize(findTemplate(ageInMonths));
         log.debug("템플릿 조회 완료: ageMonths={}, napCount={}", template.getAgeMonths(), template.getNapCount());
 
-        // 4. 기존 스케줄이 있으면 삭제
-        dailyScheduleRepository.findByBabyIdAndScheduleDate(babyId, scheduleDate)
-                .ifPresent(dailyScheduleRepository::delete);
+        // 4. 스케줄 아이템 생성
+        List<ScheduleItem> scheduleItems = generateScheduleItems(wakeUpTime, template);
 
-        // 5. 새 스케줄 생성
-        DailySchedule dailySchedule = DailySchedule.builder()
-                .babyId(babyId)
-                .scheduleDate(scheduleDate)
-                .wakeUpTime(wakeUpTime)
-                .ageInMonths(ageInMonths)
-                .build();
+        // 5. 기존 스케줄이 있으면 기존 행을 재사용해 바뀐 항목만 반영, 없으면 새로 생성
+        DailySchedule savedSchedule = dailyScheduleRepository.findByBabyIdAndScheduleDateWithItems(babyId, scheduleDate)
+                .orElse(null);
 
-        // 6. 스케줄 아이템 생성
-        List<ScheduleItem> scheduleItems = generateScheduleItems(wakeUpTime, template);
-        dailySchedule.addScheduleItems(scheduleItems);
+        if (savedSchedule != null) {
+            savedSchedule.replaceScheduleItems(wakeUpTime, ageInMonths, scheduleItems);
+            dailyScheduleRepository.flush(); // 추가된 아이템 ID 확정
+            dailyScheduleRepository.incrementVersions(List.of(savedSchedule.getId()));
+        } else {
+            DailySchedule dailySchedule = DailySchedule.builder()
+                    .babyId(babyId)
+                    .scheduleDate(scheduleDate)
+                    .wakeUpTime(wakeUpTime)
+                    .ageInMonths(ageInMonths)
+                    .build();
+            dailySchedule.addScheduleItems(scheduleItems);
 
-        // 7. 저장
-        DailySchedule savedSchedule = dailyScheduleRepository.save(dailySchedule);
+            // 6. 저장
+            savedSchedule = dailyScheduleRepository.save(dailySchedule);
+        }
         log.info("스케줄 생성 완료: scheduleId={}, items={}", savedSchedule.getId(), scheduleItems.size());
 
         return savedSchedule;
     }
 
     /**
-     * 스케줄 아이템 생성 (핵심 알고리즘)
+     * 기간 스케줄 일괄 생성
      *
-     * Wake Window 기반 시간 계산:
-     * - 기상 → (깨시1) → 낮잠1 → (낮잠1 소요시간) → (깨시2) → 낮잠2 → ...
+     * 아기 조회와 기존 스케줄 조회(fetch join)를 한 번씩만 하고, 모든 날짜를 한 트랜잭션에서 처리합니다.
+     * - 날짜마다 교정월령을 다시 계산 (기간 중 월령이 바뀌면 바뀐 날부터 다음 월령 템플릿 적용)
+     * - 같은 월령은 스케줄 계산 결과(DayPlan)를 재사용
+     * - 기존 스케줄은 행을 재사용해 갱신, 새 스케줄은 saveAll로 한 번에 저장 (JDBC 배치)
+     *
+     * @param babyId 아기 ID
+     * @param startDate 시작 날짜 (포함)
+     * @param days 생성할 일수
+     * @param wakeUpTime 기상 시간
+     * @return 생성된 일일 스케줄 목록 (날짜순)
      */
-    private List<ScheduleItem> generateScheduleItems(LocalTime wakeUpTime, ScheduleTemplate template) {
-        List<ScheduleItem> items = new ArrayList<>();
-        LocalTime currentTime = wakeUpTime;
-
-        // 1. 기상
-        items.add(createScheduleItem(ActivityType.WAKE_UP, currentTime, 0));
-        log.debug("기상: {}", currentTime);
-
-        // 2. 낮잠 스케줄 생성
-        int napCount = template.getNapCount();
-        List<Integer> wakeWindows = template.getWakeWindowsMinutes();
-        List<Integer> napDurations = template.getNapDurationsMinutes();
-
-        for (int i = 0; i < napCount; i++) {
-            // 2-1. Wake Window 만큼 시간 경과 → 낮잠 시간
-            int wakeWindowMinutes = i < wakeWindows.size() ? wakeWindows.get(i) : 120; // 기본 2시간
-            currentTime = currentTime.plusMinutes(wakeWindowMinutes);
-
-            // 2-2. 수유 시간 (낮잠 30분 전)
-            LocalTime feedingTime = currentTime.minusMinutes(30);
-            items.add(createScheduleItem(ActivityType.FEEDING, feedingTime, 20));
-
-            // 2-3. 낮잠 시작
-            ActivityType napType = getNapType(i);
-            int napDuration = i < napDurations.size() ? napDurations.get(i) : 90; // 기본 1.5시간
-            items.add(createScheduleItem(napType, currentTime, napDuration));
-            log.debug("낮잠 {}: {} ({}분)", i + 1, currentTime, napDuration);
-
-            // 2-4. 낮잠 종료 후 시간
-            currentTime = currentTime.plusMinutes(napDuration);
+    @Transactional
+    public List<DailySchedule> generateSchedules(Long babyId, LocalDate startDate, int days, LocalTime wakeUpTime) {
+        LocalDate endDate = startDate.plusDays(days - 1L);
+        log.info("기간 스케줄 생성 시작: babyId={}, {} ~ {}, wakeUpTime={}", babyId, startDate, endDate, wakeUpTime);
+
+        // 1. 아기 정보 조회 (1회)
+        Baby baby = babyRepository.findById(babyId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.BABY_NOT_FOUND));
+
+        // 2. 기간 내 기존 스케줄 조회 (1회, 항목 포함)
+        Map<LocalDate, DailySchedule> existingByDate = new HashMap<>();
+        for (DailySchedule existing : dailyScheduleRepository.findByBabyIdAndScheduleDateBetween(babyId, startDate, endDate)) {
+            existingByDate.put(existing.getScheduleDate(), existing);
         }
 
-        // 3. 마지막 깨시 후 취침
-        int lastWakeWindow = napCount < wakeWindows.size() ?
-                wakeWindows.get(napCount) : 180; // 기본 3시간
+        // 3. 날짜별 생성 (월령별 계산 결과 재사용, 개인 리듬 추정값은 1회 조회)
+        RhythmProfile profile = rhythmPredictionService.getScheduleProfile(babyId);
+        Map<Integer, DayPlan> planByAge = new HashMap<>();
+        List<DailySchedule> result = new ArrayList<>(days);
+        List<DailySchedule> newSchedules = new ArrayList<>();
 
-        // 저녁 수유/이유식 (취침 1시간 전)
-        LocalTime dinnerTime = currentTime.plusMinutes(lastWakeWindow - 60);
-        items.add(createScheduleItem(ActivityType.FEEDING, dinnerTime, 30));
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            int ageInMonths = baby.calculateCorrectedAgeInMonths(date);
+            DayPlan plan = planByAge.computeIfAbsent(ageInMonths, age -> generatePlan(wakeUpTime, profile.personalize(findTemplate(age))));
+            List<ScheduleItem> scheduleItems = DayPlanMapper.toScheduleItems(plan);
 
-        // 목욕 (취침 30분 전)
-        LocalTime bathTime = currentTime.plusMinutes(lastWakeWindow - 30);
-        items.add(createScheduleItem(ActivityType.BATH, bathTime, 20));
+            DailySchedule dailySchedule = existingByDate.get(date);
+            if (dailySchedule != null) {
+                dailySchedule.replaceScheduleItems(wakeUpTime, ageInMonths, scheduleItems);
+            } else {
+                dailySchedule = DailySchedule.builder()
+                        .babyId(babyId)
+                        .scheduleDate(date)
+                        .wakeUpTime(wakeUpTime)
+                        .ageInMonths(ageInMonths)
+                        .build();
+                dailySchedule.addScheduleItems(scheduleItems);
+                newSchedules.add(dailySchedule);
+            }
+            result.add(dailySchedule);
+        }
 
-        // 취침
-        LocalTime bedTime = currentTime.plusMinutes(lastWakeWindow);
-        items.add(createScheduleItem(ActivityType.BEDTIME, bedTime, 0));
-        log.debug("취침: {}", bedTime);
+        // 4. 저장 (새 스케줄 일괄 저장 + 기존 스케줄 변경분 반영, 기존 스케줄 버전은 UPDATE 한 번으로 증가)
+        dailyScheduleRepository.saveAll(newSchedules);
+        dailyScheduleRepository.flush();
+        if (!existingByDate.isEmpty()) {
+            dailyScheduleRepository.incrementVersions(existingByDate.values().stream().map(DailySchedule::getId).toList());
+        }
 
-        return items;
+        log.info("기간 스케줄 생성 완료: babyId={}, 신규 {}일, 갱신 {}일, 월령 {}",
+                babyId, newSchedules.size(), days - newSchedules.size(), planByAge.keySet());
+        return result;
     }
 
     /**
-     * 스케줄 아이템 생성 헬퍼
+     * 개인 리듬을 반영한 스케줄 아이템 생성 (저장하지 않음)
+     *
+     * generateSchedule과 같은 템플릿 경로를 쓰며, 리듬 추정값을 청크 단위로 미리 읽어 둔 배치(스케줄 사전 생성)에서 호출합니다.
+     * 아침 생성/미리보기(AutoScheduleService)도 같은 메서드를 써서 배치 결과와 아이템 구성이 같습니다.
+     * 캐시된 카탈로그로만 계산하므로 트랜잭션을 새로 열지 않고 호출자 트랜잭션이 있으면 참여합니다.
+     * 템플릿이 없어 실패해도 호출한 트랜잭션은 롤백으로 표시하지 않습니다. (호출자가 아기별로 실패 처리)
+     *
+     * @param ageInMonths 교정 월령
+     * @param wakeUpTime 기상 시간
+     * @param profile 리듬 추정값 (RhythmPredictionService.getScheduleProfiles)
+     * @return 스케줄 아이템 (아직 저장되지 않은 객체)
      */
-    private ScheduleItem createScheduleItem(ActivityType activityType, LocalTime scheduledTime, int durationMinutes) {
-        return ScheduleItem.builder()
-                .activityType(activityType)
-                .scheduledTime(scheduledTime)
-                .durationMinutes(durationMinutes > 0 ? durationMinutes : null)
-                .build();
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true, noRollbackFor = BusinessException.class)
+    public List<ScheduleItem> createScheduleItems(int ageInMonths, LocalTime wakeUpTime, RhythmProfile profile) {
+        return generateScheduleItems(wakeUpTime, profile.personalize(findTemplate(ageInMonths)));
+    }
+
+    private TemplateSnapshot findTemplate(int ageInMonths) {
+        return referenceDataCatalog.findClosestTemplate(ageInMonths)
+                .orElseThrow(() -> new BusinessException(ErrorCode.TEMPLATE_NOT_FOUND));
     }
 
     /**
-     * 낮잠 인덱스 → ActivityType 변환
+     * 스케줄 아이템 생성 (핵심 알고리즘)
+     *
+     * Wake Window 기반 시간 계산:
+     * - 기상 → (깨시1) → 낮잠1 → (낮잠1 소요시간) → (깨시2) → 낮잠2 → ...
+     *
+     * 계산은 스케줄 엔진(ScheduleEngine)이 수행하고, 여기서는 결과를 엔티티로 변환합니다.
      */
-    private ActivityType getNapType(int napIndex) {
-        return switch (napIndex) {
-            case 0 -> ActivityType.NAP1;
-            case 1 -> ActivityType.NAP2;
-            case 2 -> ActivityType.NAP3;
-            case 3 -> ActivityType.NAP4;
-            default -> ActivityType.NAP1;
-        };
+    private List<ScheduleItem> generateScheduleItems(LocalTime wakeUpTime, TemplateSnapshot template) {
+        return DayPlanMapper.toScheduleItems(generatePlan(wakeUpTime, template));
+    }
+
+    private DayPlan generatePlan(LocalTime wakeUpTime, TemplateSnapshot template) {
+        DayPlan plan = new DayPlan(ScheduleEngine.requiredCapacity(template.getNapCount()));
+        ScheduleEngine.generate(
+                DayPlanMapper.toMinute(wakeUpTime),
+                template.getNapCount(),
+                template.wakeWindows(),
+                template.napDurations(),
+                plan);
+        log.debug("스케줄 계산 완료: {}", plan);
+        return plan;
     }
 
     /**
@@ -177,6 +233,33 @@ public class ScheduleGenerationService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.SCHEDULE_NOT_FOUND));
     }
 
+    /**
+     * 스케줄 버전 조회 (조건부 GET용)
+     *
+     * (babyId, scheduleDate) 유니크 인덱스로 ID와 버전만 읽고, 아이템은 로드하지 않습니다.
+     */
+    public ScheduleVersion getScheduleVersion(Long babyId, LocalDate scheduleDate) {
+        return dailyScheduleRepository.findVersionByBabyIdAndScheduleDate(babyId, scheduleDate)
+                .orElseThrow(() -> new BusinessException(ErrorCode.SCHEDULE_NOT_FOUND));
+    }
+
+    /**
+     * 기간 스케줄 조회 (캘린더용)
+     *
+     * 스케줄과 아이템을 fetch join 한 번으로 읽습니다. (날짜별 아이템 지연 로딩 없음)
+     *
+     * @param babyId 아기 ID
+     * @param from 시작 날짜 (포함)
+     * @param to 끝 날짜 (포함, 시작 날짜부터 최대 MAX_RANGE_DAYS일)
+     * @return 기간 내 스케줄 목록 (날짜순)
+     */
+    public List<DailySchedule> getSchedules(Long babyId, LocalDate from, LocalDate to) {
+        if (to.isBefore(from) || ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            throw new BusinessException(ErrorCode.INVALID_DATE_RANGE);
+        }
+        return dailyScheduleRepository.findByBabyIdAndScheduleDateBetween(babyId, from, to);
+    }
+
     /**
      * 스케줄 수정 (특정 항목 시간 변경 시 후속 일정 재계산)
      */
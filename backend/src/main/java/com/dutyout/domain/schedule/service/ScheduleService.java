@@ -3,10 +3,11 @@ package com.dutyout.domain.schedule.service;
 import com.dutyout.application.dto.request.AdjustScheduleRequest;
 import com.dutyout.application.dto.request.UpdateScheduleItemRequest;
 import com.dutyout.application.service.AutoScheduleService;
-import com.dutyout.domain.baby.entity.Baby;
+import com.dutyout.common.exception.BusinessException;
 import com.dutyout.domain.schedule.entity.DailySchedule;
 import com.dutyout.domain.schedule.entity.ScheduleItem;
-import com.dutyout.domain.schedule.repository.ScheduleItemRepository;
+import com.dutyout.domain.schedule.repository.DailyScheduleRepository;
+import com.dutyout.domain.statistics.service.DailyStatsService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Lazy;
@@ -15,6 +16,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
 
 /**
  * 스케줄 관리 서비스
@@ -25,7 +27,8 @@ import java.time.format.DateTimeFormatter;
 @Transactional
 public class ScheduleService {
 
-    private final ScheduleItemRepository scheduleItemRepository;
+    private final DailyScheduleRepository dailyScheduleRepository;
+    private final DailyStatsService dailyStatsService;
     @Lazy // 순환 참조 방지
     private final AutoScheduleService autoScheduleService;
 
@@ -35,10 +38,14 @@ public class ScheduleService {
      * 스케줄 아이템 수정 (시간, 수유량, 수면 시간 기록)
      *
      * 실제 수면 시간이 입력되면 다음 스케줄을 자동으로 재계산합니다.
+     * 일일 스케줄과 전체 아이템을 한 번에 조회하고, 이후 아이템은 단일 UPDATE로 이동합니다.
      */
     public ScheduleItem updateScheduleItem(Long itemId, UpdateScheduleItemRequest request) {
-        ScheduleItem item = scheduleItemRepository.findById(itemId)
+        DailySchedule dailySchedule = dailyScheduleRepository.findByScheduleItemIdWithItems(itemId)
                 .orElseThrow(() -> new IllegalArgumentException("스케줄 아이템을 찾을 수 없습니다."));
+        ScheduleItem item = dailySchedule.getScheduleItems().get(dailySchedule.indexOfScheduleItem(itemId));
+        dailySchedule.markModified();
+        dailyScheduleRepository.incrementVersions(List.of(dailySchedule.getId()));
 
         // 시간 수정
         if (request.getScheduledTime() != null && !request.getScheduledTime().isEmpty()) {
@@ -55,39 +62,32 @@ public class ScheduleService {
         if (request.getActualSleepDuration() != null) {
             item.recordSleep(request.getActualSleepDuration());
 
-            // 먼저 현재 아이템 저장 (actualSleepDuration 업데이트)
-            item = scheduleItemRepository.save(item);
+            try {
+                log.info("실제 수면 시간 입력 - 다음 스케줄 재계산 시작: {}분", request.getActualSleepDuration());
 
-            // 실제 수면 시간을 기준으로 다음 스케줄 재계산
-            DailySchedule dailySchedule = item.getDailySchedule();
-            if (dailySchedule != null) {
-                try {
-                    log.info("실제 수면 시간 입력 - 다음 스케줄 재계산 시작: {}분", request.getActualSleepDuration());
+                // AdjustScheduleRequest 생성
+                AdjustScheduleRequest adjustRequest = AdjustScheduleRequest.builder()
+                        .scheduleItemId(itemId)
+                        .actualDurationMinutes(request.getActualSleepDuration())
+                        .build();
 
-                    // AdjustScheduleRequest 생성
-                    AdjustScheduleRequest adjustRequest = AdjustScheduleRequest.builder()
-                            .scheduleItemId(itemId)
-                            .actualDurationMinutes(request.getActualSleepDuration())
-                            .build();
+                // 다음 스케줄 재계산 (현재 아이템 변경 내용도 함께 저장됨)
+                autoScheduleService.adjustFollowingItems(dailySchedule, adjustRequest);
 
-                    // 다음 스케줄 재계산
-                    autoScheduleService.adjustSchedule(dailySchedule.getBabyId(), adjustRequest);
+                log.info("다음 스케줄 재계산 완료");
 
-                    log.info("다음 스케줄 재계산 완료");
-
-                    // 재계산 후 아이템 다시 조회하여 반환 (다음 활동 시간이 변경되었을 수 있음)
-                    return scheduleItemRepository.findById(itemId)
-                            .orElseThrow(() -> new IllegalArgumentException("스케줄 아이템을 찾을 수 없습니다."));
-
-                } catch (Exception e) {
-                    log.warn("스케줄 재계산 실패 (계속 진행): {}", e.getMessage());
-                    // 재계산 실패해도 수면 시간 기록은 유지
-                    return item;
-                }
+            } catch (BusinessException e) {
+                log.warn("스케줄 재계산 실패 (계속 진행): {}", e.getMessage());
+                // 재계산 실패해도 수면 시간 기록은 유지
             }
         }
 
-        return scheduleItemRepository.save(item);
+        // 실측 기록이 바뀌었으면 그날 통계 롤업 갱신
+        if (request.getFeedingAmount() != null || request.getActualSleepDuration() != null) {
+            dailyStatsService.refresh(dailySchedule.getBabyId(), dailySchedule.getScheduleDate());
+        }
+
+        // 변경 내용은 트랜잭션 커밋 시 반영 (dirty checking)
+        return item;
     }
 }
-
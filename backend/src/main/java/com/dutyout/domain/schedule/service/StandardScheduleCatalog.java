@@ -0,0 +1,156 @@
+package com.dutyout.domain.schedule.service;
+
+import com.dutyout.domain.schedule.service.StandardScheduleService.StandardScheduleItem;
+import com.dutyout.schedule.engine.DayPlan;
+import com.dutyout.schedule.engine.ScheduleEngine;
+import lombok.Getter;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 월령별 표준 스케줄 카탈로그 (불변 스냅샷)
+ *
+ * 데이터 리소스(standard-schedules.json)에서 한 번만 만들어지며,
+ * 요청 처리 중에는 읽기만 합니다.
+ *
+ * - 월령 → 스케줄: 배열 인덱스로 O(1) 조회
+ * - (스케줄 버킷, 기상 시각(분)) → 기상 시간에 맞게 이동된 스케줄 캐시
+ *
+ * 이동된 스케줄은 처음 요청될 때 한 번 계산되고, 이후에는 같은 리스트를 그대로 반환합니다.
+ */
+public final class StandardScheduleCatalog {
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    @Getter
+    private final String version;
+
+    @Getter
+    private final LocalTime baseWakeTime;
+
+    /**
+     * 월령별 버킷 번호 (인덱스 = 개월 수)
+     */
+    private final int[] bucketByAge;
+
+    /**
+     * 버킷별 표준 스케줄 (기준 기상 시간 기준)
+     */
+    private final List<List<StandardScheduleItem>> schedules;
+
+    /**
+     * 버킷별 기상 시각(0~1439분) → 이동된 스케줄 캐시
+     */
+    private final List<AtomicReferenceArray<List<StandardScheduleItem>>> shiftedSchedules;
+
+    /**
+     * @param version 데이터 버전
+     * @param baseWakeTime 표준 스케줄의 기준 기상 시간
+     * @param schedulesByAge 정의된 월령 → 표준 스케줄 (같은 스케줄을 공유하는 월령은 같은 리스트 인스턴스)
+     * @param defaultAgeInMonths 하위 월령 스케줄이 없을 때 사용할 월령
+     */
+    StandardScheduleCatalog(String version,
+                            LocalTime baseWakeTime,
+                            NavigableMap<Integer, List<StandardScheduleItem>> schedulesByAge,
+                            int defaultAgeInMonths) {
+        if (schedulesByAge.isEmpty() || !schedulesByAge.containsKey(defaultAgeInMonths)) {
+            throw new IllegalArgumentException("기본 월령(" + defaultAgeInMonths + "개월)의 표준 스케줄이 없습니다.");
+        }
+
+        this.version = version;
+        this.baseWakeTime = baseWakeTime;
+
+        // 같은 스케줄을 공유하는 월령은 하나의 버킷으로 묶어 이동 캐시를 공유
+        Map<List<StandardScheduleItem>, Integer> bucketIndex = new IdentityHashMap<>();
+        List<List<StandardScheduleItem>> buckets = new ArrayList<>();
+        for (List<StandardScheduleItem> schedule : schedulesByAge.values()) {
+            if (!bucketIndex.containsKey(schedule)) {
+                bucketIndex.put(schedule, buckets.size());
+                buckets.add(Collections.unmodifiableList(new ArrayList<>(schedule)));
+            }
+        }
+
+        int maxAge = schedulesByAge.lastKey();
+        int defaultBucket = bucketIndex.get(schedulesByAge.get(defaultAgeInMonths));
+        this.bucketByAge = new int[maxAge + 1];
+        for (int age = 0; age <= maxAge; age++) {
+            // 정확히 일치하거나 가장 가까운 하위 개월 수, 없으면 기본 월령
+            Map.Entry<Integer, List<StandardScheduleItem>> floor = schedulesByAge.floorEntry(age);
+            bucketByAge[age] = floor != null ? bucketIndex.get(floor.getValue()) : defaultBucket;
+        }
+
+        this.schedules = Collections.unmodifiableList(buckets);
+        List<AtomicReferenceArray<List<StandardScheduleItem>>> shifted = new ArrayList<>(buckets.size());
+        for (int i = 0; i < buckets.size(); i++) {
+            shifted.add(new AtomicReferenceArray<>(MINUTES_PER_DAY));
+        }
+        this.shiftedSchedules = Collections.unmodifiableList(shifted);
+    }
+
+    /**
+     * 월령별 표준 스케줄 조회 (기준 기상 시간 기준)
+     */
+    public List<StandardScheduleItem> getSchedule(int ageInMonths) {
+        return schedules.get(bucketOf(ageInMonths));
+    }
+
+    /**
+     * 기상 시간에 맞게 이동된 표준 스케줄 조회
+     *
+     * 같은 (월령 버킷, 기상 시각) 조합은 항상 같은 불변 리스트를 반환합니다.
+     */
+    public List<StandardScheduleItem> getSchedule(int ageInMonths, LocalTime wakeTime) {
+        int bucket = bucketOf(ageInMonths);
+        int wakeMinute = DayPlanMapper.toMinute(wakeTime);
+
+        AtomicReferenceArray<List<StandardScheduleItem>> cache = shiftedSchedules.get(bucket);
+        List<StandardScheduleItem> cached = cache.get(wakeMinute);
+        if (cached != null) {
+            return cached;
+        }
+
+        List<StandardScheduleItem> shifted = Collections.unmodifiableList(
+                shift(schedules.get(bucket), wakeMinute - DayPlanMapper.toMinute(baseWakeTime)));
+        // 동시에 계산된 경우 먼저 저장된 값을 사용
+        return cache.compareAndSet(wakeMinute, null, shifted) ? shifted : cache.get(wakeMinute);
+    }
+
+    /**
+     * 월령 → 버킷 번호 (정의된 최대 월령 이상은 최대 월령 스케줄 사용)
+     */
+    private int bucketOf(int ageInMonths) {
+        int index = Math.max(0, Math.min(ageInMonths, bucketByAge.length - 1));
+        return bucketByAge[index];
+    }
+
+    /**
+     * 스케줄 전체를 같은 시간만큼 이동 (스케줄 엔진 사용, 노트는 원본 그대로 유지)
+     */
+    static List<StandardScheduleItem> shift(List<StandardScheduleItem> schedule, long minuteDiff) {
+        DayPlan plan = new DayPlan(schedule.size());
+        for (StandardScheduleItem item : schedule) {
+            plan.add(DayPlanMapper.toMinute(item.getTime()),
+                    DayPlanMapper.toDuration(item.getDurationMinutes()),
+                    DayPlanMapper.toCode(item.getActivityType()));
+        }
+        ScheduleEngine.shift(plan, (int) minuteDiff, plan);
+
+        List<StandardScheduleItem> shifted = new ArrayList<>(plan.size());
+        for (int i = 0; i < plan.size(); i++) {
+            shifted.add(StandardScheduleItem.builder()
+                    .time(DayPlanMapper.toTime(plan.start(i)))
+                    .activityType(DayPlanMapper.toActivityType(plan.activity(i)))
+                    .durationMinutes(DayPlanMapper.fromDuration(plan.duration(i)))
+                    .note(schedule.get(i).getNote())
+                    .build());
+        }
+        return shifted;
+    }
+}
@@ -1,16 +1,25 @@
 package com.dutyout.domain.schedule.service;
 
 import com.dutyout.domain.schedule.entity.ActivityType;
+import com.dutyout.domain.schedule.entity.ScheduleItem;
 import lombok.Builder;
 import lombok.Getter;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * 월령별 표준 스케줄 서비스
@@ -18,6 +27,9 @@ import java.util.Map;
  * 가이드 문서(monthly_sleep_feeding_guide.md)의 정상 상황 스케줄을 제공합니다.
  * 기상 시간 07:00 기준으로 정의되어 있으며, 실제 기상 시간에 맞게 조정하여 사용합니다.
  *
+ * 스케줄 데이터는 버전이 있는 리소스(schedule/standard-schedules.json)에서 시작 시 한 번 로드되어
+ * 불변 카탈로그({@link StandardScheduleCatalog})로 유지되며, reload()로 재시작 없이 교체할 수 있습니다.
+ *
  * 수유 간격:
  * - 3~4개월: 3시간 간격
  * - 5개월: 3.5시간 간격
@@ -39,37 +51,96 @@ public class StandardScheduleService {
         private String note;
     }
 
-    private static final LocalTime BASE_WAKE_TIME = LocalTime.of(7, 0); // 기준 기상 시간
+    private static final String DEFAULT_CATALOG_LOCATION = "classpath:schedule/standard-schedules.json";
+
+    private final ObjectMapper objectMapper;
+    private final Resource catalogResource;
+
+    /**
+     * 현재 사용 중인 카탈로그 (reload 시 원자적으로 교체)
+     */
+    private final AtomicReference<StandardScheduleCatalog> catalog = new AtomicReference<>();
+
+    public StandardScheduleService(
+            ObjectMapper objectMapper,
+            @Value("${schedule.standard-catalog.location:" + DEFAULT_CATALOG_LOCATION + "}") Resource catalogResource) {
+        this.objectMapper = objectMapper;
+        this.catalogResource = catalogResource;
+        reload();
+    }
+
+    /**
+     * 표준 스케줄 카탈로그 다시 로드
+     *
+     * 새 카탈로그를 완전히 만든 뒤 한 번에 교체하므로, 로드 중인 요청은 이전 카탈로그를 그대로 사용합니다.
+     * 로드에 실패하면 기존 카탈로그를 유지합니다.
+     *
+     * @return 새로 적용된 카탈로그
+     */
+    public StandardScheduleCatalog reload() {
+        StandardScheduleCatalog loaded = loadCatalog();
+        StandardScheduleCatalog previous = catalog.getAndSet(loaded);
+        log.info("표준 스케줄 카탈로그 로드 완료: version={} (이전: {})",
+                loaded.getVersion(), previous != null ? previous.getVersion() : "-");
+        return loaded;
+    }
+
+    /**
+     * 현재 카탈로그 조회
+     */
+    public StandardScheduleCatalog getCatalog() {
+        return catalog.get();
+    }
 
     /**
      * 월령별 표준 스케줄 조회
      *
      * @param ageInMonths 아기 개월 수
-     * @return 표준 스케줄 아이템 리스트
+     * @return 표준 스케줄 아이템 리스트 (불변)
      */
     public List<StandardScheduleItem> getStandardSchedule(int ageInMonths) {
-        Map<Integer, List<StandardScheduleItem>> schedules = loadStandardSchedules();
-
-        // 정확히 일치하는 스케줄 찾기
-        if (schedules.containsKey(ageInMonths)) {
-            return schedules.get(ageInMonths);
-        }
+        return catalog.get().getSchedule(ageInMonths);
+    }
 
-        // 가장 가까운 하위 개월 수 찾기
-        int closestAge = -1;
-        for (int age : schedules.keySet()) {
-            if (age <= ageInMonths && age > closestAge) {
-                closestAge = age;
-            }
-        }
+    /**
+     * 기상 시간에 맞게 조정된 월령별 표준 스케줄 조회
+     *
+     * 카탈로그에 캐시된 결과를 반환하므로 요청마다 스케줄을 새로 만들지 않습니다.
+     *
+     * @param ageInMonths 아기 개월 수
+     * @param wakeTime 실제 기상 시간
+     * @return 조정된 스케줄 (불변)
+     */
+    public List<StandardScheduleItem> getStandardSchedule(int ageInMonths, LocalTime wakeTime) {
+        return catalog.get().getSchedule(ageInMonths, wakeTime);
+    }
 
-        if (closestAge == -1) {
-            // 기본값: 3개월 스케줄
-            closestAge = 3;
+    /**
+     * 기상 시간에 맞게 조정된 표준 스케줄로 새 스케줄 아이템 생성 (저장 전)
+     *
+     * @param ageInMonths 아기 개월 수
+     * @param wakeTime 기상 시간
+     * @return 새 스케줄 아이템 리스트
+     */
+    public List<ScheduleItem> createScheduleItems(int ageInMonths, LocalTime wakeTime) {
+        List<StandardScheduleItem> standardItems = getStandardSchedule(ageInMonths, wakeTime);
+        List<ScheduleItem> scheduleItems = new ArrayList<>(standardItems.size());
+        for (StandardScheduleItem item : standardItems) {
+            scheduleItems.add(ScheduleItem.builder()
+                    .activityType(item.getActivityType())
+                    .scheduledTime(item.getTime())
+                    .durationMinutes(item.getDurationMinutes())
+                    .note(item.getNote())
+                    .build());
         }
+        return scheduleItems;
+    }
 
-        log.info("{}개월 아기의 표준 스케줄: {}개월 스케줄 사용", ageInMonths, closestAge);
-        return schedules.get(closestAge);
+    /**
+     * 표준 스케줄의 기준 기상 시간
+     */
+    public LocalTime getBaseWakeTime() {
+        return catalog.get().getBaseWakeTime();
     }
 
     /**
@@ -84,153 +155,43 @@ public class StandardScheduleService {
             LocalTime actualWakeTime) {
 
         // 시간 차이 계산 (분 단위)
-        long minuteDiff = java.time.temporal.ChronoUnit.MINUTES.between(BASE_WAKE_TIME, actualWakeTime);
-
-        List<StandardScheduleItem> adjusted = new ArrayList<>();
-        for (StandardScheduleItem item : standardSchedule) {
-            adjusted.add(StandardScheduleItem.builder()
-                    .time(item.getTime().plusMinutes(minuteDiff))
-                    .activityType(item.getActivityType())
-                    .durationMinutes(item.getDurationMinutes())
-                    .note(item.getNote())
-                    .build());
-        }
-
-        return adjusted;
+        long minuteDiff = ChronoUnit.MINUTES.between(catalog.get().getBaseWakeTime(), actualWakeTime);
+        return StandardScheduleCatalog.shift(standardSchedule, minuteDiff);
     }
 
     /**
      * 월령별 표준 스케줄 데이터 로드
-     * (가이드 문서: monthly_sleep_feeding_guide.md 기준)
+     * (가이드 문서: monthly_sleep_feeding_guide.md 기준, schedule/standard-schedules.json)
      */
-    private Map<Integer, List<StandardScheduleItem>> loadStandardSchedules() {
-        Map<Integer, List<StandardScheduleItem>> schedules = new HashMap<>();
-
-        // 3개월 표준 스케줄 (수유 간격: 3시간)
-        schedules.put(3, List.of(
-                item(7, 0, ActivityType.WAKE_UP, 0, "기상"),
-                item(7, 15, ActivityType.FEEDING, 20, "수유 1"),
-                item(8, 30, ActivityType.NAP1, 60, "낮잠 1 (1시간)"),
-                item(9, 30, ActivityType.WAKE_UP, 0, "기상"),
-                item(10, 15, ActivityType.FEEDING, 20, "수유 2"),  // 3시간 후
-                item(11, 10, ActivityType.NAP2, 90, "낮잠 2 (1시간 30분)"),
-                item(12, 40, ActivityType.WAKE_UP, 0, "기상"),
-                item(13, 15, ActivityType.FEEDING, 20, "수유 3"),  // 3시간 후
-                item(14, 25, ActivityType.NAP3, 45, "낮잠 3 (45분)"),
-                item(15, 10, ActivityType.WAKE_UP, 0, "기상"),
-                item(16, 15, ActivityType.FEEDING, 20, "수유 4"),  // 3시간 후
-                item(17, 0, ActivityType.NAP4, 30, "낮잠 4 (30분)"),
-                item(17, 30, ActivityType.WAKE_UP, 0, "기상"),
-                item(19, 15, ActivityType.FEEDING, 20, "수유 5 (마지막)"),  // 3시간 후
-                item(19, 30, ActivityType.BEDTIME, 660, "취침 (야간 수면 약 11시간)")
-        ));
-
-        // 4개월 표준 스케줄 (수유 간격: 3시간)
-        schedules.put(4, List.of(
-                item(7, 0, ActivityType.WAKE_UP, 0, "기상"),
-                item(7, 15, ActivityType.FEEDING, 20, "수유 1"),
-                item(8, 50, ActivityType.NAP1, 70, "낮잠 1 (1시간 10분)"),
-                item(10, 0, ActivityType.WAKE_UP, 0, "기상"),
-                item(10, 15, ActivityType.FEEDING, 20, "수유 2"),  // 3시간 후
-                item(12, 15, ActivityType.NAP2, 105, "낮잠 2 (1시간 45분)"),
-                item(14, 0, ActivityType.WAKE_UP, 0, "기상"),
-                item(13, 15, ActivityType.FEEDING, 20, "수유 3"),  // 3시간 후
-                item(16, 15, ActivityType.NAP3, 45, "낮잠 3 (45분)"),
-                item(17, 0, ActivityType.WAKE_UP, 0, "기상"),
-                item(16, 15, ActivityType.FEEDING, 20, "수유 4 (마지막)"),  // 3시간 후
-                item(19, 0, ActivityType.BEDTIME, 660, "취침 (야간 수면 약 11-12시간)")
-        ));
-
-        // 5개월 표준 스케줄 (수유 간격: 3.5시간)
-        schedules.put(5, List.of(
-                item(7, 0, ActivityType.WAKE_UP, 0, "기상"),
-                item(7, 15, ActivityType.FEEDING, 20, "수유 1"),
-                item(9, 0, ActivityType.NAP1, 90, "낮잠 1 (1시간 30분)"),
-                item(10, 30, ActivityType.WAKE_UP, 0, "기상"),
-                item(10, 45, ActivityType.FEEDING, 20, "수유 2"),  // 3.5시간 후
-                item(12, 45, ActivityType.NAP2, 90, "낮잠 2 (1시간 30분)"),
-                item(14, 15, ActivityType.WAKE_UP, 0, "기상"),
-                item(14, 15, ActivityType.FEEDING, 20, "수유 3"),  // 3.5시간 후
-                item(16, 30, ActivityType.NAP3, 60, "낮잠 3 (1시간)"),
-                item(17, 30, ActivityType.WAKE_UP, 0, "기상"),
-                item(17, 45, ActivityType.FEEDING, 20, "수유 4 (마지막)"),  // 3.5시간 후
-                item(19, 15, ActivityType.BEDTIME, 660, "취침 (야간 수면 약 11-12시간)")
-        ));
-
-        // 6개월 표준 스케줄 (이유식 시작, 수유 간격: 4시간)
-        schedules.put(6, List.of(
-                item(7, 0, ActivityType.WAKE_UP, 0, "기상"),
-                item(7, 15, ActivityType.FEEDING, 20, "수유 1"),
-                item(9, 0, ActivityType.NAP1, 105, "낮잠 1 (1시간 45분)"),
-                item(10, 45, ActivityType.WAKE_UP, 0, "기상"),
-                item(11, 15, ActivityType.FEEDING, 30, "이유식 + 수유 2"),  // 4시간 후
-                item(13, 0, ActivityType.NAP2, 75, "낮잠 2 (1시간 15분)"),
-                item(14, 15, ActivityType.WAKE_UP, 0, "기상"),
-                item(15, 15, ActivityType.FEEDING, 20, "수유 3 (보충)"),  // 4시간 후
-                item(16, 30, ActivityType.NAP3, 45, "낮잠 3 (45분)"),
-                item(17, 15, ActivityType.WAKE_UP, 0, "기상"),
-                item(19, 15, ActivityType.FEEDING, 20, "수유 4 (마지막)"),  // 4시간 후
-                item(19, 30, ActivityType.BEDTIME, 660, "취침 (야간 수면 약 11-12시간)")
-        ));
-
-        // 7~8개월 표준 스케줄 (낮잠 2회, 수유 간격: 4시간)
-        schedules.put(7, List.of(
-                item(7, 0, ActivityType.WAKE_UP, 0, "기상"),
-                item(7, 15, ActivityType.FEEDING, 20, "수유 1"),
-                item(9, 45, ActivityType.NAP1, 90, "낮잠 1 (1시간 30분)"),
-                item(11, 15, ActivityType.WAKE_UP, 0, "기상"),
-                item(11, 15, ActivityType.FEEDING, 30, "이유식 + 수유 2"),  // 4시간 후
-                item(14, 15, ActivityType.NAP2, 75, "낮잠 2 (1시간 15분)"),
-                item(15, 30, ActivityType.WAKE_UP, 0, "기상"),
-                item(15, 15, ActivityType.FEEDING, 30, "이유식 + 수유 3"),  // 4시간 후
-                item(19, 15, ActivityType.FEEDING, 20, "수유 4 (마지막)"),  // 4시간 후
-                item(19, 30, ActivityType.BEDTIME, 660, "취침 (야간 수면 약 11-12시간)")
-        ));
-        schedules.put(8, schedules.get(7)); // 8개월도 동일
-
-        // 11~12개월 표준 스케줄 (낮잠 2회)
-        schedules.put(11, List.of(
-                item(7, 0, ActivityType.WAKE_UP, 0, "기상"),
-                item(7, 15, ActivityType.FEEDING, 30, "아침식사"),
-                item(9, 45, ActivityType.FEEDING, 15, "간식"),
-                item(10, 30, ActivityType.NAP1, 60, "낮잠 1 (1시간)"),
-                item(11, 30, ActivityType.WAKE_UP, 0, "기상"),
-                item(11, 45, ActivityType.FEEDING, 30, "점심식사"),
-                item(14, 30, ActivityType.FEEDING, 15, "간식"),
-                item(15, 0, ActivityType.NAP2, 60, "낮잠 2 (1시간)"),
-                item(16, 0, ActivityType.WAKE_UP, 0, "기상"),
-                item(16, 15, ActivityType.FEEDING, 15, "간식"),
-                item(18, 30, ActivityType.FEEDING, 30, "저녁식사"),
-                item(20, 0, ActivityType.BEDTIME, 660, "취침 (야간 수면 약 11시간)")
-        ));
-
-        // 12~24개월 표준 스케줄 (낮잠 1회)
-        schedules.put(12, List.of(
-                item(7, 0, ActivityType.WAKE_UP, 0, "기상"),
-                item(7, 15, ActivityType.FEEDING, 30, "아침식사"),
-                item(10, 0, ActivityType.FEEDING, 15, "간식"),
-                item(11, 30, ActivityType.FEEDING, 30, "점심식사"),
-                item(12, 30, ActivityType.NAP1, 90, "낮잠 (1시간 30분~2시간)"),
-                item(14, 0, ActivityType.WAKE_UP, 0, "기상"),
-                item(14, 15, ActivityType.FEEDING, 15, "간식"),
-                item(18, 0, ActivityType.FEEDING, 30, "저녁식사"),
-                item(20, 0, ActivityType.BEDTIME, 660, "취침 (야간 수면 약 11시간)")
-        ));
-        schedules.put(18, schedules.get(12)); // 18개월도 유사
-        schedules.put(24, schedules.get(12)); // 24개월도 유사
-
-        return schedules;
-    }
+    private StandardScheduleCatalog loadCatalog() {
+        JsonNode root;
+        try (InputStream in = catalogResource.getInputStream()) {
+            root = objectMapper.readTree(in);
+        } catch (IOException e) {
+            throw new IllegalStateException("표준 스케줄 카탈로그를 읽을 수 없습니다: " + catalogResource, e);
+        }
 
-    /**
-     * 스케줄 아이템 생성 헬퍼
-     */
-    private StandardScheduleItem item(int hour, int minute, ActivityType type, int duration, String note) {
-        return StandardScheduleItem.builder()
-                .time(LocalTime.of(hour, minute))
-                .activityType(type)
-                .durationMinutes(duration)
-                .note(note)
-                .build();
+        NavigableMap<Integer, List<StandardScheduleItem>> schedulesByAge = new TreeMap<>();
+        for (JsonNode scheduleNode : root.path("schedules")) {
+            List<StandardScheduleItem> items = new ArrayList<>();
+            for (JsonNode itemNode : scheduleNode.path("items")) {
+                items.add(StandardScheduleItem.builder()
+                        .time(LocalTime.parse(itemNode.path("time").asText()))
+                        .activityType(ActivityType.valueOf(itemNode.path("activityType").asText()))
+                        .durationMinutes(itemNode.path("durationMinutes").asInt())
+                        .note(itemNode.path("note").asText())
+                        .build());
+            }
+            // 같은 스케줄을 사용하는 월령은 같은 리스트를 공유
+            for (JsonNode ageNode : scheduleNode.path("ageInMonths")) {
+                schedulesByAge.put(ageNode.asInt(), items);
+            }
+        }
+
+        return new StandardScheduleCatalog(
+                root.path("version").asText(),
+                LocalTime.parse(root.path("baseWakeTime").asText("07:00")),
+                schedulesByAge,
+                root.path("defaultAgeInMonths").asInt(3));
     }
 }
@@ -0,0 +1,72 @@
+package com.dutyout.domain.sleep.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 진행 중인 수면 엔티티 (아기당 최대 1행)
+ *
+ * 수면을 시작하면 행을 만들고 종료하면 지웁니다.
+ * 기본 키가 babyId이므로 "지금 자는 중인지, 언제부터인지"를 키 조회 한 번으로 답하고,
+ * 두 보호자가 동시에 수면을 시작해도 DB 제약으로 한쪽만 성공합니다.
+ */
+@Entity
+@Table(name = "ongoing_sleeps")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OngoingSleep implements Persistable<Long> {
+
+    @Id
+    private Long babyId;
+
+    @Column(nullable = false, unique = true)
+    private Long sleepRecordId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private SleepType type;
+
+    @Column(nullable = false)
+    private LocalDateTime startTime;
+
+    @Transient
+    private boolean isNew = true; // save() 시 SELECT 후 병합하지 않고 바로 INSERT (중복이면 키 충돌)
+
+    private OngoingSleep(Long babyId, Long sleepRecordId, SleepType type, LocalDateTime startTime) {
+        this.babyId = babyId;
+        this.sleepRecordId = sleepRecordId;
+        this.type = type;
+        this.startTime = startTime;
+    }
+
+    /**
+     * 시작된 수면 기록으로 생성
+     */
+    public static OngoingSleep from(SleepRecord record) {
+        if (!record.isOngoing()) {
+            throw new IllegalArgumentException("진행 중인 수면만 등록할 수 있습니다.");
+        }
+        return new OngoingSleep(record.getBabyId(), record.getId(), record.getType(), record.getStartTime());
+    }
+
+    @Override
+    public Long getId() {
+        return babyId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+}
@@ -15,14 +15,24 @@ import java.time.LocalDateTime;
  */
 @Entity
 @Table(name = "sleep_records", indexes = {
-        @Index(name = "idx_baby_id_start_time", columnList = "babyId,startTime")
+        @Index(name = "idx_sleep_records_baby_start_end", columnList = "babyId,startTime,endTime"), // 기간 겹침 조회 (통계)
+        @Index(name = "idx_sleep_records_baby_start_id", columnList = "babyId,startTime,id") // 최신순 커서 페이지 조회
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class SleepRecord extends BaseTimeEntity {
 
+    /**
+     * 수면 1건의 최대 길이
+     *
+     * 기간 통계는 시작 시각이 (기간 시작 - 최대 길이) 이후인 기록만 인덱스 범위로 읽으므로,
+     * 이보다 긴 수면은 저장할 수 없습니다.
+     */
+    public static final Duration MAX_DURATION = Duration.ofHours(24);
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sleep_records_seq")
+    @SequenceGenerator(name = "sleep_records_seq", sequenceName = "sleep_records_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -118,5 +128,8 @@ public class SleepRecord extends BaseTimeEntity {
         if (endTime.isBefore(startTime)) {
             throw new IllegalArgumentException("종료 시간은 시작 시간보다 이후여야 합니다.");
         }
+        if (Duration.between(startTime, endTime).compareTo(MAX_DURATION) > 0) {
+            throw new IllegalArgumentException("수면 시간은 24시간을 넘을 수 없습니다.");
+        }
     }
 }
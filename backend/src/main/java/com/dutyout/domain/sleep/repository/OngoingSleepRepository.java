@@ -0,0 +1,27 @@
+package com.dutyout.domain.sleep.repository;
+
+import com.dutyout.domain.sleep.entity.OngoingSleep;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 진행 중인 수면 저장소 (babyId 기본 키)
+ */
+@Repository
+public interface OngoingSleepRepository extends JpaRepository<OngoingSleep, Long> {
+
+    /**
+     * 진행 중 표시 해제
+     *
+     * 동시에 같은 수면을 종료하면 행 잠금으로 순서가 정해지고, 나중 요청은 0을 받습니다.
+     * 영속성 컨텍스트를 비우므로 수정할 엔티티는 호출 후에 조회해야 합니다.
+     *
+     * @return 삭제된 행 수 (이미 종료됐으면 0)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM OngoingSleep o WHERE o.sleepRecordId = :sleepRecordId")
+    int deleteBySleepRecordId(@Param("sleepRecordId") Long sleepRecordId);
+}
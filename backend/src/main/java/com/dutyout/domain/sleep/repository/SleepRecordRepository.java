@@ -1,22 +1,127 @@
 package com.dutyout.domain.sleep.repository;
 
 import com.dutyout.domain.sleep.entity.SleepRecord;
+import com.dutyout.domain.sleep.entity.SleepType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface SleepRecordRepository extends JpaRepository<SleepRecord, Long> {
 
     List<SleepRecord> findByBabyIdAndStartTimeBetween(Long babyId, LocalDateTime startTime, LocalDateTime endTime);
 
-    @Query("SELECT s FROM SleepRecord s WHERE s.babyId = :babyId AND s.endTime IS NULL ORDER BY s.startTime DESC")
-    Optional<SleepRecord> findOngoingSleep(@Param("babyId") Long babyId);
+    /**
+     * 최근 수면 기록 조회 (첫 페이지, 시작 시각 최신순)
+     */
+    List<SleepRecord> findByBabyIdOrderByStartTimeDescIdDesc(Long babyId, Limit limit);
 
-    List<SleepRecord> findByBabyIdOrderByStartTimeDesc(Long babyId);
+    /**
+     * 특정 시각 이전에 시작한 직전 수면 조회 (깨시 계산용, (babyId, startTime) 인덱스 역순 1건)
+     */
+    Optional<SleepRecord> findFirstByBabyIdAndStartTimeBeforeOrderByStartTimeDescIdDesc(Long babyId, LocalDateTime startTime);
+
+    /**
+     * 커서 이후 수면 기록 조회 (다음 페이지)
+     *
+     * (startTime, id)가 커서보다 작은 기록을 최신순으로 읽습니다.
+     * startTime 상한을 따로 두어 (babyId, startTime, id) 인덱스 범위 스캔으로 처리합니다.
+     */
+    @Query("SELECT s FROM SleepRecord s " +
+           "WHERE s.babyId = :babyId AND s.startTime <= :cursorTime " +
+           "AND (s.startTime < :cursorTime OR s.id < :cursorId) " +
+           "ORDER BY s.startTime DESC, s.id DESC")
+    List<SleepRecord> findPageBefore(@Param("babyId") Long babyId,
+                                     @Param("cursorTime") LocalDateTime cursorTime,
+                                     @Param("cursorId") Long cursorId,
+                                     Limit limit);
+
+    /**
+     * 전체 수면 기록 스트림 (내보내기용, 시작 시각순)
+     *
+     * 커서로 fetch size만큼씩 읽으므로 기록 수와 관계없이 메모리 사용이 일정합니다.
+     * 읽기 전용 트랜잭션 안에서 사용하고, 사용 후 반드시 닫아야 합니다.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT s FROM SleepRecord s WHERE s.babyId = :babyId ORDER BY s.startTime, s.id")
+    Stream<SleepRecord> streamByBabyId(@Param("babyId") Long babyId);
+
+    /**
+     * 기간과 겹치는 종료된 수면 구간 조회 (시작 시각순)
+     *
+     * [rangeStart, rangeEnd)와 겹치는 수면을 모두 읽습니다. 기간 시작 전에 시작해 기간 안에서 끝난 수면도 포함됩니다.
+     * 수면 길이가 SleepRecord.MAX_DURATION 이하이므로 시작 시각 하한(lookbackStart)을 두어
+     * (babyId, startTime, endTime) 인덱스 범위 스캔으로 처리합니다.
+     * 진행 중인 수면(endTime 없음)은 제외합니다.
+     */
+    @Query("SELECT s.id AS id, s.type AS type, s.startTime AS startTime, s.endTime AS endTime " +
+           "FROM SleepRecord s " +
+           "WHERE s.babyId = :babyId " +
+           "AND s.startTime >= :lookbackStart AND s.startTime < :rangeEnd " +
+           "AND s.endTime > :rangeStart " +
+           "ORDER BY s.startTime")
+    List<SleepInterval> findSleepIntervals(@Param("babyId") Long babyId,
+                                           @Param("rangeStart") LocalDateTime rangeStart,
+                                           @Param("rangeEnd") LocalDateTime rangeEnd,
+                                           @Param("lookbackStart") LocalDateTime lookbackStart);
+
+    /**
+     * 시작 시각 범위의 수면 구간 조회 (겹침 검사용, 시작 시각순)
+     *
+     * [from, to)에 시작한 수면을 진행 중인 것까지 모두 읽습니다. (babyId, startTime) 인덱스 범위 스캔입니다.
+     */
+    @Query("SELECT s.id AS id, s.type AS type, s.startTime AS startTime, s.endTime AS endTime " +
+           "FROM SleepRecord s " +
+           "WHERE s.babyId = :babyId AND s.startTime >= :from AND s.startTime < :to " +
+           "ORDER BY s.startTime, s.id")
+    List<SleepInterval> findIntervalsStartingBetween(@Param("babyId") Long babyId,
+                                                     @Param("from") LocalDateTime from,
+                                                     @Param("to") LocalDateTime to);
+
+    /**
+     * 새 수면 구간과 겹치는 기존 수면 조회 (기록 생성/종료 시 검사용, 먼저 시작한 것부터)
+     *
+     * 수면 길이는 SleepRecord.MAX_DURATION 이하이므로 시작 시각을 [windowStart, end)로 묶어
+     * (babyId, startTime, endTime) 인덱스(V4) 범위 스캔 한 번으로 찾고, 종료 시각 조건은 인덱스 안에서 거릅니다.
+     * 경계가 맞닿는 것은 겹침이 아니며, 진행 중인 수면(endTime 없음)은 끝나지 않은 구간으로 봅니다.
+     *
+     * @param windowStart 새 시작 시각 - MAX_DURATION
+     * @param end 새 종료 시각 (진행 중이면 충분히 먼 시각)
+     * @param excludeId 검사에서 뺄 기록 (종료 처리 중인 자기 자신), 없으면 null
+     */
+    @Query("SELECT s.id AS id, s.type AS type, s.startTime AS startTime, s.endTime AS endTime " +
+           "FROM SleepRecord s " +
+           "WHERE s.babyId = :babyId AND s.startTime >= :windowStart AND s.startTime < :end " +
+           "AND (s.endTime IS NULL OR s.endTime > :start) " +
+           "AND (:excludeId IS NULL OR s.id <> :excludeId) " +
+           "ORDER BY s.startTime, s.id")
+    List<SleepInterval> findOverlapping(@Param("babyId") Long babyId,
+                                        @Param("windowStart") LocalDateTime windowStart,
+                                        @Param("start") LocalDateTime start,
+                                        @Param("end") LocalDateTime end,
+                                        @Param("excludeId") Long excludeId,
+                                        Limit limit);
+
+    /**
+     * 수면 구간 프로젝션
+     */
+    interface SleepInterval {
+        Long getId();
+        SleepType getType();
+        LocalDateTime getStartTime();
+        LocalDateTime getEndTime();
+    }
 }
@@ -0,0 +1,133 @@
+package com.dutyout.domain.sleep.service;
+
+import com.dutyout.domain.sleep.entity.SleepRecord;
+import com.dutyout.domain.sleep.repository.SleepRecordRepository;
+import com.dutyout.domain.sleep.repository.SleepRecordRepository.SleepInterval;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * 아기 한 명의 수면 구간 인덱스 (겹침 검사용)
+ *
+ * 시작 시각순 TreeMap에 수면 구간을 담아 두고, 새 구간과 겹치는 기존 구간을 찾습니다.
+ * 수면 길이는 SleepRecord.MAX_DURATION 이하이므로 새 구간보다 MAX_DURATION 이상 먼저 시작한 기록은 겹칠 수 없고,
+ * 검사는 (새 시작 - MAX_DURATION, 새 종료) 사이에 시작한 구간만 봅니다. 로그 시간 탐색 + 그 창 안의 몇 건입니다.
+ *
+ * 메모리에는 필요한 시간 창만 올립니다. 검사 범위가 아직 읽지 않은 구간이면
+ * (babyId, startTime) 인덱스 범위 조회로 최소 LOAD_CHUNK만큼 더 읽어 붙입니다.
+ * 기록을 시간순으로 가져오는 대량 가져오기도 한 달에 쿼리 한 번 정도로 검사합니다.
+ *
+ * 가져오기 파일 하나처럼 여러 구간을 연달아 검사할 때 쓰는 요청(트랜잭션) 범위 객체입니다. 스레드 안전하지 않습니다.
+ * 기록 하나만 검사하는 수면 시작/종료는 SleepRecordRepository.findOverlapping 쿼리 한 번으로 충분합니다.
+ */
+public class SleepIntervalIndex {
+
+    private static final Duration LOAD_CHUNK = Duration.ofDays(31);
+    static final LocalDateTime OPEN_END = LocalDateTime.of(9999, 12, 31, 0, 0); // 진행 중인 수면의 종료 시각 (DB 범위 안의 값)
+
+    private final Long babyId;
+    private final SleepRecordRepository sleepRecordRepository;
+    private final TreeMap<IntervalKey, Interval> intervals = new TreeMap<>();
+    private LocalDateTime loadedFrom; // 읽어 둔 시작 시각 범위 [loadedFrom, loadedTo)
+    private LocalDateTime loadedTo;
+    private long newIntervalSeq; // 아직 저장되지 않은 구간의 임시 키
+
+    public SleepIntervalIndex(Long babyId, SleepRecordRepository sleepRecordRepository) {
+        this.babyId = babyId;
+        this.sleepRecordRepository = sleepRecordRepository;
+    }
+
+    /**
+     * 수면 구간
+     *
+     * @param id 수면 기록 ID (아직 저장 전이면 null)
+     * @param end 종료 시각 (진행 중이면 null)
+     */
+    public record Interval(Long id, LocalDateTime start, LocalDateTime end) {
+
+        boolean overlaps(LocalDateTime otherStart, LocalDateTime otherEnd) {
+            return start.isBefore(endOrOpen(otherEnd)) && otherStart.isBefore(endOrOpen(end));
+        }
+    }
+
+    /**
+     * 겹치는 기존 구간 조회 (경계가 맞닿는 것은 겹침 아님)
+     *
+     * @param end 종료 시각 (진행 중이면 null)
+     * @param excludeId 검사에서 뺄 기록 (종료 처리 중인 자기 자신), 없으면 null
+     * @return 가장 먼저 시작한 겹치는 구간
+     */
+    public Optional<Interval> findOverlap(LocalDateTime start, LocalDateTime end, Long excludeId) {
+        LocalDateTime windowStart = start.minus(SleepRecord.MAX_DURATION);
+        LocalDateTime windowEnd = endOrOpen(end);
+        ensureLoaded(windowStart, windowEnd);
+
+        Map<IntervalKey, Interval> candidates = intervals.subMap(
+                IntervalKey.lowest(windowStart), true, IntervalKey.lowest(windowEnd), false);
+        for (Interval interval : candidates.values()) {
+            if (!interval.id().equals(excludeId) && interval.overlaps(start, end)) {
+                return Optional.of(interval);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 검사를 통과한 새 구간 추가 (같은 묶음 안의 다음 구간과도 겹침 검사되도록)
+     */
+    public void add(Long id, LocalDateTime start, LocalDateTime end) {
+        Long key = id != null ? id : -(++newIntervalSeq);
+        intervals.put(new IntervalKey(start, key), new Interval(key, start, end));
+    }
+
+    /**
+     * [from, to) 시작 구간을 메모리에 확보 (이미 읽은 범위는 다시 읽지 않음)
+     */
+    private void ensureLoaded(LocalDateTime from, LocalDateTime to) {
+        if (loadedFrom == null) {
+            load(from, to.isAfter(from.plus(LOAD_CHUNK)) ? to : from.plus(LOAD_CHUNK));
+            return;
+        }
+        if (from.isBefore(loadedFrom)) {
+            LocalDateTime chunkStart = loadedFrom.minus(LOAD_CHUNK);
+            load(from.isBefore(chunkStart) ? from : chunkStart, loadedFrom);
+        }
+        if (to.isAfter(loadedTo)) {
+            LocalDateTime chunkEnd = loadedTo.isAfter(OPEN_END.minus(LOAD_CHUNK)) ? OPEN_END : loadedTo.plus(LOAD_CHUNK);
+            load(loadedTo, to.isAfter(chunkEnd) ? to : chunkEnd);
+        }
+    }
+
+    private void load(LocalDateTime from, LocalDateTime to) {
+        for (SleepInterval row : sleepRecordRepository.findIntervalsStartingBetween(babyId, from, to)) {
+            intervals.putIfAbsent(new IntervalKey(row.getStartTime(), row.getId()),
+                    new Interval(row.getId(), row.getStartTime(), row.getEndTime()));
+        }
+        loadedFrom = loadedFrom == null || from.isBefore(loadedFrom) ? from : loadedFrom;
+        loadedTo = loadedTo == null || to.isAfter(loadedTo) ? to : loadedTo;
+    }
+
+    private static LocalDateTime endOrOpen(LocalDateTime end) {
+        return end != null ? end : OPEN_END;
+    }
+
+    /**
+     * 정렬 키 (시작 시각, id) - 같은 시각에 시작한 기록도 구분
+     */
+    private record IntervalKey(LocalDateTime start, Long id) implements Comparable<IntervalKey> {
+
+        static IntervalKey lowest(LocalDateTime start) {
+            return new IntervalKey(start, Long.MIN_VALUE);
+        }
+
+        @Override
+        public int compareTo(IntervalKey other) {
+            int byStart = start.compareTo(other.start);
+            return byStart != 0 ? byStart : Long.compare(id, other.id);
+        }
+    }
+}
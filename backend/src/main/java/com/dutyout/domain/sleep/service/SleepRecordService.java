@@ -2,17 +2,28 @@ package com.dutyout.domain.sleep.service;
 
 import com.dutyout.common.exception.BusinessException;
 import com.dutyout.common.exception.ErrorCode;
+import com.dutyout.common.response.CursorPageResponse;
+import com.dutyout.common.response.CursorPageResponse.Cursor;
+import com.dutyout.domain.prediction.service.RhythmPredictionService;
+import com.dutyout.domain.sleep.entity.OngoingSleep;
 import com.dutyout.domain.sleep.entity.SleepQuality;
 import com.dutyout.domain.sleep.entity.SleepRecord;
+import com.dutyout.domain.sleep.repository.OngoingSleepRepository;
 import com.dutyout.domain.sleep.repository.SleepRecordRepository;
+import com.dutyout.domain.sleep.repository.SleepRecordRepository.SleepInterval;
+import com.dutyout.domain.statistics.service.DailyStatsService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -24,23 +35,47 @@ import java.util.List;
 @Slf4j
 public class SleepRecordService {
 
+    /**
+     * 겹침 목록 최대 조회 일수 (1년)
+     */
+    public static final int MAX_OVERLAP_RANGE_DAYS = 366;
+
     private final SleepRecordRepository sleepRecordRepository;
+    private final OngoingSleepRepository ongoingSleepRepository;
+    private final DailyStatsService dailyStatsService;
+    private final RhythmPredictionService rhythmPredictionService;
 
     /**
      * 수면 시작 기록
+     *
+     * 진행 중인 수면은 ongoing_sleeps(babyId 기본 키)에 함께 등록합니다.
+     * 두 요청이 동시에 확인을 통과해도 등록 INSERT에서 한쪽만 성공하고, 나머지는 수면 기록까지 롤백됩니다.
      */
     @Transactional
     public SleepRecord startSleep(SleepRecord sleepRecord) {
-        // 진행 중인 수면이 있는지 확인
-        sleepRecordRepository.findOngoingSleep(sleepRecord.getBabyId())
-                .ifPresent(ongoing -> {
-                    throw new BusinessException("SLEEP_002", "진행 중인 수면이 있습니다. 먼저 종료해주세요.");
-                });
+        // 진행 중인 수면이 있는지 확인 (키 조회)
+        if (ongoingSleepRepository.existsById(sleepRecord.getBabyId())) {
+            throw alreadyOngoing();
+        }
 
         log.info("수면 시작: babyId={}, type={}, time={}",
                 sleepRecord.getBabyId(), sleepRecord.getType(), sleepRecord.getStartTime());
 
-        return sleepRecordRepository.save(sleepRecord);
+        validateNoOverlap(sleepRecord.getBabyId(), sleepRecord.getStartTime(), sleepRecord.getEndTime(), null);
+
+        SleepRecord saved = sleepRecordRepository.save(sleepRecord);
+        if (saved.isOngoing()) {
+            try {
+                ongoingSleepRepository.saveAndFlush(OngoingSleep.from(saved));
+            } catch (DataIntegrityViolationException e) {
+                throw alreadyOngoing(); // 다른 보호자가 먼저 시작함
+            }
+        }
+
+        // 깨시(직전 수면 종료 ~ 지금)와 종료 시간까지 함께 받은 경우 낮잠 길이를 리듬 추정에 반영
+        rhythmPredictionService.recordSleepStart(saved);
+        rhythmPredictionService.recordSleepEnd(saved);
+        return saved;
     }
 
     /**
@@ -48,16 +83,27 @@ public class SleepRecordService {
      */
     @Transactional
     public SleepRecord endSleep(Long recordId, LocalDateTime endTime, SleepQuality quality, Integer wakeCount) {
+        // 진행 중 표시를 먼저 지워 동시 종료 요청 중 하나만 통과
+        boolean unregistered = ongoingSleepRepository.deleteBySleepRecordId(recordId) > 0;
+
         SleepRecord record = sleepRecordRepository.findById(recordId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.SLEEP_RECORD_NOT_FOUND));
 
-        if (!record.isOngoing()) {
+        if (!unregistered || !record.isOngoing()) {
             throw new BusinessException("SLEEP_003", "이미 종료된 수면 기록입니다.");
         }
 
         record.endSleep(endTime, quality, wakeCount);
+        validateNoOverlap(record.getBabyId(), record.getStartTime(), endTime, recordId);
         log.info("수면 종료: recordId={}, duration={}분", recordId, record.calculateDurationInMinutes());
 
+        // 종료된 수면부터 통계에 반영 (자정을 넘으면 걸친 날짜 모두)
+        for (LocalDate date = record.getStartTime().toLocalDate();
+             !date.isAfter(endTime.toLocalDate()); date = date.plusDays(1)) {
+            dailyStatsService.refresh(record.getBabyId(), date);
+        }
+        rhythmPredictionService.recordSleepEnd(record);
+
         return record;
     }
 
@@ -72,10 +118,87 @@ public class SleepRecordService {
     }
 
     /**
-     * 진행 중인 수면 조회
+     * 수면 기록 커서 페이지 조회 (시작 시각 최신순)
+     *
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     */
+    public CursorPageResponse<SleepRecord> getSleepRecordPage(Long babyId, String cursor, int size) {
+        int pageSize = CursorPageResponse.normalizeSize(size);
+        Cursor after = Cursor.decode(cursor);
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<SleepRecord> rows = after == null
+                ? sleepRecordRepository.findByBabyIdOrderByStartTimeDescIdDesc(babyId, limit)
+                : sleepRecordRepository.findPageBefore(babyId, after.time(), after.id(), limit);
+        return CursorPageResponse.of(rows, pageSize, record -> new Cursor(record.getStartTime(), record.getId()));
+    }
+
+    /**
+     * 진행 중인 수면 조회 (키 조회 한 번)
+     *
+     * @return 진행 중인 수면, 없으면 null
      */
-    public SleepRecord getOngoingSleep(Long babyId) {
-        return sleepRecordRepository.findOngoingSleep(babyId)
+    public OngoingSleep getOngoingSleep(Long babyId) {
+        return ongoingSleepRepository.findById(babyId)
                 .orElse(null);
     }
+
+    /**
+     * 겹치는 수면 기록 목록 조회 (정리용)
+     *
+     * 기간에 시작한 수면을 시작 시각순으로 한 번 읽으면서, 아직 끝나지 않은 앞선 구간들과만 비교합니다.
+     * 겹침 판단 기준은 기록 생성/종료 시 검사(findOverlapping)와 같습니다.
+     *
+     * @return 겹치는 두 기록 쌍 (앞선 기록 시작 시각순)
+     */
+    public List<SleepOverlap> findOverlaps(Long babyId, LocalDate from, LocalDate to) {
+        if (to.isBefore(from) || ChronoUnit.DAYS.between(from, to) >= MAX_OVERLAP_RANGE_DAYS) {
+            throw new BusinessException(ErrorCode.INVALID_DATE_RANGE);
+        }
+
+        // 기간 시작 전 MAX_DURATION 안에 시작한 수면도 기간 안의 수면과 겹칠 수 있으므로 함께 읽음
+        LocalDateTime rangeStart = from.atStartOfDay();
+        List<SleepInterval> intervals = sleepRecordRepository.findIntervalsStartingBetween(
+                babyId, rangeStart.minus(SleepRecord.MAX_DURATION), to.plusDays(1).atStartOfDay());
+
+        List<SleepOverlap> overlaps = new ArrayList<>();
+        List<SleepInterval> active = new ArrayList<>(); // 현재 구간 시작 시각까지 끝나지 않은 구간
+        for (SleepInterval current : intervals) {
+            active.removeIf(previous -> previous.getEndTime() != null
+                    && !previous.getEndTime().isAfter(current.getStartTime()));
+            if (!current.getStartTime().isBefore(rangeStart)) {
+                active.forEach(previous -> overlaps.add(new SleepOverlap(previous, current)));
+            }
+            active.add(current);
+        }
+        return overlaps;
+    }
+
+    /**
+     * 겹치는 수면 기록 쌍
+     */
+    public record SleepOverlap(SleepInterval first, SleepInterval second) {
+    }
+
+    /**
+     * 다른 수면 기록과 겹치지 않는지 확인
+     *
+     * 겹치는 기록 하나만 인덱스 범위 조회로 찾습니다. (기록 하나를 검사하는 데 구간 인덱스를 만들지 않음)
+     *
+     * @param end 종료 시각 (진행 중이면 null)
+     * @param excludeId 검사에서 뺄 기록 (종료 처리 중인 자기 자신)
+     */
+    private void validateNoOverlap(Long babyId, LocalDateTime start, LocalDateTime end, Long excludeId) {
+        List<SleepInterval> overlaps = sleepRecordRepository.findOverlapping(babyId,
+                start.minus(SleepRecord.MAX_DURATION), start,
+                end != null ? end : SleepIntervalIndex.OPEN_END, excludeId, Limit.of(1));
+        if (!overlaps.isEmpty()) {
+            log.info("수면 겹침: babyId={}, existingRecordId={}", babyId, overlaps.get(0).getId());
+            throw new BusinessException(ErrorCode.SLEEP_OVERLAP);
+        }
+    }
+
+    private static BusinessException alreadyOngoing() {
+        return new BusinessException("SLEEP_002", "진행 중인 수면이 있습니다. 먼저 종료해주세요.");
+    }
 }
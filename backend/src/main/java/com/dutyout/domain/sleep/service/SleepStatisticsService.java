@@ -1,21 +1,22 @@
 package com.dutyout.domain.sleep.service;
 
+import com.dutyout.application.dto.response.StatisticsSeriesResponse;
 import com.dutyout.application.dto.response.WeeklyStatisticsResponse;
-import com.dutyout.application.service.FeedingRecordService;
-import com.dutyout.domain.sleep.entity.SleepRecord;
-import com.dutyout.domain.sleep.repository.SleepRecordRepository;
+import com.dutyout.common.exception.BusinessException;
+import com.dutyout.common.exception.ErrorCode;
+import com.dutyout.domain.statistics.entity.BabyDailyStats;
+import com.dutyout.domain.statistics.entity.StatisticsBucket;
+import com.dutyout.domain.statistics.service.DailyStatsService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.LocalTime;
 import java.time.YearMonth;
 import java.time.format.TextStyle;
+import java.time.temporal.ChronoUnit;
 import java.util.*;
-import java.util.stream.Collectors;
 
 /**
  * 수면 통계 서비스
@@ -28,8 +29,12 @@ import java.util.stream.Collectors;
 @Slf4j
 public class SleepStatisticsService {
 
-    private final SleepRecordRepository sleepRecordRepository;
-    private final FeedingRecordService feedingRecordService;
+    /**
+     * 기간 통계 최대 조회 일수 (1년)
+     */
+    public static final int MAX_RANGE_DAYS = 366;
+
+    private final DailyStatsService dailyStatsService;
 
     /**
      * 최근 7일 주간 통계 조회
@@ -53,44 +58,34 @@ public class SleepStatisticsService {
     }
 
     /**
-     * 날짜 범위 통계 조회
+     * 기간 통계 시계열 조회 (일/주/월 묶음)
+     *
+     * 롤업을 쿼리 한 번(최대 366행)으로 읽어 메모리에서 묶으므로 1년 조회도 1주 조회와 비용이 비슷합니다.
      */
-    private WeeklyStatisticsResponse getStatistics(Long babyId, LocalDate startDate, LocalDate endDate) {
-        // 수면 기록 조회
-        LocalDateTime startDateTime = startDate.atStartOfDay();
-        LocalDateTime endDateTime = endDate.atTime(LocalTime.MAX);
-
-        List<SleepRecord> sleepRecords = sleepRecordRepository.findByBabyIdAndStartTimeBetween(
-                babyId, startDateTime, endDateTime
-        );
-
-        // 일별 통계 계산
-        Map<LocalDate, Integer> sleepByDate = new HashMap<>();
-        int totalSleepMinutes = 0;
-
-        for (SleepRecord record : sleepRecords) {
-            if (!record.isOngoing()) {  // 종료된 수면 기록만 계산
-                int durationMinutes = (int) record.calculateDurationInMinutes();  // long to int 형변환
-                LocalDate recordDate = record.getStartTime().toLocalDate();
-                sleepByDate.merge(recordDate, durationMinutes, Integer::sum);
-                totalSleepMinutes += durationMinutes;
-            }
+    public StatisticsSeriesResponse getSeries(Long babyId, LocalDate from, LocalDate to, StatisticsBucket bucket) {
+        if (to.isBefore(from) || ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            throw new BusinessException(ErrorCode.INVALID_STATISTICS_RANGE);
         }
+        return StatisticsSeriesResponse.of(babyId, from, to, bucket, dailyStatsService.getDailyStats(babyId, from, to));
+    }
 
-        // 수유 기록 조회
+    /**
+     * 날짜 범위 통계 조회
+     *
+     * 일일 통계 롤업(baby_daily_stats)에서 기간 내 하루 1행씩만 읽으므로
+     * 원본 기록 양과 관계없이 쿼리 한 번으로 조회합니다.
+     */
+    public WeeklyStatisticsResponse getStatistics(Long babyId, LocalDate startDate, LocalDate endDate) {
+        Map<LocalDate, Integer> sleepByDate = new HashMap<>();
         Map<LocalDate, Integer> feedingByDate = new HashMap<>();
+        int totalSleepMinutes = 0;
         int totalFeedingAmount = 0;
 
-        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
-            try {
-                int amount = feedingRecordService.getTotalFeedingAmountByDate(babyId, date);
-                if (amount > 0) {
-                    feedingByDate.put(date, amount);
-                    totalFeedingAmount += amount;
-                }
-            } catch (Exception e) {
-                log.debug("수유 기록 조회 실패: babyId={}, date={}", babyId, date);
-            }
+        for (BabyDailyStats stats : dailyStatsService.getDailyStats(babyId, startDate, endDate)) {
+            sleepByDate.put(stats.getStatDate(), stats.getTotalSleepMinutes());
+            feedingByDate.put(stats.getStatDate(), stats.getFeedingTotalMl());
+            totalSleepMinutes += stats.getTotalSleepMinutes();
+            totalFeedingAmount += stats.getFeedingTotalMl();
         }
 
         // 일별 통계 리스트 생성
@@ -0,0 +1,96 @@
+package com.dutyout.domain.statistics.entity;
+
+import com.dutyout.common.entity.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 아기별 일일 통계 롤업 엔티티
+ *
+ * 수면/수유 기록과 스케줄 실측 기록을 하루 단위로 미리 합산해 둔 행입니다.
+ * 기록이 바뀌는 트랜잭션에서 해당 날짜 행을 다시 계산하므로(DailyStatsService.refresh)
+ * 통계 API는 원본 기록 대신 기간 내 하루 1행만 읽습니다.
+ *
+ * 날짜 기준:
+ * - 수면: 시작 시각의 날짜 (종료된 수면만)
+ * - 수유: 수유 시각의 날짜
+ * - 스케줄 실측: 스케줄 날짜
+ */
+@Entity
+@Table(name = "baby_daily_stats", indexes = {
+        @Index(name = "idx_baby_daily_stats_baby_date", columnList = "babyId,statDate", unique = true)
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BabyDailyStats extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "baby_daily_stats_seq")
+    @SequenceGenerator(name = "baby_daily_stats_seq", sequenceName = "baby_daily_stats_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long babyId;
+
+    @Column(nullable = false)
+    private LocalDate statDate;
+
+    @Column(nullable = false)
+    private Integer totalSleepMinutes = 0; // 낮잠 + 밤잠
+
+    @Column(nullable = false)
+    private Integer napCount = 0;
+
+    @Column(nullable = false)
+    private Integer nightSleepMinutes = 0;
+
+    @Column(nullable = false)
+    private Integer feedingTotalMl = 0;
+
+    @Column(nullable = false)
+    private Integer feedingCount = 0;
+
+    @Column
+    private LocalDateTime lastRecordAt; // 그날 마지막 기록 시각
+
+    @Builder
+    private BabyDailyStats(Long babyId, LocalDate statDate) {
+        validateBabyId(babyId);
+        validateStatDate(statDate);
+
+        this.babyId = babyId;
+        this.statDate = statDate;
+    }
+
+    /**
+     * 합계 갱신 (해당 날짜를 다시 계산한 값으로 덮어씀)
+     */
+    public void update(int totalSleepMinutes, int napCount, int nightSleepMinutes,
+                       int feedingTotalMl, int feedingCount, LocalDateTime lastRecordAt) {
+        this.totalSleepMinutes = totalSleepMinutes;
+        this.napCount = napCount;
+        this.nightSleepMinutes = nightSleepMinutes;
+        this.feedingTotalMl = feedingTotalMl;
+        this.feedingCount = feedingCount;
+        this.lastRecordAt = lastRecordAt;
+    }
+
+    // Validation 메서드들
+    private void validateBabyId(Long babyId) {
+        if (babyId == null || babyId <= 0) {
+            throw new IllegalArgumentException("유효하지 않은 아기 ID입니다.");
+        }
+    }
+
+    private void validateStatDate(LocalDate statDate) {
+        if (statDate == null) {
+            throw new IllegalArgumentException("통계 날짜는 필수입니다.");
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.dutyout.domain.statistics.entity;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * 통계 묶음 단위
+ *
+ * 일일 롤업 행을 일/주/월 단위로 묶을 때 사용합니다. 주는 월요일에 시작합니다.
+ */
+public enum StatisticsBucket {
+    DAY("일"),
+    WEEK("주"),
+    MONTH("월");
+
+    private final String koreanName;
+
+    StatisticsBucket(String koreanName) {
+        this.koreanName = koreanName;
+    }
+
+    public String getKoreanName() {
+        return koreanName;
+    }
+
+    /**
+     * 날짜가 속한 묶음의 시작일
+     */
+    public LocalDate startOf(LocalDate date) {
+        return switch (this) {
+            case DAY -> date;
+            case WEEK -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTH -> date.withDayOfMonth(1);
+        };
+    }
+
+    /**
+     * 다음 묶음의 시작일
+     */
+    public LocalDate nextStart(LocalDate start) {
+        return switch (this) {
+            case DAY -> start.plusDays(1);
+            case WEEK -> start.plusWeeks(1);
+            case MONTH -> start.plusMonths(1);
+        };
+    }
+}
@@ -0,0 +1,63 @@
+package com.dutyout.domain.statistics.repository;
+
+import com.dutyout.domain.statistics.entity.BabyDailyStats;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 일일 통계 롤업 저장소
+ */
+@Repository
+public interface BabyDailyStatsRepository extends JpaRepository<BabyDailyStats, Long> {
+
+    /**
+     * 기간 롤업 조회 (날짜순, 기록이 있는 날짜만)
+     */
+    List<BabyDailyStats> findByBabyIdAndStatDateBetweenOrderByStatDate(
+            Long babyId, LocalDate startDate, LocalDate endDate);
+
+    /**
+     * 갱신용 롤업 조회 (행 잠금)
+     *
+     * 같은 날짜에 동시에 기록이 들어오면 두 번째 트랜잭션은 첫 번째 커밋까지 대기한 뒤 다시 계산합니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM BabyDailyStats s WHERE s.babyId = :babyId AND s.statDate = :statDate")
+    Optional<BabyDailyStats> findForUpdate(@Param("babyId") Long babyId, @Param("statDate") LocalDate statDate);
+
+    /**
+     * 빈 롤업 행 추가 (이미 있으면 무시)
+     *
+     * 그날의 첫 기록이 동시에 들어오면 한쪽은 다른 쪽 INSERT가 끝날 때까지 기다렸다가 아무것도 하지 않으므로,
+     * 이어서 findForUpdate로 같은 행을 잠글 수 있습니다. (유니크 인덱스 위반으로 트랜잭션이 실패하지 않음)
+     *
+     * @return 추가된 행 수 (이미 있으면 0)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO baby_daily_stats (id, baby_id, stat_date, total_sleep_minutes, nap_count, " +
+                   "night_sleep_minutes, feeding_total_ml, feeding_count, created_at, modified_at) " +
+                   "VALUES (nextval('baby_daily_stats_seq'), :babyId, :statDate, 0, 0, 0, 0, 0, :now, :now) " +
+                   "ON CONFLICT DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("babyId") Long babyId,
+                       @Param("statDate") LocalDate statDate,
+                       @Param("now") LocalDateTime now);
+
+    /**
+     * 기간 롤업 일괄 삭제 (재구축용)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM BabyDailyStats s WHERE s.babyId = :babyId AND s.statDate BETWEEN :startDate AND :endDate")
+    int deleteRange(@Param("babyId") Long babyId,
+                    @Param("startDate") LocalDate startDate,
+                    @Param("endDate") LocalDate endDate);
+}
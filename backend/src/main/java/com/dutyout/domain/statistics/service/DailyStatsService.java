@@ -0,0 +1,199 @@
+package com.dutyout.domain.statistics.service;
+
+import com.dutyout.domain.feeding.repository.FeedingRecordRepository;
+import com.dutyout.domain.feeding.repository.FeedingRecordRepository.DailyFeedingStat;
+import com.dutyout.domain.schedule.repository.ScheduleItemRepository;
+import com.dutyout.domain.schedule.repository.ScheduleItemRepository.DailyRecordedStat;
+import com.dutyout.domain.sleep.entity.SleepRecord;
+import com.dutyout.domain.sleep.entity.SleepType;
+import com.dutyout.domain.sleep.repository.SleepRecordRepository;
+import com.dutyout.domain.sleep.repository.SleepRecordRepository.SleepInterval;
+import com.dutyout.domain.statistics.entity.BabyDailyStats;
+import com.dutyout.domain.statistics.repository.BabyDailyStatsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * 일일 통계 롤업 서비스
+ *
+ * baby_daily_stats 행을 원본 기록(수면/수유/스케줄 실측)에서 다시 계산합니다.
+ * - refresh: 기록을 쓰는 트랜잭션 안에서 해당 날짜 1행만 갱신 (행 잠금 후 재계산)
+ * - rebuild: 기간 전체를 같은 집계로 다시 만들어 교체 (백필/복구용)
+ *
+ * 증감(delta) 대신 그날 전체를 다시 계산하므로 수정/삭제/날짜 이동이 있어도 값이 어긋나지 않습니다.
+ * 하루치 재계산은 (babyId, 시간) 인덱스 범위 조회 3번입니다.
+ * 자정을 넘는 수면은 날짜 경계에서 잘라 각 날짜에 나눠 담습니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Slf4j
+public class DailyStatsService {
+
+    private final BabyDailyStatsRepository babyDailyStatsRepository;
+    private final SleepRecordRepository sleepRecordRepository;
+    private final FeedingRecordRepository feedingRecordRepository;
+    private final ScheduleItemRepository scheduleItemRepository;
+
+    /**
+     * 기간 롤업 조회 (기록이 있는 날짜만, 날짜순)
+     */
+    public List<BabyDailyStats> getDailyStats(Long babyId, LocalDate startDate, LocalDate endDate) {
+        return babyDailyStatsRepository.findByBabyIdAndStatDateBetweenOrderByStatDate(babyId, startDate, endDate);
+    }
+
+    /**
+     * 하루 롤업 갱신
+     *
+     * 호출한 쓰기 트랜잭션에 참여합니다. 원본 기록의 변경 내용은 집계 쿼리 전에 자동 flush됩니다.
+     * 기존 행은 잠근 뒤 다시 계산하고, 기록이 모두 사라진 날은 행을 삭제합니다.
+     * 행이 없으면 빈 행을 먼저 넣고(이미 있으면 무시) 잠그므로, 그날의 첫 기록이 동시에 들어와도 순서대로 반영됩니다.
+     */
+    @Transactional
+    public void refresh(Long babyId, LocalDate date) {
+        Optional<BabyDailyStats> locked = babyDailyStatsRepository.findForUpdate(babyId, date);
+        if (locked.isEmpty()) {
+            babyDailyStatsRepository.insertIfAbsent(babyId, date, LocalDateTime.now());
+            locked = babyDailyStatsRepository.findForUpdate(babyId, date);
+        }
+        BabyDailyStats stats = locked.orElseThrow();
+        DayTotals totals = aggregate(babyId, date, date).get(date);
+
+        if (totals == null) {
+            babyDailyStatsRepository.delete(stats);
+            return;
+        }
+        totals.applyTo(stats);
+    }
+
+    /**
+     * 기간 롤업 재구축
+     *
+     * 기간 내 기존 행을 지우고 원본 기록에서 다시 만듭니다.
+     *
+     * @return 생성된 행 수
+     */
+    @Transactional
+    public int rebuild(Long babyId, LocalDate startDate, LocalDate endDate) {
+        Map<LocalDate, DayTotals> totalsByDate = aggregate(babyId, startDate, endDate);
+        babyDailyStatsRepository.deleteRange(babyId, startDate, endDate);
+
+        List<BabyDailyStats> rows = totalsByDate.entrySet().stream()
+                .map(entry -> {
+                    BabyDailyStats stats = BabyDailyStats.builder()
+                            .babyId(babyId)
+                            .statDate(entry.getKey())
+                            .build();
+                    entry.getValue().applyTo(stats);
+                    return stats;
+                })
+                .toList();
+        babyDailyStatsRepository.saveAll(rows);
+
+        log.debug("일일 통계 재구축: babyId={}, {} ~ {}, rows={}", babyId, startDate, endDate, rows.size());
+        return rows.size();
+    }
+
+    /**
+     * 원본 기록 날짜별 합산 (출처별 쿼리 1번씩)
+     *
+     * 수면은 기간과 겹치는 구간만 읽어 날짜 경계로 자르고, 수유/스케줄 실측은 DB에서 날짜별로 GROUP BY 합니다.
+     */
+    private Map<LocalDate, DayTotals> aggregate(Long babyId, LocalDate startDate, LocalDate endDate) {
+        LocalDateTime startDateTime = startDate.atStartOfDay();
+        LocalDateTime endDateTime = endDate.atTime(LocalTime.MAX);
+        Map<LocalDate, DayTotals> totalsByDate = new TreeMap<>();
+
+        LocalDateTime rangeEnd = endDate.plusDays(1).atStartOfDay();
+        for (SleepInterval sleep : sleepRecordRepository.findSleepIntervals(
+                babyId, startDateTime, rangeEnd, startDateTime.minus(SleepRecord.MAX_DURATION))) {
+            addSleep(totalsByDate, sleep, startDateTime, rangeEnd);
+        }
+
+        for (DailyFeedingStat stat : feedingRecordRepository.getDailyFeedingStats(babyId, startDateTime, endDateTime)) {
+            DayTotals totals = totalsByDate.computeIfAbsent(stat.getDate(), date -> new DayTotals());
+            totals.feedingTotalMl += stat.getTotalAmount();
+            totals.feedingCount += stat.getFeedingCount();
+            totals.updateLastRecordAt(stat.getLastRecordAt());
+        }
+
+        for (DailyRecordedStat stat : scheduleItemRepository.getDailyRecordedStats(babyId, startDate, endDate)) {
+            DayTotals totals = totalsByDate.computeIfAbsent(stat.getDate(), date -> new DayTotals());
+            totals.sleepMinutes += stat.getSleepMinutes();
+            totals.napCount += stat.getNapCount();
+            totals.nightSleepMinutes += stat.getNightMinutes();
+            totals.feedingTotalMl += stat.getFeedingTotalMl();
+            totals.feedingCount += stat.getFeedingCount();
+            totals.updateLastRecordAt(stat.getLastRecordAt());
+        }
+
+        return totalsByDate;
+    }
+
+    /**
+     * 수면 구간을 자정 기준으로 잘라 날짜별로 누적
+     *
+     * 예: 19:30 ~ 다음 날 06:30 밤잠 → 첫날 270분, 다음 날 390분
+     * 낮잠 횟수는 시작일에, 마지막 기록 시각(종료 시각)은 종료일에 한 번만 반영합니다.
+     */
+    private void addSleep(Map<LocalDate, DayTotals> totalsByDate, SleepInterval sleep,
+                          LocalDateTime rangeStart, LocalDateTime rangeEnd) {
+        boolean night = sleep.getType() == SleepType.NIGHT;
+        LocalDateTime from = sleep.getStartTime().isAfter(rangeStart) ? sleep.getStartTime() : rangeStart;
+        LocalDateTime to = sleep.getEndTime().isBefore(rangeEnd) ? sleep.getEndTime() : rangeEnd;
+
+        DayTotals totals = null;
+        for (LocalDate date = from.toLocalDate(); from.isBefore(to); date = date.plusDays(1)) {
+            LocalDateTime dayEnd = date.plusDays(1).atStartOfDay();
+            LocalDateTime segmentEnd = to.isBefore(dayEnd) ? to : dayEnd;
+            long minutes = Duration.between(from, segmentEnd).toMinutes();
+
+            totals = totalsByDate.computeIfAbsent(date, key -> new DayTotals());
+            totals.sleepMinutes += minutes;
+            if (night) {
+                totals.nightSleepMinutes += minutes;
+            } else if (from.equals(sleep.getStartTime())) {
+                totals.napCount++;
+            }
+            from = segmentEnd;
+        }
+
+        if (totals != null && to.equals(sleep.getEndTime())) {
+            totals.updateLastRecordAt(sleep.getEndTime());
+        }
+    }
+
+    /**
+     * 하루 합계 (집계 중 누적용)
+     */
+    private static final class DayTotals {
+        private long sleepMinutes;
+        private long napCount;
+        private long nightSleepMinutes;
+        private long feedingTotalMl;
+        private long feedingCount;
+        private LocalDateTime lastRecordAt;
+
+        private void updateLastRecordAt(LocalDateTime recordAt) {
+            if (recordAt != null && (lastRecordAt == null || recordAt.isAfter(lastRecordAt))) {
+                lastRecordAt = recordAt;
+            }
+        }
+
+        private void applyTo(BabyDailyStats stats) {
+            stats.update((int) sleepMinutes, (int) napCount, (int) nightSleepMinutes,
+                    (int) feedingTotalMl, (int) feedingCount, lastRecordAt);
+        }
+    }
+}
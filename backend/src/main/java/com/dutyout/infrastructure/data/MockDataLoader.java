@@ -7,6 +7,7 @@ import com.dutyout.domain.community.entity.Comment;
 import com.dutyout.domain.community.entity.CommunityPost;
 import com.dutyout.domain.community.repository.CommentRepository;
 import com.dutyout.domain.community.repository.CommunityPostRepository;
+import com.dutyout.domain.community.service.PostSearchService;
 import com.dutyout.domain.feeding.entity.FeedingRecord;
 import com.dutyout.domain.feeding.entity.FeedingType;
 import com.dutyout.domain.feeding.repository.FeedingRecordRepository;
@@ -55,6 +56,7 @@ public class MockDataLoader implements CommandLineRunner {
     private final FeedingRecordRepository feedingRecordRepository;
     private final CommunityPostRepository communityPostRepository;
     private final CommentRepository commentRepository;
+    private final PostSearchService postSearchService;
 
     @Override
     public void run(String... args) {
@@ -241,7 +243,7 @@ public class MockDataLoader implements CommandLineRunner {
         post1.increaseLikeCount();
         post1.increaseLikeCount();
         post1.increaseLikeCount();
-        posts.add(communityPostRepository.save(post1));
+        posts.add(savePost(post1));
 
         // 게시글 2: 낮잠 고민
         CommunityPost post2 = CommunityPost.builder()
@@ -252,7 +254,7 @@ public class MockDataLoader implements CommandLineRunner {
                         "혹시 비슷한 경험 있으신 분 계신가요?")
                 .anonymousAuthor("익명456")
                 .build();
-        posts.add(communityPostRepository.save(post2));
+        posts.add(savePost(post2));
 
         // 게시글 3: 수유 고민
         CommunityPost post3 = CommunityPost.builder()
@@ -264,7 +266,7 @@ public class MockDataLoader implements CommandLineRunner {
                 .anonymousAuthor("익명789")
                 .build();
         post3.increaseLikeCount();
-        posts.add(communityPostRepository.save(post3));
+        posts.add(savePost(post3));
 
         // 게시글 4: 이유식 시작
         CommunityPost post4 = CommunityPost.builder()
@@ -274,7 +276,7 @@ public class MockDataLoader implements CommandLineRunner {
                         "언제쯤 잘 먹을까요? 걱정되네요.")
                 .anonymousAuthor("익명234")
                 .build();
-        posts.add(communityPostRepository.save(post4));
+        posts.add(savePost(post4));
 
         // 게시글 5: 수면 교육 팁
         CommunityPost post5 = CommunityPost.builder()
@@ -287,11 +289,22 @@ public class MockDataLoader implements CommandLineRunner {
                 .build();
         post5.increaseLikeCount();
         post5.increaseLikeCount();
-        posts.add(communityPostRepository.save(post5));
+        posts.add(savePost(post5));
 
         return posts;
     }
 
+    /**
+     * 게시글 저장 + 검색 색인
+     *
+     * dev 프로필은 create-drop이라 V8 색인 백필이 돌지 않으므로 CommunityService처럼 저장하면서 색인합니다.
+     */
+    private CommunityPost savePost(CommunityPost post) {
+        CommunityPost saved = communityPostRepository.save(post);
+        postSearchService.index(saved);
+        return saved;
+    }
+
     /**
      * 샘플 댓글 생성
      */
@@ -1,8 +1,10 @@
 package com.dutyout.infrastructure.security;
 
+import com.dutyout.common.response.CursorPageResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
@@ -78,6 +80,9 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.GET, "/community/posts").permitAll()
                         .requestMatchers(HttpMethod.GET, "/community/posts/*").permitAll()
 
+                        // 관리자 API는 ADMIN 권한 필요
+                        .requestMatchers("/api/v1/admin/**").hasRole("ADMIN")
+
                         // 아기 프로필 조회/생성은 인증 필요
                         .requestMatchers("/api/v1/babies/**").authenticated()
 
@@ -132,7 +137,9 @@ public class SecurityConfig {
         configuration.setExposedHeaders(Arrays.asList(
                 "Authorization",
                 "Content-Type",
-                "X-Total-Count"
+                "X-Total-Count",
+                CursorPageResponse.NEXT_CURSOR_HEADER,
+                HttpHeaders.LINK
         ));
 
         // Preflight 요청 캐시 시간 (1시간)
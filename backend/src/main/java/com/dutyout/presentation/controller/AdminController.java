@@ -0,0 +1,41 @@
+package com.dutyout.presentation.controller;
+
+import com.dutyout.application.dto.response.ReferenceDataRefreshResponse;
+import com.dutyout.common.response.ApiResponse;
+import com.dutyout.domain.schedule.service.ReferenceDataCatalog;
+import com.dutyout.domain.schedule.service.StandardScheduleCatalog;
+import com.dutyout.domain.schedule.service.StandardScheduleService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 관리자 API (ADMIN 권한 필요)
+ */
+@RestController
+@RequestMapping("/api/v1/admin")
+@RequiredArgsConstructor
+@Tag(name = "Admin", description = "관리자 API")
+public class AdminController {
+
+    private final ReferenceDataCatalog referenceDataCatalog;
+    private final StandardScheduleService standardScheduleService;
+
+    @PostMapping("/reference-data/refresh")
+    @Operation(summary = "기준 데이터 재로드",
+            description = "수면 가이드라인, 스케줄 템플릿, 표준 스케줄 카탈로그를 재시작 없이 다시 로드합니다.")
+    public ResponseEntity<ApiResponse<ReferenceDataRefreshResponse>> refreshReferenceData() {
+        ReferenceDataCatalog.RefreshResult result = referenceDataCatalog.refresh();
+        StandardScheduleCatalog standardCatalog = standardScheduleService.reload();
+
+        return ResponseEntity.ok(ApiResponse.success(ReferenceDataRefreshResponse.builder()
+                .guidelineCount(result.guidelineCount())
+                .templateCount(result.templateCount())
+                .standardScheduleVersion(standardCatalog.getVersion())
+                .build()));
+    }
+}
@@ -2,17 +2,27 @@ package com.dutyout.presentation.controller;
 
 import com.dutyout.application.dto.request.AdjustScheduleRequest;
 import com.dutyout.application.dto.request.GenerateAutoScheduleRequest;
+import com.dutyout.application.dto.request.SimulateScheduleRequest;
 import com.dutyout.application.dto.response.AutoScheduleResponse;
 import com.dutyout.application.service.AutoScheduleService;
+import com.dutyout.application.service.AutoScheduleService.SimulationBasis;
 import com.dutyout.common.response.ApiResponse;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalTime;
+import java.util.List;
 
 /**
  * 자동 스케줄 컨트롤러
@@ -24,6 +34,7 @@ import org.springframework.web.bind.annotation.*;
  * 엔드포인트:
  * - POST /api/v1/babies/{babyId}/auto-schedule : 자동 스케줄 생성
  * - PUT /api/v1/babies/{babyId}/auto-schedule/adjust : 스케줄 동적 조정
+ * - POST /api/v1/babies/{babyId}/auto-schedule/simulate : 기상 시간별 스케줄 미리보기 (NDJSON 스트리밍)
  */
 @Tag(name = "Auto Schedule", description = "자동 스케줄 생성 API")
 @Slf4j
@@ -33,6 +44,7 @@ import org.springframework.web.bind.annotation.*;
 public class AutoScheduleController {
 
     private final AutoScheduleService autoScheduleService;
+    private final ObjectMapper objectMapper;
 
     /**
      * 자동 스케줄 생성
@@ -90,4 +102,40 @@ public class AutoScheduleController {
 
         return ResponseEntity.ok(ApiResponse.success(response));
     }
+
+    /**
+     * 기상 시간별 스케줄 미리보기
+     *
+     * 기상 시간 후보마다 하루 스케줄을 메모리에서 계산해 한 줄씩 스트리밍합니다. (application/x-ndjson)
+     * 스케줄을 저장하지 않으므로 기상 시간 선택 화면에서 미리보기 용도로 호출할 수 있습니다.
+     *
+     * 각 줄은 AutoScheduleResponse 하나이며, scheduleId와 아이템 id는 null입니다.
+     *
+     * @param babyId 아기 ID
+     * @param request 기상 시간 목록 또는 범위
+     * @return 기상 시간별 스케줄 스트림
+     */
+    @Operation(summary = "스케줄 미리보기", description = "여러 기상 시간에 대한 스케줄을 저장 없이 계산해 NDJSON으로 스트리밍합니다.")
+    @PostMapping("/simulate")
+    public ResponseEntity<StreamingResponseBody> simulateSchedules(
+            @PathVariable Long babyId,
+            @Valid @RequestBody SimulateScheduleRequest request) {
+        // 검증과 아기 조회는 스트리밍 전에 수행해 오류를 일반 응답으로 반환
+        List<LocalTime> wakeUpTimes = request.resolveWakeUpTimes();
+        SimulationBasis basis = autoScheduleService.getSimulationBasis(babyId);
+        log.info("POST /babies/{}/auto-schedule/simulate - 후보 {}개, {}개월", babyId, wakeUpTimes.size(), basis.ageInMonths());
+
+        ObjectWriter writer = objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        StreamingResponseBody body = out -> {
+            for (LocalTime wakeUpTime : wakeUpTimes) {
+                writer.writeValue(out, autoScheduleService.simulateSchedule(babyId, basis, wakeUpTime));
+                out.write('\n');
+                out.flush();
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
 }
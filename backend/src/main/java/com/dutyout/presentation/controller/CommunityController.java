@@ -6,6 +6,7 @@ import com.dutyout.application.dto.response.CommentResponse;
 import com.dutyout.application.dto.response.CommunityPostResponse;
 import com.dutyout.application.service.CommunityService;
 import com.dutyout.common.response.ApiResponse;
+import com.dutyout.common.response.CursorPageResponse;
 import com.dutyout.infrastructure.security.CustomUserDetails;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -13,12 +14,15 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.util.List;
 
@@ -62,34 +66,80 @@ public class CommunityController {
      */
     @Operation(summary = "게시글 조회", description = "특정 게시글을 조회합니다.")
     @GetMapping("/posts/{postId}")
-    public ResponseEntity<ApiResponse<CommunityPostResponse>> getPost(@PathVariable Long postId) {
+    public ResponseEntity<ApiResponse<CommunityPostResponse>> getPost(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @PathVariable Long postId) {
         log.info("GET /community/posts/{}", postId);
 
-        CommunityPostResponse response = communityService.getPost(postId);
+        CommunityPostResponse response = communityService.getPost(postId, userIdOf(userDetails));
 
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
     /**
      * 게시글 목록 조회 (페이징)
+     *
+     * search를 주면 관련도순 검색 결과 첫 페이지(size건)만 반환합니다. 검색 결과는 page 번호로 넘길 수 없으므로
+     * page가 0보다 크면 빈 페이지를 반환하고, 다음 검색 결과가 있으면 X-Next-Cursor/Link 헤더로
+     * /posts/search 커서 페이지를 알려줍니다.
      */
-    @Operation(summary = "게시글 목록 조회", description = "게시글 목록을 페이징하여 조회합니다.")
+    @Operation(summary = "게시글 목록 조회", description = "게시글 목록을 페이징하여 조회합니다. 검색어가 있으면 관련도순 첫 페이지만 반환하고, "
+            + "이후 결과는 X-Next-Cursor/Link 헤더의 /posts/search 커서로 조회합니다.")
     @GetMapping("/posts")
     public ResponseEntity<ApiResponse<Page<CommunityPostResponse>>> getPosts(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
             @RequestParam(required = false) String search) {
         log.info("GET /community/posts - page: {}, size: {}, search: {}", page, size, search);
 
         Pageable pageable = PageRequest.of(page, size);
-        Page<CommunityPostResponse> response;
 
-        if (search != null && !search.trim().isEmpty()) {
-            response = communityService.searchPosts(search, pageable);
-        } else {
-            response = communityService.getPosts(pageable);
+        if (search == null || search.trim().isEmpty()) {
+            return ResponseEntity.ok(ApiResponse.success(communityService.getPosts(userIdOf(userDetails), pageable)));
+        }
+        if (page > 0) {
+            return ResponseEntity.ok(ApiResponse.success(Page.empty(pageable)));
         }
 
+        CursorPageResponse<CommunityPostResponse> result =
+                communityService.searchPosts(search, null, size, userIdOf(userDetails));
+        Page<CommunityPostResponse> response = new PageImpl<>(result.getItems(), pageable, result.getItems().size());
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+        if (result.isHasNext()) {
+            String next = ServletUriComponentsBuilder.fromCurrentRequestUri()
+                    .path("/search")
+                    .replaceQuery(null)
+                    .queryParam("q", search)
+                    .queryParam("cursor", result.getNextCursor())
+                    .queryParam("size", size)
+                    .encode()
+                    .toUriString();
+            builder.header(CursorPageResponse.NEXT_CURSOR_HEADER, result.getNextCursor())
+                    .header(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"");
+        }
+
+        return builder.body(ApiResponse.success(response));
+    }
+
+    /**
+     * 게시글 검색 (커서 페이지)
+     *
+     * @param q 검색어 (한 글자면 그 글자로 시작하는 단어로 검색)
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 생략)
+     * @param size 페이지 크기 (최대 100)
+     */
+    @Operation(summary = "게시글 검색", description = "제목/내용에 검색어가 포함된 게시글을 관련도순 커서 페이지로 조회합니다. 응답의 nextCursor로 다음 페이지를 요청합니다.")
+    @GetMapping("/posts/search")
+    public ResponseEntity<ApiResponse<CursorPageResponse<CommunityPostResponse>>> searchPosts(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestParam String q,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        log.info("GET /community/posts/search - q: {}, size: {}", q, size);
+
+        CursorPageResponse<CommunityPostResponse> response = communityService.searchPosts(q, cursor, size, userIdOf(userDetails));
+
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
@@ -127,12 +177,29 @@ public class CommunityController {
     /**
      * 게시글 좋아요
      */
-    @Operation(summary = "게시글 좋아요", description = "게시글에 좋아요를 누릅니다.")
+    @Operation(summary = "게시글 좋아요", description = "게시글에 좋아요를 누릅니다. 이미 누른 게시글이면 현재 상태를 반환합니다.")
     @PostMapping("/posts/{postId}/like")
-    public ResponseEntity<ApiResponse<CommunityPostResponse>> likePost(@PathVariable Long postId) {
-        log.info("POST /community/posts/{}/like", postId);
+    public ResponseEntity<ApiResponse<CommunityPostResponse>> likePost(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @PathVariable Long postId) {
+        log.info("POST /community/posts/{}/like - User ID: {}", postId, userDetails.getId());
+
+        CommunityPostResponse response = communityService.likePost(userDetails.getId(), postId);
+
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    /**
+     * 게시글 좋아요 취소
+     */
+    @Operation(summary = "게시글 좋아요 취소", description = "게시글 좋아요를 취소합니다. 누르지 않은 게시글이면 현재 상태를 반환합니다.")
+    @DeleteMapping("/posts/{postId}/like")
+    public ResponseEntity<ApiResponse<CommunityPostResponse>> unlikePost(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @PathVariable Long postId) {
+        log.info("DELETE /community/posts/{}/like - User ID: {}", postId, userDetails.getId());
 
-        CommunityPostResponse response = communityService.likePost(postId);
+        CommunityPostResponse response = communityService.unlikePost(userDetails.getId(), postId);
 
         return ResponseEntity.ok(ApiResponse.success(response));
     }
@@ -200,4 +267,11 @@ public class CommunityController {
 
         return ResponseEntity.ok(ApiResponse.success(null));
     }
+
+    /**
+     * 로그인 사용자 ID (비로그인 조회면 null)
+     */
+    private Long userIdOf(CustomUserDetails userDetails) {
+        return userDetails == null ? null : userDetails.getId();
+    }
 }
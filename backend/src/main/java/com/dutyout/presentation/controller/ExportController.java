@@ -0,0 +1,84 @@
+package com.dutyout.presentation.controller;
+
+import com.dutyout.application.service.DataExportService;
+import com.dutyout.application.service.DataExportService.Dataset;
+import com.dutyout.application.service.DataExportService.Format;
+import com.dutyout.domain.baby.service.BabyService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 기록 내보내기 컨트롤러
+ *
+ * Clean Architecture - Presentation Layer
+ *
+ * 아기의 전체 기록을 파일로 내려받는 API를 제공합니다.
+ *
+ * 엔드포인트:
+ * - GET /api/v1/babies/{babyId}/export?dataset=SLEEP|FEEDING|SCHEDULE&format=CSV|NDJSON&gzip=false
+ */
+@Tag(name = "Export", description = "기록 내보내기 API")
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/babies/{babyId}/export")
+@RequiredArgsConstructor
+public class ExportController {
+
+    private final DataExportService dataExportService;
+    private final BabyService babyService;
+
+    /**
+     * 기록 내보내기
+     *
+     * 기록을 DB 커서로 읽으면서 바로 응답에 씁니다. 기록 양과 관계없이 서버 메모리 사용이 일정합니다.
+     * gzip=true면 .gz 파일(application/gzip)로 압축해서 내려줍니다.
+     *
+     * @param babyId 아기 ID
+     * @param dataset 내보낼 데이터 (수면/수유/스케줄)
+     * @param format 출력 형식 (CSV: 헤더 포함, NDJSON: 한 줄에 하나)
+     * @param gzip 압축 여부
+     * @return 파일 스트림
+     */
+    @Operation(summary = "기록 내보내기", description = "수면/수유/스케줄 전체 기록을 CSV 또는 NDJSON 파일로 스트리밍합니다. gzip 압축을 선택할 수 있습니다.")
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> export(
+            @PathVariable Long babyId,
+            @RequestParam Dataset dataset,
+            @RequestParam(defaultValue = "CSV") Format format,
+            @RequestParam(defaultValue = "false") boolean gzip) {
+        // 아기 확인은 스트리밍 전에 수행해 오류를 일반 응답으로 반환
+        babyService.getBaby(babyId);
+        log.info("GET /babies/{}/export - dataset={}, format={}, gzip={}", babyId, dataset, format, gzip);
+
+        String fileName = dataset.getFileName() + "-" + babyId + "." + format.getExtension() + (gzip ? ".gz" : "");
+        MediaType contentType = gzip ? MediaType.parseMediaType("application/gzip")
+                : format == Format.CSV ? new MediaType("text", "csv", StandardCharsets.UTF_8)
+                : MediaType.APPLICATION_NDJSON;
+
+        StreamingResponseBody body = out -> {
+            if (gzip) {
+                GZIPOutputStream gzipOut = new GZIPOutputStream(out, 8192);
+                dataExportService.export(babyId, dataset, format, gzipOut);
+                gzipOut.finish();
+            } else {
+                dataExportService.export(babyId, dataset, format, out);
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(contentType)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(fileName).build().toString())
+                .body(body);
+    }
+}
@@ -4,15 +4,19 @@ import com.dutyout.application.dto.request.FeedingRecordRequest;
 import com.dutyout.application.dto.response.FeedingRecordResponse;
 import com.dutyout.application.service.FeedingRecordService;
 import com.dutyout.common.response.ApiResponse;
+import com.dutyout.common.response.CursorPageResponse;
+import com.dutyout.domain.feeding.entity.FeedingType;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -68,8 +72,13 @@ public class FeedingRecordController {
 
     /**
      * 수유 기록 목록 조회
+     *
+     * 기간을 주면 기간 내 전체를, 주지 않으면 최근 기록 한 페이지(기본 20건)만 반환합니다.
+     * 잘린 목록임을 알 수 있도록 이전 기록이 더 있으면 X-Next-Cursor 헤더(커서)와
+     * Link 헤더(rel="next", /history 다음 페이지 주소)를 함께 내려줍니다. 본문 형식은 기존과 같습니다.
      */
-    @Operation(summary = "수유 기록 목록 조회", description = "특정 아기의 모든 수유 기록을 조회합니다.")
+    @Operation(summary = "수유 기록 목록 조회", description = "기간 내 수유 기록을 조회합니다. 기간이 없으면 최근 기록 한 페이지만 반환하고, "
+            + "이전 기록이 더 있으면 X-Next-Cursor/Link 헤더로 /history 다음 페이지를 알려줍니다.")
     @GetMapping
     public ResponseEntity<ApiResponse<List<FeedingRecordResponse>>> getFeedingRecords(
             @PathVariable Long babyId,
@@ -77,13 +86,49 @@ public class FeedingRecordController {
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate) {
         log.info("GET /babies/{}/feeding-records - startDate: {}, endDate: {}", babyId, startDate, endDate);
 
-        List<FeedingRecordResponse> response;
         if (startDate != null && endDate != null) {
-            response = feedingRecordService.getFeedingRecordsByDateRange(babyId, startDate, endDate);
-        } else {
-            response = feedingRecordService.getFeedingRecords(babyId);
+            List<FeedingRecordResponse> response =
+                    feedingRecordService.getFeedingRecordsByDateRange(babyId, startDate, endDate);
+            return ResponseEntity.ok(ApiResponse.success(response));
         }
 
+        CursorPageResponse<FeedingRecordResponse> page =
+                feedingRecordService.getFeedingRecordPage(babyId, null, null, CursorPageResponse.DEFAULT_SIZE);
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+        if (page.isHasNext()) {
+            String next = ServletUriComponentsBuilder.fromCurrentRequestUri()
+                    .path("/history")
+                    .replaceQuery(null)
+                    .queryParam("cursor", page.getNextCursor())
+                    .queryParam("size", CursorPageResponse.DEFAULT_SIZE)
+                    .encode()
+                    .toUriString();
+            builder.header(CursorPageResponse.NEXT_CURSOR_HEADER, page.getNextCursor())
+                    .header(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"");
+        }
+
+        return builder.body(ApiResponse.success(page.getItems()));
+    }
+
+    /**
+     * 수유 기록 히스토리 조회 (커서 페이지)
+     *
+     * @param type 수유 유형 필터 (선택)
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 생략)
+     * @param size 페이지 크기 (최대 100)
+     */
+    @Operation(summary = "수유 기록 히스토리 조회", description = "수유 기록을 최신순 커서 페이지로 조회합니다. 응답의 nextCursor로 다음 페이지를 요청합니다.")
+    @GetMapping("/history")
+    public ResponseEntity<ApiResponse<CursorPageResponse<FeedingRecordResponse>>> getFeedingHistory(
+            @PathVariable Long babyId,
+            @RequestParam(required = false) FeedingType type,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        log.info("GET /babies/{}/feeding-records/history - type: {}, size: {}", babyId, type, size);
+
+        CursorPageResponse<FeedingRecordResponse> response =
+                feedingRecordService.getFeedingRecordPage(babyId, type, cursor, size);
+
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
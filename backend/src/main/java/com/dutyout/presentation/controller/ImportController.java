@@ -0,0 +1,64 @@
+package com.dutyout.presentation.controller;
+
+import com.dutyout.application.dto.response.ImportResultResponse;
+import com.dutyout.application.service.DataImportService;
+import com.dutyout.application.service.DataImportService.Dataset;
+import com.dutyout.common.response.ApiResponse;
+import com.dutyout.domain.baby.service.BabyService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 기록 가져오기 컨트롤러
+ *
+ * Clean Architecture - Presentation Layer
+ *
+ * 다른 앱에서 옮겨 온 과거 기록을 CSV 파일로 한 번에 등록하는 API를 제공합니다.
+ *
+ * 엔드포인트:
+ * - POST /api/v1/babies/{babyId}/import?dataset=SLEEP|FEEDING (multipart, file)
+ */
+@Tag(name = "Import", description = "기록 가져오기 API")
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/babies/{babyId}/import")
+@RequiredArgsConstructor
+public class ImportController {
+
+    private final DataImportService dataImportService;
+    private final BabyService babyService;
+
+    /**
+     * CSV 기록 가져오기
+     *
+     * 내보내기 CSV와 같은 형식입니다. 잘못된 행은 건너뛰고 줄 번호와 사유를 응답에 담습니다.
+     *
+     * @param babyId 아기 ID
+     * @param dataset 가져올 데이터 (수면/수유)
+     * @param file CSV 파일 (UTF-8)
+     * @return 가져오기 결과
+     */
+    @Operation(summary = "기록 가져오기", description = "수면/수유 기록 CSV를 업로드해 일괄 등록합니다. 실패한 행은 건너뛰고 결과에 사유를 반환합니다.")
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ApiResponse<ImportResultResponse>> importRecords(
+            @PathVariable Long babyId,
+            @RequestParam Dataset dataset,
+            @RequestPart("file") MultipartFile file) throws IOException {
+        babyService.getBaby(babyId);
+        log.info("POST /babies/{}/import - dataset={}, size={}", babyId, dataset, file.getSize());
+
+        try (InputStream in = file.getInputStream()) {
+            ImportResultResponse result = dataImportService.importCsv(babyId, dataset, in);
+            return ResponseEntity.ok(ApiResponse.success(result));
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.dutyout.presentation.controller;
+
+import com.dutyout.application.dto.response.NextPredictionResponse;
+import com.dutyout.common.response.ApiResponse;
+import com.dutyout.domain.prediction.service.RhythmPredictionService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 예측 컨트롤러
+ *
+ * Clean Architecture - Presentation Layer
+ *
+ * 아기 기록으로 학습한 리듬으로 다음 낮잠/밤잠과 수유 시각을 예측합니다.
+ *
+ * 엔드포인트:
+ * - GET /api/v1/babies/{babyId}/predictions/next
+ */
+@Tag(name = "Predictions", description = "수면/수유 예측 API")
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/babies/{babyId}/predictions")
+@RequiredArgsConstructor
+public class PredictionController {
+
+    private final RhythmPredictionService rhythmPredictionService;
+
+    /**
+     * 다음 수면/수유 예측
+     *
+     * 홈 화면이 주기적으로 호출하므로 기록 양과 관계없이 키/인덱스 조회 몇 번으로 응답합니다.
+     */
+    @Operation(summary = "다음 수면/수유 예측",
+            description = "최근 기록과 아기별 학습값(부족하면 월령 가이드라인)으로 다음 수면과 수유 시각을 예측합니다.")
+    @GetMapping("/next")
+    public ResponseEntity<ApiResponse<NextPredictionResponse>> getNextPrediction(@PathVariable Long babyId) {
+        log.debug("GET /babies/{}/predictions/next", babyId);
+
+        NextPredictionResponse response = rhythmPredictionService.predictNext(babyId, LocalDateTime.now());
+
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+}
@@ -1,12 +1,15 @@
 package com.dutyout.presentation.controller;
 
+import com.dutyout.application.dto.request.GenerateScheduleRangeRequest;
 import com.dutyout.application.dto.request.GenerateScheduleRequest;
 import com.dutyout.application.dto.request.UpdateScheduleItemRequest;
 import com.dutyout.application.dto.response.DailyScheduleResponse;
+import com.dutyout.application.dto.response.ScheduleCalendarResponse;
 import com.dutyout.application.dto.response.ScheduleItemResponse;
 import com.dutyout.common.response.ApiResponse;
 import com.dutyout.domain.schedule.entity.DailySchedule;
 import com.dutyout.domain.schedule.entity.ScheduleItem;
+import com.dutyout.domain.schedule.repository.DailyScheduleRepository.ScheduleVersion;
 import com.dutyout.domain.schedule.service.ScheduleGenerationService;
 import com.dutyout.domain.schedule.service.ScheduleService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -17,8 +20,10 @@ import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.time.LocalDate;
+import java.util.List;
 
 /**
  * 스케줄 관리 API
@@ -49,14 +54,52 @@ public class ScheduleController {
                 .body(ApiResponse.success(DailyScheduleResponse.from(schedule)));
     }
 
+    @PostMapping("/generate-range")
+    @Operation(summary = "기간 스케줄 자동 생성", description = "시작 날짜부터 N일(최대 31일)의 스케줄을 한 번에 생성합니다.")
+    public ResponseEntity<ApiResponse<List<DailyScheduleResponse>>> generateSchedules(
+            @PathVariable Long babyId,
+            @Valid @RequestBody GenerateScheduleRangeRequest request) {
+
+        List<DailySchedule> schedules = scheduleGenerationService.generateSchedules(
+                babyId,
+                request.getStartDate(),
+                request.getDays(),
+                request.getWakeUpTime()
+        );
+
+        return ResponseEntity
+                .status(HttpStatus.CREATED)
+                .body(ApiResponse.success(schedules.stream().map(DailyScheduleResponse::from).toList()));
+    }
+
     @GetMapping
-    @Operation(summary = "스케줄 조회", description = "특정 날짜의 스케줄을 조회합니다.")
+    @Operation(summary = "스케줄 조회", description = "특정 날짜의 스케줄을 조회합니다. If-None-Match가 현재 ETag와 같으면 304를 반환합니다.")
     public ResponseEntity<ApiResponse<DailyScheduleResponse>> getSchedule(
             @PathVariable Long babyId,
-            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            WebRequest webRequest) {
+
+        // 버전만 먼저 확인해 변경이 없으면 아이템을 읽지 않고 304 반환
+        ScheduleVersion current = scheduleGenerationService.getScheduleVersion(babyId, date);
+        if (webRequest.checkNotModified(eTagOf(current.getId(), current.getVersion()))) {
+            return null;
+        }
 
         DailySchedule schedule = scheduleGenerationService.getSchedule(babyId, date);
-        return ResponseEntity.ok(ApiResponse.success(DailyScheduleResponse.from(schedule)));
+        return ResponseEntity.ok()
+                .eTag(eTagOf(schedule.getId(), schedule.getVersion()))
+                .body(ApiResponse.success(DailyScheduleResponse.from(schedule)));
+    }
+
+    @GetMapping("/calendar")
+    @Operation(summary = "캘린더 스케줄 조회", description = "기간(최대 62일) 내 날짜별 스케줄 요약을 조회합니다.")
+    public ResponseEntity<ApiResponse<ScheduleCalendarResponse>> getCalendar(
+            @PathVariable Long babyId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+
+        List<DailySchedule> schedules = scheduleGenerationService.getSchedules(babyId, from, to);
+        return ResponseEntity.ok(ApiResponse.success(ScheduleCalendarResponse.of(babyId, from, to, schedules)));
     }
 
     @PutMapping("/items/{itemId}")
@@ -69,4 +112,11 @@ public class ScheduleController {
         ScheduleItem item = scheduleService.updateScheduleItem(itemId, request);
         return ResponseEntity.ok(ApiResponse.success(ScheduleItemResponse.from(item)));
     }
+
+    /**
+     * 스케줄 ETag (강한 검증자: 스케줄 ID + 버전)
+     */
+    private static String eTagOf(Long scheduleId, Long version) {
+        return "\"" + scheduleId + "-" + version + "\"";
+    }
 }
@@ -1,11 +1,16 @@
 package com.dutyout.presentation.controller;
 
 import com.dutyout.application.dto.request.SleepRecordRequest;
+import com.dutyout.application.dto.response.OngoingSleepResponse;
+import com.dutyout.application.dto.response.SleepOverlapResponse;
 import com.dutyout.application.dto.response.SleepRecordResponse;
+import com.dutyout.application.dto.response.StatisticsSeriesResponse;
 import com.dutyout.application.dto.response.WeeklyStatisticsResponse;
 import com.dutyout.common.response.ApiResponse;
+import com.dutyout.common.response.CursorPageResponse;
 import com.dutyout.domain.sleep.service.SleepRecordService;
 import com.dutyout.domain.sleep.service.SleepStatisticsService;
+import com.dutyout.domain.statistics.entity.StatisticsBucket;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -17,6 +22,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -73,6 +79,64 @@ public class SleepRecordController {
         return ResponseEntity.ok(ApiResponse.success(responses));
     }
 
+    /**
+     * 진행 중인 수면 조회
+     *
+     * 홈 화면이 주기적으로 호출하므로 ongoing_sleeps 키 조회 한 번으로 응답합니다.
+     */
+    @Operation(summary = "진행 중인 수면 조회", description = "아기가 지금 자는 중인지, 언제부터 자고 있는지 조회합니다.")
+    @GetMapping("/ongoing")
+    public ResponseEntity<ApiResponse<OngoingSleepResponse>> getOngoingSleep(@PathVariable Long babyId) {
+        log.debug("GET /babies/{}/sleep-records/ongoing", babyId);
+
+        OngoingSleepResponse response = OngoingSleepResponse.from(
+                sleepRecordService.getOngoingSleep(babyId), LocalDateTime.now());
+
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    /**
+     * 수면 기록 히스토리 조회 (커서 페이지)
+     *
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 생략)
+     * @param size 페이지 크기 (최대 100)
+     */
+    @Operation(summary = "수면 기록 히스토리 조회", description = "수면 기록을 시작 시각 최신순 커서 페이지로 조회합니다. 응답의 nextCursor로 다음 페이지를 요청합니다.")
+    @GetMapping("/history")
+    public ResponseEntity<ApiResponse<CursorPageResponse<SleepRecordResponse>>> getSleepHistory(
+            @PathVariable Long babyId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        log.info("GET /babies/{}/sleep-records/history - size: {}", babyId, size);
+
+        CursorPageResponse<SleepRecordResponse> response = sleepRecordService
+                .getSleepRecordPage(babyId, cursor, size)
+                .map(SleepRecordResponse::from);
+
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    /**
+     * 겹치는 수면 기록 조회
+     *
+     * 기록 생성 시 겹침 검사가 들어가기 전에 쌓인 기록을 정리할 때 사용합니다.
+     */
+    @Operation(summary = "겹치는 수면 기록 조회", description = "기간(최대 1년) 안에서 시간이 겹치는 수면 기록 쌍을 조회합니다.")
+    @GetMapping("/overlaps")
+    public ResponseEntity<ApiResponse<List<SleepOverlapResponse>>> getOverlaps(
+            @PathVariable Long babyId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        log.info("GET /babies/{}/sleep-records/overlaps?from={}&to={}", babyId, from, to);
+
+        LocalDateTime now = LocalDateTime.now();
+        List<SleepOverlapResponse> response = sleepRecordService.findOverlaps(babyId, from, to).stream()
+                .map(overlap -> SleepOverlapResponse.from(overlap, now))
+                .collect(Collectors.toList());
+
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     /**
      * 최근 7일 통계 조회
      */
@@ -100,4 +164,22 @@ public class SleepRecordController {
 
         return ResponseEntity.ok(ApiResponse.success(stats));
     }
+
+    /**
+     * 기간 통계 조회 (일/주/월 묶음)
+     */
+    @Operation(summary = "기간 통계 조회",
+            description = "임의 기간(최대 366일)의 수면/낮잠/밤잠/수유 통계를 일, 주, 월 단위로 묶어 합계/최소/최대/평균과 함께 조회합니다.")
+    @GetMapping("/statistics")
+    public ResponseEntity<ApiResponse<StatisticsSeriesResponse>> getStatisticsSeries(
+            @PathVariable Long babyId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "DAY") StatisticsBucket bucket) {
+        log.info("GET /babies/{}/sleep-records/statistics?from={}&to={}&bucket={}", babyId, from, to, bucket);
+
+        StatisticsSeriesResponse series = sleepStatisticsService.getSeries(babyId, from, to, bucket);
+
+        return ResponseEntity.ok(ApiResponse.success(series));
+    }
 }
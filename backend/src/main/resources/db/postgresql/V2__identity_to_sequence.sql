@@ -0,0 +1,49 @@
+-- IDENTITY → SEQUENCE(pooled-lo, 50개 단위) ID 생성 전환 (PostgreSQL)
+--
+-- 엔티티 ID가 @SequenceGenerator(allocationSize = 50)로 바뀌면서 테이블별 <table>_seq 시퀀스가 필요합니다.
+-- 새 버전 배포 전에 한 번 실행하세요. (ddl-auto=update가 시퀀스를 1부터 만들면 기존 ID와 충돌합니다)
+-- pooled-lo: nextval 값이 할당 블록의 시작 ID이므로, 시퀀스를 기존 최대 ID + 1부터 시작하게 맞춥니다.
+
+BEGIN;
+
+CREATE SEQUENCE IF NOT EXISTS users_seq INCREMENT BY 50;
+SELECT setval('users_seq', COALESCE((SELECT MAX(id) FROM users), 0) + 1, false);
+ALTER TABLE users ALTER COLUMN id DROP IDENTITY IF EXISTS;
+
+CREATE SEQUENCE IF NOT EXISTS babies_seq INCREMENT BY 50;
+SELECT setval('babies_seq', COALESCE((SELECT MAX(id) FROM babies), 0) + 1, false);
+ALTER TABLE babies ALTER COLUMN id DROP IDENTITY IF EXISTS;
+
+CREATE SEQUENCE IF NOT EXISTS daily_schedules_seq INCREMENT BY 50;
+SELECT setval('daily_schedules_seq', COALESCE((SELECT MAX(id) FROM daily_schedules), 0) + 1, false);
+ALTER TABLE daily_schedules ALTER COLUMN id DROP IDENTITY IF EXISTS;
+
+CREATE SEQUENCE IF NOT EXISTS schedule_items_seq INCREMENT BY 50;
+SELECT setval('schedule_items_seq', COALESCE((SELECT MAX(id) FROM schedule_items), 0) + 1, false);
+ALTER TABLE schedule_items ALTER COLUMN id DROP IDENTITY IF EXISTS;
+
+CREATE SEQUENCE IF NOT EXISTS schedule_templates_seq INCREMENT BY 50;
+SELECT setval('schedule_templates_seq', COALESCE((SELECT MAX(id) FROM schedule_templates), 0) + 1, false);
+ALTER TABLE schedule_templates ALTER COLUMN id DROP IDENTITY IF EXISTS;
+
+CREATE SEQUENCE IF NOT EXISTS age_based_sleep_guidelines_seq INCREMENT BY 50;
+SELECT setval('age_based_sleep_guidelines_seq', COALESCE((SELECT MAX(id) FROM age_based_sleep_guidelines), 0) + 1, false);
+ALTER TABLE age_based_sleep_guidelines ALTER COLUMN id DROP IDENTITY IF EXISTS;
+
+CREATE SEQUENCE IF NOT EXISTS sleep_records_seq INCREMENT BY 50;
+SELECT setval('sleep_records_seq', COALESCE((SELECT MAX(id) FROM sleep_records), 0) + 1, false);
+ALTER TABLE sleep_records ALTER COLUMN id DROP IDENTITY IF EXISTS;
+
+CREATE SEQUENCE IF NOT EXISTS feeding_records_seq INCREMENT BY 50;
+SELECT setval('feeding_records_seq', COALESCE((SELECT MAX(id) FROM feeding_records), 0) + 1, false);
+ALTER TABLE feeding_records ALTER COLUMN id DROP IDENTITY IF EXISTS;
+
+CREATE SEQUENCE IF NOT EXISTS community_posts_seq INCREMENT BY 50;
+SELECT setval('community_posts_seq', COALESCE((SELECT MAX(id) FROM community_posts), 0) + 1, false);
+ALTER TABLE community_posts ALTER COLUMN id DROP IDENTITY IF EXISTS;
+
+CREATE SEQUENCE IF NOT EXISTS comments_seq INCREMENT BY 50;
+SELECT setval('comments_seq', COALESCE((SELECT MAX(id) FROM comments), 0) + 1, false);
+ALTER TABLE comments ALTER COLUMN id DROP IDENTITY IF EXISTS;
+
+COMMIT;
@@ -0,0 +1,6 @@
+-- daily_schedules.version 컬럼 추가 (PostgreSQL)
+--
+-- 스케줄 조회 API의 ETag(스케줄 ID + 버전)에 사용합니다.
+-- 기존 행이 있는 테이블에 NOT NULL 컬럼을 추가해야 하므로, 새 버전 배포 전에 한 번 실행하세요.
+
+ALTER TABLE daily_schedules ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
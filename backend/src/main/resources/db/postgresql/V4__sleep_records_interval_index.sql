@@ -0,0 +1,13 @@
+-- sleep_records 구간 조회 인덱스 교체 (PostgreSQL)
+--
+-- 통계 집계가 (babyId, startTime, endTime) 범위로 기간과 겹치는 수면을 읽도록 바뀌었습니다.
+-- ddl-auto=update는 새 인덱스만 만들고 이전 인덱스를 지우지 않으므로, 배포 후 한 번 실행하세요.
+-- 24시간을 넘는 기존 수면 기록이 있으면 통계에서 일부가 빠지므로 함께 확인합니다.
+
+CREATE INDEX IF NOT EXISTS idx_sleep_records_baby_start_end ON sleep_records (baby_id, start_time, end_time);
+DROP INDEX IF EXISTS idx_baby_id_start_time;
+
+-- 확인용: 24시간을 넘는 수면 기록
+SELECT id, baby_id, start_time, end_time
+FROM sleep_records
+WHERE end_time > start_time + INTERVAL '24 hours';
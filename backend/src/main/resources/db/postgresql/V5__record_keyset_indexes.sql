@@ -0,0 +1,14 @@
+-- 수면/수유 기록 커서 페이지 인덱스 (PostgreSQL)
+--
+-- 기록 목록이 (시각, id) 내림차순 커서 페이지로 바뀌었습니다.
+-- ddl-auto=update는 새 인덱스만 만들고 이전 인덱스를 지우지 않으므로, 배포 후 한 번 실행하세요.
+-- 대용량 테이블이면 CONCURRENTLY로 만들어 쓰기 잠금을 피합니다. (트랜잭션 밖에서 실행)
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_sleep_records_baby_start_id ON sleep_records (baby_id, start_time, id);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_feeding_records_baby_time_id ON feeding_records (baby_id, feeding_time, id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_feeding_records_baby_type_time_id ON feeding_records (baby_id, type, feeding_time, id);
+
+-- (baby_id, feeding_time, id)가 대신하는 이전 단일 컬럼 인덱스
+DROP INDEX CONCURRENTLY IF EXISTS idx_baby_id;
+DROP INDEX CONCURRENTLY IF EXISTS idx_feeding_time;
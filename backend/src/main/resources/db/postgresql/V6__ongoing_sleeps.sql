@@ -0,0 +1,29 @@
+-- 진행 중인 수면 등록 테이블 (PostgreSQL)
+--
+-- 수면 시작 시 아기당 1행을 만들고 종료 시 지웁니다. (ddl-auto=update가 테이블을 만들지만 기존 데이터 이관은 하지 않음)
+-- 배포 직후 한 번 실행해 이미 진행 중인 수면을 등록하세요. 등록되지 않은 진행 중 수면은 종료할 수 없습니다.
+
+CREATE TABLE IF NOT EXISTS ongoing_sleeps (
+    baby_id         BIGINT      NOT NULL PRIMARY KEY,
+    sleep_record_id BIGINT      NOT NULL UNIQUE,
+    type            VARCHAR(20) NOT NULL,
+    start_time      TIMESTAMP   NOT NULL
+);
+
+-- 아기마다 가장 최근에 시작한 진행 중 수면 1건만 등록
+INSERT INTO ongoing_sleeps (baby_id, sleep_record_id, type, start_time)
+SELECT DISTINCT ON (baby_id) baby_id, id, type, start_time
+FROM sleep_records
+WHERE end_time IS NULL
+ORDER BY baby_id, start_time DESC
+ON CONFLICT (baby_id) DO NOTHING;
+
+-- 확인용: 한 아기에 진행 중 수면이 여러 건이면 아래 인덱스 생성이 실패하므로 먼저 정리
+SELECT baby_id, COUNT(*)
+FROM sleep_records
+WHERE end_time IS NULL
+GROUP BY baby_id
+HAVING COUNT(*) > 1;
+
+-- sleep_records 자체에도 아기당 진행 중 수면 1건 제약 (부분 유니크 인덱스)
+CREATE UNIQUE INDEX IF NOT EXISTS uk_sleep_records_one_ongoing ON sleep_records (baby_id) WHERE end_time IS NULL;
@@ -0,0 +1,67 @@
+-- 아기별 생활 리듬 추정값 테이블 (PostgreSQL)
+--
+-- 수면/수유 기록이 저장될 때마다 지수 가중 이동 평균으로 갱신됩니다. (ddl-auto=update도 테이블을 만들지만 초기값은 채우지 않음)
+-- 배포 직후 한 번 실행하면 최근 14일 기록의 평균으로 시작하므로, 기존 사용자도 바로 개인 값으로 예측합니다.
+-- 범위 밖 값 제외 기준은 RhythmMetric과 같습니다. (깨시 20~480분, 낮잠 10~240분, 수유 간격 30~480분)
+
+BEGIN;
+
+CREATE SEQUENCE IF NOT EXISTS baby_rhythm_estimates_seq INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS baby_rhythm_estimates (
+    id             BIGINT           NOT NULL PRIMARY KEY,
+    baby_id        BIGINT           NOT NULL,
+    metric         VARCHAR(20)      NOT NULL,
+    slot           INTEGER          NOT NULL,
+    mean_minutes   DOUBLE PRECISION NOT NULL,
+    sample_count   INTEGER          NOT NULL,
+    last_sample_at TIMESTAMP,
+    created_at     TIMESTAMP        NOT NULL,
+    modified_at    TIMESTAMP        NOT NULL
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS idx_baby_rhythm_estimates_baby_metric_slot
+    ON baby_rhythm_estimates (baby_id, metric, slot);
+
+-- 측정값: 깨시(직전 수면 종료 ~ 수면 시작), 낮잠 길이, 수유 간격
+WITH sleeps AS (
+    SELECT baby_id, type, start_time, end_time,
+           LAG(end_time) OVER (PARTITION BY baby_id ORDER BY start_time, id) AS previous_end
+    FROM sleep_records
+    WHERE start_time >= NOW() - INTERVAL '15 days'
+),
+feedings AS (
+    SELECT baby_id, feeding_time,
+           LAG(feeding_time) OVER (PARTITION BY baby_id ORDER BY feeding_time, id) AS previous_time
+    FROM feeding_records
+    WHERE feeding_time >= NOW() - INTERVAL '15 days'
+),
+samples AS (
+    SELECT baby_id, 'WAKE_WINDOW' AS metric,
+           CASE type WHEN 'NAP1' THEN 0 WHEN 'NAP2' THEN 1 WHEN 'NAP3' THEN 2 WHEN 'NAP4' THEN 3 ELSE 4 END AS slot,
+           EXTRACT(EPOCH FROM start_time - previous_end) / 60 AS minutes, start_time AS sampled_at
+    FROM sleeps
+    WHERE start_time >= NOW() - INTERVAL '14 days'
+    UNION ALL
+    SELECT baby_id, 'NAP_LENGTH',
+           CASE type WHEN 'NAP1' THEN 0 WHEN 'NAP2' THEN 1 WHEN 'NAP3' THEN 2 ELSE 3 END,
+           EXTRACT(EPOCH FROM end_time - start_time) / 60, end_time
+    FROM sleeps
+    WHERE type <> 'NIGHT' AND end_time IS NOT NULL AND start_time >= NOW() - INTERVAL '14 days'
+    UNION ALL
+    SELECT baby_id, 'FEEDING_INTERVAL', 0,
+           EXTRACT(EPOCH FROM feeding_time - previous_time) / 60, feeding_time
+    FROM feedings
+    WHERE feeding_time >= NOW() - INTERVAL '14 days'
+)
+INSERT INTO baby_rhythm_estimates (id, baby_id, metric, slot, mean_minutes, sample_count, last_sample_at, created_at, modified_at)
+SELECT nextval('baby_rhythm_estimates_seq'), baby_id, metric, slot, AVG(minutes), COUNT(*), MAX(sampled_at), NOW(), NOW()
+FROM samples
+WHERE minutes IS NOT NULL
+  AND ((metric = 'WAKE_WINDOW' AND minutes BETWEEN 20 AND 480)
+    OR (metric = 'NAP_LENGTH' AND minutes BETWEEN 10 AND 240)
+    OR (metric = 'FEEDING_INTERVAL' AND minutes BETWEEN 30 AND 480))
+GROUP BY baby_id, metric, slot
+ON CONFLICT (baby_id, metric, slot) DO NOTHING;
+
+COMMIT;
@@ -0,0 +1,35 @@
+-- 게시글 검색 바이그램 색인 (PostgreSQL 13+)
+--
+-- 게시글 검색이 LIKE '%검색어%' 전체 스캔에서 community_post_terms 색인 조회로 바뀌었습니다.
+-- 새 글/수정/삭제는 애플리케이션이 색인을 갱신하지만 기존 글은 색인되지 않으므로, 배포 직후 한 번 실행하세요.
+-- 자르는 규칙은 BigramTokenizer와 같습니다. (NFKC 정규화 + 소문자, 문자/숫자 두 글자, 제목 가중치 3, 최대 20)
+
+BEGIN;
+
+CREATE TABLE IF NOT EXISTS community_post_terms (
+    term    VARCHAR(4) NOT NULL,
+    post_id BIGINT     NOT NULL,
+    weight  INTEGER    NOT NULL,
+    PRIMARY KEY (term, post_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_community_post_terms_post ON community_post_terms (post_id);
+
+INSERT INTO community_post_terms (term, post_id, weight)
+SELECT term, post_id, LEAST(SUM(weight), 20)
+FROM (
+    SELECT p.id AS post_id, substr(n.text, i, 2) AS term, 3 AS weight
+    FROM community_posts p
+    CROSS JOIN LATERAL (SELECT lower(normalize(p.title, NFKC)) AS text) n
+    CROSS JOIN LATERAL generate_series(1, char_length(n.text) - 1) AS i
+    UNION ALL
+    SELECT p.id, substr(n.text, i, 2), 1
+    FROM community_posts p
+    CROSS JOIN LATERAL (SELECT lower(normalize(p.content, NFKC)) AS text) n
+    CROSS JOIN LATERAL generate_series(1, char_length(n.text) - 1) AS i
+) grams
+WHERE term ~ '^[[:alnum:]]{2}$'
+GROUP BY term, post_id
+ON CONFLICT (term, post_id) DO NOTHING;
+
+COMMIT;
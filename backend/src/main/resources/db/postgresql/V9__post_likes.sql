@@ -0,0 +1,11 @@
+-- 게시글 좋아요 (사용자당 게시글 하나에 1행)
+--
+-- 좋아요가 사용자별로 한 번만 반영되도록 바뀌었습니다. (취소: DELETE /api/v1/community/posts/{id}/like)
+-- 기존 community_posts.like_count는 누른 사용자를 알 수 없으므로 그대로 두고, 이후 좋아요/취소만 증감합니다.
+
+CREATE TABLE IF NOT EXISTS post_likes (
+    post_id    BIGINT    NOT NULL,
+    user_id    BIGINT    NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    PRIMARY KEY (post_id, user_id)
+);
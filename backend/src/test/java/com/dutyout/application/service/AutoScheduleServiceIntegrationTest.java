@@ -0,0 +1,195 @@
+package com.dutyout.application.service;
+
+import com.dutyout.application.dto.request.GenerateAutoScheduleRequest;
+import com.dutyout.application.dto.response.AutoScheduleResponse;
+import com.dutyout.domain.baby.entity.Baby;
+import com.dutyout.domain.baby.entity.Gender;
+import com.dutyout.domain.baby.repository.BabyRepository;
+import com.dutyout.domain.feeding.repository.FeedingRecordRepository;
+import com.dutyout.domain.prediction.entity.BabyRhythmEstimate;
+import com.dutyout.domain.prediction.entity.RhythmMetric;
+import com.dutyout.domain.prediction.repository.BabyRhythmEstimateRepository;
+import com.dutyout.domain.prediction.service.RhythmPredictionService;
+import com.dutyout.domain.prediction.service.RhythmProfile;
+import com.dutyout.domain.schedule.entity.ActivityType;
+import com.dutyout.domain.schedule.entity.AgeBasedSleepGuideline;
+import com.dutyout.domain.schedule.entity.DailySchedule;
+import com.dutyout.domain.schedule.entity.ScheduleItem;
+import com.dutyout.domain.schedule.repository.DailyScheduleRepository;
+import com.dutyout.domain.schedule.repository.ScheduleItemRepository;
+import com.dutyout.domain.schedule.service.ReferenceDataCatalog;
+import com.dutyout.domain.schedule.service.ReferenceDataCatalog.TemplateSnapshot;
+import com.dutyout.domain.schedule.service.ScheduleGenerationService;
+import com.dutyout.domain.sleep.repository.OngoingSleepRepository;
+import com.dutyout.domain.sleep.repository.SleepRecordRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * AutoScheduleService H2 통합 테스트
+ *
+ * Testing Strategy:
+ * - @DataJpaTest + Hibernate 통계로 아침 스케줄 생성이 실제 DB에 반영하는 SQL 종류 검증
+ * - 야간 배치(SchedulePregenerationService)와 같은 방식(같은 생성기 + 리듬 추정값)으로 오늘 스케줄을 미리 만든 뒤
+ *   아침 요청이 기존 행을 UPDATE만 하는지 확인 (INSERT/DELETE 없음)
+ * - 기준 데이터(ReferenceDataCatalog)는 별도 트랜잭션에서 로드하므로 Mock으로 고정
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@DisplayName("AutoScheduleService H2 통합 테스트")
+class AutoScheduleServiceIntegrationTest {
+
+    @Autowired
+    private BabyRepository babyRepository;
+
+    @Autowired
+    private DailyScheduleRepository dailyScheduleRepository;
+
+    @Autowired
+    private ScheduleItemRepository scheduleItemRepository;
+
+    @Autowired
+    private BabyRhythmEstimateRepository estimateRepository;
+
+    @Autowired
+    private SleepRecordRepository sleepRecordRepository;
+
+    @Autowired
+    private OngoingSleepRepository ongoingSleepRepository;
+
+    @Autowired
+    private FeedingRecordRepository feedingRecordRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private AutoScheduleService autoScheduleService;
+    private ScheduleGenerationService scheduleGenerationService;
+    private RhythmPredictionService rhythmPredictionService;
+
+    @BeforeEach
+    void setUp() {
+        ReferenceDataCatalog referenceDataCatalog = mock(ReferenceDataCatalog.class);
+        given(referenceDataCatalog.findClosestGuideline(anyInt())).willReturn(Optional.of(guideline()));
+        given(referenceDataCatalog.findClosestTemplate(anyInt())).willReturn(Optional.of(
+                new TemplateSnapshot(4, 3, new int[]{90, 120, 120, 150}, new int[]{60, 60, 45})));
+
+        rhythmPredictionService = new RhythmPredictionService(estimateRepository, sleepRecordRepository,
+                ongoingSleepRepository, feedingRecordRepository, babyRepository, referenceDataCatalog, 0.2, 3, true);
+        scheduleGenerationService = new ScheduleGenerationService(
+                babyRepository, referenceDataCatalog, dailyScheduleRepository, rhythmPredictionService);
+        autoScheduleService = new AutoScheduleService(babyRepository, referenceDataCatalog, dailyScheduleRepository,
+                scheduleItemRepository, scheduleGenerationService, rhythmPredictionService);
+    }
+
+    @Test
+    @DisplayName("아침 생성 - 야간 배치로 미리 만든 오늘 스케줄은 기존 행 UPDATE만 (INSERT/DELETE 없음)")
+    void generateAutoSchedule_OnPregeneratedDay_OnlyUpdates() {
+        // given: 첫 깨시 개인 값(80분)이 쌓인 4개월 아기
+        Baby baby = entityManager.persist(Baby.builder()
+                .userId(1L)
+                .name("테스트베이비")
+                .birthDate(LocalDate.now().minusMonths(4).minusDays(10))
+                .gestationalWeeks(39)
+                .gender(Gender.FEMALE)
+                .build());
+        BabyRhythmEstimate estimate = BabyRhythmEstimate.builder()
+                .babyId(baby.getId())
+                .metric(RhythmMetric.WAKE_WINDOW)
+                .slot(0)
+                .build();
+        for (int day = 3; day > 0; day--) {
+            estimate.addSample(80, LocalDateTime.now().minusDays(day), 0.2);
+        }
+        entityManager.persist(estimate);
+
+        // 야간 배치와 같은 방식으로 오늘 스케줄 생성 (기준 기상 07:00, 청크 단위 리듬 추정값 조회)
+        int ageInMonths = baby.calculateCorrectedAgeInMonths(LocalDate.now());
+        RhythmProfile profile = rhythmPredictionService.getScheduleProfiles(List.of(baby.getId()))
+                .getOrDefault(baby.getId(), RhythmProfile.EMPTY);
+        DailySchedule pregenerated = DailySchedule.builder()
+                .babyId(baby.getId())
+                .scheduleDate(LocalDate.now())
+                .wakeUpTime(LocalTime.of(7, 0))
+                .ageInMonths(ageInMonths)
+                .build();
+        pregenerated.addScheduleItems(scheduleGenerationService.createScheduleItems(
+                ageInMonths, LocalTime.of(7, 0), profile));
+        entityManager.persist(pregenerated);
+        entityManager.flush();
+        entityManager.clear();
+        List<Long> itemIds = pregenerated.getScheduleItems().stream().map(ScheduleItem::getId).toList();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when: 실제 기상 06:40으로 아침 생성 요청
+        AutoScheduleResponse response = autoScheduleService.generateAutoSchedule(baby.getId(),
+                GenerateAutoScheduleRequest.builder()
+                        .wakeUpTime(LocalTime.of(6, 40))
+                        .isBreastfeeding(true)
+                        .build());
+        entityManager.flush();
+
+        // then: 같은 행의 시간만 바뀜
+        assertThat(statistics.getEntityInsertCount()).isZero();
+        assertThat(statistics.getEntityDeleteCount()).isZero();
+        assertThat(statistics.getEntityUpdateCount()).isGreaterThanOrEqualTo(itemIds.size());
+        assertThat(response.getItems())
+                .extracting(AutoScheduleResponse.ScheduleItemDetail::getId)
+                .containsExactlyElementsOf(itemIds);
+
+        // 개인 깨시(80분)가 아침 생성에도 반영됨
+        assertThat(response.getItems())
+                .filteredOn(item -> item.getActivityType() == ActivityType.NAP1)
+                .extracting(AutoScheduleResponse.ScheduleItemDetail::getStartTime)
+                .containsExactly(LocalTime.of(8, 0));
+    }
+
+    private AgeBasedSleepGuideline guideline() {
+        return AgeBasedSleepGuideline.builder()
+                .ageInMonths(4)
+                .wakeWindowMinMinutes(90)
+                .wakeWindowMaxMinutes(150)
+                .napCount(3)
+                .maxTotalNapMinutes(180)
+                .nightSleepMinMinutes(600)
+                .nightSleepMaxMinutes(720)
+                .recommendedBedtimeHour(19)
+                .recommendedBedtimeMinute(30)
+                .firstWakeWindowMinutes(90)
+                .middleWakeWindowMinutes(120)
+                .lastWakeWindowMinutes(150)
+                .feedingAmountMinMl(120)
+                .feedingAmountMaxMl(180)
+                .breastfeedingCountMin(7)
+                .breastfeedingCountMax(9)
+                .formulaFeedingCountMin(5)
+                .formulaFeedingCountMax(6)
+                .feedingIntervalMinutes(180)
+                .description("4개월 테스트 가이드라인")
+                .build();
+    }
+}
@@ -1,28 +1,40 @@
 package com.dutyout.application.service;
 
+import com.dutyout.application.dto.request.AdjustScheduleRequest;
 import com.dutyout.application.dto.request.GenerateAutoScheduleRequest;
+import com.dutyout.application.dto.request.SimulateScheduleRequest;
 import com.dutyout.application.dto.response.AutoScheduleResponse;
+import com.dutyout.application.service.AutoScheduleService.SimulationBasis;
 import com.dutyout.domain.baby.entity.Baby;
 import com.dutyout.domain.baby.entity.Gender;
 import com.dutyout.domain.baby.repository.BabyRepository;
+import com.dutyout.domain.prediction.service.RhythmPredictionService;
+import com.dutyout.domain.prediction.service.RhythmProfile;
 import com.dutyout.domain.schedule.entity.AgeBasedSleepGuideline;
+import com.dutyout.domain.schedule.entity.ActivityType;
 import com.dutyout.domain.schedule.entity.DailySchedule;
-import com.dutyout.domain.schedule.repository.AgeBasedSleepGuidelineRepository;
+import com.dutyout.domain.schedule.entity.ScheduleItem;
 import com.dutyout.domain.schedule.repository.DailyScheduleRepository;
+import com.dutyout.domain.schedule.repository.ScheduleItemRepository;
+import com.dutyout.domain.schedule.service.ReferenceDataCatalog;
+import com.dutyout.domain.schedule.service.ReferenceDataCatalog.TemplateSnapshot;
+import com.dutyout.domain.schedule.service.ScheduleGenerationService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 
@@ -32,6 +44,7 @@ import static org.mockito.Mockito.*;
  * Testing Strategy:
  * - Mockito를 사용한 의존성 격리
  * - 개월수별 가이드라인 기반 스케줄 생성 검증
+ *   (아이템은 야간 배치와 같은 ScheduleGenerationService로 생성하므로 실제 객체에 Mock 카탈로그를 연결)
  * - 낮잠, 수유, 취침 시간 계산 로직 검증
  */
 @ExtendWith(MockitoExtension.class)
@@ -42,20 +55,31 @@ class AutoScheduleServiceTest {
     private BabyRepository babyRepository;
 
     @Mock
-    private AgeBasedSleepGuidelineRepository guidelineRepository;
+    private ReferenceDataCatalog referenceDataCatalog;
 
     @Mock
     private DailyScheduleRepository dailyScheduleRepository;
 
-    @InjectMocks
+    @Mock
+    private ScheduleItemRepository scheduleItemRepository;
+
+    @Mock
+    private RhythmPredictionService rhythmPredictionService;
+
     private AutoScheduleService autoScheduleService;
 
     private Baby baby;
     private AgeBasedSleepGuideline guideline;
+    private TemplateSnapshot template;
     private GenerateAutoScheduleRequest request;
 
     @BeforeEach
     void setUp() {
+        ScheduleGenerationService scheduleGenerationService = new ScheduleGenerationService(
+                babyRepository, referenceDataCatalog, dailyScheduleRepository, rhythmPredictionService);
+        autoScheduleService = new AutoScheduleService(babyRepository, referenceDataCatalog, dailyScheduleRepository,
+                scheduleItemRepository, scheduleGenerationService, rhythmPredictionService);
+
         // 3개월 아기
         baby = Baby.builder()
                 .userId(1L)
@@ -89,6 +113,9 @@ class AutoScheduleServiceTest {
                 .description("3개월 테스트 가이드라인")
                 .build();
 
+        // 3개월 템플릿 (낮잠 4회 × 60분)
+        template = new TemplateSnapshot(3, 4, new int[]{90, 105, 105, 105, 120}, new int[]{60, 60, 60, 60});
+
         request = GenerateAutoScheduleRequest.builder()
                 .wakeUpTime(LocalTime.of(7, 0))
                 .isBreastfeeding(true)
@@ -100,8 +127,10 @@ class AutoScheduleServiceTest {
     void generateAutoSchedule_Success_3MonthBaby() {
         // given
         given(babyRepository.findById(1L)).willReturn(Optional.of(baby));
-        given(guidelineRepository.findClosestGuidelineByAge(3)).willReturn(Optional.of(guideline));
-        given(dailyScheduleRepository.findByBabyIdAndScheduleDate(any(), any())).willReturn(Optional.empty());
+        given(referenceDataCatalog.findClosestGuideline(3)).willReturn(Optional.of(guideline));
+        given(referenceDataCatalog.findClosestTemplate(3)).willReturn(Optional.of(template));
+        given(rhythmPredictionService.getScheduleProfile(1L)).willReturn(RhythmProfile.EMPTY);
+        given(dailyScheduleRepository.findByBabyIdAndScheduleDateWithItems(any(), any())).willReturn(Optional.empty());
         given(dailyScheduleRepository.save(any(DailySchedule.class))).willAnswer(invocation -> {
             DailySchedule schedule = invocation.getArgument(0);
             return schedule;
@@ -131,8 +160,10 @@ class AutoScheduleServiceTest {
     void generateAutoSchedule_NapTimeCalculation() {
         // given
         given(babyRepository.findById(1L)).willReturn(Optional.of(baby));
-        given(guidelineRepository.findClosestGuidelineByAge(3)).willReturn(Optional.of(guideline));
-        given(dailyScheduleRepository.findByBabyIdAndScheduleDate(any(), any())).willReturn(Optional.empty());
+        given(referenceDataCatalog.findClosestGuideline(3)).willReturn(Optional.of(guideline));
+        given(referenceDataCatalog.findClosestTemplate(3)).willReturn(Optional.of(template));
+        given(rhythmPredictionService.getScheduleProfile(1L)).willReturn(RhythmProfile.EMPTY);
+        given(dailyScheduleRepository.findByBabyIdAndScheduleDateWithItems(any(), any())).willReturn(Optional.empty());
         given(dailyScheduleRepository.save(any(DailySchedule.class))).willAnswer(invocation -> invocation.getArgument(0));
 
         // when
@@ -158,8 +189,10 @@ class AutoScheduleServiceTest {
     void generateAutoSchedule_FeedingCount() {
         // given
         given(babyRepository.findById(1L)).willReturn(Optional.of(baby));
-        given(guidelineRepository.findClosestGuidelineByAge(3)).willReturn(Optional.of(guideline));
-        given(dailyScheduleRepository.findByBabyIdAndScheduleDate(any(), any())).willReturn(Optional.empty());
+        given(referenceDataCatalog.findClosestGuideline(3)).willReturn(Optional.of(guideline));
+        given(referenceDataCatalog.findClosestTemplate(3)).willReturn(Optional.of(template));
+        given(rhythmPredictionService.getScheduleProfile(1L)).willReturn(RhythmProfile.EMPTY);
+        given(dailyScheduleRepository.findByBabyIdAndScheduleDateWithItems(any(), any())).willReturn(Optional.empty());
         given(dailyScheduleRepository.save(any(DailySchedule.class))).willAnswer(invocation -> invocation.getArgument(0));
 
         // when
@@ -179,8 +212,10 @@ class AutoScheduleServiceTest {
     void generateAutoSchedule_BedtimeCalculation() {
         // given
         given(babyRepository.findById(1L)).willReturn(Optional.of(baby));
-        given(guidelineRepository.findClosestGuidelineByAge(3)).willReturn(Optional.of(guideline));
-        given(dailyScheduleRepository.findByBabyIdAndScheduleDate(any(), any())).willReturn(Optional.empty());
+        given(referenceDataCatalog.findClosestGuideline(3)).willReturn(Optional.of(guideline));
+        given(referenceDataCatalog.findClosestTemplate(3)).willReturn(Optional.of(template));
+        given(rhythmPredictionService.getScheduleProfile(1L)).willReturn(RhythmProfile.EMPTY);
+        given(dailyScheduleRepository.findByBabyIdAndScheduleDateWithItems(any(), any())).willReturn(Optional.empty());
         given(dailyScheduleRepository.save(any(DailySchedule.class))).willAnswer(invocation -> invocation.getArgument(0));
 
         // when
@@ -193,4 +228,115 @@ class AutoScheduleServiceTest {
         int bedtimeHour = response.getBedtime().getHour();
         assertThat(bedtimeHour).isBetween(18, 21);
     }
+
+    @Test
+    @DisplayName("자동 스케줄 재생성 - 기존 아이템 행을 재사용하고 삭제 후 재삽입하지 않음")
+    void generateAutoSchedule_ReusesExistingItems() {
+        // given: 오늘 스케줄이 이미 있음 (아이템 2개)
+        DailySchedule existing = DailySchedule.builder()
+                .babyId(1L)
+                .scheduleDate(LocalDate.now())
+                .wakeUpTime(LocalTime.of(6, 0))
+                .ageInMonths(3)
+                .build();
+        ReflectionTestUtils.setField(existing, "id", 100L);
+        existing.addScheduleItems(List.of(
+                scheduleItem(10L, ActivityType.WAKE_UP, LocalTime.of(6, 0), 0),
+                scheduleItem(11L, ActivityType.FEEDING, LocalTime.of(6, 30), 20)));
+
+        given(babyRepository.findById(1L)).willReturn(Optional.of(baby));
+        given(referenceDataCatalog.findClosestGuideline(3)).willReturn(Optional.of(guideline));
+        given(referenceDataCatalog.findClosestTemplate(3)).willReturn(Optional.of(template));
+        given(rhythmPredictionService.getScheduleProfile(1L)).willReturn(RhythmProfile.EMPTY);
+        given(dailyScheduleRepository.findByBabyIdAndScheduleDateWithItems(any(), any()))
+                .willReturn(Optional.of(existing));
+
+        // when
+        AutoScheduleResponse response = autoScheduleService.generateAutoSchedule(1L, request);
+
+        // then
+        verify(dailyScheduleRepository, never()).save(any());
+        verify(dailyScheduleRepository, never()).delete(any());
+        verify(dailyScheduleRepository, times(1)).incrementVersions(List.of(100L));
+        assertThat(existing.getWakeUpTime()).isEqualTo(LocalTime.of(7, 0));
+        assertThat(existing.getScheduleItems().get(0).getId()).isEqualTo(10L);
+        assertThat(existing.getScheduleItems().get(1).getId()).isEqualTo(11L);
+        assertThat(existing.getScheduleItems().get(0).getScheduledTime()).isEqualTo(LocalTime.of(7, 0));
+        assertThat(existing.getScheduleItems()).hasSize(response.getItems().size());
+    }
+
+    @Test
+    @DisplayName("스케줄 미리보기 - 기상 시간별로 계산하고 저장하지 않음")
+    void simulateSchedule_ComputesInMemoryWithoutWrites() {
+        // given: 요청당 한 번 조회한 기준 (월령 + 리듬 추정값)
+        given(referenceDataCatalog.findClosestGuideline(3)).willReturn(Optional.of(guideline));
+        given(referenceDataCatalog.findClosestTemplate(3)).willReturn(Optional.of(template));
+        SimulationBasis basis = new SimulationBasis(3, RhythmProfile.EMPTY);
+        List<LocalTime> wakeUpTimes = SimulateScheduleRequest.builder()
+                .from(LocalTime.of(6, 0))
+                .to(LocalTime.of(7, 0))
+                .stepMinutes(30)
+                .build()
+                .resolveWakeUpTimes();
+
+        // when
+        List<AutoScheduleResponse> previews = wakeUpTimes.stream()
+                .map(wakeUpTime -> autoScheduleService.simulateSchedule(1L, basis, wakeUpTime))
+                .toList();
+
+        // then
+        assertThat(previews).extracting(AutoScheduleResponse::getWakeUpTime)
+                .containsExactly(LocalTime.of(6, 0), LocalTime.of(6, 30), LocalTime.of(7, 0));
+        assertThat(previews.get(1).getItems().get(0).getStartTime()).isEqualTo(LocalTime.of(6, 30));
+        assertThat(previews.get(0).getScheduleId()).isNull();
+        verifyNoInteractions(dailyScheduleRepository, scheduleItemRepository, babyRepository, rhythmPredictionService);
+    }
+
+    @Test
+    @DisplayName("스케줄 동적 조정 - 이후 아이템을 단일 UPDATE로 같은 시간만큼 이동")
+    void adjustSchedule_ShiftsFollowingItemsInBulk() {
+        // given: 08:30 낮잠(60분 예정) → 40분만 잠
+        DailySchedule dailySchedule = DailySchedule.builder()
+                .babyId(1L)
+                .scheduleDate(LocalDate.now())
+                .wakeUpTime(LocalTime.of(7, 0))
+                .ageInMonths(3)
+                .build();
+        ReflectionTestUtils.setField(dailySchedule, "id", 100L);
+        dailySchedule.addScheduleItems(List.of(
+                scheduleItem(10L, ActivityType.WAKE_UP, LocalTime.of(7, 0), 0),
+                scheduleItem(11L, ActivityType.NAP1, LocalTime.of(8, 30), 60),
+                scheduleItem(12L, ActivityType.FEEDING, LocalTime.of(10, 15), 20),
+                scheduleItem(13L, ActivityType.NAP2, LocalTime.of(11, 10), 90)));
+
+        given(dailyScheduleRepository.findByScheduleItemIdWithItems(11L)).willReturn(Optional.of(dailySchedule));
+        given(referenceDataCatalog.findClosestGuideline(3)).willReturn(Optional.of(guideline));
+        given(scheduleItemRepository.shiftScheduledTimes(any(), anyInt())).willReturn(2);
+
+        AdjustScheduleRequest adjustRequest = AdjustScheduleRequest.builder()
+                .scheduleItemId(11L)
+                .actualDurationMinutes(40)
+                .build();
+
+        // when
+        AutoScheduleResponse response = autoScheduleService.adjustSchedule(1L, adjustRequest);
+
+        // then
+        verify(scheduleItemRepository, times(1)).shiftScheduledTimes(List.of(12L, 13L), -20);
+        verify(dailyScheduleRepository, times(1)).incrementVersions(List.of(100L));
+        verify(dailyScheduleRepository, never()).save(any());
+        assertThat(response.getItems())
+                .extracting(AutoScheduleResponse.ScheduleItemDetail::getStartTime)
+                .containsExactly(LocalTime.of(7, 0), LocalTime.of(8, 30), LocalTime.of(9, 55), LocalTime.of(10, 50));
+    }
+
+    private ScheduleItem scheduleItem(Long id, ActivityType type, LocalTime time, Integer duration) {
+        ScheduleItem item = ScheduleItem.builder()
+                .activityType(type)
+                .scheduledTime(time)
+                .durationMinutes(duration)
+                .build();
+        ReflectionTestUtils.setField(item, "id", id);
+        return item;
+    }
 }
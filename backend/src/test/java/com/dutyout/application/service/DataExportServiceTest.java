@@ -0,0 +1,150 @@
+package com.dutyout.application.service;
+
+import com.dutyout.application.service.DataExportService.Dataset;
+import com.dutyout.application.service.DataExportService.Format;
+import com.dutyout.domain.feeding.entity.FeedingRecord;
+import com.dutyout.domain.feeding.entity.FeedingType;
+import com.dutyout.domain.schedule.entity.ActivityType;
+import com.dutyout.domain.schedule.entity.DailySchedule;
+import com.dutyout.domain.schedule.entity.ScheduleItem;
+import com.dutyout.domain.sleep.entity.SleepRecord;
+import com.dutyout.domain.sleep.entity.SleepType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * DataExportService H2 통합 테스트
+ *
+ * Testing Strategy:
+ * - @DataJpaTest + @Import로 실제 Stream 쿼리 실행
+ * - fetch size(500)를 넘는 기록 수로 영속성 컨텍스트 비우기 후에도 전체 행이 나오는지 확인
+ * - CSV 이스케이프, NDJSON 한 줄 한 객체 형식 검증
+ */
+@DataJpaTest
+@Import({DataExportService.class, JacksonAutoConfiguration.class})
+@ActiveProfiles("test")
+@DisplayName("DataExportService H2 통합 테스트")
+class DataExportServiceTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 5, 1, 0, 0);
+
+    @Autowired
+    private DataExportService dataExportService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("수유 CSV - 전체 기록을 시간순으로, 특수문자는 따옴표로 감싸서 출력")
+    void export_FeedingCsv() throws Exception {
+        // given: fetch size보다 많은 1,200건 + 다른 아기 기록
+        for (int i = 0; i < 1200; i++) {
+            entityManager.persist(feeding(1L, BASE.plusHours(i), 100, i == 0 ? "잘 먹음, \"트림\" 함" : null));
+        }
+        entityManager.persist(feeding(2L, BASE, 200, null));
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long rows = dataExportService.export(1L, Dataset.FEEDING, Format.CSV, out);
+
+        // then
+        List<String> lines = out.toString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(rows).isEqualTo(1200);
+        assertThat(lines).hasSize(1201);
+        assertThat(lines.get(0)).isEqualTo("\uFEFFid,feedingTime,type,amountMl,note");
+        assertThat(lines.get(1)).endsWith(",2024-05-01T00:00,BOTTLE,100,\"잘 먹음, \"\"트림\"\" 함\"");
+        assertThat(lines.get(1200)).contains(BASE.plusHours(1199).toString());
+    }
+
+    @Test
+    @DisplayName("수면/스케줄 NDJSON - 한 줄에 JSON 객체 하나, 진행 중 수면은 길이 없음")
+    void export_SleepAndScheduleNdjson() throws Exception {
+        // given
+        entityManager.persist(sleep(BASE.plusHours(20), BASE.plusHours(30)));
+        entityManager.persist(sleep(BASE.plusDays(1).plusHours(13), null));
+        DailySchedule schedule = DailySchedule.builder()
+                .babyId(1L)
+                .scheduleDate(LocalDate.of(2024, 5, 1))
+                .wakeUpTime(LocalTime.of(7, 0))
+                .ageInMonths(4)
+                .build();
+        schedule.addScheduleItems(List.of(
+                ScheduleItem.builder().activityType(ActivityType.WAKE_UP).scheduledTime(LocalTime.of(7, 0)).build(),
+                ScheduleItem.builder().activityType(ActivityType.NAP1).scheduledTime(LocalTime.of(9, 0))
+                        .durationMinutes(60).build()));
+        entityManager.persist(schedule);
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        ByteArrayOutputStream sleepOut = new ByteArrayOutputStream();
+        dataExportService.export(1L, Dataset.SLEEP, Format.NDJSON, sleepOut);
+        ByteArrayOutputStream scheduleOut = new ByteArrayOutputStream();
+        dataExportService.export(1L, Dataset.SCHEDULE, Format.NDJSON, scheduleOut);
+
+        // then
+        List<JsonNode> sleeps = parseLines(sleepOut);
+        assertThat(sleeps).hasSize(2);
+        assertThat(sleeps.get(0).get("type").asText()).isEqualTo("NIGHT");
+        assertThat(sleeps.get(0).get("durationMinutes").asLong()).isEqualTo(600);
+        assertThat(sleeps.get(1).get("durationMinutes").isNull()).isTrue();
+
+        List<JsonNode> items = parseLines(scheduleOut);
+        assertThat(items).extracting(item -> item.get("activityType").asText()).containsExactly("WAKE_UP", "NAP1");
+        assertThat(items.get(1).get("scheduleDate").asText()).isEqualTo("2024-05-01");
+        assertThat(items.get(1).get("durationMinutes").asInt()).isEqualTo(60);
+    }
+
+    private List<JsonNode> parseLines(ByteArrayOutputStream out) {
+        return out.toString(StandardCharsets.UTF_8).lines()
+                .map(line -> {
+                    try {
+                        return objectMapper.readTree(line);
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                })
+                .toList();
+    }
+
+    private FeedingRecord feeding(Long babyId, LocalDateTime time, int amountMl, String note) {
+        return FeedingRecord.builder()
+                .babyId(babyId)
+                .feedingTime(time)
+                .type(FeedingType.BOTTLE)
+                .amountMl(amountMl)
+                .note(note)
+                .build();
+    }
+
+    private SleepRecord sleep(LocalDateTime start, LocalDateTime end) {
+        return SleepRecord.builder()
+                .babyId(1L)
+                .type(SleepType.NIGHT)
+                .startTime(start)
+                .endTime(end)
+                .build();
+    }
+}
@@ -0,0 +1,125 @@
+package com.dutyout.application.service;
+
+import com.dutyout.application.dto.response.ImportResultResponse;
+import com.dutyout.application.service.DataImportService.Dataset;
+import com.dutyout.common.exception.BusinessException;
+import com.dutyout.domain.feeding.entity.FeedingRecord;
+import com.dutyout.domain.feeding.entity.FeedingType;
+import com.dutyout.domain.sleep.entity.SleepRecord;
+import com.dutyout.domain.statistics.entity.BabyDailyStats;
+import com.dutyout.domain.statistics.service.DailyStatsService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * DataImportService H2 통합 테스트
+ *
+ * Testing Strategy:
+ * - @DataJpaTest + @Import로 실제 배치 저장과 롤업 재구축 실행
+ * - batch-size를 2로 낮춰 여러 배치에 걸친 저장 확인
+ * - 엔티티 검증 실패 행은 줄 번호와 함께 보고되고 나머지는 저장되는지 검증
+ */
+@DataJpaTest(properties = "data-import.batch-size=2")
+@Import({DataImportService.class, DailyStatsService.class})
+@ActiveProfiles("test")
+@DisplayName("DataImportService H2 통합 테스트")
+class DataImportServiceTest {
+
+    @Autowired
+    private DataImportService dataImportService;
+
+    @Autowired
+    private DailyStatsService dailyStatsService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    @DisplayName("수유 CSV - 잘못된 행은 줄 번호와 함께 건너뛰고 나머지는 배치로 저장")
+    void importCsv_Feeding() throws Exception {
+        // given: 내보내기 형식 그대로 (BOM, id 컬럼, 따옴표 안의 쉼표/줄바꿈)
+        String csv = "\uFEFFid,feedingTime,type,amountMl,note\r\n"
+                + "1,2024-05-01T08:00,BOTTLE,120,\"잘 먹음, \"\"트림\"\"\n함\"\r\n"
+                + "2,2024-05-01T11:00,BOTTLE,-10,\r\n"
+                + "3,2024-05-01T14:00,JUICE,100,\r\n"
+                + "\r\n"
+                + "4,2024-05-02T08:00,BREAST,,\r\n"
+                + "5,not-a-time,BOTTLE,100,\r\n"
+                + "6,2024-05-03T08:00,BOTTLE,150,\r\n";
+
+        // when
+        ImportResultResponse result = dataImportService.importCsv(1L, Dataset.FEEDING, toStream(csv));
+
+        // then
+        assertThat(result.getTotalRows()).isEqualTo(6);
+        assertThat(result.getImportedRows()).isEqualTo(3);
+        assertThat(result.getFailedRows()).isEqualTo(3);
+        assertThat(result.getErrors()).extracting(ImportResultResponse.RowError::getLine).containsExactly(4L, 5L, 8L);
+
+        List<FeedingRecord> saved = entityManager.getEntityManager()
+                .createQuery("select f from FeedingRecord f order by f.feedingTime", FeedingRecord.class)
+                .getResultList();
+        assertThat(saved).extracting(FeedingRecord::getType)
+                .containsExactly(FeedingType.BOTTLE, FeedingType.BREAST, FeedingType.BOTTLE);
+        assertThat(saved.get(0).getNote()).isEqualTo("잘 먹음, \"트림\"\n함");
+
+        assertThat(result.getStatsRebuiltFrom()).isEqualTo(LocalDate.of(2024, 5, 1));
+        assertThat(result.getStatsRebuiltTo()).isEqualTo(LocalDate.of(2024, 5, 3));
+        assertThat(dailyStatsService.getDailyStats(1L, LocalDate.of(2024, 5, 1), LocalDate.of(2024, 5, 3)))
+                .extracting(BabyDailyStats::getFeedingCount)
+                .containsExactly(1, 1, 1);
+    }
+
+    @Test
+    @DisplayName("수면 CSV - 자정을 넘는 수면까지 롤업 기간에 포함, 종료 시간 없는 행/앞선 행과 겹치는 행은 실패")
+    void importCsv_Sleep() throws Exception {
+        // given
+        String csv = "type,startTime,endTime,quality,wakeCount,memo\n"
+                + "NIGHT,2024-05-01T19:30,2024-05-02T06:30,GOOD,1,\n"
+                + "NAP1,2024-05-02T09:00,2024-05-02T10:00,,,\n"
+                + "NAP2,2024-05-02T13:00,,,,\n"
+                + "NAP2,2024-05-02T15:00,2024-05-02T14:00,,,\n"
+                + "NAP2,2024-05-02T09:30,2024-05-02T10:30,,,\n";
+
+        // when
+        ImportResultResponse result = dataImportService.importCsv(1L, Dataset.SLEEP, toStream(csv));
+
+        // then
+        assertThat(result.getImportedRows()).isEqualTo(2);
+        assertThat(result.getErrors()).extracting(ImportResultResponse.RowError::getLine).containsExactly(4L, 5L, 6L);
+        assertThat(result.getErrors().get(2).getMessage()).startsWith("파일의 앞선 행과 시간이 겹칩니다.");
+        assertThat(entityManager.getEntityManager()
+                .createQuery("select count(s) from SleepRecord s", Long.class).getSingleResult()).isEqualTo(2);
+
+        List<BabyDailyStats> stats = dailyStatsService.getDailyStats(1L, LocalDate.of(2024, 5, 1), LocalDate.of(2024, 5, 2));
+        assertThat(stats).extracting(BabyDailyStats::getTotalSleepMinutes).containsExactly(270, 450);
+        assertThat(stats).extracting(BabyDailyStats::getNapCount).containsExactly(0, 1);
+    }
+
+    @Test
+    @DisplayName("필수 컬럼이 없는 헤더는 파일 전체를 거부")
+    void importCsv_MissingColumn() {
+        String csv = "type,startTime\nNIGHT,2024-05-01T19:30\n";
+
+        assertThatThrownBy(() -> dataImportService.importCsv(1L, Dataset.SLEEP, toStream(csv)))
+                .isInstanceOf(BusinessException.class);
+        assertThat(entityManager.getEntityManager()
+                .createQuery("select count(s) from SleepRecord s", Long.class).getSingleResult()).isZero();
+    }
+
+    private ByteArrayInputStream toStream(String csv) {
+        return new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -4,9 +4,12 @@ import com.dutyout.application.dto.request.FeedingRecordRequest;
 import com.dutyout.application.dto.response.FeedingRecordResponse;
 import com.dutyout.common.exception.BusinessException;
 import com.dutyout.common.exception.ErrorCode;
+import com.dutyout.common.response.CursorPageResponse;
 import com.dutyout.domain.feeding.entity.FeedingRecord;
 import com.dutyout.domain.feeding.entity.FeedingType;
 import com.dutyout.domain.feeding.repository.FeedingRecordRepository;
+import com.dutyout.domain.prediction.service.RhythmPredictionService;
+import com.dutyout.domain.statistics.service.DailyStatsService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -14,6 +17,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -34,6 +38,12 @@ class FeedingRecordServiceTest {
     @Mock
     private FeedingRecordRepository feedingRecordRepository;
 
+    @Mock
+    private DailyStatsService dailyStatsService;
+
+    @Mock
+    private RhythmPredictionService rhythmPredictionService;
+
     @InjectMocks
     private FeedingRecordService feedingRecordService;
 
@@ -73,6 +83,7 @@ class FeedingRecordServiceTest {
         assertThat(response.getAmountMl()).isEqualTo(120);
 
         verify(feedingRecordRepository, times(1)).save(any(FeedingRecord.class));
+        verify(rhythmPredictionService, times(1)).recordFeeding(feedingRecord);
     }
 
     @Test
@@ -114,18 +125,47 @@ class FeedingRecordServiceTest {
     }
 
     @Test
-    @DisplayName("수유 기록 목록 조회 성공")
-    void getFeedingRecords_Success() {
-        // given
-        given(feedingRecordRepository.findByBabyIdOrderByFeedingTimeDesc(1L))
+    @DisplayName("수유 기록 커서 페이지 조회 성공 - 마지막 페이지는 다음 커서 없음")
+    void getFeedingRecordPage_Success() {
+        // given: 페이지 크기 + 1건을 조회
+        given(feedingRecordRepository.findByBabyIdOrderByFeedingTimeDescIdDesc(1L, Limit.of(21)))
                 .willReturn(List.of(feedingRecord));
 
         // when
-        List<FeedingRecordResponse> responses = feedingRecordService.getFeedingRecords(1L);
+        CursorPageResponse<FeedingRecordResponse> page = feedingRecordService.getFeedingRecordPage(1L, null, null, 20);
 
         // then
-        assertThat(responses).hasSize(1);
-        assertThat(responses.get(0).getType()).isEqualTo(FeedingType.BOTTLE);
+        assertThat(page.getItems()).hasSize(1);
+        assertThat(page.getItems().get(0).getType()).isEqualTo(FeedingType.BOTTLE);
+        assertThat(page.isHasNext()).isFalse();
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("수유 기록 커서 페이지 조회 - 커서 위치부터 이어서 조회")
+    void getFeedingRecordPage_WithCursor() {
+        // given
+        LocalDateTime cursorTime = LocalDateTime.of(2024, 5, 1, 8, 0);
+        String cursor = new CursorPageResponse.Cursor(cursorTime, 10L).encode();
+        given(feedingRecordRepository.findPageBeforeByType(1L, FeedingType.BOTTLE, cursorTime, 10L, Limit.of(2)))
+                .willReturn(List.of(feedingRecord, feedingRecord));
+
+        // when
+        CursorPageResponse<FeedingRecordResponse> page =
+                feedingRecordService.getFeedingRecordPage(1L, FeedingType.BOTTLE, cursor, 1);
+
+        // then
+        assertThat(page.getItems()).hasSize(1);
+        assertThat(page.isHasNext()).isTrue();
+        assertThat(page.getNextCursor()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("수유 기록 커서 페이지 조회 실패 - 잘못된 커서")
+    void getFeedingRecordPage_Fail_InvalidCursor() {
+        assertThatThrownBy(() -> feedingRecordService.getFeedingRecordPage(1L, null, "not-a-cursor", 20))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage(ErrorCode.INVALID_CURSOR.getMessage());
     }
 
     @Test
@@ -0,0 +1,283 @@
+package com.dutyout.application.service;
+
+import com.dutyout.application.service.SchedulePregenerationService.PregenerationResult;
+import com.dutyout.domain.baby.entity.Baby;
+import com.dutyout.domain.baby.entity.Gender;
+import com.dutyout.domain.baby.repository.BabyRepository;
+import com.dutyout.domain.prediction.service.RhythmPredictionService;
+import com.dutyout.domain.prediction.service.RhythmProfile;
+import com.dutyout.domain.schedule.entity.ActivityType;
+import com.dutyout.domain.schedule.entity.DailySchedule;
+import com.dutyout.domain.schedule.repository.DailyScheduleRepository;
+import com.dutyout.domain.schedule.repository.DailyScheduleRepository.BabyWakeUpTime;
+import com.dutyout.domain.schedule.service.ReferenceDataCatalog;
+import com.dutyout.domain.schedule.service.ReferenceDataCatalog.TemplateSnapshot;
+import com.dutyout.domain.schedule.service.ScheduleGenerationService;
+import com.dutyout.domain.schedule.service.StandardScheduleService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+/**
+ * SchedulePregenerationService 단위 테스트
+ *
+ * Testing Strategy:
+ * - 리포지토리/템플릿 카탈로그/리듬 추정값은 Mockito, 스케줄 계산은 실제 ScheduleGenerationService 사용
+ * - 키셋 청크 순회, 기존 스케줄/대상 월령 초과 건너뛰기, 충돌 청크의 아기별 재시도, 기상 시간 중앙값 검증
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SchedulePregenerationService 단위 테스트")
+class SchedulePregenerationServiceTest {
+
+    private static final LocalDate TOMORROW = LocalDate.now().plusDays(1);
+    private static final TemplateSnapshot TEMPLATE =
+            new TemplateSnapshot(4, 2, new int[]{120, 150, 180}, new int[]{90, 90});
+
+    @Mock
+    private BabyRepository babyRepository;
+
+    @Mock
+    private DailyScheduleRepository dailyScheduleRepository;
+
+    @Mock
+    private ReferenceDataCatalog referenceDataCatalog;
+
+    @Mock
+    private RhythmPredictionService rhythmPredictionService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private SchedulePregenerationService pregenerationService;
+
+    @BeforeEach
+    void setUp() {
+        StandardScheduleService standardScheduleService = new StandardScheduleService(
+                new ObjectMapper(), new ClassPathResource("schedule/standard-schedules.json"));
+        ScheduleGenerationService scheduleGenerationService = new ScheduleGenerationService(
+                babyRepository, referenceDataCatalog, dailyScheduleRepository, rhythmPredictionService);
+        meterRegistry = new SimpleMeterRegistry();
+        pregenerationService = new SchedulePregenerationService(babyRepository, dailyScheduleRepository,
+                standardScheduleService, scheduleGenerationService, rhythmPredictionService,
+                transactionManager, meterRegistry, 2, 2);
+
+        lenient().when(referenceDataCatalog.findClosestTemplate(anyInt())).thenReturn(Optional.of(TEMPLATE));
+        lenient().when(rhythmPredictionService.getScheduleProfiles(anyCollection())).thenReturn(Map.of());
+    }
+
+    @Test
+    @DisplayName("사전 생성 - 키셋 청크로 순회하고 이미 스케줄이 있는 아기는 건너뜀")
+    void pregenerate_WalksChunksAndSkipsExisting() {
+        // given: 아기 3명 (청크 크기 2 → [1, 2], [3])
+        given(babyRepository.findIdsAfter(0L, Limit.of(2))).willReturn(List.of(1L, 2L));
+        given(babyRepository.findIdsAfter(2L, Limit.of(2))).willReturn(List.of(3L));
+        given(babyRepository.findIdsAfter(3L, Limit.of(2))).willReturn(List.of());
+        given(babyRepository.findAllById(List.of(1L, 2L))).willReturn(List.of(baby(1L), baby(2L)));
+        given(babyRepository.findAllById(List.of(3L))).willReturn(List.of(baby(3L)));
+
+        given(dailyScheduleRepository.findBabyIdsWithSchedule(anyCollection(), eq(TOMORROW)))
+                .willAnswer(invocation -> ((Collection<?>) invocation.getArgument(0)).contains(2L)
+                        ? List.of(2L) : List.of());
+        given(dailyScheduleRepository.findWakeUpTimes(anyCollection(), eq(TOMORROW.minusDays(7)), eq(TOMORROW)))
+                .willAnswer(invocation -> ((Collection<?>) invocation.getArgument(0)).contains(1L)
+                        ? List.of(wakeUpTime(1L, 6, 30), wakeUpTime(1L, 7, 30), wakeUpTime(1L, 6, 50))
+                        : List.of());
+
+        List<DailySchedule> saved = new ArrayList<>();
+        given(dailyScheduleRepository.saveAll(any())).willAnswer(invocation -> {
+            List<DailySchedule> schedules = invocation.getArgument(0);
+            synchronized (saved) {
+                saved.addAll(schedules);
+            }
+            return schedules;
+        });
+
+        // when
+        PregenerationResult result = pregenerationService.pregenerate(TOMORROW);
+
+        // then
+        assertThat(result.generated()).isEqualTo(2);
+        assertThat(result.skipped()).isEqualTo(1);
+        assertThat(result.failed()).isZero();
+        assertThat(meterRegistry.counter("schedule.pregeneration.generated").count()).isEqualTo(2.0);
+
+        assertThat(saved).extracting(DailySchedule::getBabyId).containsExactlyInAnyOrder(1L, 3L);
+        DailySchedule withHistory = saved.stream().filter(s -> s.getBabyId().equals(1L)).findFirst().orElseThrow();
+        assertThat(withHistory.getScheduleDate()).isEqualTo(TOMORROW);
+        assertThat(withHistory.getWakeUpTime()).isEqualTo(LocalTime.of(6, 50)); // 중앙값
+        assertThat(withHistory.getScheduleItems()).isNotEmpty();
+        assertThat(withHistory.getScheduleItems().get(0).getScheduledTime()).isEqualTo(LocalTime.of(6, 50));
+
+        DailySchedule withoutHistory = saved.stream().filter(s -> s.getBabyId().equals(3L)).findFirst().orElseThrow();
+        assertThat(withoutHistory.getWakeUpTime()).isEqualTo(LocalTime.of(7, 0)); // 표준 기준 기상 시간
+    }
+
+    @Test
+    @DisplayName("사전 생성 - 청크 저장 실패 시 실패로 집계하고 계속 진행")
+    void pregenerate_CountsFailedChunk() {
+        // given
+        given(babyRepository.findIdsAfter(0L, Limit.of(2))).willReturn(List.of(1L));
+        given(babyRepository.findIdsAfter(1L, Limit.of(2))).willReturn(List.of());
+        given(babyRepository.findAllById(List.of(1L))).willReturn(List.of(baby(1L)));
+        given(dailyScheduleRepository.saveAll(any())).willThrow(new IllegalStateException("unique violation"));
+
+        // when
+        PregenerationResult result = pregenerationService.pregenerate(TOMORROW);
+
+        // then
+        assertThat(result.generated()).isZero();
+        assertThat(result.failed()).isEqualTo(1);
+        verify(transactionManager).rollback(any());
+    }
+
+    @Test
+    @DisplayName("사전 생성 - 대상 월령을 넘은 아기는 건너뛰고 나머지는 저장")
+    void pregenerate_SkipsBabiesOverMaxAge() {
+        // given: 4개월 아기와 4살 아기
+        given(babyRepository.findIdsAfter(0L, Limit.of(2))).willReturn(List.of(1L, 2L));
+        given(babyRepository.findIdsAfter(2L, Limit.of(2))).willReturn(List.of());
+        given(babyRepository.findAllById(List.of(1L, 2L))).willReturn(List.of(baby(1L), baby(2L, 48)));
+
+        List<DailySchedule> saved = new ArrayList<>();
+        given(dailyScheduleRepository.saveAll(any())).willAnswer(invocation -> {
+            saved.addAll(invocation.getArgument(0));
+            return saved;
+        });
+
+        // when
+        PregenerationResult result = pregenerationService.pregenerate(TOMORROW);
+
+        // then
+        assertThat(result.generated()).isEqualTo(1);
+        assertThat(result.skipped()).isEqualTo(1);
+        assertThat(result.failed()).isZero();
+        assertThat(saved).extracting(DailySchedule::getBabyId).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("사전 생성 - 청크 저장이 유니크 제약에 걸리면 아기별로 다시 저장하고 충돌한 아기만 건너뜀")
+    void pregenerate_RetriesConflictingChunkPerBaby() {
+        // given: 확인 후 아기 2의 스케줄이 먼저 만들어짐
+        given(babyRepository.findIdsAfter(0L, Limit.of(2))).willReturn(List.of(1L, 2L));
+        given(babyRepository.findIdsAfter(2L, Limit.of(2))).willReturn(List.of());
+        given(babyRepository.findAllById(List.of(1L, 2L))).willReturn(List.of(baby(1L), baby(2L)));
+        given(babyRepository.findAllById(List.of(1L))).willReturn(List.of(baby(1L)));
+        given(babyRepository.findAllById(List.of(2L))).willReturn(List.of(baby(2L)));
+
+        List<DailySchedule> saved = new ArrayList<>();
+        given(dailyScheduleRepository.saveAll(any())).willAnswer(invocation -> {
+            List<DailySchedule> schedules = invocation.getArgument(0);
+            if (schedules.stream().anyMatch(schedule -> schedule.getBabyId().equals(2L))) {
+                throw new DataIntegrityViolationException("idx_baby_id_date");
+            }
+            saved.addAll(schedules);
+            return schedules;
+        });
+
+        // when
+        PregenerationResult result = pregenerationService.pregenerate(TOMORROW);
+
+        // then
+        assertThat(result.generated()).isEqualTo(1);
+        assertThat(result.skipped()).isEqualTo(1);
+        assertThat(result.failed()).isZero();
+        assertThat(saved).extracting(DailySchedule::getBabyId).containsExactly(1L);
+        verify(transactionManager, times(2)).rollback(any());
+    }
+
+    @Test
+    @DisplayName("사전 생성 - 청크의 리듬 추정값을 한 번에 읽어 아기별로 개인화")
+    void pregenerate_PersonalizesWithChunkProfiles() {
+        // given: 아기 1은 첫 깨시 추정값 60분 (표본 충분), 아기 2는 추정값 없음
+        given(babyRepository.findIdsAfter(0L, Limit.of(2))).willReturn(List.of(1L, 2L));
+        given(babyRepository.findIdsAfter(2L, Limit.of(2))).willReturn(List.of());
+        given(babyRepository.findAllById(List.of(1L, 2L))).willReturn(List.of(baby(1L), baby(2L)));
+
+        RhythmProfile personal = mock(RhythmProfile.class);
+        given(personal.personalize(TEMPLATE))
+                .willReturn(new TemplateSnapshot(4, 2, new int[]{60, 150, 180}, new int[]{90, 90}));
+        given(rhythmPredictionService.getScheduleProfiles(List.of(1L, 2L))).willReturn(Map.of(1L, personal));
+
+        List<DailySchedule> saved = new ArrayList<>();
+        given(dailyScheduleRepository.saveAll(any())).willAnswer(invocation -> {
+            saved.addAll(invocation.getArgument(0));
+            return saved;
+        });
+
+        // when
+        pregenerationService.pregenerate(TOMORROW);
+
+        // then: 기상 07:00 → 첫 낮잠은 개인 깨시(60분) / 템플릿 깨시(120분) 뒤
+        verify(rhythmPredictionService, times(1)).getScheduleProfiles(List.of(1L, 2L));
+        verify(rhythmPredictionService, never()).getScheduleProfile(any());
+        assertThat(firstNapTime(saved, 1L)).isEqualTo(LocalTime.of(8, 0));
+        assertThat(firstNapTime(saved, 2L)).isEqualTo(LocalTime.of(9, 0));
+    }
+
+    private LocalTime firstNapTime(List<DailySchedule> schedules, Long babyId) {
+        return schedules.stream()
+                .filter(schedule -> schedule.getBabyId().equals(babyId))
+                .flatMap(schedule -> schedule.getScheduleItems().stream())
+                .filter(item -> item.getActivityType() == ActivityType.NAP1)
+                .findFirst().orElseThrow()
+                .getScheduledTime();
+    }
+
+    private Baby baby(Long id) {
+        return baby(id, 4);
+    }
+
+    private Baby baby(Long id, int ageInMonths) {
+        Baby baby = Baby.builder()
+                .userId(1L)
+                .name("아기" + id)
+                .birthDate(LocalDate.now().minusMonths(ageInMonths))
+                .gestationalWeeks(39)
+                .gender(Gender.FEMALE)
+                .build();
+        ReflectionTestUtils.setField(baby, "id", id);
+        return baby;
+    }
+
+    private BabyWakeUpTime wakeUpTime(Long babyId, int hour, int minute) {
+        return new BabyWakeUpTime() {
+            @Override
+            public Long getBabyId() {
+                return babyId;
+            }
+
+            @Override
+            public LocalTime getWakeUpTime() {
+                return LocalTime.of(hour, minute);
+            }
+        };
+    }
+}
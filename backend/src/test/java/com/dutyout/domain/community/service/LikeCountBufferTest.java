@@ -0,0 +1,144 @@
+package com.dutyout.domain.community.service;
+
+import com.dutyout.domain.community.entity.CommunityPost;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * LikeCountBuffer 동시성/H2 통합 테스트
+ *
+ * Testing Strategy:
+ * - 여러 스레드가 좋아요를 누르는 동안 반영(drain)을 반복하고, 일부 반영은 실패시켜 되돌림 경로까지 실행
+ * - 마지막 반영 후 반영된 합계가 누른 횟수와 정확히 같은지 검증
+ * - @DataJpaTest로 증감량별 UPDATE 문 반영과 조회 시 누적분 합산 검증
+ */
+@DataJpaTest
+@Import(LikeCountBuffer.class)
+@ActiveProfiles("test")
+@DisplayName("LikeCountBuffer 동시성/H2 통합 테스트")
+class LikeCountBufferTest {
+
+    private static final int THREADS = 8;
+    private static final int LIKES_PER_THREAD = 30_000; // 게시글 수의 배수
+    private static final long[] POST_IDS = {1L, 2L, 3L};
+
+    @Autowired
+    private LikeCountBuffer likeCountBuffer;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    @DisplayName("동시 좋아요 - 반영 중/반영 실패가 섞여도 유실이나 중복 없이 모두 반영")
+    void increment_ConcurrentWithDrain_LosesNothing() throws Exception {
+        // given
+        Map<Long, LongAdder> written = new ConcurrentHashMap<>();
+        AtomicInteger attempts = new AtomicInteger();
+        AtomicBoolean liking = new AtomicBoolean(true);
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS + 1);
+        Consumer<Map<Long, Long>> writer =
+                deltas -> deltas.forEach((postId, delta) -> written.computeIfAbsent(postId, id -> new LongAdder()).add(delta));
+
+        // when: 좋아요를 누르는 스레드들과 반영을 반복하는 스레드 (세 번에 한 번은 DB 반영 실패)
+        List<Future<?>> likers = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            likers.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < LIKES_PER_THREAD; i++) {
+                    likeCountBuffer.increment(POST_IDS[i % POST_IDS.length]);
+                }
+                return null;
+            }));
+        }
+        Future<?> flusher = executor.submit(() -> {
+            start.await();
+            while (liking.get()) {
+                try {
+                    likeCountBuffer.drain(deltas -> {
+                        if (attempts.incrementAndGet() % 3 == 0) {
+                            throw new IllegalStateException("DB 반영 실패");
+                        }
+                        writer.accept(deltas);
+                    });
+                } catch (IllegalStateException e) {
+                    // 되돌린 누적분은 다음 반영에 포함
+                }
+            }
+            return null;
+        });
+
+        start.countDown();
+        for (Future<?> liker : likers) {
+            liker.get(30, TimeUnit.SECONDS);
+        }
+        liking.set(false);
+        flusher.get(30, TimeUnit.SECONDS);
+        executor.shutdown();
+        likeCountBuffer.drain(writer);
+
+        // then
+        long expectedPerPost = (long) THREADS * LIKES_PER_THREAD / POST_IDS.length;
+        for (long postId : POST_IDS) {
+            assertThat(written.get(postId).sum()).isEqualTo(expectedPerPost);
+            assertThat(likeCountBuffer.pending(postId)).isZero();
+        }
+        assertThat(attempts.get()).isGreaterThan(1);
+    }
+
+    @Test
+    @DisplayName("반영 - 누적분이 like_count에 더해지고 반영 전에는 pending으로 조회")
+    void flush_AddsPendingLikesToPosts() {
+        // given
+        CommunityPost popular = post("인기 글");
+        CommunityPost quiet = post("조용한 글");
+        CommunityPost other = post("좋아요 없는 글");
+        entityManager.flush();
+        for (int i = 0; i < 3; i++) {
+            likeCountBuffer.increment(popular.getId());
+        }
+        likeCountBuffer.increment(quiet.getId());
+
+        // when
+        long pendingBefore = likeCountBuffer.pending(popular.getId());
+        likeCountBuffer.flush();
+        entityManager.clear();
+
+        // then
+        assertThat(pendingBefore).isEqualTo(3);
+        assertThat(likeCountBuffer.pending(popular.getId())).isZero();
+        assertThat(entityManager.find(CommunityPost.class, popular.getId()).getLikeCount()).isEqualTo(3);
+        assertThat(entityManager.find(CommunityPost.class, quiet.getId()).getLikeCount()).isEqualTo(1);
+        assertThat(entityManager.find(CommunityPost.class, other.getId()).getLikeCount()).isZero();
+    }
+
+    private CommunityPost post(String title) {
+        return entityManager.persist(CommunityPost.builder()
+                .userId(1L)
+                .title(title)
+                .content("내용")
+                .anonymousAuthor("익명123")
+                .build());
+    }
+}
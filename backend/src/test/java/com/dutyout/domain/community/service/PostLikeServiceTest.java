@@ -0,0 +1,161 @@
+package com.dutyout.domain.community.service;
+
+import com.dutyout.domain.community.repository.PostLikeRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * PostLikeService H2 통합 테스트
+ *
+ * Testing Strategy:
+ * - @DataJpaTest + @Import로 실제 INSERT ... ON CONFLICT / DELETE 실행
+ *   (ON CONFLICT는 PostgreSQL 구문이므로 내장 DB로 바꾸지 않고 test 프로필의 PostgreSQL 모드 H2 사용)
+ * - 비트맵과 좋아요 수는 커밋 후 갱신되므로 테스트 트랜잭션 없이 서비스 트랜잭션을 커밋 (데이터는 @AfterEach에서 정리)
+ * - 중복 좋아요/취소 무시, 낡은 비트맵에서도 DB 기준 반영, 좋아요 수 증감, 페이지 단위 좋아요 여부 조회와 비트맵 컨테이너 전환 검증
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({PostLikeService.class, LikeCountBuffer.class})
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("PostLikeService H2 통합 테스트")
+class PostLikeServiceTest {
+
+    private static final Long POST_ID = 10L;
+    private static final Long USER_ID = 7L;
+
+    @Autowired
+    private PostLikeService postLikeService;
+
+    @Autowired
+    private LikeCountBuffer likeCountBuffer;
+
+    @Autowired
+    private PostLikeRepository postLikeRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        for (long postId = POST_ID; postId <= POST_ID + 3; postId++) {
+            postLikeService.removeAll(postId);
+            likeCountBuffer.discard(postId);
+        }
+    }
+
+    @Test
+    @DisplayName("좋아요 - 같은 사용자가 다시 눌러도 한 번만 반영, 취소하면 좋아요 수 감소")
+    void likeAndUnlike_AreIdempotentPerUser() {
+        // when
+        boolean first = postLikeService.like(POST_ID, USER_ID);
+        boolean second = postLikeService.like(POST_ID, USER_ID);
+        postLikeService.like(POST_ID, 8L);
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        assertThat(postLikeService.isLiked(POST_ID, USER_ID)).isTrue();
+        assertThat(postLikeRepository.count()).isEqualTo(2);
+        assertThat(likeCountBuffer.pending(POST_ID)).isEqualTo(2);
+
+        // when: 취소 두 번
+        boolean removed = postLikeService.unlike(POST_ID, USER_ID);
+        boolean removedAgain = postLikeService.unlike(POST_ID, USER_ID);
+
+        // then
+        assertThat(removed).isTrue();
+        assertThat(removedAgain).isFalse();
+        assertThat(postLikeService.isLiked(POST_ID, USER_ID)).isFalse();
+        assertThat(postLikeRepository.findUserIdsByPostId(POST_ID)).containsExactly(8L);
+        assertThat(likeCountBuffer.pending(POST_ID)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("좋아요 여부 - 페이지의 게시글 중 누른 글만, 다른 경로로 추가된 행도 처음 로드 때 반영")
+    void findLikedPostIds_ReturnsOnlyLikedPosts() {
+        // given: 캐시에 없는 게시글의 기존 행
+        new TransactionTemplate(transactionManager).executeWithoutResult(
+                status -> postLikeRepository.insertIfAbsent(POST_ID + 1, USER_ID, LocalDateTime.now()));
+        postLikeService.like(POST_ID, USER_ID);
+        postLikeService.like(POST_ID + 2, 99L);
+
+        // when
+        Set<Long> liked = postLikeService.findLikedPostIds(USER_ID, List.of(POST_ID, POST_ID + 1, POST_ID + 2, POST_ID + 3));
+
+        // then
+        assertThat(liked).containsExactlyInAnyOrder(POST_ID, POST_ID + 1);
+    }
+
+    @Test
+    @DisplayName("좋아요/취소 - 캐시된 비트맵이 낡아도 DB 행 수로 판단하고 비트맵을 바로잡음")
+    void likeAndUnlike_IgnoreStaleBitmap() {
+        // given: 비트맵 로드 후 다른 경로(다른 인스턴스)에서 좋아요 행 추가
+        assertThat(postLikeService.isLiked(POST_ID, USER_ID)).isFalse();
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.executeWithoutResult(status -> postLikeRepository.insertIfAbsent(POST_ID, USER_ID, LocalDateTime.now()));
+
+        // when: 비트맵은 아직 누르지 않은 상태로 알고 있음
+        boolean removed = postLikeService.unlike(POST_ID, USER_ID);
+
+        // then: 실제 행을 지우고 좋아요 수도 감소
+        assertThat(removed).isTrue();
+        assertThat(postLikeRepository.count()).isZero();
+        assertThat(likeCountBuffer.pending(POST_ID)).isEqualTo(-1);
+
+        // given: 비트맵에 좋아요 상태로 남은 채 다른 경로에서 행 삭제
+        postLikeService.like(POST_ID, USER_ID);
+        tx.executeWithoutResult(status -> postLikeRepository.deleteByPostIdAndUserId(POST_ID, USER_ID));
+        assertThat(postLikeService.isLiked(POST_ID, USER_ID)).isTrue();
+
+        // when
+        boolean added = postLikeService.like(POST_ID, USER_ID);
+
+        // then: 행이 다시 추가되고 비트맵과 DB가 일치
+        assertThat(added).isTrue();
+        assertThat(postLikeRepository.findUserIdsByPostId(POST_ID)).containsExactly(USER_ID);
+        assertThat(postLikeService.isLiked(POST_ID, USER_ID)).isTrue();
+        assertThat(likeCountBuffer.pending(POST_ID)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("비트맵 - 컨테이너가 배열↔비트셋으로 바뀌어도 같은 집합")
+    void userIdBitmap_KeepsMembershipAcrossContainerConversion() {
+        // given: 같은 상위 키에 ARRAY_MAX + 1개 (비트셋 전환), 다른 키에 1개
+        UserIdBitmap bitmap = new UserIdBitmap();
+        for (long id = 0; id <= UserIdBitmap.ARRAY_MAX; id++) {
+            bitmap.add(id * 3);
+        }
+        bitmap.add(5_000_000_000L);
+
+        // when: 하나 빼서 다시 배열로 전환
+        boolean removed = bitmap.remove(0);
+
+        // then
+        assertThat(removed).isTrue();
+        assertThat(bitmap.cardinality()).isEqualTo(UserIdBitmap.ARRAY_MAX + 1);
+        assertThat(bitmap.contains(0)).isFalse();
+        assertThat(bitmap.contains(3)).isTrue();
+        assertThat(bitmap.contains(4)).isFalse();
+        assertThat(bitmap.contains(UserIdBitmap.ARRAY_MAX * 3L)).isTrue();
+        assertThat(bitmap.contains(5_000_000_000L)).isTrue();
+        assertThat(bitmap.add(3)).isFalse();
+        assertThat(bitmap.remove(4)).isFalse();
+    }
+}
@@ -0,0 +1,150 @@
+package com.dutyout.domain.community.service;
+
+import com.dutyout.common.exception.BusinessException;
+import com.dutyout.common.response.CursorPageResponse;
+import com.dutyout.domain.community.entity.CommunityPost;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * PostSearchService H2 통합 테스트
+ *
+ * Testing Strategy:
+ * - @DataJpaTest + @Import로 색인 생성/재색인/삭제와 포스팅 집계 쿼리 실행
+ * - 조사가 붙은 한국어 단어 일치, 제목 가중치 순위, 점수 커서 페이지 검증
+ * - 한 글자 검색어는 그 글자로 시작하는 바이그램으로 검색
+ */
+@DataJpaTest
+@Import(PostSearchService.class)
+@ActiveProfiles("test")
+@DisplayName("PostSearchService H2 통합 테스트")
+class PostSearchServiceTest {
+
+    @Autowired
+    private PostSearchService postSearchService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    @DisplayName("검색 - 조사가 붙은 단어도 찾고, 제목에 있는 글이 먼저 나옴")
+    void search_MatchesKoreanWordsAndRanksTitleFirst() {
+        // given
+        CommunityPost inContent = post("5개월 아기 고민", "요즘 아기가 낮잠을 30분밖에 안 자요.");
+        CommunityPost inTitle = post("낮잠 거부 어떻게 하나요", "눕히기만 하면 울어요.");
+        post("밤잠 이야기", "밤에 잠을 잘 자요. 낮에는 잘 놀아요.");
+        CommunityPost latin = post("Nap 루틴 공유", "아침 7시 기상");
+        flushAndClear();
+
+        // when
+        CursorPageResponse<CommunityPost> result = postSearchService.search("낮잠", null, 20);
+
+        // then
+        assertThat(result.getItems()).extracting(CommunityPost::getId)
+                .containsExactly(inTitle.getId(), inContent.getId());
+        assertThat(result.isHasNext()).isFalse();
+        assertThat(postSearchService.search("ＮＡＰ", null, 20).getItems()) // 전각/대소문자 정규화
+                .extracting(CommunityPost::getId).containsExactly(latin.getId());
+    }
+
+    @Test
+    @DisplayName("색인 갱신 - 여러 단어는 모두 포함한 글만, 수정/삭제가 바로 반영")
+    void reindexAndRemove() {
+        // given
+        CommunityPost first = post("낮잠 거부", "낮잠을 거부해요");
+        CommunityPost second = post("낮잠 시간", "낮잠은 몇 시간이 적당한가요");
+        flushAndClear();
+        assertThat(postSearchService.search("낮잠 거부", null, 20).getItems())
+                .extracting(CommunityPost::getId).containsExactly(first.getId());
+
+        // when: 두 번째 글 수정, 첫 번째 글 삭제
+        CommunityPost updated = entityManager.find(CommunityPost.class, second.getId());
+        updated.update("낮잠 거부 해결", null);
+        postSearchService.reindex(updated);
+        entityManager.remove(entityManager.find(CommunityPost.class, first.getId()));
+        postSearchService.remove(first.getId());
+        flushAndClear();
+
+        // then
+        assertThat(postSearchService.search("낮잠 거부", null, 20).getItems())
+                .extracting(CommunityPost::getId).containsExactly(second.getId());
+        assertThat(postSearchService.search("시간", null, 20).getItems()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("검색 페이지 - 같은 점수는 최신 글 먼저, nextCursor로 중복/누락 없이 이어서 조회")
+    void search_PagesWithScoreCursor() {
+        // given
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            ids.add(post("질문 " + i, "분유 수유 간격이 궁금해요").getId());
+        }
+        flushAndClear();
+
+        // when
+        CursorPageResponse<CommunityPost> first = postSearchService.search("수유 간격", null, 20);
+        CursorPageResponse<CommunityPost> second = postSearchService.search("수유 간격", first.getNextCursor(), 20);
+
+        // then
+        assertThat(first.getItems()).hasSize(20);
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(second.getItems()).hasSize(5);
+        assertThat(second.isHasNext()).isFalse();
+
+        List<Long> pagedIds = new ArrayList<>();
+        first.getItems().forEach(post -> pagedIds.add(post.getId()));
+        second.getItems().forEach(post -> pagedIds.add(post.getId()));
+        Collections.reverse(ids);
+        assertThat(pagedIds).containsExactlyElementsOf(ids);
+
+        assertThatThrownBy(() -> postSearchService.search("?!", null, 20))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    @Test
+    @DisplayName("한 글자 검색 - 그 글자로 시작하는 단어가 있는 글을 점수순으로, 커서로 이어서 조회")
+    void search_FallsBackToPrefixForSingleLetter() {
+        // given
+        CommunityPost night = post("밤잠 이야기", "밤에 잠을 잘 자요. 밤중 수유는 끊었어요.");
+        CommunityPost nap = post("낮잠 고민", "밤잠은 괜찮아요");
+        post("수유 간격", "세 시간마다 먹어요");
+        flushAndClear();
+
+        // when
+        CursorPageResponse<CommunityPost> first = postSearchService.search("밤", null, 1);
+        CursorPageResponse<CommunityPost> second = postSearchService.search(" 밤 ", first.getNextCursor(), 1);
+
+        // then: 제목+본문에 여러 번 나온 글이 먼저
+        assertThat(first.getItems()).extracting(CommunityPost::getId).containsExactly(night.getId());
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(second.getItems()).extracting(CommunityPost::getId).containsExactly(nap.getId());
+        assertThat(second.isHasNext()).isFalse();
+    }
+
+    private CommunityPost post(String title, String content) {
+        CommunityPost post = entityManager.persist(CommunityPost.builder()
+                .userId(1L)
+                .title(title)
+                .content(content)
+                .anonymousAuthor("익명123")
+                .build());
+        postSearchService.index(post);
+        return post;
+    }
+
+    private void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
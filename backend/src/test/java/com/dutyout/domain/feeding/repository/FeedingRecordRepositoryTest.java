@@ -7,11 +7,15 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.*;
@@ -37,6 +41,9 @@ class FeedingRecordRepositoryTest {
     @Autowired
     private FeedingRecordRepository feedingRecordRepository;
 
+    @Autowired
+    private TestEntityManager entityManager;
+
     private FeedingRecord feedingRecord1;
     private FeedingRecord feedingRecord2;
 
@@ -65,10 +72,10 @@ class FeedingRecordRepositoryTest {
 
     @Test
     @DisplayName("아기 ID로 수유 기록 조회 - 최신순 정렬")
-    void findByBabyIdOrderByFeedingTimeDesc_Success() {
+    void findByBabyIdOrderByFeedingTimeDescIdDesc_Success() {
         // when
         List<FeedingRecord> records = feedingRecordRepository
-                .findByBabyIdOrderByFeedingTimeDesc(1L);
+                .findByBabyIdOrderByFeedingTimeDescIdDesc(1L, Limit.of(10));
 
         // then
         assertThat(records).hasSize(2);
@@ -76,6 +83,40 @@ class FeedingRecordRepositoryTest {
         assertThat(records.get(1).getNote()).isEqualTo("첫 번째 수유");
     }
 
+    @Test
+    @DisplayName("커서 페이지 조회 - 같은 시각 기록도 빠짐/중복 없이 이어서 조회")
+    void findPageBefore_Success() {
+        // given: 같은 시각 3건 + 이전 시각 1건
+        LocalDateTime sameTime = LocalDateTime.now().minusDays(1).withNano(0);
+        for (int i = 0; i < 3; i++) {
+            feedingRecordRepository.save(FeedingRecord.builder()
+                    .babyId(1L).feedingTime(sameTime).type(FeedingType.BOTTLE).amountMl(100).build());
+        }
+        feedingRecordRepository.save(FeedingRecord.builder()
+                .babyId(1L).feedingTime(sameTime.minusHours(3)).type(FeedingType.SOLID).build());
+        entityManager.flush();
+        entityManager.clear(); // 커서는 DB에 저장된 값(마이크로초 정밀도)으로 만들어짐
+
+        // when: 2건씩 끝까지 조회
+        List<FeedingRecord> all = new ArrayList<>(feedingRecordRepository
+                .findByBabyIdOrderByFeedingTimeDescIdDesc(1L, Limit.of(2)));
+        while (true) {
+            FeedingRecord last = all.get(all.size() - 1);
+            List<FeedingRecord> page = feedingRecordRepository
+                    .findPageBefore(1L, last.getFeedingTime(), last.getId(), Limit.of(2));
+            if (page.isEmpty()) {
+                break;
+            }
+            all.addAll(page);
+        }
+
+        // then
+        assertThat(all).hasSize(6);
+        assertThat(all).extracting(FeedingRecord::getId).doesNotHaveDuplicates();
+        assertThat(all).isSortedAccordingTo(Comparator.comparing(FeedingRecord::getFeedingTime)
+                .thenComparing(FeedingRecord::getId).reversed());
+    }
+
     @Test
     @DisplayName("기간별 수유 기록 조회")
     void findByBabyIdAndFeedingTimeBetween_Success() {
@@ -96,10 +137,10 @@ class FeedingRecordRepositoryTest {
     void findByBabyIdAndType_Success() {
         // when
         List<FeedingRecord> bottleRecords = feedingRecordRepository
-                .findByBabyIdAndTypeOrderByFeedingTimeDesc(1L, FeedingType.BOTTLE);
+                .findByBabyIdAndTypeOrderByFeedingTimeDescIdDesc(1L, FeedingType.BOTTLE, Limit.of(10));
 
         List<FeedingRecord> breastRecords = feedingRecordRepository
-                .findByBabyIdAndTypeOrderByFeedingTimeDesc(1L, FeedingType.BREAST);
+                .findByBabyIdAndTypeOrderByFeedingTimeDescIdDesc(1L, FeedingType.BREAST, Limit.of(10));
 
         // then
         assertThat(bottleRecords).hasSize(1);
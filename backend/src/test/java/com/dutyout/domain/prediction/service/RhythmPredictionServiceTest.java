@@ -0,0 +1,279 @@
+package com.dutyout.domain.prediction.service;
+
+import com.dutyout.application.dto.response.NextPredictionResponse;
+import com.dutyout.application.dto.response.NextPredictionResponse.Basis;
+import com.dutyout.domain.baby.entity.Baby;
+import com.dutyout.domain.baby.entity.Gender;
+import com.dutyout.domain.baby.repository.BabyRepository;
+import com.dutyout.domain.feeding.entity.FeedingRecord;
+import com.dutyout.domain.feeding.entity.FeedingType;
+import com.dutyout.domain.feeding.repository.FeedingRecordRepository;
+import com.dutyout.domain.prediction.entity.BabyRhythmEstimate;
+import com.dutyout.domain.prediction.entity.RhythmMetric;
+import com.dutyout.domain.prediction.repository.BabyRhythmEstimateRepository;
+import com.dutyout.domain.schedule.service.ReferenceDataCatalog;
+import com.dutyout.domain.schedule.service.ReferenceDataCatalog.TemplateSnapshot;
+import com.dutyout.domain.sleep.entity.OngoingSleep;
+import com.dutyout.domain.sleep.entity.SleepRecord;
+import com.dutyout.domain.sleep.entity.SleepType;
+import com.dutyout.domain.sleep.repository.OngoingSleepRepository;
+import com.dutyout.domain.sleep.repository.SleepRecordRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * RhythmPredictionService H2 통합 테스트
+ *
+ * Testing Strategy:
+ * - @DataJpaTest로 실제 직전 기록 조회와 추정값 행 갱신 실행
+ *   (추정값 행 추가가 INSERT ... ON CONFLICT이므로 내장 DB로 바꾸지 않고 test 프로필의 PostgreSQL 모드 H2 사용)
+ * - 기준 데이터(ReferenceDataCatalog)는 별도 트랜잭션에서 로드하므로 Mock으로 고정
+ * - 표본 수에 따라 개인 값/가이드라인 값이 선택되는지 검증
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@DisplayName("RhythmPredictionService H2 통합 테스트")
+class RhythmPredictionServiceTest {
+
+    private static final LocalDate DAY = LocalDate.of(2024, 5, 1);
+    private static final TemplateSnapshot TEMPLATE =
+            new TemplateSnapshot(4, 3, new int[]{90, 105, 120, 150}, new int[]{60, 60, 45});
+
+    @Autowired
+    private BabyRhythmEstimateRepository estimateRepository;
+
+    @Autowired
+    private SleepRecordRepository sleepRecordRepository;
+
+    @Autowired
+    private OngoingSleepRepository ongoingSleepRepository;
+
+    @Autowired
+    private FeedingRecordRepository feedingRecordRepository;
+
+    @Autowired
+    private BabyRepository babyRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private RhythmPredictionService rhythmPredictionService;
+    private Long babyId;
+
+    @BeforeEach
+    void setUp() {
+        ReferenceDataCatalog referenceDataCatalog = mock(ReferenceDataCatalog.class);
+        given(referenceDataCatalog.findClosestTemplate(anyInt())).willReturn(Optional.of(TEMPLATE));
+        given(referenceDataCatalog.findClosestGuideline(anyInt())).willReturn(Optional.empty());
+
+        rhythmPredictionService = new RhythmPredictionService(estimateRepository, sleepRecordRepository,
+                ongoingSleepRepository, feedingRecordRepository, babyRepository, referenceDataCatalog, 0.2, 3, true);
+
+        babyId = entityManager.persist(Baby.builder()
+                .userId(1L)
+                .name("테스트베이비")
+                .birthDate(DAY.minusMonths(4))
+                .gestationalWeeks(40)
+                .gender(Gender.FEMALE)
+                .build()).getId();
+    }
+
+    @Test
+    @DisplayName("예측 - 표본 3개 이상인 깨시는 개인 값, 부족한 수유 간격은 가이드라인 기본값")
+    void predictNext_UsesPersonalWindowOnceEnoughSamples() {
+        // given: 사흘간 밤잠 종료 후 80/90/100분 뒤 첫 낮잠 (낮잠은 50/60/70분)
+        for (int day = 0; day < 3; day++) {
+            LocalDateTime morning = DAY.plusDays(day).atTime(7, 0);
+            record(sleep(SleepType.NIGHT, morning.minusHours(11), morning));
+            record(sleep(SleepType.NAP1, morning.plusMinutes(80 + day * 10), morning.plusMinutes(130 + day * 20)));
+        }
+        // 수유 간격 180분, 150분 (2개), 범위를 넘는 공백은 제외
+        LocalDateTime feedingDay = DAY.plusDays(3).atStartOfDay();
+        record(feeding(feedingDay.minusHours(12)));
+        record(feeding(feedingDay.plusHours(6)));
+        record(feeding(feedingDay.plusHours(9)));
+        record(feeding(feedingDay.plusHours(11).plusMinutes(30)));
+
+        LocalDateTime wakeUp = DAY.plusDays(3).atTime(7, 0);
+        record(sleep(SleepType.NIGHT, wakeUp.minusHours(11), wakeUp));
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        NextPredictionResponse prediction = rhythmPredictionService.predictNext(babyId, DAY.plusDays(3).atTime(11, 40));
+
+        // then: 깨시 80, 90, 100의 평균 (초기 표본은 단순 평균)
+        assertThat(prediction.isAsleep()).isFalse();
+        assertThat(prediction.getNextSleep().getType()).isEqualTo(SleepType.NAP1);
+        assertThat(prediction.getNextSleep().getWakeWindowMinutes()).isEqualTo(90);
+        assertThat(prediction.getNextSleep().getPredictedStartTime()).isEqualTo(wakeUp.plusMinutes(90));
+        assertThat(prediction.getNextSleep().getExpectedDurationMinutes()).isEqualTo(60);
+        assertThat(prediction.getNextSleep().getBasis()).isEqualTo(Basis.PERSONAL);
+        assertThat(prediction.getNextSleep().getSampleCount()).isEqualTo(3);
+
+        assertThat(prediction.getNextFeeding().getBasis()).isEqualTo(Basis.GUIDELINE);
+        assertThat(prediction.getNextFeeding().getSampleCount()).isEqualTo(2);
+        assertThat(prediction.getNextFeeding().getPredictedTime())
+                .isEqualTo(feedingDay.plusHours(11).plusMinutes(30).plusMinutes(RhythmPredictionService.DEFAULT_FEEDING_INTERVAL_MINUTES));
+    }
+
+    @Test
+    @DisplayName("예측 - 첫 낮잠 다음은 두 번째 낮잠, 낮잠 중이면 다음 수면 대신 예상 기상 시각")
+    void predictNext_FollowsNapOrderAndOngoingNap() {
+        // given: 첫 낮잠 종료 (두 번째 낮잠 깨시/길이는 가이드라인 105분/60분)
+        record(sleep(SleepType.NAP1, DAY.atTime(9, 0), DAY.atTime(10, 0)));
+        entityManager.flush();
+
+        NextPredictionResponse awake = rhythmPredictionService.predictNext(babyId, DAY.atTime(10, 30));
+
+        // 두 번째 낮잠 시작 (진행 중 등록)
+        LocalDateTime napStart = DAY.atTime(11, 50);
+        SleepRecord ongoing = entityManager.persist(sleep(SleepType.NAP2, napStart, null));
+        entityManager.persist(OngoingSleep.from(ongoing));
+        entityManager.flush();
+
+        // when
+        NextPredictionResponse asleep = rhythmPredictionService.predictNext(babyId, napStart.plusMinutes(10));
+
+        // then
+        assertThat(awake.isAsleep()).isFalse();
+        assertThat(awake.getNextSleep().getType()).isEqualTo(SleepType.NAP2);
+        assertThat(awake.getNextSleep().getPredictedStartTime()).isEqualTo(DAY.atTime(11, 45));
+        assertThat(awake.getNextSleep().getBasis()).isEqualTo(Basis.GUIDELINE);
+        assertThat(awake.getNextFeeding()).isNull();
+
+        assertThat(asleep.isAsleep()).isTrue();
+        assertThat(asleep.getNextSleep()).isNull();
+        assertThat(asleep.getPredictedWakeTime()).isEqualTo(napStart.plusMinutes(60));
+    }
+
+    @Test
+    @DisplayName("추정값 - 표본이 쌓이면 alpha 비율로만 새 값을 반영")
+    void addSample_SwitchesToEwma() {
+        // given
+        BabyRhythmEstimate estimate = BabyRhythmEstimate.builder()
+                .babyId(babyId)
+                .metric(RhythmMetric.NAP_LENGTH)
+                .slot(0)
+                .build();
+        for (int i = 0; i < 10; i++) {
+            estimate.addSample(100, DAY.atTime(9, 0), 0.2);
+        }
+
+        // when
+        estimate.addSample(200, DAY.atTime(12, 0), 0.2);
+
+        // then
+        assertThat(estimate.getMeanMinutes()).isCloseTo(120.0, within(0.001));
+        assertThat(estimate.getSampleCount()).isEqualTo(11);
+        assertThat(estimate.getLastSampleAt()).isEqualTo(DAY.atTime(12, 0));
+    }
+
+    @Test
+    @DisplayName("추정값 - 다른 트랜잭션이 먼저 넣은 빈 행에 이어서 반영하고 중복 행을 만들지 않음")
+    void recordSleepEnd_ReusesRowInsertedConcurrently() {
+        // given: 같은 지표의 첫 측정값을 동시에 처리한 다른 트랜잭션이 빈 행을 먼저 추가
+        int first = estimateRepository.insertIfAbsent(babyId, RhythmMetric.NAP_LENGTH.name(), 0, LocalDateTime.now());
+        int second = estimateRepository.insertIfAbsent(babyId, RhythmMetric.NAP_LENGTH.name(), 0, LocalDateTime.now());
+
+        // when
+        record(sleep(SleepType.NAP1, DAY.atTime(9, 0), DAY.atTime(10, 10)));
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        assertThat(first).isEqualTo(1);
+        assertThat(second).isZero();
+        assertThat(estimateRepository.findByBabyId(babyId))
+                .filteredOn(estimate -> estimate.getMetric() == RhythmMetric.NAP_LENGTH)
+                .singleElement()
+                .satisfies(estimate -> {
+                    assertThat(estimate.getSlot()).isZero();
+                    assertThat(estimate.getMeanMinutes()).isCloseTo(70.0, within(0.001));
+                    assertThat(estimate.getSampleCount()).isEqualTo(1);
+                });
+    }
+
+    @Test
+    @DisplayName("스케줄 개인화 - 표본이 충분한 슬롯만 템플릿 값을 대체, 취침 전 깨시는 밤잠 슬롯 사용")
+    void personalize_ReplacesLearnedSlots() {
+        // given: 사흘간 첫 깨시 70분, 취침 전 깨시 200분 / 첫 낮잠은 범위 밖 1개 + 80분 2개 (부족)
+        LocalDateTime wakeUp = DAY.atTime(7, 0);
+        record(sleep(SleepType.NIGHT, wakeUp.minusHours(11), wakeUp));
+        for (int day = 0; day < 3; day++) {
+            LocalDateTime napStart = wakeUp.plusMinutes(70);
+            LocalDateTime napEnd = napStart.plusMinutes(day == 0 ? 250 : 80);
+            record(sleep(SleepType.NAP1, napStart, napEnd));
+
+            LocalDateTime bedtime = napEnd.plusMinutes(200);
+            wakeUp = bedtime.plusHours(10);
+            record(sleep(SleepType.NIGHT, bedtime, wakeUp));
+        }
+        entityManager.flush();
+
+        // when
+        TemplateSnapshot personalized = rhythmPredictionService.getScheduleProfile(babyId).personalize(TEMPLATE);
+        Map<Long, RhythmProfile> chunkProfiles = rhythmPredictionService.getScheduleProfiles(List.of(babyId, babyId + 1));
+
+        // then
+        assertThat(personalized.getNapCount()).isEqualTo(3);
+        assertThat(personalized.wakeWindowAt(0, 0)).isEqualTo(70);
+        assertThat(personalized.wakeWindowAt(1, 0)).isEqualTo(105);
+        assertThat(personalized.wakeWindowAt(3, 0)).isEqualTo(200);
+        assertThat(personalized.napDurationAt(0, 0)).isEqualTo(60);
+        assertThat(RhythmProfile.EMPTY.personalize(TEMPLATE)).isSameAs(TEMPLATE);
+
+        // 청크 조회도 같은 값 (추정값 없는 아기는 결과에 없음)
+        assertThat(chunkProfiles).containsOnlyKeys(babyId);
+        TemplateSnapshot fromChunk = chunkProfiles.get(babyId).personalize(TEMPLATE);
+        assertThat(fromChunk.wakeWindowAt(0, 0)).isEqualTo(70);
+        assertThat(fromChunk.wakeWindowAt(3, 0)).isEqualTo(200);
+    }
+
+    private void record(SleepRecord sleep) {
+        entityManager.persist(sleep);
+        rhythmPredictionService.recordSleepStart(sleep);
+        rhythmPredictionService.recordSleepEnd(sleep);
+    }
+
+    private void record(FeedingRecord feeding) {
+        entityManager.persist(feeding);
+        rhythmPredictionService.recordFeeding(feeding);
+    }
+
+    private SleepRecord sleep(SleepType type, LocalDateTime start, LocalDateTime end) {
+        return SleepRecord.builder()
+                .babyId(babyId)
+                .type(type)
+                .startTime(start)
+                .endTime(end)
+                .build();
+    }
+
+    private FeedingRecord feeding(LocalDateTime time) {
+        return FeedingRecord.builder()
+                .babyId(babyId)
+                .feedingTime(time)
+                .type(FeedingType.BOTTLE)
+                .amountMl(120)
+                .build();
+    }
+}
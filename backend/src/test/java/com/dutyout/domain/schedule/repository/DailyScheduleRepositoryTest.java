@@ -0,0 +1,157 @@
+package com.dutyout.domain.schedule.repository;
+
+import com.dutyout.domain.schedule.entity.ActivityType;
+import com.dutyout.domain.schedule.entity.DailySchedule;
+import com.dutyout.domain.schedule.entity.ScheduleItem;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * DailyScheduleRepository H2 통합 테스트
+ *
+ * Testing Strategy:
+ * - @DataJpaTest + Hibernate 통계로 실행된 SQL 수 검증
+ * - 기간 조회 시 날짜별 아이템 지연 로딩(N+1)이 없는지 확인
+ * - 스케줄 버전이 DB에서 원자적으로 증가하는지 확인
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@DisplayName("DailyScheduleRepository H2 통합 테스트")
+class DailyScheduleRepositoryTest {
+
+    @Autowired
+    private DailyScheduleRepository dailyScheduleRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @DisplayName("기간 조회 - 일주일치 스케줄과 아이템을 쿼리 한 번으로 로드")
+    void findByBabyIdAndScheduleDateBetween_LoadsItemsInSingleQuery() {
+        // given: 7일치 스케줄 (하루 3개 아이템) + 다른 아기 스케줄
+        LocalDate start = LocalDate.of(2024, 5, 6);
+        for (int day = 0; day < 7; day++) {
+            entityManager.persist(schedule(1L, start.plusDays(day)));
+        }
+        entityManager.persist(schedule(2L, start));
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        List<DailySchedule> schedules = dailyScheduleRepository.findByBabyIdAndScheduleDateBetween(
+                1L, start, start.plusDays(6));
+        int itemCount = schedules.stream().mapToInt(schedule -> schedule.getScheduleItems().size()).sum();
+
+        // then
+        assertThat(schedules).hasSize(7);
+        assertThat(schedules).extracting(DailySchedule::getScheduleDate).isSorted();
+        assertThat(itemCount).isEqualTo(21);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("버전 조회 - 아이템 없이 ID와 버전만 쿼리 한 번으로 조회하고, 재생성 시 버전 증가")
+    void findVersionByBabyIdAndScheduleDate_ReadsVersionWithoutItems() {
+        // given
+        LocalDate date = LocalDate.of(2024, 5, 6);
+        DailySchedule saved = entityManager.persist(schedule(1L, date));
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        DailyScheduleRepository.ScheduleVersion before =
+                dailyScheduleRepository.findVersionByBabyIdAndScheduleDate(1L, date).orElseThrow();
+
+        // then
+        assertThat(before.getId()).isEqualTo(saved.getId());
+        assertThat(before.getVersion()).isZero();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getCollectionLoadCount()).isZero();
+
+        // when: 재생성
+        DailySchedule schedule = dailyScheduleRepository.findById(saved.getId()).orElseThrow();
+        schedule.replaceScheduleItems(LocalTime.of(6, 30), 3,
+                List.of(item(ActivityType.WAKE_UP, LocalTime.of(6, 30), null)));
+        dailyScheduleRepository.incrementVersions(List.of(schedule.getId()));
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        assertThat(dailyScheduleRepository.findVersionByBabyIdAndScheduleDate(1L, date))
+                .hasValueSatisfying(after -> assertThat(after.getVersion()).isEqualTo(1L));
+        assertThat(dailyScheduleRepository.findVersionByBabyIdAndScheduleDate(2L, date)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("버전 증가 - 같은 버전을 읽은 두 수정이 모두 반영되고, 엔티티 flush가 DB 버전을 덮어쓰지 않음")
+    void incrementVersions_KeepsConcurrentIncrements() {
+        // given: 두 요청이 모두 버전 0을 읽은 상태
+        LocalDate date = LocalDate.of(2024, 5, 6);
+        DailySchedule saved = entityManager.persist(schedule(1L, date));
+        entityManager.persist(schedule(2L, date));
+        entityManager.flush();
+        entityManager.clear();
+        DailySchedule stale = dailyScheduleRepository.findById(saved.getId()).orElseThrow();
+
+        // when: 다른 요청의 증가 후 이 요청도 수정하고 증가
+        dailyScheduleRepository.incrementVersions(List.of(saved.getId()));
+        stale.markModified();
+        stale.updateWakeUpTime(LocalTime.of(6, 0));
+        dailyScheduleRepository.incrementVersions(List.of(saved.getId()));
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        assertThat(dailyScheduleRepository.findVersionByBabyIdAndScheduleDate(1L, date))
+                .hasValueSatisfying(after -> assertThat(after.getVersion()).isEqualTo(2L));
+        assertThat(dailyScheduleRepository.findVersionByBabyIdAndScheduleDate(2L, date))
+                .hasValueSatisfying(other -> assertThat(other.getVersion()).isZero());
+        assertThat(dailyScheduleRepository.findById(saved.getId()).orElseThrow().getWakeUpTime())
+                .isEqualTo(LocalTime.of(6, 0));
+    }
+
+    private DailySchedule schedule(Long babyId, LocalDate date) {
+        DailySchedule schedule = DailySchedule.builder()
+                .babyId(babyId)
+                .scheduleDate(date)
+                .wakeUpTime(LocalTime.of(7, 0))
+                .ageInMonths(3)
+                .build();
+        schedule.addScheduleItems(List.of(
+                item(ActivityType.WAKE_UP, LocalTime.of(7, 0), null),
+                item(ActivityType.NAP1, LocalTime.of(8, 30), 60),
+                item(ActivityType.BEDTIME, LocalTime.of(19, 30), null)));
+        return schedule;
+    }
+
+    private ScheduleItem item(ActivityType type, LocalTime time, Integer duration) {
+        return ScheduleItem.builder()
+                .activityType(type)
+                .scheduledTime(time)
+                .durationMinutes(duration)
+                .build();
+    }
+}
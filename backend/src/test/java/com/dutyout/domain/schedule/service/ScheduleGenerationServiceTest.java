@@ -0,0 +1,112 @@
+package com.dutyout.domain.schedule.service;
+
+import com.dutyout.domain.baby.entity.Baby;
+import com.dutyout.domain.baby.entity.Gender;
+import com.dutyout.domain.baby.repository.BabyRepository;
+import com.dutyout.domain.prediction.service.RhythmPredictionService;
+import com.dutyout.domain.prediction.service.RhythmProfile;
+import com.dutyout.domain.schedule.entity.ActivityType;
+import com.dutyout.domain.schedule.entity.DailySchedule;
+import com.dutyout.domain.schedule.entity.ScheduleItem;
+import com.dutyout.domain.schedule.repository.DailyScheduleRepository;
+import com.dutyout.domain.schedule.service.ReferenceDataCatalog.TemplateSnapshot;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+/**
+ * ScheduleGenerationService 단위 테스트
+ *
+ * Testing Strategy:
+ * - Mockito를 사용한 의존성 격리
+ * - 기간 생성 시 조회 횟수, 월령 경계, 일괄 저장 검증
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ScheduleGenerationService 단위 테스트")
+class ScheduleGenerationServiceTest {
+
+    @Mock
+    private BabyRepository babyRepository;
+
+    @Mock
+    private ReferenceDataCatalog referenceDataCatalog;
+
+    @Mock
+    private DailyScheduleRepository dailyScheduleRepository;
+
+    @Mock
+    private RhythmPredictionService rhythmPredictionService;
+
+    @InjectMocks
+    private ScheduleGenerationService scheduleGenerationService;
+
+    @Test
+    @DisplayName("기간 생성 - 한 번 조회하고, 월령이 바뀌는 날부터 다음 템플릿을 적용해 일괄 저장")
+    void generateSchedules_CrossesAgeBoundaryAndSavesInBatch() {
+        // given: 1월 10일생 → 5월 10일부터 4개월
+        LocalDate start = LocalDate.of(2024, 5, 8);
+        Baby baby = Baby.builder()
+                .userId(1L)
+                .name("테스트베이비")
+                .birthDate(LocalDate.of(2024, 1, 10))
+                .gestationalWeeks(39)
+                .gender(Gender.MALE)
+                .build();
+
+        DailySchedule existing = DailySchedule.builder()
+                .babyId(1L)
+                .scheduleDate(start)
+                .wakeUpTime(LocalTime.of(6, 0))
+                .ageInMonths(3)
+                .build();
+        existing.addScheduleItem(ScheduleItem.builder()
+                .activityType(ActivityType.WAKE_UP)
+                .scheduledTime(LocalTime.of(6, 0))
+                .build());
+
+        given(babyRepository.findById(1L)).willReturn(Optional.of(baby));
+        given(rhythmPredictionService.getScheduleProfile(1L)).willReturn(RhythmProfile.EMPTY);
+        given(dailyScheduleRepository.findByBabyIdAndScheduleDateBetween(1L, start, start.plusDays(4)))
+                .willReturn(List.of(existing));
+        given(referenceDataCatalog.findClosestTemplate(3))
+                .willReturn(Optional.of(new TemplateSnapshot(3, 3, new int[]{90, 105, 105, 120}, new int[]{60, 60, 45})));
+        given(referenceDataCatalog.findClosestTemplate(4))
+                .willReturn(Optional.of(new TemplateSnapshot(4, 2, new int[]{120, 150, 180}, new int[]{90, 90})));
+
+        // when
+        List<DailySchedule> schedules = scheduleGenerationService.generateSchedules(1L, start, 5, LocalTime.of(7, 0));
+
+        // then
+        assertThat(schedules).extracting(DailySchedule::getScheduleDate)
+                .containsExactly(start, start.plusDays(1), start.plusDays(2), start.plusDays(3), start.plusDays(4));
+        assertThat(schedules).extracting(DailySchedule::getAgeInMonths)
+                .containsExactly(3, 3, 4, 4, 4);
+        assertThat(schedules.get(0)).isSameAs(existing);
+        assertThat(existing.getWakeUpTime()).isEqualTo(LocalTime.of(7, 0));
+        assertThat(existing.getScheduleItems()).hasSize(10); // 기상 + (수유, 낮잠) * 3 + 저녁 수유 + 목욕 + 취침
+        assertThat(schedules.get(2).getScheduleItems()).hasSize(8);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<DailySchedule>> saved = ArgumentCaptor.forClass(List.class);
+        verify(dailyScheduleRepository).saveAll(saved.capture());
+        assertThat(saved.getValue()).hasSize(4);
+
+        verify(babyRepository, times(1)).findById(1L);
+        verify(rhythmPredictionService, times(1)).getScheduleProfile(1L);
+        verify(referenceDataCatalog, times(1)).findClosestTemplate(3);
+        verify(referenceDataCatalog, times(1)).findClosestTemplate(4);
+    }
+}
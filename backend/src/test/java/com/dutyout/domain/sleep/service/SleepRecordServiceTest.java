@@ -0,0 +1,170 @@
+package com.dutyout.domain.sleep.service;
+
+import com.dutyout.common.exception.BusinessException;
+import com.dutyout.common.exception.ErrorCode;
+import com.dutyout.domain.prediction.service.RhythmPredictionService;
+import com.dutyout.domain.schedule.service.ReferenceDataCatalog;
+import com.dutyout.domain.sleep.entity.OngoingSleep;
+import com.dutyout.domain.sleep.entity.SleepQuality;
+import com.dutyout.domain.sleep.entity.SleepRecord;
+import com.dutyout.domain.sleep.entity.SleepType;
+import com.dutyout.domain.sleep.repository.OngoingSleepRepository;
+import com.dutyout.domain.statistics.service.DailyStatsService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * SleepRecordService H2 통합 테스트
+ *
+ * Testing Strategy:
+ * - @DataJpaTest + @Import로 수면 기록과 진행 중 수면 등록(ongoing_sleeps)을 함께 검증
+ *   (롤업 행 추가가 INSERT ... ON CONFLICT이므로 내장 DB로 바꾸지 않고 test 프로필의 PostgreSQL 모드 H2 사용)
+ * - 동시 시작은 등록 테이블 기본 키 충돌로 막히는지 확인
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({SleepRecordService.class, DailyStatsService.class, RhythmPredictionService.class, ReferenceDataCatalog.class})
+@ActiveProfiles("test")
+@DisplayName("SleepRecordService H2 통합 테스트")
+class SleepRecordServiceTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2024, 5, 1, 13, 0);
+
+    @Autowired
+    private SleepRecordService sleepRecordService;
+
+    @Autowired
+    private OngoingSleepRepository ongoingSleepRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    @DisplayName("수면 시작 → 진행 중 조회 → 종료 후 등록 해제")
+    void startAndEndSleep() {
+        // when
+        SleepRecord started = sleepRecordService.startSleep(nap(START, null));
+
+        // then
+        OngoingSleep ongoing = sleepRecordService.getOngoingSleep(1L);
+        assertThat(ongoing.getSleepRecordId()).isEqualTo(started.getId());
+        assertThat(ongoing.getStartTime()).isEqualTo(START);
+
+        // when
+        sleepRecordService.endSleep(started.getId(), START.plusMinutes(90), SleepQuality.GOOD, 0);
+
+        // then
+        assertThat(sleepRecordService.getOngoingSleep(1L)).isNull();
+        assertThatThrownBy(() -> sleepRecordService.endSleep(started.getId(), START.plusMinutes(100), null, null))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("이미 종료된 수면 기록입니다.");
+    }
+
+    @Test
+    @DisplayName("진행 중인 수면이 있으면 새 수면 시작 불가, 종료된 기록 등록은 진행 중으로 표시하지 않음")
+    void startSleep_AlreadyOngoing() {
+        // given
+        sleepRecordService.startSleep(nap(START, null));
+
+        // when & then
+        assertThatThrownBy(() -> sleepRecordService.startSleep(nap(START.plusHours(1), null)))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("진행 중인 수면이 있습니다. 먼저 종료해주세요.");
+
+        SleepRecord finished = SleepRecord.builder()
+                .babyId(2L).type(SleepType.NAP1).startTime(START).endTime(START.plusHours(1)).build();
+        sleepRecordService.startSleep(finished);
+        assertThat(sleepRecordService.getOngoingSleep(2L)).isNull();
+    }
+
+    @Test
+    @DisplayName("같은 아기의 진행 중 수면 두 건은 DB 제약으로 거부")
+    void ongoingSleep_UniquePerBaby() {
+        // given: 확인을 동시에 통과한 두 요청이 각자 등록하는 상황
+        SleepRecord first = entityManager.persist(nap(START, null));
+        SleepRecord second = entityManager.persist(nap(START.plusMinutes(1), null));
+        ongoingSleepRepository.saveAndFlush(OngoingSleep.from(first));
+
+        // when & then
+        assertThatThrownBy(() -> ongoingSleepRepository.saveAndFlush(OngoingSleep.from(second)))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    @DisplayName("기존 기록과 겹치는 수면은 시작/종료 모두 거부")
+    void overlap_Rejected() {
+        // given: 13:00 ~ 14:30 낮잠
+        entityManager.persist(nap(START, START.plusMinutes(90)));
+        entityManager.flush();
+
+        // when & then
+        assertThatThrownBy(() -> sleepRecordService.startSleep(nap(START.plusMinutes(60), null)))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage(ErrorCode.SLEEP_OVERLAP.getMessage());
+        assertThatThrownBy(() -> sleepRecordService.startSleep(nap(START.minusMinutes(30), START.plusMinutes(10))))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage(ErrorCode.SLEEP_OVERLAP.getMessage());
+
+        // 12:00에 시작해 진행 중(다른 보호자가 13:00 기록을 나중에 입력) → 13:00 넘어서 종료하면 겹침
+        SleepRecord earlier = entityManager.persist(nap(START.minusHours(1), null));
+        ongoingSleepRepository.saveAndFlush(OngoingSleep.from(earlier));
+        assertThatThrownBy(() -> sleepRecordService.endSleep(earlier.getId(), START.plusMinutes(5), null, null))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage(ErrorCode.SLEEP_OVERLAP.getMessage());
+    }
+
+    @Test
+    @DisplayName("경계가 맞닿는 수면은 겹침 아님")
+    void overlap_TouchingAllowed() {
+        // given
+        entityManager.persist(nap(START, START.plusMinutes(90)));
+        entityManager.flush();
+
+        // when
+        SleepRecord next = sleepRecordService.startSleep(nap(START.plusMinutes(90), null));
+        sleepRecordService.endSleep(next.getId(), START.plusMinutes(120), null, null);
+
+        // then
+        assertThat(sleepRecordService.findOverlaps(1L, START.toLocalDate(), START.toLocalDate())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("겹치는 기록 목록 - 전날 밤잠과 겹치는 기록까지 쌍으로 조회")
+    void findOverlaps() {
+        // given: 검사 도입 전 저장된 겹치는 기록들
+        SleepRecord night = entityManager.persist(SleepRecord.builder().babyId(1L).type(SleepType.NIGHT)
+                .startTime(START.minusHours(18)).endTime(START.minusHours(6)).build()); // 전날 19:00 ~ 07:00
+        SleepRecord earlyNap = entityManager.persist(nap(START.minusHours(7), START.minusHours(5))); // 06:00 ~ 08:00
+        SleepRecord nap = entityManager.persist(nap(START, START.plusMinutes(90)));
+        SleepRecord duplicate = entityManager.persist(nap(START.plusMinutes(30), START.plusMinutes(60)));
+        entityManager.persist(nap(START.plusHours(3), START.plusHours(4)));
+        entityManager.flush();
+
+        // when
+        var overlaps = sleepRecordService.findOverlaps(1L, START.toLocalDate(), START.toLocalDate());
+
+        // then
+        assertThat(overlaps).extracting(o -> o.first().getId(), o -> o.second().getId())
+                .containsExactly(tuple(night.getId(), earlyNap.getId()), tuple(nap.getId(), duplicate.getId()));
+    }
+
+    private SleepRecord nap(LocalDateTime start, LocalDateTime end) {
+        return SleepRecord.builder()
+                .babyId(1L)
+                .type(SleepType.NAP1)
+                .startTime(start)
+                .endTime(end)
+                .build();
+    }
+}
@@ -0,0 +1,188 @@
+package com.dutyout.domain.sleep.service;
+
+import com.dutyout.application.dto.response.StatisticsSeriesResponse;
+import com.dutyout.application.dto.response.WeeklyStatisticsResponse;
+import com.dutyout.common.exception.BusinessException;
+import com.dutyout.domain.feeding.entity.FeedingRecord;
+import com.dutyout.domain.feeding.entity.FeedingType;
+import com.dutyout.domain.sleep.entity.SleepRecord;
+import com.dutyout.domain.sleep.entity.SleepType;
+import com.dutyout.domain.statistics.entity.StatisticsBucket;
+import com.dutyout.domain.statistics.service.DailyStatsService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * SleepStatisticsService H2 통합 테스트
+ *
+ * Testing Strategy:
+ * - @DataJpaTest + @Import로 원본 기록 → 롤업 재구축 → 통계 조회까지 실행
+ * - Hibernate 통계로 기간 길이와 무관하게 쿼리 수가 일정한지 검증
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({SleepStatisticsService.class, DailyStatsService.class})
+@ActiveProfiles("test")
+@DisplayName("SleepStatisticsService H2 통합 테스트")
+class SleepStatisticsServiceTest {
+
+    private static final LocalDate START = LocalDate.of(2024, 5, 1);
+
+    @Autowired
+    private SleepStatisticsService sleepStatisticsService;
+
+    @Autowired
+    private DailyStatsService dailyStatsService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        // 31일 동안 매일 낮잠 90분 + 밤잠 10시간 30분, 수유 2회(120ml + 150ml)
+        for (int day = 0; day < 31; day++) {
+            LocalDateTime date = START.plusDays(day).atStartOfDay();
+            entityManager.persist(sleep(1L, SleepType.NAP1, date.plusHours(10), date.plusHours(11).plusMinutes(30)));
+            entityManager.persist(sleep(1L, SleepType.NIGHT, date.plusHours(20), date.plusDays(1).plusHours(6).plusMinutes(30)));
+            entityManager.persist(feeding(1L, date.plusHours(9), 120));
+            entityManager.persist(feeding(1L, date.plusHours(15), 150));
+        }
+        // 진행 중인 수면과 다른 아기 기록은 집계 제외
+        entityManager.persist(sleep(1L, SleepType.NAP2, START.plusDays(2).atTime(13, 0), null));
+        entityManager.persist(sleep(2L, SleepType.NAP1, START.atTime(10, 0), START.atTime(12, 0)));
+        entityManager.persist(feeding(2L, START.atTime(9, 0), 200));
+        entityManager.flush();
+        dailyStatsService.rebuild(1L, START, START.plusDays(31));
+        dailyStatsService.rebuild(2L, START, START.plusDays(31));
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("주간 통계 - 롤업에서 날짜별 수면 시간과 수유량 조회")
+    void getStatistics_AggregatesPerDay() {
+        // when: 첫날은 전날 밤잠이 없으므로 둘째 날부터 7일
+        WeeklyStatisticsResponse response = sleepStatisticsService.getStatistics(1L, START.plusDays(1), START.plusDays(7));
+
+        // then
+        assertThat(response.getDailyStats()).hasSize(7);
+        assertThat(response.getDailyStats()).allSatisfy(day -> {
+            assertThat(day.getSleepMinutes()).isEqualTo(720); // 낮잠 90 + 전날 밤잠 390 + 당일 밤잠 240
+            assertThat(day.getFeedingAmount()).isEqualTo(270);
+        });
+        assertThat(response.getTotalSleepMinutes()).isEqualTo(720 * 7);
+        assertThat(response.getTotalFeedingAmount()).isEqualTo(270 * 7);
+        assertThat(response.getAverageSleepMinutes()).isEqualTo(720);
+        assertThat(response.getHasEnoughData()).isTrue();
+        assertThat(statistics.getEntityLoadCount()).isEqualTo(7); // 하루 1행
+    }
+
+    @Test
+    @DisplayName("통계 - 7일과 31일 범위 모두 롤업 쿼리 1개로 조회")
+    void getStatistics_UsesConstantQueryCount() {
+        // when
+        sleepStatisticsService.getStatistics(1L, START, START.plusDays(6));
+        long weeklyQueries = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        WeeklyStatisticsResponse monthly = sleepStatisticsService.getStatistics(1L, START, START.plusDays(30));
+        long monthlyQueries = statistics.getPrepareStatementCount();
+
+        // then
+        assertThat(monthly.getDailyStats()).hasSize(31);
+        assertThat(monthly.getTotalFeedingAmount()).isEqualTo(270 * 31);
+        assertThat(weeklyQueries).isEqualTo(1);
+        assertThat(monthlyQueries).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("기간 통계 - 1년을 월 단위로 묶어도 롤업 쿼리 1개, 묶음별 최소/최대/평균 계산")
+    void getSeries_BucketsYearByMonth() {
+        // when
+        StatisticsSeriesResponse series = sleepStatisticsService.getSeries(
+                1L, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31), StatisticsBucket.MONTH);
+
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(series.getBuckets()).hasSize(12);
+
+        StatisticsSeriesResponse.Bucket january = series.getBuckets().get(0);
+        assertThat(january.getRecordedDays()).isZero();
+        assertThat(january.getSleepMinutes().getTotal()).isZero();
+        assertThat(january.getSleepMinutes().getAverage()).isNull();
+
+        StatisticsSeriesResponse.Bucket may = series.getBuckets().get(4);
+        assertThat(may.getStart()).isEqualTo(LocalDate.of(2024, 5, 1));
+        assertThat(may.getEnd()).isEqualTo(LocalDate.of(2024, 5, 31));
+        assertThat(may.getDays()).isEqualTo(31);
+        assertThat(may.getRecordedDays()).isEqualTo(31);
+        assertThat(may.getSleepMinutes().getMin()).isEqualTo(330); // 첫날은 전날 밤잠 없음
+        assertThat(may.getSleepMinutes().getMax()).isEqualTo(720);
+        assertThat(may.getNapCount().getTotal()).isEqualTo(31);
+        assertThat(may.getFeedingMl().getTotal()).isEqualTo(270 * 31);
+        assertThat(may.getFeedingMl().getAverage()).isEqualTo(270.0);
+
+        StatisticsSeriesResponse.Bucket june = series.getBuckets().get(5);
+        assertThat(june.getRecordedDays()).isEqualTo(1); // 5/31 밤잠의 6/1 부분
+        assertThat(june.getNightSleepMinutes().getTotal()).isEqualTo(390);
+    }
+
+    @Test
+    @DisplayName("기간 통계 - 주 단위 묶음은 월요일 시작, 조회 기간에 맞춰 첫/마지막 주를 자름")
+    void getSeries_ClipsWeekBuckets() {
+        // when: 2024-05-01(수) ~ 2024-05-14(화)
+        StatisticsSeriesResponse series = sleepStatisticsService.getSeries(
+                1L, START, START.plusDays(13), StatisticsBucket.WEEK);
+
+        // then
+        assertThat(series.getBuckets())
+                .extracting(StatisticsSeriesResponse.Bucket::getStart, StatisticsSeriesResponse.Bucket::getEnd,
+                        StatisticsSeriesResponse.Bucket::getDays)
+                .containsExactly(
+                        tuple(LocalDate.of(2024, 5, 1), LocalDate.of(2024, 5, 5), 5),
+                        tuple(LocalDate.of(2024, 5, 6), LocalDate.of(2024, 5, 12), 7),
+                        tuple(LocalDate.of(2024, 5, 13), LocalDate.of(2024, 5, 14), 2));
+        assertThatThrownBy(() -> sleepStatisticsService.getSeries(
+                1L, START, START.plusDays(SleepStatisticsService.MAX_RANGE_DAYS), StatisticsBucket.DAY))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    private SleepRecord sleep(Long babyId, SleepType type, LocalDateTime start, LocalDateTime end) {
+        return SleepRecord.builder()
+                .babyId(babyId)
+                .type(type)
+                .startTime(start)
+                .endTime(end)
+                .build();
+    }
+
+    private FeedingRecord feeding(Long babyId, LocalDateTime time, int amountMl) {
+        return FeedingRecord.builder()
+                .babyId(babyId)
+                .feedingTime(time)
+                .type(FeedingType.BOTTLE)
+                .amountMl(amountMl)
+                .build();
+    }
+}
@@ -0,0 +1,219 @@
+package com.dutyout.domain.statistics.service;
+
+import com.dutyout.domain.feeding.entity.FeedingRecord;
+import com.dutyout.domain.feeding.entity.FeedingType;
+import com.dutyout.domain.schedule.entity.ActivityType;
+import com.dutyout.domain.schedule.entity.DailySchedule;
+import com.dutyout.domain.schedule.entity.ScheduleItem;
+import com.dutyout.domain.sleep.entity.SleepRecord;
+import com.dutyout.domain.sleep.entity.SleepType;
+import com.dutyout.domain.statistics.entity.BabyDailyStats;
+import com.dutyout.domain.statistics.repository.BabyDailyStatsRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * DailyStatsService H2 통합 테스트
+ *
+ * Testing Strategy:
+ * - 원본 기록을 직접 저장한 뒤 refresh/rebuild 결과 행 검증
+ *   (롤업 행 추가가 INSERT ... ON CONFLICT이므로 내장 DB로 바꾸지 않고 test 프로필의 PostgreSQL 모드 H2 사용)
+ * - 수면/수유/스케줄 실측 합산, 날짜 이동, 기록 삭제 시 행 정리 확인
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(DailyStatsService.class)
+@ActiveProfiles("test")
+@DisplayName("DailyStatsService H2 통합 테스트")
+class DailyStatsServiceTest {
+
+    private static final LocalDate DAY = LocalDate.of(2024, 5, 6);
+
+    @Autowired
+    private DailyStatsService dailyStatsService;
+
+    @Autowired
+    private BabyDailyStatsRepository babyDailyStatsRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    @DisplayName("하루 갱신 - 수면 기록, 수유 기록, 스케줄 실측을 합산")
+    void refresh_CombinesAllSources() {
+        // given
+        entityManager.persist(sleep(SleepType.NAP1, DAY.atTime(9, 0), DAY.atTime(10, 30)));
+        entityManager.persist(sleep(SleepType.NIGHT, DAY.atTime(20, 0), DAY.plusDays(1).atTime(6, 0)));
+        entityManager.persist(sleep(SleepType.NAP2, DAY.atTime(14, 0), null)); // 진행 중 → 제외
+        entityManager.persist(feeding(DAY.atTime(8, 0), 120));
+        entityManager.persist(feeding(DAY.atTime(21, 30), 150));
+
+        DailySchedule schedule = DailySchedule.builder()
+                .babyId(1L)
+                .scheduleDate(DAY)
+                .wakeUpTime(LocalTime.of(7, 0))
+                .ageInMonths(4)
+                .build();
+        ScheduleItem nap = item(ActivityType.NAP3, LocalTime.of(16, 0));
+        ScheduleItem feed = item(ActivityType.FEEDING, LocalTime.of(12, 0));
+        nap.recordSleep(40);
+        feed.recordFeeding(100);
+        schedule.addScheduleItems(List.of(nap, feed, item(ActivityType.BEDTIME, LocalTime.of(19, 30))));
+        entityManager.persist(schedule);
+
+        // when
+        dailyStatsService.refresh(1L, DAY);
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        BabyDailyStats stats = babyDailyStatsRepository.findForUpdate(1L, DAY).orElseThrow();
+        assertThat(stats.getTotalSleepMinutes()).isEqualTo(90 + 240 + 40); // 밤잠은 자정까지만
+        assertThat(stats.getNapCount()).isEqualTo(2);
+        assertThat(stats.getNightSleepMinutes()).isEqualTo(240);
+        assertThat(stats.getFeedingTotalMl()).isEqualTo(370);
+        assertThat(stats.getFeedingCount()).isEqualTo(3);
+        assertThat(stats.getLastRecordAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("수면 분할 - 자정을 넘는 수면을 날짜 경계로 나누고, 전날 시작한 수면도 포함")
+    void rebuild_SplitsSleepAtMidnight() {
+        // given: 19:30 ~ 다음 날 06:30 밤잠, 23:00 ~ 다음 날 00:40 낮잠
+        entityManager.persist(sleep(SleepType.NIGHT, DAY.atTime(19, 30), DAY.plusDays(1).atTime(6, 30)));
+        entityManager.persist(sleep(SleepType.NAP1, DAY.plusDays(1).atTime(23, 0), DAY.plusDays(2).atTime(0, 40)));
+        entityManager.flush();
+
+        // when: 다음 날만 재구축해도 전날 시작한 밤잠이 포함되어야 함
+        dailyStatsService.rebuild(1L, DAY.plusDays(1), DAY.plusDays(1));
+        BabyDailyStats nextDay = dailyStatsService.getDailyStats(1L, DAY.plusDays(1), DAY.plusDays(1)).get(0);
+        dailyStatsService.rebuild(1L, DAY, DAY.plusDays(2));
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        assertThat(nextDay.getNightSleepMinutes()).isEqualTo(390);
+        assertThat(nextDay.getTotalSleepMinutes()).isEqualTo(390 + 60);
+        assertThat(nextDay.getNapCount()).isEqualTo(1);
+        assertThat(nextDay.getLastRecordAt()).isEqualTo(DAY.plusDays(1).atTime(6, 30));
+
+        assertThat(dailyStatsService.getDailyStats(1L, DAY, DAY.plusDays(2)))
+                .extracting(BabyDailyStats::getStatDate, BabyDailyStats::getTotalSleepMinutes,
+                        BabyDailyStats::getNapCount)
+                .containsExactly(
+                        tuple(DAY, 270, 0),
+                        tuple(DAY.plusDays(1), 450, 1),
+                        tuple(DAY.plusDays(2), 40, 0));
+    }
+
+    @Test
+    @DisplayName("하루 갱신 - 기록이 다른 날로 옮겨지면 이전 날 행 삭제")
+    void refresh_RemovesRowWhenDayBecomesEmpty() {
+        // given
+        FeedingRecord record = entityManager.persist(feeding(DAY.atTime(8, 0), 120));
+        dailyStatsService.refresh(1L, DAY);
+        entityManager.flush();
+
+        // when
+        record.update(DAY.plusDays(1).atTime(8, 0), null, 130, null);
+        dailyStatsService.refresh(1L, DAY.plusDays(1));
+        dailyStatsService.refresh(1L, DAY);
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        assertThat(dailyStatsService.getDailyStats(1L, DAY, DAY.plusDays(1)))
+                .singleElement()
+                .satisfies(stats -> {
+                    assertThat(stats.getStatDate()).isEqualTo(DAY.plusDays(1));
+                    assertThat(stats.getFeedingTotalMl()).isEqualTo(130);
+                });
+    }
+
+    @Test
+    @DisplayName("하루 갱신 - 다른 트랜잭션이 먼저 넣은 빈 행을 재사용하고 중복 행을 만들지 않음")
+    void refresh_ReusesRowInsertedConcurrently() {
+        // given: 그날 첫 기록을 동시에 처리한 다른 트랜잭션이 빈 행을 먼저 추가
+        entityManager.persist(feeding(DAY.atTime(8, 0), 120));
+        int first = babyDailyStatsRepository.insertIfAbsent(1L, DAY, LocalDateTime.now());
+        int second = babyDailyStatsRepository.insertIfAbsent(1L, DAY, LocalDateTime.now());
+
+        // when
+        dailyStatsService.refresh(1L, DAY);
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        assertThat(first).isEqualTo(1);
+        assertThat(second).isZero();
+        assertThat(dailyStatsService.getDailyStats(1L, DAY, DAY))
+                .singleElement()
+                .satisfies(stats -> {
+                    assertThat(stats.getFeedingTotalMl()).isEqualTo(120);
+                    assertThat(stats.getFeedingCount()).isEqualTo(1);
+                });
+    }
+
+    @Test
+    @DisplayName("재구축 - 기간 내 기존 행을 교체하고 기록이 있는 날짜만 생성")
+    void rebuild_ReplacesRange() {
+        // given
+        for (int day = 0; day < 5; day += 2) {
+            entityManager.persist(feeding(DAY.plusDays(day).atTime(10, 0), 100 + day));
+        }
+        entityManager.persist(BabyDailyStats.builder().babyId(1L).statDate(DAY.plusDays(1)).build()); // 오래된 행
+        entityManager.flush();
+
+        // when
+        int rows = dailyStatsService.rebuild(1L, DAY, DAY.plusDays(4));
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        assertThat(rows).isEqualTo(3);
+        assertThat(dailyStatsService.getDailyStats(1L, DAY, DAY.plusDays(4)))
+                .extracting(BabyDailyStats::getStatDate, BabyDailyStats::getFeedingTotalMl)
+                .containsExactly(
+                        tuple(DAY, 100),
+                        tuple(DAY.plusDays(2), 102),
+                        tuple(DAY.plusDays(4), 104));
+    }
+
+    private SleepRecord sleep(SleepType type, LocalDateTime start, LocalDateTime end) {
+        return SleepRecord.builder()
+                .babyId(1L)
+                .type(type)
+                .startTime(start)
+                .endTime(end)
+                .build();
+    }
+
+    private FeedingRecord feeding(LocalDateTime time, int amountMl) {
+        return FeedingRecord.builder()
+                .babyId(1L)
+                .feedingTime(time)
+                .type(FeedingType.BOTTLE)
+                .amountMl(amountMl)
+                .build();
+    }
+
+    private ScheduleItem item(ActivityType type, LocalTime time) {
+        return ScheduleItem.builder()
+                .activityType(type)
+                .scheduledTime(time)
+                .build();
+    }
+}
@@ -0,0 +1,92 @@
+package com.dutyout.presentation.controller;
+
+import com.dutyout.application.dto.response.CommunityPostResponse;
+import com.dutyout.application.service.CommunityService;
+import com.dutyout.common.response.CursorPageResponse;
+import com.dutyout.common.response.CursorPageResponse.ScoreCursor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.web.method.annotation.AuthenticationPrincipalArgumentResolver;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * CommunityController 단위 테스트
+ *
+ * Testing Strategy:
+ * - standaloneSetup MockMvc + Mock 서비스로 기존 목록 API의 검색(search) 페이지 처리만 검증
+ * - 첫 페이지는 한 페이지짜리 Page + 다음 커서 헤더, page > 0이면 빈 페이지 (같은 결과 반복 방지)
+ */
+@DisplayName("CommunityController 단위 테스트")
+class CommunityControllerTest {
+
+    private CommunityService communityService;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        communityService = mock(CommunityService.class);
+        mockMvc = MockMvcBuilders.standaloneSetup(new CommunityController(communityService))
+                .setCustomArgumentResolvers(new AuthenticationPrincipalArgumentResolver())
+                .build();
+    }
+
+    @Test
+    @DisplayName("목록 검색 - 첫 페이지는 마지막 페이지로 표시하고, 이어지는 결과는 커서 헤더로 안내")
+    void getPosts_WithSearch_ReturnsSinglePageAndNextCursor() throws Exception {
+        // given: 한 건 더 조회된 검색 결과
+        CursorPageResponse<CommunityPostResponse> result = searchResult(3, 2);
+        given(communityService.searchPosts(eq("낮잠"), isNull(), eq(2), isNull())).willReturn(result);
+
+        // when & then
+        mockMvc.perform(get("/api/v1/community/posts").param("search", "낮잠").param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content", hasSize(2)))
+                .andExpect(jsonPath("$.data.totalElements").value(2))
+                .andExpect(jsonPath("$.data.last").value(true))
+                .andExpect(header().string(CursorPageResponse.NEXT_CURSOR_HEADER, result.getNextCursor()))
+                .andExpect(header().string("Link", allOf(
+                        startsWith("<http://localhost/api/v1/community/posts/search?q="),
+                        containsString("cursor=" + result.getNextCursor()),
+                        endsWith(">; rel=\"next\""))));
+    }
+
+    @Test
+    @DisplayName("목록 검색 - page > 0이면 첫 페이지를 반복하지 않고 빈 페이지")
+    void getPosts_WithSearchBeyondFirstPage_ReturnsEmptyPage() throws Exception {
+        // when & then
+        mockMvc.perform(get("/api/v1/community/posts").param("search", "낮잠").param("page", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content", empty()))
+                .andExpect(header().doesNotExist(CursorPageResponse.NEXT_CURSOR_HEADER));
+
+        then(communityService).should(never()).searchPosts(anyString(), isNull(), anyInt(), isNull());
+    }
+
+    private CursorPageResponse<CommunityPostResponse> searchResult(int rows, int size) {
+        List<CommunityPostResponse> responses = new ArrayList<>();
+        for (long id = rows; id > 0; id--) {
+            responses.add(CommunityPostResponse.builder()
+                    .id(id)
+                    .title("낮잠 " + id)
+                    .build());
+        }
+        return CursorPageResponse.of(responses, size, response -> new ScoreCursor(10, response.getId()));
+    }
+}
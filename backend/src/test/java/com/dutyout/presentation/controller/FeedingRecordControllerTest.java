@@ -0,0 +1,94 @@
+package com.dutyout.presentation.controller;
+
+import com.dutyout.application.dto.response.FeedingRecordResponse;
+import com.dutyout.application.service.FeedingRecordService;
+import com.dutyout.common.response.CursorPageResponse;
+import com.dutyout.common.response.CursorPageResponse.Cursor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * FeedingRecordController 단위 테스트
+ *
+ * Testing Strategy:
+ * - standaloneSetup MockMvc + Mock 서비스로 목록 조회의 응답 헤더만 검증
+ * - 기간 없는 목록이 잘렸을 때 X-Next-Cursor/Link 헤더, 마지막 페이지면 헤더 없음
+ */
+@DisplayName("FeedingRecordController 단위 테스트")
+class FeedingRecordControllerTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 5, 1, 12, 0);
+
+    private FeedingRecordService feedingRecordService;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        feedingRecordService = mock(FeedingRecordService.class);
+        mockMvc = MockMvcBuilders.standaloneSetup(new FeedingRecordController(feedingRecordService)).build();
+    }
+
+    @Test
+    @DisplayName("목록 조회 - 기간 없이 이전 기록이 더 있으면 다음 커서와 /history 링크를 헤더로 반환")
+    void getFeedingRecords_ExposesNextCursorWhenTruncated() throws Exception {
+        // given: 한 건 더 조회된 페이지
+        CursorPageResponse<FeedingRecordResponse> page = page(CursorPageResponse.DEFAULT_SIZE + 1);
+        given(feedingRecordService.getFeedingRecordPage(eq(1L), isNull(), isNull(), eq(CursorPageResponse.DEFAULT_SIZE)))
+                .willReturn(page);
+
+        // when & then
+        mockMvc.perform(get("/api/v1/babies/1/feeding-records"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data", hasSize(CursorPageResponse.DEFAULT_SIZE)))
+                .andExpect(header().string(CursorPageResponse.NEXT_CURSOR_HEADER, page.getNextCursor()))
+                .andExpect(header().string("Link", allOf(
+                        startsWith("<http://localhost/api/v1/babies/1/feeding-records/history?cursor="),
+                        containsString("size=" + CursorPageResponse.DEFAULT_SIZE),
+                        endsWith(">; rel=\"next\""))));
+    }
+
+    @Test
+    @DisplayName("목록 조회 - 마지막 페이지면 커서 헤더 없음")
+    void getFeedingRecords_OmitsCursorOnLastPage() throws Exception {
+        // given
+        given(feedingRecordService.getFeedingRecordPage(eq(1L), isNull(), isNull(), any(Integer.class)))
+                .willReturn(page(3));
+
+        // when & then
+        mockMvc.perform(get("/api/v1/babies/1/feeding-records"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data", hasSize(3)))
+                .andExpect(header().doesNotExist(CursorPageResponse.NEXT_CURSOR_HEADER))
+                .andExpect(header().doesNotExist("Link"));
+    }
+
+    private CursorPageResponse<FeedingRecordResponse> page(int rows) {
+        List<FeedingRecordResponse> responses = new ArrayList<>();
+        for (long id = rows; id > 0; id--) {
+            responses.add(FeedingRecordResponse.builder()
+                    .id(id)
+                    .babyId(1L)
+                    .feedingTime(NOW.minusHours(rows - id))
+                    .amountMl(120)
+                    .build());
+        }
+        return CursorPageResponse.of(responses, CursorPageResponse.DEFAULT_SIZE,
+                response -> new Cursor(response.getFeedingTime(), response.getId()));
+    }
+}